@@ -129,6 +129,14 @@ public interface ItemListing<T, P> extends ItemSet, Selectable<T>, Component {
 	 */
 	void selectAll();
 
+	/**
+	 * Get the current selection as an {@link ItemSelection} snapshot, which supports the symbolic <em>all items
+	 * selected</em> state of the lazy select all mode without loading all the selected items.
+	 * @return The current item selection
+	 * @since 5.4.1
+	 */
+	ItemSelection<T> getItemSelection();
+
 	/**
 	 * Sets whether it's allowed to deselect the selected row through the UI. Deselection is allowed by default.
 	 * @param deselectAllowed <code>true</code> if the selected row can be deselected without selecting another row
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.components;
+
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.core.query.QueryFilter;
+
+/**
+ * A snapshot of the items selected in an {@link ItemListing}.
+ * <p>
+ * The selection can be either an explicit set of items or, when all the items were selected using the
+ * <em>lazy select all</em> mode, the symbolic set of all the items which match the listing query filter at selection
+ * time, minus the items deselected afterwards. In the latter case, the selected items are never loaded all together:
+ * {@link #stream()} loads them lazily in batches and {@link #execute(BulkOperation)} allows to perform bulk actions as
+ * a single filtered backend operation.
+ * </p>
+ *
+ * @param <T> Item type
+ *
+ * @since 5.4.1
+ */
+public interface ItemSelection<T> extends Serializable {
+
+	/**
+	 * Get whether this selection represents all the items which match the query filter returned by
+	 * {@link #getFilter()}, minus the {@link #getExcludedItems()}.
+	 * @return <code>true</code> if all the matching items are selected
+	 */
+	boolean isAllSelected();
+
+	/**
+	 * When all the items are selected, get the query filter which the selected items match.
+	 * @return Optional query filter, empty if all the items are selected without restrictions or if the selection is
+	 *         an explicit items set
+	 */
+	Optional<QueryFilter> getFilter();
+
+	/**
+	 * When all the items are selected, get the items which were deselected afterwards.
+	 * @return The excluded items, empty if none or if the selection is an explicit items set
+	 */
+	Set<T> getExcludedItems();
+
+	/**
+	 * Get the selected items count. When all the items are selected, a backend count query is performed.
+	 * @return The selected items count
+	 */
+	long count();
+
+	/**
+	 * Get the selected items as a stream. When all the items are selected, the items are loaded lazily from the backend
+	 * in batches, while the stream is consumed.
+	 * @return The selected items stream
+	 */
+	Stream<T> stream();
+
+	/**
+	 * Get the selected item ids as a stream, using the listing item identifier provider, if available, or the items
+	 * themselves as ids. When all the items are selected, the items are loaded lazily from the backend in batches, while
+	 * the stream is consumed.
+	 * @return The selected item ids stream
+	 */
+	Stream<Object> streamIds();
+
+	/**
+	 * Execute a bulk operation on the selected items.
+	 * @param <R> Operation result type
+	 * @param operation The operation to execute (not null)
+	 * @return The operation result
+	 */
+	<R> R execute(BulkOperation<T, R> operation);
+
+	/**
+	 * A bulk operation on the selected items, for example a delete, an update or an export.
+	 * @param <T> Item type
+	 * @param <R> Operation result type
+	 */
+	public interface BulkOperation<T, R> extends Serializable {
+
+		/**
+		 * Execute the operation on all the items which match given query configuration, except for the excluded items.
+		 * This is expected to be performed as a single filtered backend operation, for example combining the query
+		 * filter with a negated restriction on the excluded item ids.
+		 * @param query The query configuration snapshot taken at selection time, providing the query filter (
+		 *        <code>null</code> for all the items), sort and parameters (not null)
+		 * @param excludedItems The items to exclude, empty if none
+		 * @return The operation result
+		 */
+		R executeFiltered(QueryConfigurationProvider query, Set<T> excludedItems);
+
+		/**
+		 * Execute the operation on an explicit set of items.
+		 * @param items The items
+		 * @return The operation result
+		 */
+		R executeItems(Set<T> items);
+
+	}
+
+}
@@ -15,7 +15,11 @@
  */
 package com.holonplatform.vaadin.components;
 
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.holonplatform.core.Validator;
 import com.holonplatform.core.Validator.ValidationException;
@@ -33,9 +37,11 @@ import com.holonplatform.vaadin.internal.components.DefaultPropertyInputGroup;
 import com.holonplatform.vaadin.internal.components.VaadinValidatorWrapper;
 import com.vaadin.data.Converter;
 import com.vaadin.data.HasValue;
+import com.vaadin.shared.Registration;
 import com.vaadin.shared.ui.ValueChangeMode;
 import com.vaadin.ui.Component;
 import com.vaadin.ui.Label;
+import com.vaadin.ui.TabSheet;
 
 /**
  * A class to manage a group of {@link Input}s bound to a {@link Property} set, loading and obtaining property values in
@@ -57,6 +63,12 @@ import com.vaadin.ui.Label;
  * Convenience methods {@link #setEnabled(boolean)} and {@link #setReadOnly(boolean)} can be used to change the enabled
  * / read-only state for all the property bound {@link Input}s.
  * </p>
+ * <p>
+ * Properties can be declared as <em>lazy</em> using {@link Builder#lazy(Iterable)}: the {@link Input}s bound to lazy
+ * properties are not rendered when the group is built, but only when {@link #renderInputs(Iterable)} is invoked, for
+ * example when the container of a property group (a tab, an accordion section) is shown for the first time. Until then,
+ * the lazy property values are obtained from the current group {@link PropertyBox} value.
+ * </p>
  * 
  * @since 5.0.0
  */
@@ -156,6 +168,80 @@ public interface PropertyInputGroup extends PropertyInputBinder, ValueHolder<Pro
 	 */
 	void setEnabled(boolean enabled);
 
+	/**
+	 * Get whether the {@link Input} bound to given <code>property</code> has been rendered.
+	 * <p>
+	 * The {@link Input}s of lazy properties are not rendered until {@link #renderInputs(Iterable)} or
+	 * {@link #getInput(Property)} is invoked for them.
+	 * </p>
+	 * @param property The property to check (not null)
+	 * @return <code>true</code> if the property {@link Input} has been rendered and bound, <code>false</code> otherwise
+	 */
+	boolean isInputRendered(Property<?> property);
+
+	/**
+	 * Render and bind the {@link Input}s of given properties, if not already rendered, loading the current group value
+	 * into them.
+	 * <p>
+	 * This method is meant to be used to render the {@link Input}s of lazy properties when their container is shown for
+	 * the first time. The {@link Input}s of lazy properties are not provided to the group composer, so the returned
+	 * bindings should be used to compose them into the container.
+	 * </p>
+	 * @param <P> Property type
+	 * @param properties The properties for which to render the {@link Input}s (not null)
+	 * @return The property-input bindings of given properties, including the ones which were already rendered
+	 */
+	@SuppressWarnings("rawtypes")
+	<P extends Property> Stream<PropertyBinding<?, Input<?>>> renderInputs(Iterable<P> properties);
+
+	/**
+	 * Render and bind the {@link Input}s of given properties, if not already rendered, loading the current group value
+	 * into them.
+	 * @param <P> Property type
+	 * @param properties The properties for which to render the {@link Input}s
+	 * @return The property-input bindings of given properties, including the ones which were already rendered
+	 * @see #renderInputs(Iterable)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	default <P extends Property> Stream<PropertyBinding<?, Input<?>>> renderInputs(P... properties) {
+		return renderInputs(Arrays.asList(properties));
+	}
+
+	/**
+	 * Render the {@link Input}s of given properties when given <code>tab</code> component of the {@link TabSheet} (or
+	 * Accordion) is selected for the first time, providing the property-input bindings to given <code>composer</code>.
+	 * If the tab is already selected, the {@link Input}s are rendered immediately.
+	 * @param <P> Property type
+	 * @param tabSheet The {@link TabSheet} (not null)
+	 * @param tab The tab component which contains the property {@link Input}s (not null)
+	 * @param properties The properties for which to render the {@link Input}s (not null)
+	 * @param composer The consumer to use to compose the rendered {@link Input}s into the tab component (not null)
+	 * @return The listener registration, which can be used to remove the lazy rendering trigger
+	 * @see #renderInputs(Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	default <P extends Property> Registration renderInputsOnTabSelection(TabSheet tabSheet, Component tab,
+			Iterable<P> properties, Consumer<PropertyBinding<?, Input<?>>> composer) {
+		ObjectUtils.argumentNotNull(tabSheet, "TabSheet must be not null");
+		ObjectUtils.argumentNotNull(tab, "Tab component must be not null");
+		ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+		ObjectUtils.argumentNotNull(composer, "Composer must be not null");
+		if (tabSheet.getSelectedTab() == tab) {
+			renderInputs(properties).forEach(composer);
+			return () -> {
+				// already rendered
+			};
+		}
+		final Registration[] registration = new Registration[1];
+		registration[0] = tabSheet.addSelectedTabChangeListener(e -> {
+			if (e.getTabSheet().getSelectedTab() == tab) {
+				registration[0].remove();
+				renderInputs(properties).forEach(composer);
+			}
+		});
+		return registration[0];
+	}
+
 	/**
 	 * Get a {@link Builder} to create and setup a {@link PropertyInputGroup}.
 	 * @return {@link PropertyInputGroup} builder
@@ -182,6 +268,30 @@ public interface PropertyInputGroup extends PropertyInputBinder, ValueHolder<Pro
 
 	}
 
+	/**
+	 * A {@link ValueChangeEvent} which aggregates all the value changes occurred in a {@link PropertyInputGroup} during
+	 * a server round trip, fired when the value change events coalescing is enabled.
+	 * @see Builder#coalesceValueChangeEvents(boolean)
+	 */
+	public interface CoalescedValueChangeEvent extends ValueChangeEvent<PropertyBox> {
+
+		/**
+		 * Get the properties whose value changed since the last value change event.
+		 * @return The changed properties (never null)
+		 */
+		Set<Property<?>> getChangedProperties();
+
+		/**
+		 * Get whether the value of given <code>property</code> changed since the last value change event.
+		 * @param property The property to check
+		 * @return <code>true</code> if the property value changed
+		 */
+		default boolean isChanged(Property<?> property) {
+			return property != null && getChangedProperties().contains(property);
+		}
+
+	}
+
 	// Builder
 
 	/**
@@ -292,6 +402,37 @@ public interface PropertyInputGroup extends PropertyInputBinder, ValueHolder<Pro
 		 */
 		<T> B hidden(Property<T> property);
 
+		/**
+		 * Set the given properties as lazy. The {@link Input}s bound to lazy properties are not rendered when the
+		 * {@link PropertyInputGroup} is built, but only when {@link PropertyInputGroup#renderInputs(Iterable)} or
+		 * {@link PropertyInputGroup#getInput(Property)} is invoked for them.
+		 * <p>
+		 * Until rendered, the lazy property values are obtained from the current group value (or from the property
+		 * default value provider, if the group was cleared) and validated using the property validators.
+		 * </p>
+		 * <p>
+		 * The lazy property {@link Input}s are not provided to the group composer and must be composed by the
+		 * container which displays them.
+		 * </p>
+		 * @param <P> Property type
+		 * @param properties Properties to set as lazy (not null)
+		 * @return this
+		 */
+		@SuppressWarnings("rawtypes")
+		<P extends Property> B lazy(Iterable<P> properties);
+
+		/**
+		 * Set the given properties as lazy.
+		 * @param <P> Property type
+		 * @param properties Properties to set as lazy
+		 * @return this
+		 * @see #lazy(Iterable)
+		 */
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		default <P extends Property> B lazy(P... properties) {
+			return lazy(Arrays.asList(properties));
+		}
+
 		/**
 		 * Set the default value provider for given <code>property</code>.
 		 * @param <T> Property type
@@ -571,6 +712,36 @@ public interface PropertyInputGroup extends PropertyInputBinder, ValueHolder<Pro
 		 */
 		B withValueChangeListener(ValueChangeListener<PropertyBox> listener);
 
+		/**
+		 * Set whether to coalesce the value change events fired to the {@link ValueChangeListener}s registered using
+		 * {@link #withValueChangeListener(ValueChangeListener)}.
+		 * <p>
+		 * When enabled, the value changes of the group (both the ones triggered by {@link PropertyInputGroup#setValue(PropertyBox)}
+		 * and the ones of each property {@link Input}) which occur during a server round trip are collected, and a
+		 * single {@link CoalescedValueChangeEvent} is fired at the end of the request, providing the set of changed
+		 * properties.
+		 * </p>
+		 * <p>
+		 * Default is <code>false</code>.
+		 * </p>
+		 * @param coalesceValueChangeEvents <code>true</code> to coalesce the group value change events
+		 * @return this
+		 */
+		B coalesceValueChangeEvents(boolean coalesceValueChangeEvents);
+
+		/**
+		 * Throttle the value change events of the {@link Input}s configured with an eager value change mode (i.e.
+		 * {@link ValueChangeMode#EAGER} or {@link ValueChangeMode#LAZY}), so that the {@link Input} value changes
+		 * are sent to the server at most once per given interval while the user is typing.
+		 * <p>
+		 * The throttling is performed client-side, using the {@link ValueChangeMode#TIMEOUT} mode. It is best used
+		 * together with {@link #coalesceValueChangeEvents(boolean)}.
+		 * </p>
+		 * @param interval Throttle interval in milliseconds (greater or equal to 0)
+		 * @return this
+		 */
+		B throttleValueChanges(int interval);
+
 		/**
 		 * Set the {@link ValueChangeMode} for all the {@link Input} components, if supported by each of them.
 		 * @param valueChangeMode The overall {@link ValueChangeMode} to set (not null)
@@ -60,6 +60,28 @@ public interface BaseItemDataSourceComponentBuilder<B extends BaseItemDataSource
 	 */
 	B maxCacheSize(int maxCacheSize);
 
+	/**
+	 * Set the max query results count for which the whole result set is loaded in memory at once when in
+	 * <em>buffered</em> mode. Sort changes of a result set loaded in memory are applied without querying the backend
+	 * again. The results are counted again at each refresh, switching back to lazy loading if the result set becomes
+	 * larger than the threshold.
+	 * @param inMemoryThreshold The in-memory threshold, <code>0</code> to disable (default)
+	 * @return this
+	 * @since 5.4.1
+	 */
+	B inMemoryThreshold(int inMemoryThreshold);
+
+	/**
+	 * Enable query tracing: the count and load queries performed to provide the component items are timed and
+	 * notified to the registered {@link com.holonplatform.vaadin.data.QueryTracer}s, using given trace source name.
+	 * A slow query warning can be obtained registering a
+	 * {@link com.holonplatform.vaadin.data.QueryTracer#slowQueryLogger(long)} tracer.
+	 * @param source The trace source name, for example the listing name (not null)
+	 * @return this
+	 * @since 5.4.1
+	 */
+	B traceQueries(String source);
+
 	/**
 	 * Add an external {@link QueryConfigurationProvider} for additional query configuration
 	 * @param queryConfigurationProvider QueryConfigurationProvider to add
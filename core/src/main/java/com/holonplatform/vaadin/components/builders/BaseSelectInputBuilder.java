@@ -127,6 +127,17 @@ public interface BaseSelectInputBuilder<T, C extends Input<T>, S, ITEM, B extend
 	 */
 	B itemIcon(ITEM item, Resource icon);
 
+	/**
+	 * Sets to avoid counting the whole selection item set when an {@link com.holonplatform.vaadin.data.ItemDataProvider}
+	 * is used as items data source. At most <code>cap + 1</code> items are fetched to check whether more than
+	 * <code>cap</code> items are available, and the item count grows by <code>cap</code> each time the items near the
+	 * end of the current count are fetched.
+	 * @param cap The count cap, must be greater than <code>0</code>
+	 * @return this
+	 * @since 5.4.1
+	 */
+	B countCap(int cap);
+
 	/**
 	 * Single select component configurator.
 	 * @param <T> Field type
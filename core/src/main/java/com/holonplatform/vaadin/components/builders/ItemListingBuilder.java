@@ -796,6 +796,59 @@ public interface ItemListingBuilder<T, P, C extends ItemListing<T, P>, B extends
 		 */
 		B commitOnRemove();
 
+		/**
+		 * Sets to apply the items added or removed using {@link ItemListing#addItem(Object)} and
+		 * {@link ItemListing#removeItem(Object)} incrementally to the listing rows when the listing is not in
+		 * <em>buffered</em> mode, adjusting the rows count and the current rows without querying the backend again.
+		 * The added items are displayed at the beginning of the item set until the next listing refresh.
+		 * @return this
+		 * @since 5.4.1
+		 */
+		B incrementalUpdates();
+
+		/**
+		 * Sets to avoid counting the whole item set when the listing is not in <em>buffered</em> mode. At most
+		 * <code>cap + 1</code> items are fetched to check whether more than <code>cap</code> items are available,
+		 * and the listing rows count grows by <code>cap</code> each time the user scrolls to the end of the rows, until
+		 * the actual end of the item set is reached. The grown rows count is sent using <code>UI.access</code>, so
+		 * server push should be enabled to display it without waiting for the next client round trip.
+		 * @param cap The count cap, must be greater than <code>0</code>
+		 * @return this
+		 * @since 5.4.1
+		 */
+		B countCap(int cap);
+
+		/**
+		 * Sets to apply to the listing the changes of given data target published to the default
+		 * {@link com.holonplatform.vaadin.data.DataChangeBus} by any session, for example by the Datastore commit
+		 * handlers, while the listing is attached to a UI. The changes are applied using <code>UI.access</code>, so
+		 * server push should be enabled to display them without waiting for the next client round trip.
+		 * @param target The data target to observe (not null)
+		 * @return this
+		 * @since 5.4.1
+		 */
+		B liveUpdates(DataTarget<?> target);
+
+		/**
+		 * Sets to use the lazy <em>select all</em> mode when the listing is in multiple selection mode. Selecting all
+		 * the items does not fetch them from the backend: the selection represents all the items which match the
+		 * current query filter minus the items deselected afterwards, and can be obtained using
+		 * {@link ItemListing#getItemSelection()} to perform bulk operations as a single filtered backend operation.
+		 * @return this
+		 * @since 5.4.1
+		 */
+		B lazySelectAll();
+
+		/**
+		 * Sets to use pooled editors: the editor field of each property, with its converter and validators chain, is
+		 * built only once per listing and reused across column setups, and when the item editor is in buffered mode
+		 * only the editor fields changed by the user are validated on save. The required field check is always
+		 * applied.
+		 * @return this
+		 * @since 5.4.1
+		 */
+		B pooledEditors();
+
 		/**
 		 * Set the listing header builder to create and manage header rows.
 		 * @param builder Header builder (not null)
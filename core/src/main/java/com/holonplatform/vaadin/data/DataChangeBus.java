@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.data;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.property.Property;
+
+import com.holonplatform.vaadin.internal.data.DefaultDataChangeBus;
+import com.vaadin.shared.Registration;
+
+/**
+ * Application-wide notification bus for persistent data changes.
+ * <p>
+ * The Datastore based {@link ItemDataSource.CommitHandler}s publish a {@link DataChangeEvent} with the ids of the
+ * items each time a set of items is inserted, updated or deleted, using the
+ * {@link com.holonplatform.core.datastore.DataTarget} name as event target. Listings and other components can
+ * subscribe to a target to be notified of the changes performed by any session, in order to update their content.
+ * </p>
+ * <p>
+ * Listeners are invoked synchronously in the publishing thread, which usually holds the lock of another
+ * <code>VaadinSession</code>: UI related listeners must not perform any UI update directly, and should use
+ * <code>UI.access</code> instead.
+ * </p>
+ * 
+ * @since 5.4.1
+ * 
+ * @see com.holonplatform.core.datastore.DataTarget
+ */
+public interface DataChangeBus {
+
+	/**
+	 * Publish a data change event, notifying all the listeners subscribed to the event target.
+	 * @param event The event to publish (not null)
+	 */
+	void publish(DataChangeEvent event);
+
+	/**
+	 * Subscribe a listener to the data changes of given target.
+	 * @param target The data target name (not null)
+	 * @param listener The listener (not null)
+	 * @return The listener registration, to be used to unsubscribe the listener
+	 */
+	Registration subscribe(String target, DataChangeListener listener);
+
+	/**
+	 * Get the default application-wide {@link DataChangeBus}, shared by all the sessions.
+	 * @return The default {@link DataChangeBus}
+	 */
+	static DataChangeBus getDefault() {
+		return DefaultDataChangeBus.INSTANCE;
+	}
+
+	/**
+	 * Create a new, isolated, {@link DataChangeBus}.
+	 * @return A new {@link DataChangeBus}
+	 */
+	static DataChangeBus create() {
+		return new DefaultDataChangeBus();
+	}
+
+	/**
+	 * Data change operation.
+	 */
+	public enum Operation {
+
+		/**
+		 * Items were inserted
+		 */
+		INSERT,
+
+		/**
+		 * Items were updated
+		 */
+		UPDATE,
+
+		/**
+		 * Items were deleted
+		 */
+		DELETE;
+
+	}
+
+	/**
+	 * A data change event.
+	 */
+	public interface DataChangeEvent extends Serializable {
+
+		/**
+		 * Get the name of the data target whose items were changed.
+		 * @return The data target name
+		 */
+		String getTarget();
+
+		/**
+		 * Get the change operation.
+		 * @return The change operation
+		 */
+		Operation getOperation();
+
+		/**
+		 * Get the identifier properties of the changed items, i.e. the properties whose values compose the item ids.
+		 * @return The identifier properties, an empty list if the changed items could not be identified
+		 */
+		List<Property<?>> getIdentifiers();
+
+		/**
+		 * Get the ids of the changed items. When a single identifier property is available, each id is the identifier
+		 * property value, otherwise it is the read-only list of the identifier property values, in the same order of
+		 * {@link #getIdentifiers()}.
+		 * <p>
+		 * The events only carry item ids, never item instances: the subscribers are expected to load the changed items
+		 * again through their own data providers.
+		 * </p>
+		 * @return The changed item ids, an empty collection if the changed items could not be identified
+		 */
+		Collection<?> getItemIds();
+
+		/**
+		 * Get the object which originated the change, for example the commit handler which persisted the items.
+		 * <p>
+		 * Can be used by subscribers to ignore the changes they originated themselves.
+		 * </p>
+		 * @return Optional change origin
+		 */
+		Optional<Object> getOrigin();
+
+		/**
+		 * Create a new {@link DataChangeEvent}.
+		 * @param target The data target name (not null)
+		 * @param operation The change operation (not null)
+		 * @param identifiers The identifier properties of the changed items (not null)
+		 * @param itemIds The changed item ids (not null)
+		 * @param origin The object which originated the change (may be null)
+		 * @return A new {@link DataChangeEvent}
+		 */
+		static DataChangeEvent create(String target, Operation operation, List<? extends Property<?>> identifiers,
+				Collection<?> itemIds, Object origin) {
+			return new DefaultDataChangeBus.DefaultDataChangeEvent(target, operation, identifiers, itemIds, origin);
+		}
+
+	}
+
+	/**
+	 * Listener for {@link DataChangeEvent}s.
+	 */
+	@FunctionalInterface
+	public interface DataChangeListener extends Serializable {
+
+		/**
+		 * Invoked when the items of a subscribed data target changed.
+		 * @param event The data change event
+		 */
+		void onDataChange(DataChangeEvent event);
+
+	}
+
+}
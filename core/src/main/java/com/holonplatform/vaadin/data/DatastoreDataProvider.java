@@ -192,6 +192,16 @@ public interface DatastoreDataProvider
 		 */
 		Builder withQueryConfigurationProvider(QueryConfigurationProvider queryConfigurationProvider);
 
+		/**
+		 * Enable query tracing: the count and load queries are timed and notified to the registered
+		 * {@link QueryTracer}s using given trace source name.
+		 * @param source The trace source name, for example the name of the component which uses the data provider
+		 *        (not null)
+		 * @return this
+		 * @since 5.4.1
+		 */
+		Builder traceQueries(String source);
+
 		/**
 		 * Build the {@link DatastoreDataProvider} instance.
 		 * @return A new {@link DatastoreDataProvider} instance
@@ -27,6 +27,7 @@ import com.holonplatform.vaadin.internal.data.DatastoreBeanItemDataProvider;
 import com.holonplatform.vaadin.internal.data.DatastoreItemDataProvider;
 import com.holonplatform.vaadin.internal.data.DefaultItemDataProvider;
 import com.holonplatform.vaadin.internal.data.ItemDataProviderWrapper;
+import com.holonplatform.vaadin.internal.data.TracingItemDataProvider;
 
 /**
  * Iterface to load items data from a data source.
@@ -134,4 +135,17 @@ public interface ItemDataProvider<ITEM> extends ItemSetCounter, ItemSetLoader<IT
 		return new ItemDataProviderWrapper<>(provider, converter);
 	}
 
+	/**
+	 * Create a new {@link ItemDataProvider} which wraps a concrete data provider and traces its count and load
+	 * operations using the registered {@link QueryTracer}s, with given trace source name.
+	 * @param <ITEM> Item type
+	 * @param provider Concrete data provider (not null)
+	 * @param source The trace source name, for example the name of the listing which uses the provider (not null)
+	 * @return the tracing data provider wrapper
+	 * @since 5.4.1
+	 */
+	static <ITEM> ItemDataProvider<ITEM> traced(ItemDataProvider<ITEM> provider, String source) {
+		return new TracingItemDataProvider<>(provider, source);
+	}
+
 }
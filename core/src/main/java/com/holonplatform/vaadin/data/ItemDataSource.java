@@ -16,6 +16,7 @@
 package com.holonplatform.vaadin.data;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -110,6 +111,33 @@ public interface ItemDataSource<ITEM, PROPERTY> extends QueryConfigurationProvid
 	 */
 	ITEM getItemAt(int index);
 
+	/**
+	 * Get the items in the given index range.
+	 * <p>
+	 * The default implementation obtains each item using {@link #getItemAt(int)}, implementations should override it
+	 * to load the items in bulk.
+	 * </p>
+	 * @param offset The index of the first item (not negative)
+	 * @param count The max number of items to return (not negative)
+	 * @return The items in the range, which may be less than <code>count</code> if the range exceeds the data source
+	 *         size. An empty List if none
+	 * @since 5.4.1
+	 */
+	default List<ITEM> getItems(int offset, int count) {
+		if (offset < 0) {
+			throw new IndexOutOfBoundsException("Offset cannot be negative: " + offset);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Count cannot be negative: " + count);
+		}
+		final int end = (int) Math.min(size(), (long) offset + count);
+		final List<ITEM> items = new ArrayList<>(Math.max(0, end - offset));
+		for (int i = offset; i < end; i++) {
+			items.add(getItemAt(i));
+		}
+		return items;
+	}
+
 	/**
 	 * Get the item identified by given <code>itemId</code>.
 	 * @param itemId Item id (not null)
@@ -144,6 +172,27 @@ public interface ItemDataSource<ITEM, PROPERTY> extends QueryConfigurationProvid
 	 */
 	void refresh(ITEM item);
 
+	/**
+	 * Refresh given item only if it is currently loaded in the data source and it has no pending changes. Unlike
+	 * {@link #refresh(Object)}, this method never triggers a backend query to locate the item.
+	 * @param item Item to refresh (not null)
+	 * @return <code>true</code> if the item was loaded and it has been refreshed
+	 * @since 5.4.1
+	 */
+	default boolean refreshLoaded(ITEM item) {
+		return false;
+	}
+
+	/**
+	 * Checks whether the data source contains pending item additions, modifications or removals which were not
+	 * committed yet.
+	 * @return <code>true</code> if there are pending changes
+	 * @since 5.4.1
+	 */
+	default boolean isModified() {
+		return false;
+	}
+
 	/**
 	 * Updates all changes since the previous commit.
 	 */
@@ -561,6 +610,27 @@ public interface ItemDataSource<ITEM, PROPERTY> extends QueryConfigurationProvid
 		 */
 		Builder<ITEM, PROPERTY> maxCacheSize(int maxCacheSize);
 
+		/**
+		 * Set the max query results count for which the whole result set is loaded in memory at once, instead of
+		 * loading the items lazily in batches. Sort changes of a result set loaded in memory are applied without
+		 * querying the backend again. The results are counted again at each refresh, for example after a filter change,
+		 * switching back to lazy loading if the result set becomes larger than the threshold.
+		 * @param inMemoryThreshold The in-memory threshold, <code>0</code> to disable (default)
+		 * @return this
+		 * @since 5.4.1
+		 */
+		Builder<ITEM, PROPERTY> inMemoryThreshold(int inMemoryThreshold);
+
+		/**
+		 * Enable query tracing: the item data provider count and load operations are timed and notified to the
+		 * registered {@link QueryTracer}s using given trace source name.
+		 * @param source The trace source name, for example the name of the component which uses the data source (not
+		 *        null)
+		 * @return this
+		 * @since 5.4.1
+		 */
+		Builder<ITEM, PROPERTY> traceQueries(String source);
+
 		/**
 		 * Set whether all the properties are sortable.
 		 * <p>
@@ -36,4 +36,21 @@ public interface ItemSetCounter extends Serializable {
 	 */
 	long size(QueryConfigurationProvider configuration) throws DataAccessException;
 
+	/**
+	 * Get the data source item set size according to given <code>configuration</code>, when the caller only needs to
+	 * know whether the item set contains more than <code>cap</code> items.
+	 * <p>
+	 * Implementations may avoid an exact count and return <code>cap + 1</code> when the item set contains more than
+	 * <code>cap</code> items. By default, the exact size is returned.
+	 * </p>
+	 * @param configuration Query configuration
+	 * @param cap The max number of items to count
+	 * @return Item set size, not greater than <code>cap + 1</code> if capped
+	 * @throws DataAccessException Error accessing underlying data store
+	 * @since 5.4.1
+	 */
+	default long size(QueryConfigurationProvider configuration, long cap) throws DataAccessException {
+		return size(configuration);
+	}
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.data;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.vaadin.internal.data.DefaultQueryTraceCollector;
+import com.holonplatform.vaadin.internal.data.QueryTracing;
+import com.holonplatform.vaadin.internal.data.SlowQueryLogger;
+import com.vaadin.shared.Registration;
+
+/**
+ * Service provider interface to receive the traces of the count and load queries performed by the item data
+ * providers, for example to export them to a metrics system.
+ * <p>
+ * Only the data providers for which query tracing was enabled, using a trace source name, are instrumented. Each query
+ * is timed and notified to all the tracers registered using {@link #register(QueryTracer)}, in the thread which
+ * performed the query.
+ * </p>
+ * 
+ * @since 5.4.1
+ */
+@FunctionalInterface
+public interface QueryTracer extends Serializable {
+
+	/**
+	 * Query operation
+	 */
+	public enum Operation {
+
+		/**
+		 * Item set count
+		 */
+		COUNT,
+
+		/**
+		 * Items load
+		 */
+		LOAD;
+
+	}
+
+	/**
+	 * Notify a traced query.
+	 * @param trace The query trace
+	 */
+	void trace(QueryTrace trace);
+
+	/**
+	 * Register a tracer to be notified of the traced queries of all the sessions.
+	 * @param tracer The tracer to register (not null)
+	 * @return The tracer registration, to be used to unregister the tracer
+	 */
+	static Registration register(QueryTracer tracer) {
+		return QueryTracing.register(tracer);
+	}
+
+	/**
+	 * Create a tracer which logs a warning for each query which takes more than given threshold.
+	 * @param thresholdMillis The slow query threshold in milliseconds
+	 * @return A new slow query logger
+	 */
+	static QueryTracer slowQueryLogger(long thresholdMillis) {
+		return new SlowQueryLogger(thresholdMillis);
+	}
+
+	/**
+	 * Create a tracer which collects the query traces in memory, retaining at most given number of traces.
+	 * @param maxTraces Max number of traces to retain, the oldest traces are discarded first
+	 * @return A new in-memory {@link QueryTraceCollector}
+	 */
+	static QueryTraceCollector collector(int maxTraces) {
+		return new DefaultQueryTraceCollector(maxTraces);
+	}
+
+	/**
+	 * A traced query.
+	 */
+	public interface QueryTrace {
+
+		/**
+		 * Get the trace source name, which identifies the listing or data provider which performed the query.
+		 * @return The trace source name
+		 */
+		String getSource();
+
+		/**
+		 * Get the query operation.
+		 * @return The query operation
+		 */
+		Operation getOperation();
+
+		/**
+		 * Get the description of the effective query filter, if any.
+		 * @return Optional query filter description
+		 */
+		Optional<String> getFilter();
+
+		/**
+		 * Get the description of the effective query sort, if any.
+		 * @return Optional query sort description
+		 */
+		Optional<String> getSort();
+
+		/**
+		 * Get the query results offset.
+		 * @return The query offset, <code>0</code> for count queries
+		 */
+		int getOffset();
+
+		/**
+		 * Get the query results limit.
+		 * @return The query limit, <code>0</code> if the query is not limited
+		 */
+		int getLimit();
+
+		/**
+		 * Get the number of loaded rows, or the item count for count queries.
+		 * @return The row count, <code>-1</code> if the query failed
+		 */
+		long getRowCount();
+
+		/**
+		 * Get the query execution time.
+		 * @return The query duration in milliseconds
+		 */
+		long getDuration();
+
+	}
+
+	/**
+	 * A {@link QueryTracer} which retains the received traces in memory, mainly intended for testing purposes.
+	 */
+	public interface QueryTraceCollector extends QueryTracer {
+
+		/**
+		 * Get the collected traces, from the oldest to the most recent.
+		 * @return The collected traces, an empty List if none
+		 */
+		List<QueryTrace> getTraces();
+
+		/**
+		 * Remove all the collected traces.
+		 */
+		void clear();
+
+	}
+
+}
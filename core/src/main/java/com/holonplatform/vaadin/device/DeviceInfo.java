@@ -18,7 +18,8 @@ package com.holonplatform.vaadin.device;
 import java.util.Optional;
 
 import com.holonplatform.core.internal.utils.ObjectUtils;
-import com.holonplatform.vaadin.internal.device.DefaultDeviceInfo;
+import com.holonplatform.vaadin.internal.VaadinSessionResources;
+import com.holonplatform.vaadin.internal.device.DeviceInfoCache;
 import com.vaadin.server.VaadinRequest;
 import com.vaadin.server.VaadinService;
 import com.vaadin.server.VaadinSession;
@@ -62,13 +63,16 @@ public interface DeviceInfo extends UserAgentInspector {
 	int getViewPortHeight();
 
 	/**
-	 * Build a DeviceInfo instance using given header values
+	 * Build a DeviceInfo instance using given header values.
+	 * <p>
+	 * The detection result is cached and shared for any further invocation with the same header values.
+	 * </p>
 	 * @param userAgentHeader the User-Agent header
 	 * @param httpAcceptHeader the Accept header
 	 * @return The {@link DeviceInfo}
 	 */
 	static DeviceInfo create(String userAgentHeader, String httpAcceptHeader) {
-		return new DefaultDeviceInfo(UserAgentInspector.create(userAgentHeader, httpAcceptHeader));
+		return DeviceInfoCache.get(userAgentHeader, httpAcceptHeader);
 	}
 
 	/**
@@ -78,7 +82,7 @@ public interface DeviceInfo extends UserAgentInspector {
 	 */
 	static DeviceInfo create(VaadinRequest request) {
 		ObjectUtils.argumentNotNull(request, "VaadinRequest must be not null");
-		return new DefaultDeviceInfo(UserAgentInspector.create(request));
+		return create(request.getHeader("user-agent"), request.getHeader("accept"));
 	}
 
 	/**
@@ -115,6 +119,12 @@ public interface DeviceInfo extends UserAgentInspector {
 	 */
 	static Optional<DeviceInfo> ensureInited(VaadinSession session) {
 		ObjectUtils.argumentNotNull(session, "VaadinSession must be not null");
+		// lookup the session resources registry first, which does not require the session lock
+		final Optional<DeviceInfo> registered = VaadinSessionResources.get(session)
+				.flatMap(r -> r.get(DeviceInfo.class));
+		if (registered.isPresent()) {
+			return registered;
+		}
 		DeviceInfo deviceInfo = (DeviceInfo) session.getAttribute(SESSION_ATTRIBUTE_NAME);
 		if (deviceInfo == null) {
 			final VaadinRequest request = VaadinService.getCurrentRequest();
@@ -124,6 +134,10 @@ public interface DeviceInfo extends UserAgentInspector {
 				}
 			}
 		}
+		if (deviceInfo != null) {
+			final DeviceInfo di = deviceInfo;
+			VaadinSessionResources.getOrCreate(session).ifPresent(r -> r.put(SESSION_ATTRIBUTE_NAME, di));
+		}
 		return Optional.ofNullable(deviceInfo);
 	}
 
@@ -17,7 +17,7 @@ package com.holonplatform.vaadin.device;
 
 import java.io.Serializable;
 
-import com.holonplatform.vaadin.internal.device.DefaultUserAgentInspector;
+import com.holonplatform.vaadin.internal.device.DeviceInfoCache;
 import com.vaadin.server.VaadinRequest;
 
 /**
@@ -143,13 +143,16 @@ public interface UserAgentInspector extends Serializable {
 	boolean isMobile();
 
 	/**
-	 * Build a UserAgentInspector instance using given header values
+	 * Build a UserAgentInspector instance using given header values.
+	 * <p>
+	 * The detection result is cached and shared for any further invocation with the same header values.
+	 * </p>
 	 * @param userAgentHeader the User-Agent header
 	 * @param httpAcceptHeader the Accept header
 	 * @return The {@link UserAgentInspector}
 	 */
 	static UserAgentInspector create(String userAgentHeader, String httpAcceptHeader) {
-		return new DefaultUserAgentInspector(userAgentHeader, httpAcceptHeader);
+		return DeviceInfoCache.getUserAgentInspector(userAgentHeader, httpAcceptHeader);
 	}
 
 	/**
@@ -158,7 +161,7 @@ public interface UserAgentInspector extends Serializable {
 	 * @return The {@link UserAgentInspector}
 	 */
 	static UserAgentInspector create(VaadinRequest request) {
-		return new DefaultUserAgentInspector(request);
+		return create(request.getHeader("user-agent"), request.getHeader("accept"));
 	}
 
 }
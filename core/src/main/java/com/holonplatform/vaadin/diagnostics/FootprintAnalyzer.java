@@ -0,0 +1,110 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.diagnostics;
+
+import com.holonplatform.vaadin.internal.diagnostics.DefaultFootprintAnalyzer;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.ui.UI;
+
+/**
+ * Diagnostic API to analyze the memory footprint of a {@link VaadinSession} or of a {@link UI}.
+ * <p>
+ * The analyzer walks the UI component trees, identifies the Holon components (and any other
+ * {@link FootprintContributor}) with their internal structures, and estimates their retained size in bytes and their
+ * serialized size. Non serializable objects which prevent the session replication are reported as serialization
+ * errors.
+ * </p>
+ * <p>
+ * The analysis walks the whole session object graph, so it is a relatively expensive operation, meant to be used for
+ * diagnostic purposes (for example from an administration view or using JMX, see {@link SessionFootprintMonitor}).
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public interface FootprintAnalyzer {
+
+	/**
+	 * Default max number of objects to walk for each analysis
+	 */
+	public static final int DEFAULT_MAX_OBJECTS = 1000000;
+
+	/**
+	 * Analyze given session. The session lock is acquired during the analysis.
+	 * @param session The session to analyze (not null)
+	 * @return The session footprint report
+	 */
+	FootprintReport analyze(VaadinSession session);
+
+	/**
+	 * Analyze given UI. The UI session lock, if available, is acquired during the analysis.
+	 * @param ui The UI to analyze (not null)
+	 * @return The UI footprint report
+	 */
+	FootprintReport analyze(UI ui);
+
+	/**
+	 * Create a new {@link FootprintAnalyzer} with default settings.
+	 * @return A new {@link FootprintAnalyzer}
+	 */
+	static FootprintAnalyzer create() {
+		return builder().build();
+	}
+
+	/**
+	 * Get a builder to create and configure a {@link FootprintAnalyzer}.
+	 * @return A new {@link FootprintAnalyzer} builder
+	 */
+	static Builder builder() {
+		return new DefaultFootprintAnalyzer.DefaultBuilder();
+	}
+
+	/**
+	 * {@link FootprintAnalyzer} builder.
+	 */
+	public interface Builder {
+
+		/**
+		 * Set whether to compute the serialized size of the analyzed objects. Default is <code>true</code>.
+		 * @param computeSerializedSize Whether to compute the serialized size
+		 * @return this
+		 */
+		Builder computeSerializedSize(boolean computeSerializedSize);
+
+		/**
+		 * Set the max number of objects to walk for each analysis, to limit the analysis cost. Default is
+		 * {@link FootprintAnalyzer#DEFAULT_MAX_OBJECTS}.
+		 * @param maxObjects The max number of objects
+		 * @return this
+		 */
+		Builder maxObjects(int maxObjects);
+
+		/**
+		 * Exclude the objects of given type from the analysis, for example services shared among sessions. The
+		 * excluded objects are not counted and not walked.
+		 * @param type The type to exclude (not null)
+		 * @return this
+		 */
+		Builder exclude(Class<?> type);
+
+		/**
+		 * Build the {@link FootprintAnalyzer}.
+		 * @return A new {@link FootprintAnalyzer}
+		 */
+		FootprintAnalyzer build();
+
+	}
+
+}
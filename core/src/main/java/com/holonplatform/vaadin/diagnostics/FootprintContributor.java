@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.diagnostics;
+
+import java.util.Optional;
+
+import com.vaadin.ui.UI;
+
+/**
+ * Implemented by components and objects which are able to describe their internal structures to a
+ * {@link FootprintAnalyzer}, so that the memory footprint of each structure is reported separately.
+ * <p>
+ * The Holon components (for example item listings, item data sources and property input groups) implement this
+ * interface, and it can be implemented by application components too.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+@FunctionalInterface
+public interface FootprintContributor {
+
+	/**
+	 * Describe the internal structures of this object, using given collector.
+	 * @param collector The structures collector
+	 */
+	void contributeFootprint(Collector collector);
+
+	/**
+	 * Collects the internal structures of a {@link FootprintContributor}.
+	 */
+	public interface Collector {
+
+		/**
+		 * Get the UI which is being analyzed, if available.
+		 * @return Optional UI
+		 */
+		Optional<UI> getUI();
+
+		/**
+		 * Add an internal structure. If the structure is a {@link FootprintContributor} itself, its structures are
+		 * collected too. For collections, maps and arrays, the elements count is reported.
+		 * @param name The structure name
+		 * @param structure The structure object, ignored if <code>null</code>
+		 */
+		void add(String name, Object structure);
+
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.diagnostics;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A memory footprint report node, produced by a {@link FootprintAnalyzer}. Reports are organized in a tree: a session
+ * report contains the UI reports, a UI report contains the navigator and the Holon components reports and a component
+ * report contains its internal structures reports.
+ * <p>
+ * The estimated retained size of a report includes the size of its children reports, and each object is attributed
+ * only once, to the most specific report which reaches it. The sizes are estimates, computed walking the object graph
+ * and assuming a 64 bit JVM with compressed references.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public interface FootprintReport extends Serializable {
+
+	/**
+	 * Report node type
+	 */
+	public enum Type {
+
+		/**
+		 * A Vaadin session
+		 */
+		SESSION,
+
+		/**
+		 * A UI
+		 */
+		UI,
+
+		/**
+		 * A UI navigator
+		 */
+		NAVIGATOR,
+
+		/**
+		 * A component
+		 */
+		COMPONENT,
+
+		/**
+		 * An internal structure of a component
+		 */
+		STRUCTURE;
+
+	}
+
+	/**
+	 * Get the report node type.
+	 * @return the report type
+	 */
+	Type getType();
+
+	/**
+	 * Get the report node name, for example the session id, the UI id, the component id or the structure name.
+	 * @return the report name
+	 */
+	String getName();
+
+	/**
+	 * Get the class name of the analyzed object.
+	 * @return the class name
+	 */
+	String getClassName();
+
+	/**
+	 * Get the estimated retained size in bytes.
+	 * @return the estimated retained size
+	 */
+	long getEstimatedBytes();
+
+	/**
+	 * Get the serialized size in bytes, if it was computed.
+	 * @return the serialized size, <code>-1</code> if not computed or if the serialization failed
+	 */
+	long getSerializedBytes();
+
+	/**
+	 * Get the serialization error, if the serialization failed. A serialization error usually identifies a non
+	 * serializable object which prevents the session replication.
+	 * @return Optional serialization error description
+	 */
+	Optional<String> getSerializationError();
+
+	/**
+	 * For collections, maps and arrays structures, get the elements count.
+	 * @return the elements count, <code>-1</code> if not applicable
+	 */
+	int getElements();
+
+	/**
+	 * Get whether the object graph walk was truncated because the max objects limit was reached, so the estimated
+	 * sizes are underestimated.
+	 * @return <code>true</code> if the analysis was truncated
+	 */
+	boolean isTruncated();
+
+	/**
+	 * Get the children reports.
+	 * @return the children reports, an empty list if none
+	 */
+	List<FootprintReport> getChildren();
+
+	/**
+	 * Get the JSON representation of this report, including the children reports.
+	 * @return the report as JSON
+	 */
+	String toJson();
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.diagnostics;
+
+/**
+ * JMX management interface of a {@link SessionFootprintMonitor}.
+ *
+ * @since 5.4.1
+ */
+public interface SessionFootprintMXBean {
+
+	/**
+	 * Get the number of tracked sessions.
+	 * @return the sessions count
+	 */
+	int getSessionCount();
+
+	/**
+	 * Get the ids of the tracked sessions.
+	 * @return the session ids
+	 */
+	String[] getSessionIds();
+
+	/**
+	 * Analyze the session with given id.
+	 * @param sessionId Session id
+	 * @return The session footprint report as JSON, <code>null</code> if no session with given id is tracked
+	 */
+	String analyzeSession(String sessionId);
+
+	/**
+	 * Analyze all the tracked sessions.
+	 * @return A JSON array with the session footprint reports, not including the children reports
+	 */
+	String analyzeSessions();
+
+}
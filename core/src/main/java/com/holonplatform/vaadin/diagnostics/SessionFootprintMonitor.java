@@ -0,0 +1,100 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.diagnostics;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.internal.diagnostics.DefaultSessionFootprintMonitor;
+import com.vaadin.server.VaadinService;
+import com.vaadin.server.VaadinSession;
+
+/**
+ * Tracks the sessions of a {@link VaadinService} and analyzes their memory footprint on demand, using a
+ * {@link FootprintAnalyzer}.
+ * <p>
+ * The monitor can be registered as a JMX MBean (see {@link SessionFootprintMXBean}), to inspect the sessions footprint
+ * using any JMX client.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public interface SessionFootprintMonitor extends SessionFootprintMXBean {
+
+	/**
+	 * Default JMX object name domain
+	 */
+	public static final String JMX_DOMAIN = "com.holonplatform.vaadin";
+
+	/**
+	 * Get a tracked session by id.
+	 * @param sessionId Session id
+	 * @return Optional session
+	 */
+	Optional<VaadinSession> getSession(String sessionId);
+
+	/**
+	 * Analyze the session with given id.
+	 * @param sessionId Session id
+	 * @return The session footprint report, empty if no session with given id is tracked
+	 */
+	Optional<FootprintReport> analyze(String sessionId);
+
+	/**
+	 * Analyze all the tracked sessions.
+	 * @return The session footprint reports, ordered by estimated size, larger first
+	 */
+	List<FootprintReport> analyzeAll();
+
+	/**
+	 * Register this monitor as a JMX MBean in the platform MBean server, using the
+	 * <code>com.holonplatform.vaadin:type=SessionFootprint,name=[service name]</code> object name.
+	 * @throws IllegalStateException If the registration failed
+	 */
+	void registerMBean();
+
+	/**
+	 * Unregister this monitor from the platform MBean server, if registered, and stop tracking the service sessions.
+	 */
+	void uninstall();
+
+	/**
+	 * Install a monitor which tracks the sessions of given service, using a default {@link FootprintAnalyzer}.
+	 * <p>
+	 * Only the sessions created after the monitor installation are tracked, so the monitor should be installed at
+	 * service initialization, for example in the <code>servletInitialized()</code> method of the Vaadin servlet.
+	 * </p>
+	 * @param service The Vaadin service (not null)
+	 * @return The session footprint monitor
+	 */
+	static SessionFootprintMonitor install(VaadinService service) {
+		return install(service, FootprintAnalyzer.create());
+	}
+
+	/**
+	 * Install a monitor which tracks the sessions of given service, using given {@link FootprintAnalyzer}.
+	 * @param service The Vaadin service (not null)
+	 * @param analyzer The footprint analyzer to use (not null)
+	 * @return The session footprint monitor
+	 */
+	static SessionFootprintMonitor install(VaadinService service, FootprintAnalyzer analyzer) {
+		ObjectUtils.argumentNotNull(service, "VaadinService must be not null");
+		ObjectUtils.argumentNotNull(analyzer, "FootprintAnalyzer must be not null");
+		return new DefaultSessionFootprintMonitor(service, analyzer);
+	}
+
+}
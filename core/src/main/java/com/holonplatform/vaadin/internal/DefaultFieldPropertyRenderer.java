@@ -35,6 +35,7 @@ import com.holonplatform.vaadin.components.Components.input;
 import com.holonplatform.vaadin.components.Field;
 import com.holonplatform.vaadin.components.builders.DateInputBuilder.Resolution;
 import com.holonplatform.vaadin.components.builders.TemporalInputBuilder;
+import com.holonplatform.vaadin.internal.converters.FormatterCache;
 
 /**
  * Default {@link PropertyRenderer} to create {@link Field} type {@link Property} representations.
@@ -185,8 +186,7 @@ public class DefaultFieldPropertyRenderer<T> implements PropertyRenderer<Field,
 
 		NumberFormat numberFormat = LocalizationContext.getCurrent().filter(l -> l.isLocalized())
 				.map((l) -> l.getNumberFormat(type, decimals, disableGrouping))
-				.orElse(TypeUtils.isDecimalNumber(property.getType()) ? NumberFormat.getNumberInstance(locale)
-						: NumberFormat.getIntegerInstance(locale));
+				.orElseGet(() -> FormatterCache.newNumberFormat(locale, type, null));
 
 		if (decimals > -1) {
 			numberFormat.setMinimumFractionDigits(decimals);
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+
+import com.holonplatform.core.exceptions.TypeMismatchException;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.vaadin.server.VaadinService;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.server.WrappedSession;
+
+/**
+ * A {@link VaadinSession} bound resources registry, which can be read without holding the {@link VaadinSession} lock.
+ * <p>
+ * The registry is bound to the underlying {@link WrappedSession}, whose attributes access is thread safe, using an
+ * attribute name which includes the Vaadin service name, so that each {@link VaadinSession} of the same HTTP session
+ * has its own registry. The resources are held in typed slots, keyed by resource key: each slot records the types the
+ * resource value was checked to be assignable to, so the type check is performed only once for each required type.
+ * Replacing or removing a resource discards its slot.
+ * </p>
+ * <p>
+ * The registry content is transient: after a session deserialization the registry is empty.
+ * </p>
+ * 
+ * @since 5.4.1
+ */
+public final class VaadinSessionResources implements Serializable {
+
+	private static final long serialVersionUID = 5167370425405549358L;
+
+	/**
+	 * Wrapped session attribute name prefix
+	 */
+	public static final String SESSION_ATTRIBUTE_NAME = VaadinSessionResources.class.getName();
+
+	/**
+	 * Resource slots by resource key
+	 */
+	private transient ConcurrentMap<String, Slot> resources = new ConcurrentHashMap<>(8);
+
+	/**
+	 * Constructor
+	 */
+	private VaadinSessionResources() {
+		super();
+	}
+
+	/**
+	 * Get the resource bound to given key, if available.
+	 * @param resourceKey Resource key (not null)
+	 * @return Optional resource
+	 */
+	public Optional<Object> get(String resourceKey) {
+		ObjectUtils.argumentNotNull(resourceKey, "Resource key must be not null");
+		final Slot slot = resources.get(resourceKey);
+		return (slot != null) ? Optional.of(slot.value) : Optional.empty();
+	}
+
+	/**
+	 * Get the resource bound to given key, checking it is assignable to given type.
+	 * @param <T> Resource type
+	 * @param resourceKey Resource key (not null)
+	 * @param resourceType Required resource type (not null)
+	 * @return Optional resource
+	 * @throws TypeMismatchException If the resource is not assignable to the required type
+	 */
+	public <T> Optional<T> get(String resourceKey, Class<T> resourceType) throws TypeMismatchException {
+		ObjectUtils.argumentNotNull(resourceKey, "Resource key must be not null");
+		ObjectUtils.argumentNotNull(resourceType, "Resource type must be not null");
+		final Slot slot = resources.get(resourceKey);
+		if (slot == null) {
+			return Optional.empty();
+		}
+		if (!slot.types.contains(resourceType)) {
+			if (!isAssignable(slot.value.getClass(), resourceType)) {
+				throw new TypeMismatchException("Actual resource type [" + slot.value.getClass().getName()
+						+ "] and required resource type [" + resourceType.getName() + "] mismatch");
+			}
+			slot.types.add(resourceType);
+		}
+		@SuppressWarnings("unchecked")
+		final T value = (T) slot.value;
+		return Optional.of(value);
+	}
+
+	/**
+	 * Get the resource of given type, using the type name as resource key, if available.
+	 * @param <T> Resource type
+	 * @param resourceType Resource type (not null)
+	 * @return Optional resource, empty if not available or not assignable to the required type
+	 */
+	public <T> Optional<T> get(Class<T> resourceType) {
+		ObjectUtils.argumentNotNull(resourceType, "Resource type must be not null");
+		try {
+			return get(resourceType.getName(), resourceType);
+		} catch (@SuppressWarnings("unused") TypeMismatchException e) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Bind a resource to given key, replacing any previous resource bound to the same key.
+	 * @param resourceKey Resource key (not null)
+	 * @param value Resource value, if <code>null</code> the resource is removed
+	 * @return The previous resource bound to given key, if any
+	 */
+	public Optional<Object> put(String resourceKey, Object value) {
+		ObjectUtils.argumentNotNull(resourceKey, "Resource key must be not null");
+		final Slot previous = (value == null) ? resources.remove(resourceKey)
+				: resources.put(resourceKey, new Slot(value));
+		return (previous != null) ? Optional.of(previous.value) : Optional.empty();
+	}
+
+	/**
+	 * Remove the resource bound to given key.
+	 * @param resourceKey Resource key (not null)
+	 * @return <code>true</code> if a resource was bound to given key and it was removed
+	 */
+	public boolean remove(String resourceKey) {
+		ObjectUtils.argumentNotNull(resourceKey, "Resource key must be not null");
+		return resources.remove(resourceKey) != null;
+	}
+
+	/**
+	 * Re-init the transient resources map after deserialization.
+	 * @param in Object input stream
+	 * @throws IOException Read error
+	 * @throws ClassNotFoundException Class not found
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.resources = new ConcurrentHashMap<>(8);
+	}
+
+	/**
+	 * Get the resources registry bound to given {@link VaadinSession}, if available.
+	 * <p>
+	 * This method does not require the {@link VaadinSession} lock.
+	 * </p>
+	 * @param session Vaadin session (not null)
+	 * @return Optional resources registry
+	 */
+	public static Optional<VaadinSessionResources> get(VaadinSession session) {
+		ObjectUtils.argumentNotNull(session, "VaadinSession must be not null");
+		final WrappedSession wrappedSession = session.getSession();
+		if (wrappedSession != null) {
+			final Object registry = wrappedSession.getAttribute(getAttributeName(session));
+			if (registry instanceof VaadinSessionResources) {
+				return Optional.of((VaadinSessionResources) registry);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the resources registry bound to given {@link VaadinSession}, creating it if not available.
+	 * <p>
+	 * The registry creation is performed holding the {@link VaadinSession} lock.
+	 * </p>
+	 * @param session Vaadin session (not null)
+	 * @return Optional resources registry, empty if the underlying {@link WrappedSession} is not available
+	 */
+	public static Optional<VaadinSessionResources> getOrCreate(VaadinSession session) {
+		Optional<VaadinSessionResources> registry = get(session);
+		if (!registry.isPresent()) {
+			final WrappedSession wrappedSession = session.getSession();
+			if (wrappedSession != null) {
+				// not available only if the session is not bound to a service yet
+				final Lock lock = session.getLockInstance();
+				if (lock != null) {
+					lock.lock();
+				}
+				try {
+					registry = get(session);
+					if (!registry.isPresent()) {
+						final VaadinSessionResources resources = new VaadinSessionResources();
+						wrappedSession.setAttribute(getAttributeName(session), resources);
+						registry = Optional.of(resources);
+					}
+				} finally {
+					if (lock != null) {
+						lock.unlock();
+					}
+				}
+			}
+		}
+		return registry;
+	}
+
+	/**
+	 * Get the name of the {@link WrappedSession} attribute which holds the registry of given {@link VaadinSession}.
+	 * Like the {@link VaadinSession} itself, the registry is bound to the Vaadin service name, since more than one
+	 * {@link VaadinSession} can share the same HTTP session.
+	 * @param session Vaadin session
+	 * @return The registry attribute name
+	 */
+	private static String getAttributeName(VaadinSession session) {
+		final VaadinService service = session.getService();
+		return (service != null) ? SESSION_ATTRIBUTE_NAME + "." + service.getServiceName() : SESSION_ATTRIBUTE_NAME;
+	}
+
+	/**
+	 * Checks whether a value of given type is assignable to the required type. The plain class assignability is checked
+	 * first, falling back to {@link TypeUtils#isAssignable(Class, Class)} for primitive types.
+	 * @param valueType Value type (not null)
+	 * @param requiredType Required type (not null)
+	 * @return <code>true</code> if the value type is assignable to the required type
+	 */
+	public static boolean isAssignable(Class<?> valueType, Class<?> requiredType) {
+		return requiredType.isAssignableFrom(valueType) || TypeUtils.isAssignable(valueType, requiredType);
+	}
+
+	/**
+	 * A resource slot, which records the types the resource value is assignable to.
+	 */
+	private static final class Slot {
+
+		final Object value;
+
+		final Set<Class<?>> types = ConcurrentHashMap.newKeySet(2);
+
+		Slot(Object value) {
+			super();
+			this.value = value;
+		}
+
+	}
+
+}
@@ -16,11 +16,11 @@
 package com.holonplatform.vaadin.internal;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.holonplatform.core.ContextScope;
 import com.holonplatform.core.exceptions.TypeMismatchException;
 import com.holonplatform.core.internal.utils.ObjectUtils;
-import com.holonplatform.core.internal.utils.TypeUtils;
 import com.vaadin.server.VaadinSession;
 
 /**
@@ -32,6 +32,14 @@ import com.vaadin.server.VaadinSession;
  * when invoked within a Vaadin server request thread.
  * </p>
  * 
+ * <p>
+ * The resources bound using this scope are registered in the session {@link VaadinSessionResources} registry too, so
+ * that they can be looked up without acquiring the session lock. When the session lock is held, the Vaadin Session
+ * attributes are always read and the registry is synchronized with them, so that the resources replaced by setting the
+ * Vaadin Session attributes directly are seen too. Without the session lock, the registry is looked up first, falling
+ * back to the Vaadin Session attributes.
+ * </p>
+ * 
  * @since 5.0.0
  */
 public class VaadinSessionScope implements ContextScope {
@@ -68,7 +76,6 @@ public class VaadinSessionScope implements ContextScope {
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.context.ContextScope#get(java.lang.String, java.lang.Class)
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public <T> Optional<T> get(String resourceKey, Class<T> resourceType) throws TypeMismatchException {
 		ObjectUtils.argumentNotNull(resourceKey, "Resource key must be not null");
@@ -78,23 +85,71 @@ public class VaadinSessionScope implements ContextScope {
 
 		if (session != null) {
 
-			Object value = session.getAttribute(resourceKey);
-			if (value != null) {
-
-				// check type
-				if (!TypeUtils.isAssignable(value.getClass(), resourceType)) {
-					throw new TypeMismatchException("<" + NAME + "> Actual resource type [" + value.getClass().getName()
-							+ "] and required resource type [" + resourceType.getName() + "] mismatch");
+			if (session.hasLock()) {
+				// the session attributes are authoritative, since they could have been replaced directly: the
+				// registry is synchronized with them, and only used to avoid checking the resource type again
+				final Object value = session.getAttribute(resourceKey);
+				if (value == null) {
+					VaadinSessionResources.get(session).ifPresent(r -> r.remove(resourceKey));
+					return Optional.empty();
 				}
+				final Optional<VaadinSessionResources> registry = VaadinSessionResources.getOrCreate(session);
+				if (registry.isPresent()) {
+					if (registry.get().get(resourceKey).orElse(null) != value) {
+						registry.get().put(resourceKey, value);
+					}
+					return checkType(() -> registry.get().get(resourceKey, resourceType));
+				}
+				return Optional.of(checkType(value, resourceType));
+			}
 
-				return Optional.of((T) value);
-
+			// without the session lock, lookup the registry first, falling back to session attributes
+			final Optional<T> registered = checkType(() -> VaadinSessionResources.get(session)
+					.flatMap(r -> r.get(resourceKey, resourceType)));
+			if (registered.isPresent()) {
+				return registered;
+			}
+			final Object value = session.getAttribute(resourceKey);
+			if (value != null) {
+				return Optional.of(checkType(value, resourceType));
 			}
 		}
 
 		return Optional.empty();
 	}
 
+	/**
+	 * Check the type of given resource value.
+	 * @param <T> Resource type
+	 * @param value Resource value
+	 * @param resourceType Required resource type
+	 * @return The resource value
+	 * @throws TypeMismatchException If the resource value is not assignable to the required type
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> T checkType(Object value, Class<T> resourceType) throws TypeMismatchException {
+		if (!VaadinSessionResources.isAssignable(value.getClass(), resourceType)) {
+			throw new TypeMismatchException("<" + NAME + "> Actual resource type [" + value.getClass().getName()
+					+ "] and required resource type [" + resourceType.getName() + "] mismatch");
+		}
+		return (T) value;
+	}
+
+	/**
+	 * Perform a registry typed lookup, adding the scope name to the type mismatch error message.
+	 * @param <T> Resource type
+	 * @param lookup Registry lookup
+	 * @return The lookup result
+	 * @throws TypeMismatchException If the resource value is not assignable to the required type
+	 */
+	private static <T> Optional<T> checkType(Supplier<Optional<T>> lookup) throws TypeMismatchException {
+		try {
+			return lookup.get();
+		} catch (TypeMismatchException e) {
+			throw new TypeMismatchException("<" + NAME + "> " + e.getMessage());
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.context.ContextScope#put(java.lang.String, java.lang.Object)
@@ -112,6 +167,7 @@ public class VaadinSessionScope implements ContextScope {
 		Object exist = session.getAttribute(resourceKey);
 
 		session.setAttribute(resourceKey, value);
+		VaadinSessionResources.getOrCreate(session).ifPresent(r -> r.put(resourceKey, value));
 
 		try {
 			T previous = (T) exist;
@@ -141,6 +197,7 @@ public class VaadinSessionScope implements ContextScope {
 				Object exist = session.getAttribute(resourceKey);
 				if (exist == null) {
 					session.setAttribute(resourceKey, value);
+					VaadinSessionResources.getOrCreate(session).ifPresent(r -> r.put(resourceKey, value));
 				} else {
 					return Optional.of((T) exist);
 				}
@@ -165,6 +222,7 @@ public class VaadinSessionScope implements ContextScope {
 
 		Object exist = session.getAttribute(resourceKey);
 		session.setAttribute(resourceKey, null);
+		VaadinSessionResources.get(session).ifPresent(r -> r.remove(resourceKey));
 
 		return exist != null;
 	}
@@ -261,8 +261,7 @@ public abstract class AbstractComposableForm<C extends Component, S extends Prop
 		getInitializer().ifPresent(i -> i.accept(content));
 
 		// setup components
-		final boolean fullWidth = (getComponentsWidthMode() == ComponentsWidthMode.FULL)
-				|| ((getComponentsWidthMode() == ComponentsWidthMode.AUTO) && getWidth() > -1);
+		final boolean fullWidth = isFullWidthComponents();
 
 		getComponentSource().streamOfComponents().forEach(binding -> {
 			setupPropertyComponent(binding.getProperty(), binding.getComponent(), fullWidth);
@@ -274,6 +273,15 @@ public abstract class AbstractComposableForm<C extends Component, S extends Prop
 		this.composed = true;
 	}
 
+	/**
+	 * Get whether the composed components must be setted to 100% width, according to {@link #getComponentsWidthMode()}.
+	 * @return <code>true</code> if the composed components must be setted to 100% width
+	 */
+	protected boolean isFullWidthComponents() {
+		return (getComponentsWidthMode() == ComponentsWidthMode.FULL)
+				|| ((getComponentsWidthMode() == ComponentsWidthMode.AUTO) && getWidth() > -1);
+	}
+
 	/**
 	 * Setup the {@link Component} associated with given {@link Property}.
 	 * @param property Property
@@ -23,6 +23,7 @@ import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.vaadin.components.Field;
 import com.holonplatform.vaadin.components.Input;
 import com.vaadin.data.HasValue;
+import com.vaadin.data.ValueContext;
 import com.vaadin.server.ErrorMessage;
 import com.vaadin.shared.Registration;
 import com.vaadin.ui.Component;
@@ -64,6 +65,11 @@ public abstract class AbstractCustomField<T, I, F extends HasValue<I> & Componen
 	 */
 	private F internalField;
 
+	/**
+	 * Last value context used for conversions
+	 */
+	private ValueContext valueContext;
+
 	/**
 	 * Constructor
 	 * @param type Field concrete type
@@ -144,6 +150,22 @@ public abstract class AbstractCustomField<T, I, F extends HasValue<I> & Componen
 		return locale;
 	}
 
+	/**
+	 * Get the {@link ValueContext} to use for value conversions, using the {@link #findLocale()} Locale. The same
+	 * context instance is reused as long as the Locale does not change.
+	 * @return the value conversion context
+	 * @since 5.4.1
+	 */
+	protected ValueContext getValueContext() {
+		final Locale locale = findLocale();
+		ValueContext context = valueContext;
+		if (context == null || !locale.equals(context.getLocale().orElse(null))) {
+			context = new ValueContext(locale);
+			valueContext = context;
+		}
+		return context;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.components.ValueHolder#getValue()
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.components;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.vaadin.server.AbstractExtension;
+import com.vaadin.server.Extension;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+
+/**
+ * A {@link UI} extension which dispatches the {@link DataChangeEvent}s received by the listings with live updates
+ * enabled.
+ * <p>
+ * The events are received in the publisher thread and queued: a single <code>UI.access</code> task is scheduled for
+ * the UI to apply all the events queued until the task runs, so a burst of changes results in one UI update (and one
+ * push, if server push is enabled) instead of one for each event.
+ * </p>
+ * <p>
+ * The dispatcher is bound to the UI it extends, so it is obtained holding the UI session lock when a listing subscribes
+ * to the data changes, and it is released along with the UI.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public class DataChangeDispatcher extends AbstractExtension {
+
+	private static final long serialVersionUID = 6320915427151640823L;
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * The extended UI
+	 */
+	private final UI ui;
+
+	/**
+	 * Pending events by listing
+	 */
+	private transient Map<DefaultItemListing<?, ?>, List<DataChangeEvent>> pending;
+
+	/**
+	 * Whether an access task is scheduled
+	 */
+	private transient boolean scheduled = false;
+
+	/**
+	 * Constructor
+	 * @param ui The UI to extend
+	 */
+	private DataChangeDispatcher(UI ui) {
+		super();
+		this.ui = ui;
+		extend(ui);
+	}
+
+	/**
+	 * Get the {@link DataChangeDispatcher} of given UI, creating and attaching it to the UI if not already available.
+	 * Must be invoked holding the UI session lock.
+	 * @param ui The UI (not null)
+	 * @return The UI {@link DataChangeDispatcher}
+	 */
+	static DataChangeDispatcher get(UI ui) {
+		ObjectUtils.argumentNotNull(ui, "UI must be not null");
+		for (Extension extension : ui.getExtensions()) {
+			if (extension instanceof DataChangeDispatcher) {
+				return (DataChangeDispatcher) extension;
+			}
+		}
+		return new DataChangeDispatcher(ui);
+	}
+
+	/**
+	 * Queue given event for the listing, scheduling the UI update if not already scheduled. Can be invoked by any
+	 * thread.
+	 * @param listing The listing
+	 * @param event The data change event
+	 */
+	void dispatch(DefaultItemListing<?, ?> listing, DataChangeEvent event) {
+		synchronized (this) {
+			if (pending == null) {
+				pending = new LinkedHashMap<>();
+			}
+			pending.computeIfAbsent(listing, l -> new ArrayList<>()).add(event);
+			if (scheduled) {
+				return;
+			}
+			scheduled = true;
+		}
+		try {
+			ui.access(this::flush);
+		} catch (UIDetachedException e) {
+			// the UI is no longer available
+			synchronized (this) {
+				pending.clear();
+				scheduled = false;
+			}
+		}
+	}
+
+	/**
+	 * Apply all the queued events, holding the UI session lock.
+	 */
+	private void flush() {
+		final Map<DefaultItemListing<?, ?>, List<DataChangeEvent>> batch;
+		synchronized (this) {
+			if (pending == null || pending.isEmpty()) {
+				scheduled = false;
+				return;
+			}
+			batch = new LinkedHashMap<>(pending);
+			pending.clear();
+			scheduled = false;
+		}
+		batch.forEach((listing, events) -> {
+			try {
+				listing.applyDataChanges(events);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Failed to apply [" + events.size() + "] data changes to listing [" + listing + "]", e);
+			}
+		});
+	}
+
+}
@@ -25,7 +25,6 @@ import com.holonplatform.vaadin.components.builders.DateInputBuilder.Resolution;
 import com.holonplatform.vaadin.internal.components.builders.AbstractDateFieldBuilder;
 import com.holonplatform.vaadin.internal.converters.DateToLocalDateConverter;
 import com.holonplatform.vaadin.internal.converters.TimeZonedConverter;
-import com.vaadin.data.ValueContext;
 import com.vaadin.shared.ui.datefield.DateResolution;
 import com.vaadin.ui.AbstractDateField;
 import com.vaadin.ui.AbstractLocalDateField;
@@ -78,7 +77,7 @@ public class DateField extends AbstractCalendarField<LocalDate> {
 	 */
 	@Override
 	protected Date fromInternalValue(LocalDate value) {
-		return getConverter().convertToPresentation(value, new ValueContext(findLocale()));
+		return getConverter().convertToPresentation(value, getValueContext());
 	}
 
 	/*
@@ -87,7 +86,7 @@ public class DateField extends AbstractCalendarField<LocalDate> {
 	 */
 	@Override
 	protected LocalDate toInternalValue(Date value) {
-		return getConverter().convertToModel(value, new ValueContext(findLocale()))
+		return getConverter().convertToModel(value, getValueContext())
 				.getOrThrow(msg -> new IllegalArgumentException(msg));
 	}
 
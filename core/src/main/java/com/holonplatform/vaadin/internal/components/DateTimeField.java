@@ -25,7 +25,6 @@ import com.holonplatform.vaadin.components.builders.DateInputBuilder.Resolution;
 import com.holonplatform.vaadin.internal.components.builders.AbstractDateFieldBuilder;
 import com.holonplatform.vaadin.internal.converters.DateToLocalDateTimeConverter;
 import com.holonplatform.vaadin.internal.converters.TimeZonedConverter;
-import com.vaadin.data.ValueContext;
 import com.vaadin.shared.ui.datefield.DateTimeResolution;
 import com.vaadin.ui.AbstractDateField;
 import com.vaadin.ui.AbstractLocalDateTimeField;
@@ -79,7 +78,7 @@ public class DateTimeField extends AbstractCalendarField<LocalDateTime> {
 	 */
 	@Override
 	protected Date fromInternalValue(LocalDateTime value) {
-		return getConverter().convertToPresentation(value, new ValueContext(findLocale()));
+		return getConverter().convertToPresentation(value, getValueContext());
 	}
 
 	/*
@@ -88,7 +87,7 @@ public class DateTimeField extends AbstractCalendarField<LocalDateTime> {
 	 */
 	@Override
 	protected LocalDateTime toInternalValue(Date value) {
-		return getConverter().convertToModel(value, new ValueContext(findLocale()))
+		return getConverter().convertToModel(value, getValueContext())
 				.getOrThrow(msg -> new IllegalArgumentException(msg));
 	}
 
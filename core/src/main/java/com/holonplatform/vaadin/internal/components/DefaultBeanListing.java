@@ -40,7 +40,6 @@ import com.vaadin.server.FontIcon;
 import com.vaadin.server.Setter;
 import com.vaadin.server.ThemeResource;
 import com.vaadin.ui.Component;
-import com.vaadin.ui.Grid;
 import com.vaadin.ui.renderers.ComponentRenderer;
 import com.vaadin.ui.renderers.HtmlRenderer;
 import com.vaadin.ui.renderers.ImageRenderer;
@@ -71,7 +70,7 @@ public class DefaultBeanListing<T> extends DefaultItemListing<T, String> impleme
 		super();
 		propertySet = new BeanGridPropertySet<>(beanType);
 		setDefaultVisibleProperties(() -> getDefaultColumnIds());
-		initGrid(Grid.withPropertySet(propertySet), propertySet);
+		initGrid(new ListingGrid<>(propertySet), propertySet);
 	}
 
 	/**
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.components;
+
+import java.util.Collections;
+import java.util.Set;
+
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.components.PropertyInputGroup.CoalescedValueChangeEvent;
+import com.holonplatform.vaadin.components.ValueHolder;
+
+/**
+ * Default {@link CoalescedValueChangeEvent} implementation.
+ *
+ * @since 5.4.1
+ */
+public class DefaultCoalescedValueChangeEvent extends DefaultValueChangeEvent<PropertyBox>
+		implements CoalescedValueChangeEvent {
+
+	private static final long serialVersionUID = -2209327427385738461L;
+
+	private final Set<Property<?>> changedProperties;
+
+	/**
+	 * Constructor
+	 * @param source Source
+	 * @param oldValue Old value
+	 * @param value New value
+	 * @param userOriginated Whether at least one of the coalesced changes was client-side (user originated)
+	 * @param changedProperties The changed properties
+	 */
+	public DefaultCoalescedValueChangeEvent(ValueHolder<PropertyBox> source, PropertyBox oldValue, PropertyBox value,
+			boolean userOriginated, Set<Property<?>> changedProperties) {
+		super(source, oldValue, value, userOriginated);
+		this.changedProperties = (changedProperties != null) ? Collections.unmodifiableSet(changedProperties)
+				: Collections.emptySet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.PropertyInputGroup.CoalescedValueChangeEvent#getChangedProperties()
+	 */
+	@Override
+	public Set<Property<?>> getChangedProperties() {
+		return changedProperties;
+	}
+
+}
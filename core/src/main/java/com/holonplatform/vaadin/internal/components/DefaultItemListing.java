@@ -18,7 +18,10 @@ package com.holonplatform.vaadin.internal.components;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
@@ -26,29 +29,43 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import com.holonplatform.core.i18n.Localizable;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ConversionUtils;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.property.Property;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
 import com.holonplatform.vaadin.components.ItemListing;
+import com.holonplatform.vaadin.components.ItemSelection;
 import com.holonplatform.vaadin.components.Selectable;
 import com.holonplatform.vaadin.components.builders.ItemListingBuilder.ColumnHeaderMode;
+import com.holonplatform.vaadin.data.DataChangeBus;
+import com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent;
+import com.holonplatform.vaadin.data.DataChangeBus.Operation;
+import com.holonplatform.vaadin.data.ItemDataProvider;
 import com.holonplatform.vaadin.data.ItemDataSource;
 import com.holonplatform.vaadin.data.ItemDataSource.ItemSort;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
 import com.holonplatform.vaadin.internal.VaadinLogger;
 import com.holonplatform.vaadin.internal.components.PropertyColumn.DisplayPosition;
+import com.holonplatform.vaadin.internal.data.DefaultDataChangeBus;
 import com.holonplatform.vaadin.internal.data.ItemDataProviderAdapter;
 import com.holonplatform.vaadin.internal.data.ItemDataSourceAdapter;
 import com.vaadin.data.Binder;
+import com.vaadin.data.Binder.Binding;
 import com.vaadin.data.Binder.BindingBuilder;
 import com.vaadin.data.BinderValidationStatus;
 import com.vaadin.data.HasValue;
 import com.vaadin.data.PropertySet;
 import com.vaadin.data.SelectionModel.Multi;
 import com.vaadin.data.SelectionModel.Single;
+import com.vaadin.data.ValidationResult;
 import com.vaadin.data.Validator;
 import com.vaadin.data.ValueProvider;
 import com.vaadin.data.provider.DataProvider;
@@ -82,7 +99,7 @@ import com.vaadin.ui.renderers.TextRenderer;
  * @since 5.0.0
  */
 public class DefaultItemListing<T, P> extends CustomComponent
-		implements ItemListing<T, P>, PropertyColumnManager<T, P> {
+		implements ItemListing<T, P>, PropertyColumnManager<T, P>, FootprintContributor {
 
 	private static final long serialVersionUID = -4573359150260491496L;
 
@@ -121,6 +138,41 @@ public class DefaultItemListing<T, P> extends CustomComponent
 	 */
 	private boolean commitOnRemove = false;
 
+	/**
+	 * Incremental updates on item add and remove
+	 */
+	private boolean incrementalUpdates = false;
+
+	/**
+	 * Count cap when not in buffered mode, 0 if disabled
+	 */
+	private int countCap = 0;
+
+	/**
+	 * Name of the data target whose changes are applied to the listing
+	 */
+	private String liveUpdatesTarget;
+
+	/**
+	 * Data change bus registration
+	 */
+	private transient Registration liveUpdatesRegistration;
+
+	/**
+	 * Lazy select all mode
+	 */
+	private boolean lazySelectAll = false;
+
+	/**
+	 * Pooled editors mode
+	 */
+	private boolean pooledEditors = false;
+
+	/**
+	 * Pooled editor bindings by property
+	 */
+	private final Map<P, Binding<T, ?>> editorBindings = new HashMap<>();
+
 	/**
 	 * Select all visibility
 	 */
@@ -594,7 +646,13 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		// editing
 		final boolean readOnly = requireDataSource().getConfiguration().isPropertyReadOnly(property);
 		if (propertyColumn.isEditable()) {
-			if (propertyColumn.getEditor().isPresent()) {
+			final Binding<T, ?> pooled = isPooledEditors() ? editorBindings.get(property) : null;
+			if (pooled != null && (!propertyColumn.getEditor().isPresent()
+					|| propertyColumn.getEditor().get() == pooled.getField())) {
+				// reuse the editor field and its converter and validators chain
+				((Column) column).setEditorBinding(pooled);
+				column.setEditable(!readOnly);
+			} else if (propertyColumn.getEditor().isPresent()) {
 				setEditorBinding(property, column, propertyColumn.getEditor().get(), readOnly, propertyColumn);
 			} else {
 				getDefaultPropertyEditor(property).ifPresent(e -> {
@@ -642,7 +700,14 @@ public class DefaultItemListing<T, P> extends CustomComponent
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private void setEditorBinding(P property, Column column, HasValue editor, boolean readOnly,
 			PropertyColumn<?, ?> pc) {
-		BindingBuilder builder = getGrid().getEditor().getBinder().forField(editor);
+		final Binder<T> binder = getGrid().getEditor().getBinder();
+		final DefaultItemListingBinder<T> changesBinder = (isPooledEditors()
+				&& binder instanceof DefaultItemListingBinder) ? (DefaultItemListingBinder<T>) binder : null;
+		if (changesBinder != null) {
+			// registered before the binding, to track the change before the field validation
+			editor.addValueChangeListener(e -> changesBinder.fieldChanged(editor));
+		}
+		BindingBuilder builder = binder.forField(editor);
 		if (pc.isRequired()) {
 			final Localizable requiredMessage = (pc.getRequiredMessage() != null) ? pc.getRequiredMessage()
 					: RequiredInputValidator.DEFAULT_REQUIRED_ERROR;
@@ -652,11 +717,18 @@ public class DefaultItemListing<T, P> extends CustomComponent
 
 		}
 		// default validators
-		getDefaultPropertyValidators(property).forEach(v -> builder.withValidator(new ValidatorWrapper<>(v)));
+		getDefaultPropertyValidators(property).forEach(v -> builder.withValidator(
+				(changesBinder != null) ? changesBinder.changedOnly(editor, new ValidatorWrapper<>(v))
+						: new ValidatorWrapper<>(v)));
 		// validators
-		pc.getValidators().forEach(v -> builder.withValidator(v));
+		pc.getValidators().forEach(v -> builder
+				.withValidator((changesBinder != null) ? changesBinder.changedOnly(editor, (Validator) v) : v));
 		// bind
-		column.setEditorBinding(builder.bind(getColumnId(property)));
+		final Binding binding = builder.bind(getColumnId(property));
+		if (isPooledEditors()) {
+			editorBindings.put(property, binding);
+		}
+		column.setEditorBinding(binding);
 		// set editable if not read-only
 		column.setEditable(!readOnly);
 	}
@@ -1329,7 +1401,12 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		this.selectionMode = selectionMode;
 		switch (selectionMode) {
 		case MULTI:
-			getGrid().setSelectionMode(com.vaadin.ui.Grid.SelectionMode.MULTI);
+			if (isLazySelectAll() && getGrid() instanceof ListingGrid) {
+				((ListingGrid<T>) getGrid()).setSelectionModel(
+						new LazyMultiSelectionModel<>(() -> requireDataSource().getConfiguration()));
+			} else {
+				getGrid().setSelectionMode(com.vaadin.ui.Grid.SelectionMode.MULTI);
+			}
 			((MultiSelectionModel<T>) getGrid().getSelectionModel())
 					.setSelectAllCheckBoxVisibility((selectAllCheckBoxVisibility != null) ? selectAllCheckBoxVisibility
 							: SelectAllCheckBoxVisibility.DEFAULT);
@@ -1369,6 +1446,73 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemListing#getItemSelection()
+	 */
+	@Override
+	public ItemSelection<T> getItemSelection() {
+		if (getGrid().getSelectionModel() instanceof LazyMultiSelectionModel) {
+			return ((LazyMultiSelectionModel<T>) getGrid().getSelectionModel()).getItemSelection();
+		}
+		return DefaultItemSelection.of(getSelectedItems(),
+				getDataSource().flatMap(ds -> ds.getConfiguration().getItemIdentifierProvider()).orElse(null));
+	}
+
+	/**
+	 * Get whether the lazy select all mode is enabled.
+	 * @return <code>true</code> if the lazy select all mode is enabled
+	 */
+	public boolean isLazySelectAll() {
+		return lazySelectAll;
+	}
+
+	/**
+	 * Set whether to enable the lazy select all mode when the listing is in multiple selection mode. When enabled,
+	 * selecting all the items does not fetch them from the data provider: the selection represents all the items
+	 * which match the current query filter, minus the items deselected afterwards, and it is cleared when the listing
+	 * is refreshed. See {@link #getItemSelection()}.
+	 * @param lazySelectAll <code>true</code> to enable the lazy select all mode
+	 */
+	public void setLazySelectAll(boolean lazySelectAll) {
+		final boolean changed = this.lazySelectAll != lazySelectAll;
+		this.lazySelectAll = lazySelectAll;
+		if (changed && SelectionMode.MULTI == getSelectionMode()) {
+			setSelectionMode(SelectionMode.MULTI);
+		}
+	}
+
+	/**
+	 * Get whether the pooled editors mode is enabled.
+	 * @return <code>true</code> if the pooled editors mode is enabled
+	 */
+	public boolean isPooledEditors() {
+		return pooledEditors;
+	}
+
+	/**
+	 * Set whether to enable the pooled editors mode. When enabled, the editor field of each property, with its
+	 * converter and validators chain, is built only once per listing and reused each time the property column is
+	 * configured again, for example when the visible columns change. Furthermore, when the item editor is in buffered
+	 * mode, the property and column validators are only applied to the editor fields changed since the row was opened
+	 * for editing. The required field check is always applied.
+	 * <p>
+	 * Must be set before the listing columns setup.
+	 * </p>
+	 * @param pooledEditors <code>true</code> to enable the pooled editors mode
+	 */
+	@SuppressWarnings("unchecked")
+	public void setPooledEditors(boolean pooledEditors) {
+		this.pooledEditors = pooledEditors;
+		if (!pooledEditors) {
+			editorBindings.clear();
+		}
+		if (getGrid().getEditor().getBinder() instanceof DefaultItemListingBinder) {
+			((DefaultItemListingBinder<T>) getGrid().getEditor().getBinder())
+					.setChangedFieldsValidation(pooledEditors);
+		}
+	}
+
 	/**
 	 * Check whether to call commit() on data source container when Grid editor save action is triggered
 	 * @return <code>true</code> if should call commit() on data source container when Grid editor save action is
@@ -1407,6 +1551,251 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		this.commitOnRemove = commitOnRemove;
 	}
 
+	/**
+	 * Get whether the items added or removed using {@link #addItem(Object)} and {@link #removeItem(Object)} are
+	 * applied incrementally to the grid rows, without querying the backend again, when the listing is not in buffered
+	 * mode.
+	 * @return <code>true</code> if incremental updates are enabled
+	 */
+	public boolean isIncrementalUpdates() {
+		return incrementalUpdates;
+	}
+
+	/**
+	 * Set whether the items added or removed using {@link #addItem(Object)} and {@link #removeItem(Object)} are
+	 * applied incrementally to the grid rows, without querying the backend again, when the listing is not in buffered
+	 * mode. The added items are displayed at the beginning of the item set until the next full refresh.
+	 * @param incrementalUpdates <code>true</code> to enable incremental updates
+	 */
+	public void setIncrementalUpdates(boolean incrementalUpdates) {
+		this.incrementalUpdates = incrementalUpdates;
+		if (getGrid().getDataProvider() instanceof ItemDataProviderAdapter) {
+			((ItemDataProviderAdapter<?>) getGrid().getDataProvider()).setIncrementalUpdates(incrementalUpdates);
+		}
+	}
+
+	/**
+	 * Get the count cap used when the listing is not in buffered mode.
+	 * @return The count cap, <code>0</code> if disabled
+	 */
+	public int getCountCap() {
+		return countCap;
+	}
+
+	/**
+	 * Set the count cap to use when the listing is not in buffered mode. When enabled, the item set is not counted:
+	 * only up to <code>countCap + 1</code> items are fetched to check whether more items are available, and the
+	 * listing rows count grows by <code>countCap</code> as the user scrolls near the end of the rows.
+	 * @param countCap The count cap, <code>0</code> to disable
+	 */
+	public void setCountCap(int countCap) {
+		this.countCap = Math.max(0, countCap);
+		if (getGrid().getDataProvider() instanceof ItemDataProviderAdapter) {
+			((ItemDataProviderAdapter<?>) getGrid().getDataProvider()).setCountCap(this.countCap);
+		}
+	}
+
+	/**
+	 * Get the name of the data target whose changes, published to the default {@link DataChangeBus}, are applied to
+	 * the listing while it is attached.
+	 * @return Optional live updates data target name
+	 */
+	public Optional<String> getLiveUpdatesTarget() {
+		return Optional.ofNullable(liveUpdatesTarget);
+	}
+
+	/**
+	 * Set the name of the data target whose changes, published to the default {@link DataChangeBus}, are applied to
+	 * the listing while it is attached.
+	 * <p>
+	 * The changes are applied through <code>UI.access</code>: they are pushed to the client if server push is enabled,
+	 * otherwise they are displayed at the next client round trip.
+	 * </p>
+	 * @param liveUpdatesTarget The data target name, <code>null</code> to disable live updates
+	 */
+	public void setLiveUpdatesTarget(String liveUpdatesTarget) {
+		unsubscribeLiveUpdates();
+		this.liveUpdatesTarget = liveUpdatesTarget;
+		if (isAttached()) {
+			subscribeLiveUpdates();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.AbstractComponent#attach()
+	 */
+	@Override
+	public void attach() {
+		super.attach();
+		subscribeLiveUpdates();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.AbstractComponent#detach()
+	 */
+	@Override
+	public void detach() {
+		unsubscribeLiveUpdates();
+		super.detach();
+	}
+
+	private void subscribeLiveUpdates() {
+		if (liveUpdatesTarget != null && liveUpdatesRegistration == null) {
+			final UI ui = getUI();
+			if (ui != null) {
+				final DataChangeDispatcher dispatcher = DataChangeDispatcher.get(ui);
+				liveUpdatesRegistration = DataChangeBus.getDefault().subscribe(liveUpdatesTarget,
+						e -> dispatcher.dispatch(this, e));
+			}
+		}
+	}
+
+	private void unsubscribeLiveUpdates() {
+		if (liveUpdatesRegistration != null) {
+			liveUpdatesRegistration.remove();
+			liveUpdatesRegistration = null;
+		}
+	}
+
+	/**
+	 * Apply the given data changes to the listing rows. Invoked holding the UI session lock.
+	 * <p>
+	 * The changes originated by the listing commit handler are ignored, since they are already applied. The events
+	 * only carry the item ids: updated items are loaded again through the listing data provider and refreshed only if
+	 * they are currently loaded. Since the position of an inserted item is not known, any insert (or any change whose
+	 * items cannot be identified or loaded again by id) triggers a single full refresh. In buffered mode, inserts and
+	 * deletes are not applied if the listing has pending changes, to avoid discarding them.
+	 * </p>
+	 * @param events The data change events
+	 */
+	@SuppressWarnings("unchecked")
+	void applyDataChanges(List<DataChangeEvent> events) {
+		if (dataSource == null) {
+			return;
+		}
+		final Object commitHandler = dataSource.getConfiguration().getCommitHandler().orElse(null);
+		boolean inserted = false;
+		boolean unidentified = false;
+		List<Property<?>> identifiers = null;
+		final Set<Object> updated = new LinkedHashSet<>();
+		final Set<Object> deleted = new LinkedHashSet<>();
+		for (DataChangeEvent event : events) {
+			if (commitHandler != null && event.getOrigin().filter(o -> o == commitHandler).isPresent()) {
+				continue;
+			}
+			if (event.getOperation() == Operation.INSERT) {
+				inserted = true;
+			} else if (event.getItemIds().isEmpty()
+					|| (identifiers != null && !identifiers.equals(event.getIdentifiers()))) {
+				unidentified = true;
+			} else {
+				identifiers = event.getIdentifiers();
+				((event.getOperation() == Operation.DELETE) ? deleted : updated).addAll(event.getItemIds());
+			}
+		}
+		updated.removeAll(deleted);
+
+		// load the updated items again, if any
+		final Optional<List<T>> reloaded = (updated.isEmpty()) ? Optional.of(Collections.emptyList())
+				: loadItems(identifiers, updated);
+		if (!reloaded.isPresent()) {
+			unidentified = true;
+		}
+
+		if (isBuffered()) {
+			if (inserted || unidentified || !deleted.isEmpty()) {
+				if (!dataSource.isModified()) {
+					refresh();
+					return;
+				}
+			}
+			reloaded.ifPresent(items -> items.forEach(item -> {
+				if (dataSource.refreshLoaded(item)) {
+					getGrid().getDataProvider().refreshItem(item);
+				}
+			}));
+		} else {
+			final DataProvider<T, ?> dataProvider = getGrid().getDataProvider();
+			if (inserted || unidentified || (!deleted.isEmpty()
+					&& !(isIncrementalUpdates() && dataProvider instanceof ItemDataProviderAdapter))) {
+				dataProvider.refreshAll();
+				return;
+			}
+			if (!deleted.isEmpty()) {
+				final List<Property<?>> deletedIdentifiers = identifiers;
+				if (!((ItemDataProviderAdapter<T>) dataProvider).itemsRemoved(
+						item -> deleted.contains(DefaultDataChangeBus.getItemId(item, deletedIdentifiers)),
+						deleted.size())) {
+					return;
+				}
+			}
+			reloaded.get().forEach(item -> dataProvider.refreshItem(item));
+		}
+	}
+
+	/**
+	 * Load the items with given ids through the listing data provider, applying the current data source query filter.
+	 * @param identifiers The identifier properties
+	 * @param itemIds The item ids to load
+	 * @return The loaded items, empty if the items cannot be loaded by id
+	 */
+	private Optional<List<T>> loadItems(List<Property<?>> identifiers, Collection<Object> itemIds) {
+		final ItemDataProvider<T> itemDataProvider = dataSource.getConfiguration().getDataProvider().orElse(null);
+		final QueryFilter idsFilter = getItemIdsFilter(identifiers, itemIds).orElse(null);
+		if (itemDataProvider == null || idsFilter == null) {
+			return Optional.empty();
+		}
+		final List<QueryFilter> filters = new LinkedList<>();
+		dataSource.getConfiguration().getQueryFilter().ifPresent(f -> filters.add(f));
+		filters.add(idsFilter);
+		final QueryFilter filter = QueryFilter.allOf(filters).orElse(null);
+		return Optional.of(itemDataProvider.load(new QueryConfigurationProvider() {
+
+			@Override
+			public QueryFilter getQueryFilter() {
+				return filter;
+			}
+
+			@Override
+			public QuerySort getQuerySort() {
+				return null;
+			}
+
+		}, 0, itemIds.size()).collect(Collectors.toList()));
+	}
+
+	/**
+	 * Get a {@link QueryFilter} to match the items with given ids, if all the identifier properties are
+	 * {@link PathProperty}s.
+	 * @param identifiers The identifier properties
+	 * @param itemIds The item ids, as provided by {@link DataChangeEvent#getItemIds()}
+	 * @return Optional item ids filter
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static Optional<QueryFilter> getItemIdsFilter(List<Property<?>> identifiers, Collection<Object> itemIds) {
+		for (Property<?> identifier : identifiers) {
+			if (!(identifier instanceof PathProperty)) {
+				return Optional.empty();
+			}
+		}
+		final List<QueryFilter> filters = new ArrayList<>(itemIds.size());
+		for (Object itemId : itemIds) {
+			if (identifiers.size() == 1) {
+				filters.add(((PathProperty) identifiers.get(0)).eq(itemId));
+			} else {
+				final List<?> values = (List<?>) itemId;
+				final List<QueryFilter> conditions = new ArrayList<>(identifiers.size());
+				for (int i = 0; i < identifiers.size(); i++) {
+					conditions.add(((PathProperty) identifiers.get(i)).eq(values.get(i)));
+				}
+				QueryFilter.allOf(conditions).ifPresent(f -> filters.add(f));
+			}
+		}
+		return QueryFilter.anyOf(filters);
+	}
+
 	/**
 	 * Get the datasource.
 	 * @return the datasource
@@ -1462,7 +1851,11 @@ public class DefaultItemListing<T, P> extends CustomComponent
 			if (isBuffered()) {
 				getGrid().setDataProvider(new ItemDataSourceAdapter<>(this.dataSource));
 			} else {
-				getGrid().setDataProvider(new ItemDataProviderAdapter<>(this.dataSource.getConfiguration()));
+				final ItemDataProviderAdapter<T> adapter = new ItemDataProviderAdapter<>(
+						this.dataSource.getConfiguration());
+				adapter.setIncrementalUpdates(isIncrementalUpdates());
+				adapter.setCountCap(getCountCap());
+				getGrid().setDataProvider(adapter);
 			}
 		}
 	}
@@ -1473,6 +1866,11 @@ public class DefaultItemListing<T, P> extends CustomComponent
 	 */
 	@Override
 	public void refresh() {
+		if (getGrid().getSelectionModel() instanceof LazyMultiSelectionModel
+				&& ((LazyMultiSelectionModel<?>) getGrid().getSelectionModel()).isLazyAllSelected()) {
+			// the query filter may be changed
+			getGrid().getSelectionModel().deselectAll();
+		}
 		if (isBuffered()) {
 			requireDataSource().refresh();
 		}
@@ -1524,7 +1922,11 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		}
 
 		// refresh
-		getGrid().getDataProvider().refreshAll();
+		if (!isBuffered() && getGrid().getDataProvider() instanceof ItemDataProviderAdapter) {
+			((ItemDataProviderAdapter<T>) getGrid().getDataProvider()).itemAdded(item);
+		} else {
+			getGrid().getDataProvider().refreshAll();
+		}
 
 		return itemId;
 	}
@@ -1560,7 +1962,11 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		}
 
 		// refresh
-		getGrid().getDataProvider().refreshAll();
+		if (removed && !isBuffered() && getGrid().getDataProvider() instanceof ItemDataProviderAdapter) {
+			((ItemDataProviderAdapter<T>) getGrid().getDataProvider()).itemRemoved(item);
+		} else {
+			getGrid().getDataProvider().refreshAll();
+		}
 
 		return removed;
 	}
@@ -1604,14 +2010,74 @@ public class DefaultItemListing<T, P> extends CustomComponent
 		requireDataSource().discard();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintContributor#contributeFootprint(com.holonplatform.vaadin.
+	 * diagnostics.FootprintContributor.Collector)
+	 */
+	@Override
+	public void contributeFootprint(Collector collector) {
+		collector.add("propertyColumnDefinitions", propertyColumnDefinitions);
+		collector.add("rowStyleGenerators", rowStyleGenerators);
+		collector.add("dataSource", dataSource);
+	}
+
 	private static class DefaultItemListingBinder<T> extends Binder<T> {
 
 		private static final long serialVersionUID = -5155452231265408090L;
 
+		/**
+		 * Whether to validate only the changed fields
+		 */
+		private boolean changedFieldsValidation = false;
+
+		/**
+		 * Fields changed since the last bean read
+		 */
+		private final Set<HasValue<?>> changedFields = Collections.newSetFromMap(new IdentityHashMap<>());
+
 		public DefaultItemListingBinder(PropertySet<T> propertySet) {
 			super(propertySet);
 		}
 
+		void setChangedFieldsValidation(boolean changedFieldsValidation) {
+			this.changedFieldsValidation = changedFieldsValidation;
+			this.changedFields.clear();
+		}
+
+		void fieldChanged(HasValue<?> field) {
+			if (changedFieldsValidation) {
+				changedFields.add(field);
+			}
+		}
+
+		/**
+		 * Wrap given validator to skip the validation when changed fields validation is enabled and the field has not
+		 * changed since the last bean read.
+		 * @param <V> Value type
+		 * @param field The field (not null)
+		 * @param validator The validator to wrap (not null)
+		 * @return The wrapped validator
+		 */
+		<V> Validator<V> changedOnly(HasValue<?> field, Validator<V> validator) {
+			return (value, context) -> (!changedFieldsValidation || changedFields.contains(field))
+					? validator.apply(value, context)
+					: ValidationResult.ok();
+		}
+
+		@Override
+		public void readBean(T bean) {
+			super.readBean(bean);
+			// the field values set while reading are not user changes
+			changedFields.clear();
+		}
+
+		@Override
+		public void setBean(T bean) {
+			super.setBean(bean);
+			changedFields.clear();
+		}
+
 		@Override
 		public BinderValidationStatus<T> validate() {
 			// noop
@@ -0,0 +1,402 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.components;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.holonplatform.core.ParameterSet;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.vaadin.components.ItemSelection;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.data.ItemIdentifierProvider;
+
+/**
+ * Default {@link ItemSelection} implementation.
+ *
+ * @param <T> Item type
+ *
+ * @since 5.4.1
+ */
+final class DefaultItemSelection<T> implements ItemSelection<T> {
+
+	private static final long serialVersionUID = -2317786185417446917L;
+
+	/**
+	 * Whether all the items matching the query are selected
+	 */
+	private final boolean allSelected;
+
+	/**
+	 * Explicitly selected items or, if all selected, excluded items
+	 */
+	private final Set<T> items;
+
+	/**
+	 * Query configuration snapshot, if all selected
+	 */
+	private final QueryConfigurationProvider query;
+
+	/**
+	 * Items data provider, if all selected
+	 */
+	private final ItemDataProvider<T> dataProvider;
+
+	/**
+	 * Item identifier provider
+	 */
+	private final ItemIdentifierProvider<T, ?> identifierProvider;
+
+	/**
+	 * Excluded item ids, if all selected
+	 */
+	private final Set<Object> excludedIds;
+
+	/**
+	 * Items load batch size
+	 */
+	private final int batchSize;
+
+	private DefaultItemSelection(boolean allSelected, Set<T> items, QueryConfigurationProvider query,
+			ItemDataProvider<T> dataProvider, ItemIdentifierProvider<T, ?> identifierProvider, int batchSize) {
+		super();
+		this.allSelected = allSelected;
+		this.items = Collections.unmodifiableSet(new LinkedHashSet<>(items));
+		this.query = query;
+		this.dataProvider = dataProvider;
+		this.identifierProvider = identifierProvider;
+		this.batchSize = Math.max(1, batchSize);
+		this.excludedIds = allSelected ? this.items.stream().map(i -> getId(i)).collect(Collectors.toSet())
+				: Collections.emptySet();
+	}
+
+	/**
+	 * Create a selection of an explicit set of items.
+	 * @param <T> Item type
+	 * @param items The selected items (not null)
+	 * @param identifierProvider Item identifier provider, may be null
+	 * @return A new {@link ItemSelection}
+	 */
+	static <T> DefaultItemSelection<T> of(Set<T> items, ItemIdentifierProvider<T, ?> identifierProvider) {
+		ObjectUtils.argumentNotNull(items, "Items must be not null");
+		return new DefaultItemSelection<>(false, items, null, null, identifierProvider, 1);
+	}
+
+	/**
+	 * Create a selection of all the items which match given query, except for the excluded items.
+	 * @param <T> Item type
+	 * @param query The query configuration snapshot (not null)
+	 * @param dataProvider The items data provider (not null)
+	 * @param identifierProvider Item identifier provider, may be null
+	 * @param excludedItems The excluded items (not null)
+	 * @param batchSize The batch size to use to load the items
+	 * @return A new {@link ItemSelection}
+	 */
+	static <T> DefaultItemSelection<T> allMatching(QueryConfigurationProvider query, ItemDataProvider<T> dataProvider,
+			ItemIdentifierProvider<T, ?> identifierProvider, Set<T> excludedItems, int batchSize) {
+		ObjectUtils.argumentNotNull(query, "Query configuration must be not null");
+		ObjectUtils.argumentNotNull(dataProvider, "ItemDataProvider must be not null");
+		ObjectUtils.argumentNotNull(excludedItems, "Excluded items must be not null");
+		return new DefaultItemSelection<>(true, excludedItems, query, dataProvider, identifierProvider, batchSize);
+	}
+
+	/**
+	 * Create an immutable query configuration snapshot.
+	 * @param filter Query filter, may be null
+	 * @param sort Query sort, may be null
+	 * @param parameters Query parameters, may be null
+	 * @return The query configuration snapshot
+	 */
+	static QueryConfigurationProvider snapshot(QueryFilter filter, QuerySort sort, ParameterSet parameters) {
+		return new QueryConfigurationSnapshot(filter, sort, parameters);
+	}
+
+	/**
+	 * Get the query configuration snapshot, if all selected.
+	 * @return The query configuration, <code>null</code> if not all selected
+	 */
+	QueryConfigurationProvider getQuery() {
+		return query;
+	}
+
+	/**
+	 * Get the items data provider, if all selected.
+	 * @return The items data provider, <code>null</code> if not all selected
+	 */
+	ItemDataProvider<T> getDataProvider() {
+		return dataProvider;
+	}
+
+	/**
+	 * Get the item identifier provider.
+	 * @return The item identifier provider, <code>null</code> if not available
+	 */
+	ItemIdentifierProvider<T, ?> getIdentifierProvider() {
+		return identifierProvider;
+	}
+
+	private Object getId(T item) {
+		return (identifierProvider != null) ? identifierProvider.getItemId(item) : item;
+	}
+
+	/**
+	 * Checks whether given item is excluded from the selection, when all the items are selected.
+	 * @param item The item
+	 * @return <code>true</code> if excluded
+	 */
+	boolean isExcluded(T item) {
+		return !excludedIds.isEmpty() && excludedIds.contains(getId(item));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#isAllSelected()
+	 */
+	@Override
+	public boolean isAllSelected() {
+		return allSelected;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#getFilter()
+	 */
+	@Override
+	public Optional<QueryFilter> getFilter() {
+		return allSelected ? Optional.ofNullable(query.getQueryFilter()) : Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#getExcludedItems()
+	 */
+	@Override
+	public Set<T> getExcludedItems() {
+		return allSelected ? items : Collections.emptySet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#count()
+	 */
+	@Override
+	public long count() {
+		return allSelected ? Math.max(0, dataProvider.size(query) - items.size()) : items.size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#stream()
+	 */
+	@Override
+	public Stream<T> stream() {
+		if (!allSelected) {
+			return items.stream();
+		}
+		return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(new BatchIterator(), Spliterator.ORDERED | Spliterator.NONNULL),
+				false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#streamIds()
+	 */
+	@Override
+	public Stream<Object> streamIds() {
+		return stream().map(i -> getId(i));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.ItemSelection#execute(com.holonplatform.vaadin.components.
+	 * ItemSelection.BulkOperation)
+	 */
+	@Override
+	public <R> R execute(BulkOperation<T, R> operation) {
+		ObjectUtils.argumentNotNull(operation, "BulkOperation must be not null");
+		return allSelected ? operation.executeFiltered(query, items) : operation.executeItems(items);
+	}
+
+	/**
+	 * Get a read-only {@link Set} view of the selected items. When all the items are selected, the set is lazily
+	 * evaluated: {@link Set#size()} performs a count query, the iterator loads the items in batches and
+	 * {@link Set#contains(Object)} checks the exclusions and then scans the query results in batches, remembering the
+	 * ids of the scanned items for the subsequent checks.
+	 * @return The selected items set
+	 */
+	Set<T> asSet() {
+		if (!allSelected) {
+			return items;
+		}
+		return new AbstractSet<T>() {
+
+			private final Set<Object> matchedIds = new HashSet<>();
+
+			private BatchIterator scan;
+
+			@Override
+			public Iterator<T> iterator() {
+				return new BatchIterator();
+			}
+
+			@Override
+			public int size() {
+				return (int) Math.min(Integer.MAX_VALUE, count());
+			}
+
+			@SuppressWarnings("unchecked")
+			@Override
+			public boolean contains(Object o) {
+				if (o == null) {
+					return false;
+				}
+				final Object id;
+				try {
+					id = getId((T) o);
+				} catch (@SuppressWarnings("unused") ClassCastException e) {
+					return false;
+				}
+				if (excludedIds.contains(id)) {
+					return false;
+				}
+				if (matchedIds.contains(id)) {
+					return true;
+				}
+				if (scan == null) {
+					scan = new BatchIterator();
+				}
+				while (scan.hasNext()) {
+					final Object matchedId = getId(scan.next());
+					matchedIds.add(matchedId);
+					if (Objects.equals(id, matchedId)) {
+						return true;
+					}
+				}
+				return false;
+			}
+
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "DefaultItemSelection [allSelected=" + allSelected + ", items=" + items.size() + "]";
+	}
+
+	/**
+	 * Iterator which loads the query items in batches, skipping the excluded ones.
+	 */
+	private final class BatchIterator implements Iterator<T> {
+
+		private List<T> batch = Collections.emptyList();
+		private int index = 0;
+		private int offset = 0;
+		private boolean exhausted = false;
+		private T next;
+
+		@Override
+		public boolean hasNext() {
+			while (next == null) {
+				if (index >= batch.size()) {
+					if (exhausted) {
+						return false;
+					}
+					batch = dataProvider.load(query, offset, batchSize).collect(Collectors.toList());
+					offset += batch.size();
+					index = 0;
+					exhausted = batch.size() < batchSize;
+					if (batch.isEmpty()) {
+						return false;
+					}
+				}
+				final T item = batch.get(index++);
+				if (item != null && !isExcluded(item)) {
+					next = item;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public T next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final T item = next;
+			next = null;
+			return item;
+		}
+
+	}
+
+	/**
+	 * Immutable query configuration.
+	 */
+	private static final class QueryConfigurationSnapshot implements QueryConfigurationProvider, Serializable {
+
+		private static final long serialVersionUID = 6418853385453166519L;
+
+		private final QueryFilter filter;
+		private final QuerySort sort;
+		private final ParameterSet parameters;
+
+		QueryConfigurationSnapshot(QueryFilter filter, QuerySort sort, ParameterSet parameters) {
+			super();
+			this.filter = filter;
+			this.sort = sort;
+			this.parameters = parameters;
+		}
+
+		@Override
+		public QueryFilter getQueryFilter() {
+			return filter;
+		}
+
+		@Override
+		public QuerySort getQuerySort() {
+			return sort;
+		}
+
+		@Override
+		public ParameterSet getQueryParameters() {
+			return (parameters != null) ? parameters : QueryConfigurationProvider.super.getQueryParameters();
+		}
+
+	}
+
+}
@@ -15,6 +15,9 @@
  */
 package com.holonplatform.vaadin.internal.components;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +38,10 @@ import com.vaadin.ui.renderers.Renderer;
 
 /**
  * Default {@link PropertyColumn} implementation.
+ * <p>
+ * The column configuration is serialized in a compact form, which only includes the settings which differ from the
+ * defaults.
+ * </p>
  * 
  * @param <T> Item data type
  * @param <P> Item property type
@@ -45,6 +52,15 @@ public class DefaultPropertyColumn<T, P> implements PropertyColumn<T, P> {
 
 	private static final long serialVersionUID = -4394599534028523259L;
 
+	// serialization flags
+
+	private static final int MINIMUM_WIDTH_FROM_CONTENT = 1;
+	private static final int EDITABLE = 1 << 1;
+	private static final int REQUIRED = 1 << 2;
+	private static final int HIDDEN = 1 << 3;
+	private static final int HIDABLE = 1 << 4;
+	private static final int RESIZABLE = 1 << 5;
+
 	/**
 	 * Virtual
 	 */
@@ -53,124 +69,124 @@ public class DefaultPropertyColumn<T, P> implements PropertyColumn<T, P> {
 	/**
 	 * Display position
 	 */
-	private DisplayPosition displayPosition;
+	private transient DisplayPosition displayPosition;
 
 	/**
 	 * Display position relative property
 	 */
-	private P displayRelativeTo;
+	private transient P displayRelativeTo;
 
 	/**
 	 * Display position relative column id
 	 */
-	private String displayRelativeToColumnId;
+	private transient String displayRelativeToColumnId;
 
 	/**
 	 * Caption (header)
 	 */
-	private Localizable caption;
+	private transient Localizable caption;
 
 	/**
 	 * Header mode
 	 */
-	private ColumnHeaderMode columnHeaderMode;
+	private transient ColumnHeaderMode columnHeaderMode;
 
 	/**
 	 * Alignment
 	 */
-	private ColumnAlignment alignment;
+	private transient ColumnAlignment alignment;
 
 	/**
 	 * Width in pixels
 	 */
-	private int width = -1;
+	private transient int width = -1;
 	/**
 	 * Minimum width in pixels
 	 */
-	private int minWidth = -1;
+	private transient int minWidth = -1;
 	/**
 	 * Maximum width in pixels
 	 */
-	private int maxWidth = -1;
+	private transient int maxWidth = -1;
 
 	/**
 	 * Expand ratio
 	 */
-	private int expandRatio = -1;
+	private transient int expandRatio = -1;
 
 	/**
 	 * Min width form content
 	 */
-	private boolean minimumWidthFromContent = true;
+	private transient boolean minimumWidthFromContent = true;
 
 	/**
 	 * Editable
 	 */
-	private boolean editable = true;
+	private transient boolean editable = true;
 
 	/**
 	 * Required
 	 */
-	private boolean required = false;
+	private transient boolean required = false;
 
 	/**
 	 * Required validation message
 	 */
-	private Localizable requiredMessage;
+	private transient Localizable requiredMessage;
 
 	/**
 	 * Editor field
 	 */
-	private HasValue<?> editor;
+	private transient HasValue<?> editor;
 
 	/**
 	 * Validators
 	 */
-	private List<Validator<?>> validators = new LinkedList<>();
+	private transient List<Validator<?>> validators = new LinkedList<>();
 
 	/**
 	 * Hidden
 	 */
-	private boolean hidden = false;
+	private transient boolean hidden = false;
 	/**
 	 * Hidable
 	 */
-	private boolean hidable = true;
+	private transient boolean hidable = true;
 
 	/**
 	 * Hide toggle menu caption
 	 */
-	private Localizable hidingToggleCaption;
+	private transient Localizable hidingToggleCaption;
 
 	/**
 	 * Resizable
 	 */
-	private boolean resizable = true;
+	private transient boolean resizable = true;
 
 	/**
 	 * Icon
 	 */
-	private Resource icon;
+	private transient Resource icon;
 
 	/**
 	 * Style generator
 	 */
-	private CellStyleGenerator<T, P> style;
+	private transient CellStyleGenerator<T, P> style;
 
 	/**
 	 * Presentation provider
 	 */
-	private ValueProvider<?, ?> presentationProvider;
+	private transient ValueProvider<?, ?> presentationProvider;
 
 	/**
 	 * Sort generator
 	 */
-	private PropertySortGenerator<P> propertySortGenerator;
+	private transient PropertySortGenerator<P> propertySortGenerator;
 
 	/**
 	 * Renderer
 	 */
-	private Renderer<?> renderer;
+	private transient Renderer<?> renderer;
 
 	/**
 	 * Constructor.
@@ -639,4 +655,97 @@ public class DefaultPropertyColumn<T, P> implements PropertyColumn<T, P> {
 		this.propertySortGenerator = propertySortGenerator;
 	}
 
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		int flags = 0;
+		flags |= minimumWidthFromContent ? MINIMUM_WIDTH_FROM_CONTENT : 0;
+		flags |= editable ? EDITABLE : 0;
+		flags |= required ? REQUIRED : 0;
+		flags |= hidden ? HIDDEN : 0;
+		flags |= hidable ? HIDABLE : 0;
+		flags |= resizable ? RESIZABLE : 0;
+		out.writeByte(flags);
+		// sizes
+		final int[] sizes = new int[] { width, minWidth, maxWidth, expandRatio };
+		int sizesMask = 0;
+		for (int i = 0; i < sizes.length; i++) {
+			sizesMask |= (sizes[i] != -1) ? (1 << i) : 0;
+		}
+		out.writeByte(sizesMask);
+		for (int size : sizes) {
+			if (size != -1) {
+				out.writeInt(size);
+			}
+		}
+		// not null settings
+		final Object[] settings = getSerializableSettings();
+		int settingsMask = 0;
+		for (int i = 0; i < settings.length; i++) {
+			settingsMask |= (settings[i] != null) ? (1 << i) : 0;
+		}
+		out.writeShort(settingsMask);
+		for (Object setting : settings) {
+			if (setting != null) {
+				out.writeObject(setting);
+			}
+		}
+	}
+
+	/**
+	 * Get the column settings to serialize, in serialization order.
+	 * @return The column settings
+	 */
+	private Object[] getSerializableSettings() {
+		return new Object[] { displayPosition, displayRelativeTo, displayRelativeToColumnId, caption,
+				columnHeaderMode, alignment, requiredMessage, editor,
+				(validators == null || validators.isEmpty()) ? null : validators, hidingToggleCaption, icon, style,
+				presentationProvider, propertySortGenerator, renderer };
+	}
+
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		final int flags = in.readByte();
+		this.minimumWidthFromContent = (flags & MINIMUM_WIDTH_FROM_CONTENT) != 0;
+		this.editable = (flags & EDITABLE) != 0;
+		this.required = (flags & REQUIRED) != 0;
+		this.hidden = (flags & HIDDEN) != 0;
+		this.hidable = (flags & HIDABLE) != 0;
+		this.resizable = (flags & RESIZABLE) != 0;
+		// sizes
+		final int sizesMask = in.readByte();
+		final int[] sizes = new int[4];
+		for (int i = 0; i < sizes.length; i++) {
+			sizes[i] = ((sizesMask & (1 << i)) != 0) ? in.readInt() : -1;
+		}
+		this.width = sizes[0];
+		this.minWidth = sizes[1];
+		this.maxWidth = sizes[2];
+		this.expandRatio = sizes[3];
+		// settings
+		final int settingsMask = in.readShort();
+		final Object[] settings = new Object[15];
+		for (int i = 0; i < settings.length; i++) {
+			settings[i] = ((settingsMask & (1 << i)) != 0) ? in.readObject() : null;
+		}
+		this.displayPosition = (DisplayPosition) settings[0];
+		this.displayRelativeTo = (P) settings[1];
+		this.displayRelativeToColumnId = (String) settings[2];
+		this.caption = (Localizable) settings[3];
+		this.columnHeaderMode = (ColumnHeaderMode) settings[4];
+		this.alignment = (ColumnAlignment) settings[5];
+		this.requiredMessage = (Localizable) settings[6];
+		this.editor = (HasValue<?>) settings[7];
+		this.validators = new LinkedList<>();
+		if (settings[8] != null) {
+			this.validators.addAll((List<Validator<?>>) settings[8]);
+		}
+		this.hidingToggleCaption = (Localizable) settings[9];
+		this.icon = (Resource) settings[10];
+		this.style = (CellStyleGenerator<T, P>) settings[11];
+		this.presentationProvider = (ValueProvider<?, ?>) settings[12];
+		this.propertySortGenerator = (PropertySortGenerator<P>) settings[13];
+		this.renderer = (Renderer<?>) settings[14];
+	}
+
 }
@@ -15,8 +15,12 @@
  */
 package com.holonplatform.vaadin.internal.components;
 
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.Validator;
@@ -34,6 +38,7 @@ import com.holonplatform.vaadin.components.PropertyInputForm;
 import com.holonplatform.vaadin.components.PropertyInputGroup;
 import com.holonplatform.vaadin.components.PropertyValueComponentSource;
 import com.holonplatform.vaadin.components.ValidationStatusHandler;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
 import com.holonplatform.vaadin.internal.components.builders.AbstractComponentBuilder;
 import com.vaadin.shared.Registration;
 import com.vaadin.shared.ui.ValueChangeMode;
@@ -48,7 +53,8 @@ import com.vaadin.ui.ComponentContainer;
  * @since 5.0.0
  */
 public class DefaultPropertyInputForm<C extends Component> extends
-		AbstractComposableForm<C, PropertyValueComponentSource> implements PropertyInputForm, PostProcessor<Input<?>> {
+		AbstractComposableForm<C, PropertyValueComponentSource> implements PropertyInputForm, PostProcessor<Input<?>>,
+		FootprintContributor {
 
 	private static final long serialVersionUID = 6071630379695045884L;
 
@@ -62,6 +68,12 @@ public class DefaultPropertyInputForm<C extends Component> extends
 	 */
 	private PropertyValueComponentSource valueComponentSource;
 
+	/**
+	 * Lazy properties whose components have been configured
+	 */
+	@SuppressWarnings("rawtypes")
+	private final Set<Property> lazyConfiguredProperties = new HashSet<>(8);
+
 	/**
 	 * Constructor
 	 */
@@ -130,6 +142,19 @@ public class DefaultPropertyInputForm<C extends Component> extends
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.AbstractComponent#beforeClientResponse(boolean)
+	 */
+	@Override
+	public void beforeClientResponse(boolean initial) {
+		super.beforeClientResponse(initial);
+		// fire the coalesced value change events, if any
+		if (getInputGroup() instanceof DefaultPropertyInputGroup) {
+			((DefaultPropertyInputGroup) getInputGroup()).flushValueChangeEvents();
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.components.PropertyInputGroup#clear()
@@ -279,6 +304,45 @@ public class DefaultPropertyInputForm<C extends Component> extends
 		return getInputGroup().stream();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.vaadin.components.PropertyInputGroup#isInputRendered(com.holonplatform.core.property.Property)
+	 */
+	@Override
+	public boolean isInputRendered(Property<?> property) {
+		return getInputGroup().isInputRendered(property);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.PropertyInputGroup#renderInputs(java.lang.Iterable)
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public <P extends Property> Stream<PropertyBinding<?, Input<?>>> renderInputs(Iterable<P> properties) {
+		final List<PropertyBinding<?, Input<?>>> bindings = getInputGroup().renderInputs(properties)
+				.collect(Collectors.toList());
+		// setup the lazy rendered components, which are not composed by the form composer
+		final boolean fullWidth = isFullWidthComponents();
+		bindings.forEach(binding -> {
+			if (lazyConfiguredProperties.add(binding.getProperty())) {
+				setupPropertyComponent(binding.getProperty(), binding.getComponent().getComponent(), fullWidth);
+			}
+		});
+		return bindings.stream();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintContributor#contributeFootprint(com.holonplatform.vaadin.
+	 * diagnostics.FootprintContributor.Collector)
+	 */
+	@Override
+	public void contributeFootprint(Collector collector) {
+		collector.add("inputGroup", inputGroup);
+	}
+
 	// Builder
 
 	/**
@@ -387,6 +451,17 @@ public class DefaultPropertyInputForm<C extends Component> extends
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#lazy(java.lang.Iterable)
+		 */
+		@SuppressWarnings("rawtypes")
+		@Override
+		public <P extends Property> PropertyInputFormBuilder<C> lazy(Iterable<P> properties) {
+			inputGroupBuilder.lazy(properties);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see
@@ -557,6 +632,26 @@ public class DefaultPropertyInputForm<C extends Component> extends
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#coalesceValueChangeEvents(boolean)
+		 */
+		@Override
+		public PropertyInputFormBuilder<C> coalesceValueChangeEvents(boolean coalesceValueChangeEvents) {
+			inputGroupBuilder.coalesceValueChangeEvents(coalesceValueChangeEvents);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#throttleValueChanges(int)
+		 */
+		@Override
+		public PropertyInputFormBuilder<C> throttleValueChanges(int interval) {
+			inputGroupBuilder.throttleValueChanges(interval);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#valueChangeMode(com.vaadin.shared.ui.
@@ -750,6 +845,14 @@ public class DefaultPropertyInputForm<C extends Component> extends
 		protected PropertyInputForm build(DefaultPropertyInputForm<C> instance) {
 			DefaultPropertyInputGroup inputGroup = inputGroupBuilder.withPostProcessor(instance).build();
 			inputGroup.setValueComponentSupplier(() -> instance);
+			// flush the coalesced value change events before the form response is written
+			inputGroup.setValueChangeFlushScheduler(() -> {
+				if (instance.isAttached() && instance.isVisible()) {
+					instance.markAsDirty();
+					return true;
+				}
+				return false;
+			});
 			instance.setInputGroup(inputGroup);
 			return instance;
 		}
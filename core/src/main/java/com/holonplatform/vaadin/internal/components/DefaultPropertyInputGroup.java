@@ -17,10 +17,14 @@ package com.holonplatform.vaadin.internal.components;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,16 +46,20 @@ import com.holonplatform.vaadin.components.PropertyValueComponentSource;
 import com.holonplatform.vaadin.components.ValidationStatusHandler;
 import com.holonplatform.vaadin.components.ValidationStatusHandler.Status;
 import com.holonplatform.vaadin.components.ValueComponent;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
+import com.vaadin.server.VaadinSession;
 import com.vaadin.shared.Registration;
 import com.vaadin.shared.ui.ValueChangeMode;
 import com.vaadin.ui.Component;
+import com.vaadin.ui.UI;
 
 /**
  * Default {@link PropertyInputGroup} implementation.
  *
  * @since 5.0.0
  */
-public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyValueComponentSource {
+public class DefaultPropertyInputGroup
+		implements PropertyInputGroup, PropertyValueComponentSource, FootprintContributor {
 
 	private static final long serialVersionUID = -5441417959315472240L;
 
@@ -107,6 +115,51 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	 */
 	private ValueChangeMode overallValueChangeMode = null;
 
+	/**
+	 * Input value changes throttle interval
+	 */
+	private int valueChangeThrottle = -1;
+
+	/**
+	 * Whether to coalesce the overall value change events
+	 */
+	private boolean coalesceValueChangeEvents = false;
+
+	/**
+	 * Properties changed since the last coalesced value change event
+	 */
+	private final Set<Property<?>> pendingChangedProperties = new LinkedHashSet<>();
+
+	/**
+	 * Value before the pending coalesced changes
+	 */
+	private PropertyBox pendingOldValue;
+
+	/**
+	 * Whether at least one of the pending coalesced changes is user originated
+	 */
+	private boolean pendingUserOriginated = false;
+
+	/**
+	 * Whether the pending coalesced value change event flush has been scheduled
+	 */
+	private boolean valueChangeFlushScheduled = false;
+
+	/**
+	 * Whether the input value changes are not tracked, i.e. while loading a value into the inputs
+	 */
+	private boolean suspendValueChangeTracking = false;
+
+	/**
+	 * Whether the current value is being loaded into a lazy input which has just been rendered
+	 */
+	private boolean loadingLazyValue = false;
+
+	/**
+	 * Coalesced value change events flush scheduler
+	 */
+	private BooleanSupplier valueChangeFlushScheduler;
+
 	/**
 	 * Validation behaviour
 	 */
@@ -137,6 +190,21 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	 */
 	private Supplier<ValueComponent<PropertyBox>> valueComponentSupplier;
 
+	/**
+	 * Whether the property default values has to be used for the lazy properties which are not rendered yet
+	 */
+	private boolean useDefaultValues = false;
+
+	/**
+	 * Group enabled state to apply to lazy rendered inputs
+	 */
+	private Boolean enabled = null;
+
+	/**
+	 * Group read-only state to apply to lazy rendered inputs
+	 */
+	private Boolean readOnly = null;
+
 	/**
 	 * Constructor
 	 */
@@ -160,6 +228,16 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		this.valueComponentSupplier = valueComponentSupplier;
 	}
 
+	/**
+	 * Set the scheduler to use to flush the pending coalesced value change events at the end of the current request.
+	 * The scheduler should return <code>false</code> if it is not able to schedule the flush, to fall back to the
+	 * default behaviour.
+	 * @param valueChangeFlushScheduler the scheduler to set
+	 */
+	void setValueChangeFlushScheduler(BooleanSupplier valueChangeFlushScheduler) {
+		this.valueChangeFlushScheduler = valueChangeFlushScheduler;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.components.PropertySetBound#getProperties()
@@ -220,12 +298,42 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		if (propertySet.contains(property)) {
 			final PropertyConfiguration<T> cfg = getPropertyConfiguration(property);
 			if (!cfg.isHidden()) {
+				// check lazy rendering
+				if (isRenderingPending(cfg)) {
+					renderLazyInput(cfg);
+				}
 				return cfg.getInput();
 			}
 		}
 		return Optional.empty();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.vaadin.components.PropertyInputGroup#isInputRendered(com.holonplatform.core.property.Property)
+	 */
+	@Override
+	public boolean isInputRendered(Property<?> property) {
+		ObjectUtils.argumentNotNull(property, "Property must be not null");
+		return propertySet.contains(property) && _propertyConfiguration(property).getInput().isPresent();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.PropertyInputGroup#renderInputs(java.lang.Iterable)
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public <P extends Property> Stream<PropertyBinding<?, Input<?>>> renderInputs(Iterable<P> properties) {
+		ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+		final List<PropertyBinding<?, Input<?>>> bindings = new LinkedList<>();
+		for (P property : properties) {
+			getInput(property).ifPresent(i -> bindings.add(PropertyBinding.create(property, (Input<?>) i)));
+		}
+		return bindings.stream();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.components.PropertyInputContainer#stream()
@@ -245,7 +353,8 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	@Override
 	public Stream<Component> getComponents() {
 		return propertySet.stream().filter(p -> !_propertyConfiguration(p).isHidden())
-				.filter(p -> _propertyConfiguration(p).getInput().isPresent())
+				// lazy inputs are excluded until rendered
+				.filter(p -> isInputRendered(p))
 				.map(p -> _propertyConfiguration(p).getInput().get().getComponent());
 	}
 
@@ -257,7 +366,8 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	@Override
 	public Stream<PropertyBinding<?, Component>> streamOfComponents() {
 		return propertySet.stream().filter(p -> !_propertyConfiguration(p).isHidden())
-				.filter(p -> _propertyConfiguration(p).getInput().isPresent())
+				// lazy inputs are excluded until rendered
+				.filter(p -> isInputRendered(p))
 				.map(p -> PropertyBinding.create(p, _propertyConfiguration(p).getInput().get().getComponent()));
 	}
 
@@ -268,7 +378,7 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	@SuppressWarnings("rawtypes")
 	@Override
 	public Iterable<ValueComponent> getValueComponents() {
-		return getInputsList().stream().map(i -> i).collect(Collectors.toList());
+		return streamOfValueComponents().map(b -> b.getComponent()).collect(Collectors.toList());
 	}
 
 	/*
@@ -289,7 +399,8 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	@Override
 	public Stream<PropertyBinding<?, ValueComponent<?>>> streamOfValueComponents() {
 		return propertySet.stream().filter(p -> !_propertyConfiguration(p).isHidden())
-				.filter(p -> _propertyConfiguration(p).getInput().isPresent())
+				// lazy inputs are excluded until rendered
+				.filter(p -> isInputRendered(p))
 				.map(p -> PropertyBinding.create(p, _propertyConfiguration(p).getInput().get()));
 	}
 
@@ -360,6 +471,10 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 					getCurrentPropertyValue(p).ifPresent(v -> {
 						propertyBox.setValue(p, v);
 					});
+				} else if (isRenderingPending(cfg)) {
+					getLazyPropertyValue(cfg).ifPresent(v -> {
+						propertyBox.setValue(p, v);
+					});
 				} else {
 					cfg.getInput().ifPresent(i -> {
 						propertyBox.setValue(p, i.getValue());
@@ -415,12 +530,55 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	 * @see com.holonplatform.vaadin.components.PropertyInputGroup#setValue(com.holonplatform.core.property.PropertyBox,
 	 * boolean)
 	 */
-	@SuppressWarnings("unchecked")
 	@Override
 	public void setValue(final PropertyBox propertyBox, boolean validate) {
 		final PropertyBox oldValue = this.value;
 		this.value = propertyBox;
+		this.useDefaultValues = (propertyBox == null);
+
+		if (isCoalesceValueChangeEvents()) {
+			// the input value changes triggered by the value loading are coalesced with the group value change, which
+			// only includes the properties whose value actually changed
+			final PropertyBox before = getValue(false);
+			final boolean tracking = suspendValueChangeTracking;
+			suspendValueChangeTracking = true;
+			try {
+				loadValue(propertyBox, validate);
+			} finally {
+				suspendValueChangeTracking = tracking;
+			}
+			final PropertyBox after = getValue(false);
+			final boolean wasPending = !pendingChangedProperties.isEmpty();
+			propertySet.forEach(p -> {
+				final Object previous = p.isReadOnly() ? getPropertyValueOrNull(oldValue, p)
+						: getPropertyValueOrNull(before, p);
+				final Object current = p.isReadOnly() ? getPropertyValueOrNull(propertyBox, p)
+						: getPropertyValueOrNull(after, p);
+				if (!Objects.equals(previous, current)) {
+					pendingChangedProperties.add(p);
+				}
+			});
+			if (!wasPending && !pendingChangedProperties.isEmpty()) {
+				pendingOldValue = oldValue;
+			}
+			if (!pendingChangedProperties.isEmpty() && !valueChangeFlushScheduled) {
+				valueChangeFlushScheduled = true;
+				scheduleValueChangeFlush();
+			}
+		} else {
+			loadValue(propertyBox, validate);
+			// fire value change
+			fireValueChange(oldValue, propertyBox);
+		}
+	}
 
+	/**
+	 * Load given value into the property {@link Input}s.
+	 * @param propertyBox The value to load, <code>null</code> to clear the inputs
+	 * @param validate Whether to check the validity of the inputs and of the group
+	 */
+	@SuppressWarnings("unchecked")
+	private void loadValue(final PropertyBox propertyBox, boolean validate) {
 		// reset
 		resetValues(propertyBox == null);
 
@@ -449,9 +607,6 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		if (validate) {
 			validate();
 		}
-
-		// fire value change
-		fireValueChange(oldValue, propertyBox);
 	}
 
 	/*
@@ -486,6 +641,117 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		valueChangeListeners.forEach(l -> l.valueChange(valueChangeEvent));
 	}
 
+	/**
+	 * Register a value change to be notified using a coalesced value change event, scheduling the pending events flush
+	 * if not already scheduled.
+	 * @param property The changed property
+	 * @param oldValue The value before the change, used if no other change is pending
+	 * @param userOriginated Whether the change is user originated
+	 */
+	private void registerPendingValueChange(Property<?> property, PropertyBox oldValue, boolean userOriginated) {
+		if (pendingChangedProperties.isEmpty()) {
+			pendingOldValue = oldValue;
+		}
+		pendingChangedProperties.add(property);
+		if (userOriginated) {
+			pendingUserOriginated = true;
+		}
+		if (!valueChangeFlushScheduled) {
+			valueChangeFlushScheduled = true;
+			scheduleValueChangeFlush();
+		}
+	}
+
+	/**
+	 * Register the value change of an {@link Input} to be notified using a coalesced value change event.
+	 * @param <T> Property type
+	 * @param property The property bound to the input
+	 * @param event The input value change event
+	 */
+	private <T> void registerPendingValueChange(Property<T> property, ValueChangeEvent<T> event) {
+		PropertyBox oldValue = null;
+		if (pendingChangedProperties.isEmpty()) {
+			// rebuild the value before the change
+			oldValue = getValue(false);
+			if (!property.isReadOnly() && oldValue.contains(property)) {
+				oldValue.setValue(property, event.getOldValue());
+			}
+		}
+		registerPendingValueChange(property, oldValue, event.isUserOriginated());
+	}
+
+	/**
+	 * Schedule the pending coalesced value change events flush at the end of the current request, before the response
+	 * is written when a current {@link UI} is available. If the flush cannot be scheduled, the value change event is
+	 * fired immediately.
+	 */
+	protected void scheduleValueChangeFlush() {
+		if (valueChangeFlushScheduler != null && valueChangeFlushScheduler.getAsBoolean()) {
+			return;
+		}
+		final VaadinSession session = VaadinSession.getCurrent();
+		final UI ui = UI.getCurrent();
+		if (ui != null && session != null && session.hasLock()) {
+			// executed before the UI response is written
+			ValueChangeFlushExtension.schedule(ui, this);
+		} else if (session != null && session.hasLock()) {
+			// executed when the session lock is released
+			session.access(() -> flushValueChangeEvents());
+		} else {
+			flushValueChangeEvents();
+		}
+	}
+
+	/**
+	 * Fire a {@link CoalescedValueChangeEvent} which aggregates the pending value changes, if any.
+	 */
+	public void flushValueChangeEvents() {
+		valueChangeFlushScheduled = false;
+		if (!pendingChangedProperties.isEmpty()) {
+			final Set<Property<?>> changed = new LinkedHashSet<>(pendingChangedProperties);
+			final PropertyBox oldValue = pendingOldValue;
+			final boolean userOriginated = pendingUserOriginated;
+			pendingChangedProperties.clear();
+			pendingOldValue = null;
+			pendingUserOriginated = false;
+			final ValueChangeEvent<PropertyBox> valueChangeEvent = new DefaultCoalescedValueChangeEvent(this, oldValue,
+					getValue(false), userOriginated, changed);
+			valueChangeListeners.forEach(l -> l.valueChange(valueChangeEvent));
+		}
+	}
+
+	/**
+	 * Get whether to coalesce the overall value change events.
+	 * @return <code>true</code> if the overall value change events are coalesced
+	 */
+	protected boolean isCoalesceValueChangeEvents() {
+		return coalesceValueChangeEvents;
+	}
+
+	/**
+	 * Set whether to coalesce the overall value change events.
+	 * @param coalesceValueChangeEvents <code>true</code> to coalesce the overall value change events
+	 */
+	public void setCoalesceValueChangeEvents(boolean coalesceValueChangeEvents) {
+		this.coalesceValueChangeEvents = coalesceValueChangeEvents;
+	}
+
+	/**
+	 * Get the eager input value changes throttle interval.
+	 * @return the throttle interval in milliseconds, <code>-1</code> if not configured
+	 */
+	protected int getValueChangeThrottle() {
+		return valueChangeThrottle;
+	}
+
+	/**
+	 * Set the eager input value changes throttle interval.
+	 * @param valueChangeThrottle the throttle interval in milliseconds
+	 */
+	public void setValueChangeThrottle(int valueChangeThrottle) {
+		this.valueChangeThrottle = valueChangeThrottle;
+	}
+
 	/**
 	 * Get whether to validate inputs at value change.
 	 * @return <code>true</code> to validate inputs at value change
@@ -524,6 +790,7 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	 */
 	@Override
 	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
 		getInputs().forEach(i -> i.getComponent().setEnabled(enabled));
 	}
 
@@ -533,6 +800,7 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	 */
 	@Override
 	public void setReadOnly(boolean readOnly) {
+		this.readOnly = readOnly;
 		propertySet.stream().filter(p -> !_propertyConfiguration(p).isHidden())
 				.filter(p -> !_propertyConfiguration(p).isReadOnly()).forEach(p -> {
 					_propertyConfiguration(p).getInput().ifPresent(i -> {
@@ -721,14 +989,14 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	}
 
 	/**
-	 * Build and bind {@link Input}s to the properties of the property set.
+	 * Build and bind {@link Input}s to the properties of the property set, excluding the lazy properties.
 	 */
 	public void build() {
 		// render and bind inputs
 		propertySet.forEach(p -> {
 			// exclude hidden properties
 			PropertyConfiguration<?> configuration = _propertyConfiguration(p);
-			if (!configuration.isHidden()) {
+			if (!configuration.isHidden() && !configuration.isLazy()) {
 				// check whether to exclude read-only properties
 				if (!isExcludeReadOnlyProperties() || !p.isReadOnly()) {
 					renderAndBind(configuration);
@@ -787,6 +1055,7 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	 * @param configuration Property configuration
 	 */
 	private <T> void renderAndBind(PropertyConfiguration<T> configuration) {
+		configuration.setRendered(true);
 		final Optional<Input<T>> input = render(configuration.getProperty());
 		if (!input.isPresent() && !isIgnoreMissingInputs()) {
 			throw new NoSuitableRendererAvailableException(
@@ -800,6 +1069,70 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		});
 	}
 
+	/**
+	 * Checks whether given property configuration refers to a lazy property which is not rendered yet.
+	 * @param configuration Property configuration
+	 * @return <code>true</code> if the property is lazy and its {@link Input} has not been rendered yet
+	 */
+	private boolean isRenderingPending(PropertyConfiguration<?> configuration) {
+		return configuration.isLazy() && !configuration.isRendered() && !configuration.isHidden()
+				&& (!isExcludeReadOnlyProperties() || !configuration.getProperty().isReadOnly());
+	}
+
+	/**
+	 * Render and bind the {@link Input} of a lazy property, applying the current group state and loading the current
+	 * property value into it.
+	 * @param <T> Property type
+	 * @param configuration Property configuration
+	 */
+	private <T> void renderLazyInput(PropertyConfiguration<T> configuration) {
+		renderAndBind(configuration);
+		configuration.getInput().ifPresent(i -> {
+			if (enabled != null) {
+				i.getComponent().setEnabled(enabled);
+			}
+			if (readOnly != null && !configuration.isReadOnly()) {
+				i.setReadOnly(readOnly);
+			}
+			getLazyPropertyValue(configuration).ifPresent(v -> {
+				// ignore read-only
+				boolean ro = i.isReadOnly();
+				if (ro)
+					i.setReadOnly(false);
+				// the group value is unchanged: loading it into the input is not notified as a value change
+				final boolean tracking = suspendValueChangeTracking;
+				suspendValueChangeTracking = true;
+				loadingLazyValue = true;
+				try {
+					i.setValue(v);
+				} finally {
+					suspendValueChangeTracking = tracking;
+					loadingLazyValue = false;
+				}
+				if (ro)
+					i.setReadOnly(true);
+			});
+		});
+	}
+
+	/**
+	 * Get the value of a lazy property which is not rendered yet, using the current value or the property default
+	 * value if the group was cleared.
+	 * @param <T> Property type
+	 * @param configuration Property configuration
+	 * @return Optional property value
+	 */
+	private <T> Optional<T> getLazyPropertyValue(PropertyConfiguration<T> configuration) {
+		if (value != null) {
+			return Optional.ofNullable(getPropertyValue(value, configuration.getProperty()));
+		}
+		if (useDefaultValues && !configuration.isReadOnly()) {
+			return configuration.getDefaultValueProvider()
+					.map(dvp -> dvp.getDefaultValue(configuration.getProperty()));
+		}
+		return Optional.empty();
+	}
+
 	/**
 	 * Render given property as a {@link Input}.
 	 * @param <T> Property type
@@ -857,12 +1190,34 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 			if (configuration.getValueChangeTimeout() >= 0) {
 				input.setValueChangeTimeout(configuration.getValueChangeTimeout());
 			}
+			// throttling
+			if (getValueChangeThrottle() >= 0 && (input.getValueChangeMode() == ValueChangeMode.EAGER
+					|| input.getValueChangeMode() == ValueChangeMode.LAZY)) {
+				input.setValueChangeMode(ValueChangeMode.TIMEOUT);
+				input.setValueChangeTimeout(getValueChangeThrottle());
+			}
 		}
 		// Value change listeners
-		configuration.getValueChangeListeners().forEach(l -> input.addValueChangeListener(l));
+		configuration.getValueChangeListeners().forEach(l -> input.addValueChangeListener(e -> {
+			if (!loadingLazyValue) {
+				l.valueChange(e);
+			}
+		}));
+		// Coalesced overall value change events
+		if (isCoalesceValueChangeEvents()) {
+			input.addValueChangeListener(e -> {
+				if (!suspendValueChangeTracking) {
+					registerPendingValueChange(configuration.getProperty(), e);
+				}
+			});
+		}
 		// Validate on value change
 		if (isValidateOnValueChange()) {
-			input.addValueChangeListener(e -> validateOnChange(configuration, e.getValue()));
+			input.addValueChangeListener(e -> {
+				if (!loadingLazyValue) {
+					validateOnChange(configuration, e.getValue());
+				}
+			});
 		}
 		// post processors
 		getPostProcessors().forEach(fc -> fc.process(configuration.getProperty(), input));
@@ -915,14 +1270,15 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 
 		// get all property configurations
 		List<PropertyConfiguration<?>> configurations = propertySet.stream().map(p -> _propertyConfiguration(p))
-				.filter(cfg -> !cfg.isReadOnly() && !cfg.isHidden() && cfg.getInput().isPresent())
+				.filter(cfg -> !cfg.isReadOnly() && !cfg.isHidden()
+						&& (cfg.getInput().isPresent() || isRenderingPending(cfg)))
 				.collect(Collectors.toList());
 
 		if (configurations != null) {
 
 			if (isStopValidationAtFirstFailure()) {
 				// reset validation status
-				configurations.forEach(c -> resetValidationStatus(c.getInput().get(), c.getProperty()));
+				configurations.forEach(c -> c.getInput().ifPresent(i -> resetValidationStatus(i, c.getProperty())));
 			}
 
 			for (PropertyConfiguration<?> configuration : configurations) {
@@ -1010,9 +1366,40 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 	private <T> void validateProperty(PropertyConfiguration<T> configuration) throws ValidationException {
 		if (!configuration.isHidden() && configuration.getInput().isPresent()) {
 			validateProperty(configuration, configuration.getInput().get().getValue());
+		} else if (isRenderingPending(configuration)) {
+			validateLazyProperty(configuration);
 		}
 	}
 
+	/**
+	 * Validate the value of a lazy property which is not rendered yet, using the current property value.
+	 * @param <T> Property type
+	 * @param configuration Property configuration
+	 * @throws ValidationException If a validation error occurred
+	 */
+	private <T> void validateLazyProperty(final PropertyConfiguration<T> configuration) throws ValidationException {
+		final T value = getLazyPropertyValue(configuration).orElse(null);
+		// required
+		if (configuration.isRequired()) {
+			if (configuration.getRequiredValidator().isPresent()) {
+				configuration.getRequiredValidator().get().validate(value);
+			} else if (value == null) {
+				throw new ValidationException(
+						configuration.getRequiredMessage().orElse(RequiredInputValidator.DEFAULT_REQUIRED_ERROR));
+			}
+		}
+		// property validators
+		if (!isIgnorePropertyValidation()) {
+			configuration.getProperty().getValidators().forEach(v -> {
+				v.validate(value);
+			});
+		}
+		// input validators
+		configuration.getValidators().forEach(v -> {
+			v.validate(value);
+		});
+	}
+
 	/**
 	 * Validate the input bound to given property configuration, if available, swallowing any
 	 * {@link ValidationException}.
@@ -1094,6 +1481,16 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		return null;
 	}
 
+	/**
+	 * Get the value of given <code>property</code> from given {@link PropertyBox}, if not <code>null</code>.
+	 * @param propertyBox The property box, may be <code>null</code>
+	 * @param property The property
+	 * @return The property value, <code>null</code> if not available
+	 */
+	private Object getPropertyValueOrNull(PropertyBox propertyBox, Property<?> property) {
+		return (propertyBox != null) ? getPropertyValue(propertyBox, property) : null;
+	}
+
 	/**
 	 * Get the value of given <code>property</code> using current value, if available.
 	 * @param <T> Property type
@@ -1108,6 +1505,19 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		return Optional.empty();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintContributor#contributeFootprint(com.holonplatform.vaadin.
+	 * diagnostics.FootprintContributor.Collector)
+	 */
+	@Override
+	public void contributeFootprint(Collector collector) {
+		collector.add("properties", properties);
+		collector.add("validators", validators);
+		collector.add("valueChangeListeners", valueChangeListeners);
+		collector.add("postProcessors", postProcessors);
+	}
+
 	// Builder
 
 	/**
@@ -1278,6 +1688,20 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 			return builder();
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#lazy(java.lang.Iterable)
+		 */
+		@SuppressWarnings("rawtypes")
+		@Override
+		public <P extends Property> B lazy(Iterable<P> properties) {
+			ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+			for (P property : properties) {
+				instance.getPropertyConfiguration(property).setLazy(true);
+			}
+			return builder();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see
@@ -1456,6 +1880,29 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 			return builder();
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#coalesceValueChangeEvents(boolean)
+		 */
+		@Override
+		public B coalesceValueChangeEvents(boolean coalesceValueChangeEvents) {
+			instance.setCoalesceValueChangeEvents(coalesceValueChangeEvents);
+			return builder();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#throttleValueChanges(int)
+		 */
+		@Override
+		public B throttleValueChanges(int interval) {
+			if (interval < 0) {
+				throw new IllegalArgumentException("Throttle interval must be greater or equal to 0");
+			}
+			instance.setValueChangeThrottle(interval);
+			return builder();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.components.PropertyInputGroup.Builder#valueChangeMode(com.vaadin.shared.ui.
@@ -1533,6 +1980,8 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 		private boolean hidden;
 		private boolean required;
 		private boolean readOnly;
+		private boolean lazy;
+		private boolean rendered;
 		private PropertyRenderer<Input<T>, T> renderer;
 		private DefaultValueProvider<T> defaultValueProvider;
 		private List<Validator<T>> propertyValidators;
@@ -1643,6 +2092,38 @@ public class DefaultPropertyInputGroup implements PropertyInputGroup, PropertyVa
 			this.readOnly = readOnly;
 		}
 
+		/**
+		 * Get whether the property is lazy, i.e. its {@link Input} is rendered only when required.
+		 * @return <code>true</code> if the property is lazy
+		 */
+		public boolean isLazy() {
+			return lazy;
+		}
+
+		/**
+		 * Set the property as lazy.
+		 * @param lazy <code>true</code> to set the property as lazy
+		 */
+		public void setLazy(boolean lazy) {
+			this.lazy = lazy;
+		}
+
+		/**
+		 * Get whether the property {@link Input} rendering has been performed.
+		 * @return <code>true</code> if the property {@link Input} rendering has been performed
+		 */
+		public boolean isRendered() {
+			return rendered;
+		}
+
+		/**
+		 * Set whether the property {@link Input} rendering has been performed.
+		 * @param rendered <code>true</code> if the property {@link Input} rendering has been performed
+		 */
+		public void setRendered(boolean rendered) {
+			this.rendered = rendered;
+		}
+
 		/**
 		 * Get the {@link PropertyRenderer} to use to create the bound {@link Input}.
 		 * @return the {@link PropertyRenderer} to use to create the bound {@link Input}
@@ -15,12 +15,16 @@
  */
 package com.holonplatform.vaadin.internal.components;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
@@ -42,7 +46,6 @@ import com.vaadin.server.FontIcon;
 import com.vaadin.server.Setter;
 import com.vaadin.server.ThemeResource;
 import com.vaadin.ui.Component;
-import com.vaadin.ui.Grid;
 import com.vaadin.ui.renderers.ComponentRenderer;
 import com.vaadin.ui.renderers.HtmlRenderer;
 import com.vaadin.ui.renderers.ImageRenderer;
@@ -74,7 +77,7 @@ public class DefaultPropertyListing extends DefaultItemListing<PropertyBox, Prop
 		ObjectUtils.argumentNotNull(properties, "Listing property set must be not null");
 		propertySet = new GridPropertySet(properties);
 		setDefaultVisibleProperties(() -> getDefaultColumnIds());
-		initGrid(Grid.withPropertySet(propertySet), propertySet);
+		initGrid(new ListingGrid<>(propertySet), propertySet);
 	}
 
 	/**
@@ -226,12 +229,16 @@ public class DefaultPropertyListing extends DefaultItemListing<PropertyBox, Prop
 		return property.getValidators();
 	}
 
+	/**
+	 * Grid {@link PropertySet}. Only the properties are serialized: the property definitions and their names are
+	 * regenerated on deserialization.
+	 */
 	@SuppressWarnings("serial")
 	private final static class GridPropertySet implements PropertySet<PropertyBox> {
 
-		private final Map<Property, GridPropertyDefinition> propertyDefinitions = new LinkedHashMap<>();
+		private transient Map<Property, GridPropertyDefinition> propertyDefinitions = new LinkedHashMap<>();
 
-		private final Map<String, Integer> generatedPropertyIds = new HashMap<>();
+		private transient Map<String, Integer> generatedPropertyIds = new HashMap<>();
 
 		public <P extends Property<?>> GridPropertySet(Iterable<P> properties) {
 			super();
@@ -327,6 +334,31 @@ public class DefaultPropertyListing extends DefaultItemListing<PropertyBox, Prop
 			}
 		}
 
+		private void writeObject(ObjectOutputStream out) throws IOException {
+			out.defaultWriteObject();
+			out.writeInt(propertyDefinitions.size());
+			for (Entry<Property, GridPropertyDefinition> entry : propertyDefinitions.entrySet()) {
+				out.writeObject(entry.getKey());
+				out.writeBoolean(entry.getValue().valueProvider != null);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			this.propertyDefinitions = new LinkedHashMap<>();
+			this.generatedPropertyIds = new HashMap<>();
+			final int size = in.readInt();
+			for (int i = 0; i < size; i++) {
+				final Property property = (Property) in.readObject();
+				final boolean virtual = in.readBoolean();
+				propertyDefinitions.put(property,
+						virtual ? new GridPropertyDefinition<>(this, property, generatePropertyName(property),
+								((VirtualProperty) property).getValueProvider())
+								: new GridPropertyDefinition<>(this, property, generatePropertyName(property)));
+			}
+		}
+
 	}
 
 	@SuppressWarnings("serial")
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.components;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.components.ItemSelection;
+import com.holonplatform.vaadin.data.ItemDataSource;
+import com.holonplatform.vaadin.data.ItemDataSource.Configuration;
+import com.vaadin.event.selection.MultiSelectionEvent;
+import com.vaadin.server.SerializableSupplier;
+import com.vaadin.ui.components.grid.MultiSelectionModelImpl;
+
+/**
+ * A multi selection model which represents the <em>select all</em> state symbolically, as all the items which match the
+ * data source query filter at selection time minus the items deselected afterwards, instead of fetching all the items
+ * from the data provider into the selection set.
+ * <p>
+ * When all the items are selected, {@link #getSelectedItems()} returns a lazily evaluated set backed by the
+ * {@link com.holonplatform.vaadin.data.ItemDataProvider}, and {@link #getItemSelection()} provides the symbolic
+ * selection to perform bulk operations.
+ * </p>
+ *
+ * @param <T> Item type
+ *
+ * @since 5.4.1
+ */
+class LazyMultiSelectionModel<T> extends MultiSelectionModelImpl<T> {
+
+	private static final long serialVersionUID = -5204452412627934780L;
+
+	/**
+	 * Data source configuration supplier
+	 */
+	private final SerializableSupplier<Configuration<T, ?>> configuration;
+
+	/**
+	 * Current symbolic selection, <code>null</code> if not all the items are selected
+	 */
+	private DefaultItemSelection<T> allSelection;
+
+	/**
+	 * Items deselected after select all, by item id
+	 */
+	private final Map<Object, T> excluded = new LinkedHashMap<>();
+
+	/**
+	 * Constructor
+	 * @param configuration Data source configuration supplier (not null)
+	 */
+	LazyMultiSelectionModel(SerializableSupplier<Configuration<T, ?>> configuration) {
+		super();
+		ObjectUtils.argumentNotNull(configuration, "Configuration supplier must be not null");
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Get whether all the items are symbolically selected.
+	 * @return <code>true</code> if all the items are selected
+	 */
+	boolean isLazyAllSelected() {
+		return allSelection != null;
+	}
+
+	/**
+	 * Get the current selection.
+	 * @return The current {@link ItemSelection}
+	 */
+	ItemSelection<T> getItemSelection() {
+		if (allSelection != null) {
+			return allSelection;
+		}
+		return DefaultItemSelection.of(super.getSelectedItems(),
+				configuration.get().getItemIdentifierProvider().orElse(null));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#selectAll()
+	 */
+	@Override
+	public void selectAll() {
+		onSelectAll(false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#onSelectAll(boolean)
+	 */
+	@Override
+	protected void onSelectAll(boolean userOriginated) {
+		final Set<T> oldSelection = getSelectedItems();
+		if (allSelection == null && !oldSelection.isEmpty()) {
+			// clear the explicit selection
+			super.updateSelection(Collections.emptySet(), oldSelection, userOriginated);
+		}
+		excluded.clear();
+		final Configuration<T, ?> cfg = configuration.get();
+		allSelection = DefaultItemSelection.allMatching(
+				DefaultItemSelection.snapshot(cfg.getQueryFilter().orElse(null),
+						cfg.getQuerySort(Collections.emptySet()).orElse(null), cfg.getQueryParameters()),
+				cfg.getDataProvider().orElseThrow(() -> new IllegalStateException("Missing ItemDataProvider")),
+				cfg.getItemIdentifierProvider().orElse(null), Collections.emptySet(),
+				ItemDataSource.DEFAULT_BATCH_SIZE);
+		getState().allSelected = true;
+		getGrid().getDataCommunicator().reset();
+		fireEvent(new MultiSelectionEvent<>(getGrid(), asMultiSelect(), oldSelection, userOriginated));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#deselectAll()
+	 */
+	@Override
+	public void deselectAll() {
+		if (allSelection != null) {
+			onDeselectAll(false);
+		} else {
+			super.deselectAll();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#onDeselectAll(boolean)
+	 */
+	@Override
+	protected void onDeselectAll(boolean userOriginated) {
+		if (allSelection == null) {
+			super.onDeselectAll(userOriginated);
+			return;
+		}
+		final Set<T> oldSelection = getSelectedItems();
+		allSelection = null;
+		excluded.clear();
+		getState().allSelected = false;
+		getGrid().getDataCommunicator().reset();
+		fireEvent(new MultiSelectionEvent<>(getGrid(), asMultiSelect(), oldSelection, userOriginated));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#updateSelection(java.util.Set, java.util.Set,
+	 * boolean)
+	 */
+	@Override
+	protected void updateSelection(Set<T> addedItems, Set<T> removedItems, boolean userOriginated) {
+		if (allSelection == null) {
+			super.updateSelection(addedItems, removedItems, userOriginated);
+			return;
+		}
+		final Set<T> oldSelection = getSelectedItems();
+		removedItems.forEach(i -> excluded.put(getGrid().getDataProvider().getId(i), i));
+		addedItems.forEach(i -> excluded.remove(getGrid().getDataProvider().getId(i)));
+		allSelection = DefaultItemSelection.allMatching(allSelection.getQuery(), allSelection.getDataProvider(),
+				allSelection.getIdentifierProvider(), new LinkedHashSet<>(excluded.values()),
+				ItemDataSource.DEFAULT_BATCH_SIZE);
+		getState().allSelected = excluded.isEmpty();
+		addedItems.forEach(i -> getGrid().getDataCommunicator().refresh(i));
+		removedItems.forEach(i -> getGrid().getDataCommunicator().refresh(i));
+		fireEvent(new MultiSelectionEvent<>(getGrid(), asMultiSelect(), oldSelection, userOriginated));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#isSelected(java.lang.Object)
+	 */
+	@Override
+	public boolean isSelected(T item) {
+		if (allSelection != null) {
+			return item != null && !excluded.containsKey(getGrid().getDataProvider().getId(item));
+		}
+		return super.isSelected(item);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.components.grid.MultiSelectionModelImpl#getSelectedItems()
+	 */
+	@Override
+	public Set<T> getSelectedItems() {
+		if (allSelection != null) {
+			return allSelection.asSet();
+		}
+		return super.getSelectedItems();
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.components;
+
+import com.vaadin.data.PropertySet;
+import com.vaadin.ui.Grid;
+import com.vaadin.ui.components.grid.GridSelectionModel;
+
+/**
+ * {@link Grid} used by the item listings, which allows to install custom selection models.
+ *
+ * @param <T> Item type
+ *
+ * @since 5.4.1
+ */
+class ListingGrid<T> extends Grid<T> {
+
+	private static final long serialVersionUID = 4125376950238781409L;
+
+	/**
+	 * Constructor
+	 * @param propertySet The grid property set
+	 */
+	ListingGrid(PropertySet<T> propertySet) {
+		super(propertySet);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.ui.Grid#setSelectionModel(com.vaadin.ui.components.grid.GridSelectionModel)
+	 */
+	@Override
+	protected void setSelectionModel(GridSelectionModel<T> model) {
+		super.setSelectionModel(model);
+	}
+
+}
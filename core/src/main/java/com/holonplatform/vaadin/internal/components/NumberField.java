@@ -15,7 +15,6 @@
  */
 package com.holonplatform.vaadin.internal.components;
 
-import java.text.DecimalFormatSymbols;
 import java.text.NumberFormat;
 import java.util.Locale;
 
@@ -26,8 +25,8 @@ import com.holonplatform.vaadin.components.Field;
 import com.holonplatform.vaadin.components.Input;
 import com.holonplatform.vaadin.components.builders.NumberInputBuilder;
 import com.holonplatform.vaadin.internal.components.builders.AbstractFieldBuilder;
+import com.holonplatform.vaadin.internal.converters.FormatterCache;
 import com.holonplatform.vaadin.internal.converters.StringToNumberConverter;
-import com.vaadin.data.ValueContext;
 import com.vaadin.event.FieldEvents.BlurListener;
 import com.vaadin.event.FieldEvents.FocusListener;
 import com.vaadin.shared.Registration;
@@ -118,7 +117,7 @@ public class NumberField<T extends Number> extends AbstractCustomField<T, String
 	 */
 	@Override
 	protected T fromInternalValue(String value) {
-		return getConverter().convertToModel(value, new ValueContext(findLocale()))
+		return getConverter().convertToModel(value, getValueContext())
 				.getOrThrow(msg -> new IllegalArgumentException(msg));
 	}
 
@@ -128,7 +127,7 @@ public class NumberField<T extends Number> extends AbstractCustomField<T, String
 	 */
 	@Override
 	protected String toInternalValue(T value) {
-		return getConverter().convertToPresentation(value, new ValueContext(findLocale()));
+		return getConverter().convertToPresentation(value, getValueContext());
 	}
 
 	/*
@@ -160,18 +159,17 @@ public class NumberField<T extends Number> extends AbstractCustomField<T, String
 			useGrouping = nf.isGroupingUsed();
 		}
 
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols(locale);
-
 		char[] symbols = null;
 		if (useGrouping) {
 			if (TypeUtils.isDecimalNumber(getType())) {
-				symbols = new char[] { dfs.getGroupingSeparator(), dfs.getDecimalSeparator() };
+				symbols = new char[] { FormatterCache.getGroupingSeparator(locale),
+						FormatterCache.getDecimalSeparator(locale) };
 			} else {
-				symbols = new char[] { dfs.getGroupingSeparator() };
+				symbols = new char[] { FormatterCache.getGroupingSeparator(locale) };
 			}
 		} else {
 			if (TypeUtils.isDecimalNumber(getType())) {
-				symbols = new char[] { dfs.getDecimalSeparator() };
+				symbols = new char[] { FormatterCache.getDecimalSeparator(locale) };
 			}
 		}
 
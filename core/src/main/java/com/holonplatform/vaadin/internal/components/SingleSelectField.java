@@ -48,7 +48,6 @@ import com.holonplatform.vaadin.components.builders.SingleSelectInputBuilder.Gen
 import com.holonplatform.vaadin.data.ItemConverter;
 import com.holonplatform.vaadin.data.ItemDataProvider;
 import com.holonplatform.vaadin.internal.components.builders.AbstractSelectFieldBuilder;
-import com.holonplatform.vaadin.internal.data.ItemDataProviderAdapter;
 import com.holonplatform.vaadin.internal.data.PropertyItemIdentifier;
 import com.vaadin.data.Converter;
 import com.vaadin.data.HasDataProvider;
@@ -356,8 +355,7 @@ public class SingleSelectField<T, ITEM> extends AbstractSelectField<T, T, ITEM,
 			if (!items.isEmpty()) {
 				instance.setItems(items, captionFilter);
 			} else if (itemDataProvider != null) {
-				instance.setDataProvider(new ItemDataProviderAdapter<>(itemDataProvider, itemIdentifier),
-						getCaptionFilterProvider(true));
+				instance.setDataProvider(createItemDataProviderAdapter(), getCaptionFilterProvider(true));
 			} else if (dataProvider != null) {
 				instance.setDataProvider(dataProvider, getCaptionFilterProvider(!dataProvider.isInMemory()));
 			}
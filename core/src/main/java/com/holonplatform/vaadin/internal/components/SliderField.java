@@ -18,7 +18,6 @@ package com.holonplatform.vaadin.internal.components;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.internal.utils.TypeUtils;
 import com.holonplatform.vaadin.internal.converters.NumberToNumberConverter;
-import com.vaadin.data.ValueContext;
 import com.vaadin.shared.ui.slider.SliderOrientation;
 import com.vaadin.ui.Slider;
 
@@ -72,7 +71,7 @@ public class SliderField<T extends Number> extends AbstractCustomField<T, Double
 	 */
 	@Override
 	protected T fromInternalValue(Double value) {
-		return getConverter().convertToModel(value, new ValueContext(findLocale()))
+		return getConverter().convertToModel(value, getValueContext())
 				.getOrThrow(msg -> new IllegalArgumentException(msg));
 	}
 
@@ -82,7 +81,7 @@ public class SliderField<T extends Number> extends AbstractCustomField<T, Double
 	 */
 	@Override
 	protected Double toInternalValue(T value) {
-		return getConverter().convertToPresentation(value, new ValueContext(findLocale()));
+		return getConverter().convertToPresentation(value, getValueContext());
 	}
 
 	/**
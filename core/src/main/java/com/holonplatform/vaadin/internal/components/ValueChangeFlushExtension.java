@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.components;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.vaadin.server.AbstractExtension;
+import com.vaadin.server.Extension;
+import com.vaadin.ui.UI;
+
+/**
+ * A {@link UI} extension which flushes the pending coalesced value change events of the registered
+ * {@link DefaultPropertyInputGroup}s before the UI response is written, so that any component change triggered by the
+ * value change listeners is sent to the client in the same response.
+ *
+ * @since 5.4.1
+ */
+public class ValueChangeFlushExtension extends AbstractExtension {
+
+	private static final long serialVersionUID = -1584766263853720211L;
+
+	/**
+	 * Groups with pending value change events
+	 */
+	private final Set<DefaultPropertyInputGroup> groups = new LinkedHashSet<>();
+
+	/**
+	 * Constructor
+	 * @param ui The UI to extend
+	 */
+	private ValueChangeFlushExtension(UI ui) {
+		super();
+		extend(ui);
+	}
+
+	/**
+	 * Get the {@link ValueChangeFlushExtension} of given UI, if available.
+	 * @param ui The UI (not null)
+	 * @return The UI {@link ValueChangeFlushExtension}, if available
+	 */
+	static Optional<ValueChangeFlushExtension> get(UI ui) {
+		ObjectUtils.argumentNotNull(ui, "UI must be not null");
+		for (Extension extension : ui.getExtensions()) {
+			if (extension instanceof ValueChangeFlushExtension) {
+				return Optional.of((ValueChangeFlushExtension) extension);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Schedule the pending value change events flush of given group before the response of given UI is written. The
+	 * extension is created and attached to the UI if not already available.
+	 * @param ui The UI (not null)
+	 * @param group The group to flush (not null)
+	 */
+	static void schedule(UI ui, DefaultPropertyInputGroup group) {
+		ObjectUtils.argumentNotNull(group, "Group must be not null");
+		final ValueChangeFlushExtension extension = get(ui).orElseGet(() -> new ValueChangeFlushExtension(ui));
+		extension.groups.add(group);
+		extension.markAsDirty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.server.AbstractClientConnector#beforeClientResponse(boolean)
+	 */
+	@Override
+	public void beforeClientResponse(boolean initial) {
+		super.beforeClientResponse(initial);
+		if (!groups.isEmpty()) {
+			// flushes scheduled by the value change listeners are performed at the next response
+			final List<DefaultPropertyInputGroup> toFlush = new ArrayList<>(groups);
+			groups.clear();
+			toFlush.forEach(g -> g.flushValueChangeEvents());
+		}
+	}
+
+}
@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.i18n.Localizable;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.core.internal.utils.ObjectUtils;
@@ -454,6 +455,62 @@ public abstract class AbstractGridItemListingBuilder<T, P, C extends ItemListing
 		return builder();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.ItemListingBuilder.BaseGridItemListingBuilder#
+	 * incrementalUpdates()
+	 */
+	@Override
+	public B incrementalUpdates() {
+		getInstance().setIncrementalUpdates(true);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.ItemListingBuilder.BaseGridItemListingBuilder#countCap(int)
+	 */
+	@Override
+	public B countCap(int cap) {
+		if (cap <= 0) {
+			throw new IllegalArgumentException("Count cap must be greater than 0");
+		}
+		getInstance().setCountCap(cap);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.ItemListingBuilder.BaseGridItemListingBuilder#lazySelectAll()
+	 */
+	@Override
+	public B lazySelectAll() {
+		getInstance().setLazySelectAll(true);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.ItemListingBuilder.BaseGridItemListingBuilder#pooledEditors()
+	 */
+	@Override
+	public B pooledEditors() {
+		getInstance().setPooledEditors(true);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.ItemListingBuilder.BaseGridItemListingBuilder#liveUpdates(com.
+	 * holonplatform.core.datastore.DataTarget)
+	 */
+	@Override
+	public B liveUpdates(DataTarget<?> target) {
+		ObjectUtils.argumentNotNull(target, "DataTarget must be not null");
+		getInstance().setLiveUpdatesTarget(target.getName());
+		return builder();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.components.builders.ItemListingBuilder.BaseGridItemListingBuilder#header(com.
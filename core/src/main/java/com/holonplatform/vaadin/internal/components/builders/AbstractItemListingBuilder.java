@@ -203,6 +203,27 @@ public abstract class AbstractItemListingBuilder<T, P, C extends ItemListing<T,
 		return builder();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.BaseItemDataSourceComponentBuilder#inMemoryThreshold(int)
+	 */
+	@Override
+	public B inMemoryThreshold(int inMemoryThreshold) {
+		dataSourceBuilder.inMemoryThreshold(inMemoryThreshold);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.BaseItemDataSourceComponentBuilder#traceQueries(java.lang.
+	 * String)
+	 */
+	@Override
+	public B traceQueries(String source) {
+		dataSourceBuilder.traceQueries(source);
+		return builder();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
@@ -68,6 +68,11 @@ public abstract class AbstractSelectFieldBuilder<T, C extends Input<T>, S, ITEM,
 	 */
 	protected ItemIdentifierProvider<ITEM, Object> itemIdentifier = null;
 
+	/**
+	 * Count cap, 0 if disabled
+	 */
+	protected int countCap = 0;
+
 	/**
 	 * Initial value
 	 */
@@ -172,6 +177,29 @@ public abstract class AbstractSelectFieldBuilder<T, C extends Input<T>, S, ITEM,
 		return builder();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.components.builders.BaseSelectInputBuilder#countCap(int)
+	 */
+	@Override
+	public B countCap(int cap) {
+		if (cap <= 0) {
+			throw new IllegalArgumentException("Count cap must be greater than 0");
+		}
+		this.countCap = cap;
+		return builder();
+	}
+
+	/**
+	 * Create the {@link ItemDataProviderAdapter} to use with the configured item data provider.
+	 * @return A new data provider adapter
+	 */
+	protected ItemDataProviderAdapter<ITEM> createItemDataProviderAdapter() {
+		final ItemDataProviderAdapter<ITEM> adapter = new ItemDataProviderAdapter<>(itemDataProvider, itemIdentifier);
+		adapter.setCountCap(countCap);
+		return adapter;
+	}
+
 	/**
 	 * Configure items data source
 	 * @param instance Building instance
@@ -180,7 +208,7 @@ public abstract class AbstractSelectFieldBuilder<T, C extends Input<T>, S, ITEM,
 		if (!items.isEmpty()) {
 			instance.setItems(items);
 		} else if (itemDataProvider != null) {
-			instance.setDataProvider(new ItemDataProviderAdapter<>(itemDataProvider, itemIdentifier));
+			instance.setDataProvider(createItemDataProviderAdapter());
 		} else if (dataProvider != null) {
 			instance.setDataProvider(dataProvider);
 		}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.converters;
+
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+
+/**
+ * Shared cache of the number formatters used by the numeric converters and fields.
+ * <p>
+ * A formatter prototype is created once for each (Locale, integer or decimal number type, pattern) combination and
+ * never handed out. {@link #getNumberFormat(Locale, Class, String)} returns a clone of the prototype which is confined
+ * to the calling thread and reused by subsequent calls from the same thread, so it must not be modified nor shared.
+ * Use {@link #newNumberFormat(Locale, Class, String)} to obtain a new clone which can be customized.
+ * </p>
+ * <p>
+ * The thread-confined cache only holds JDK classes, to avoid retaining the application class loader from container
+ * threads.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public final class FormatterCache {
+
+	/**
+	 * Max cached prototypes, the cache is cleared when exceeded
+	 */
+	private static final int MAX_PROTOTYPES = 512;
+
+	/**
+	 * Max thread-confined formatters for each thread, the thread cache is cleared when exceeded
+	 */
+	private static final int MAX_THREAD_FORMATS = 64;
+
+	/**
+	 * Number format prototypes by key
+	 */
+	private static final ConcurrentMap<String, NumberFormat> NUMBER_FORMATS = new ConcurrentHashMap<>();
+
+	/**
+	 * Decimal format symbols prototypes by Locale
+	 */
+	private static final ConcurrentMap<Locale, DecimalFormatSymbols> SYMBOLS = new ConcurrentHashMap<>();
+
+	/**
+	 * Thread-confined number formats by key
+	 */
+	private static final ThreadLocal<Map<String, NumberFormat>> THREAD_NUMBER_FORMATS = new ThreadLocal<>();
+
+	private FormatterCache() {
+	}
+
+	/**
+	 * Get the default {@link NumberFormat} for given Locale and number type, confined to the current thread.
+	 * @param locale Locale (not null)
+	 * @param numberType Number type (not null)
+	 * @return A thread-confined {@link NumberFormat}, which must not be modified
+	 */
+	public static NumberFormat getNumberFormat(Locale locale, Class<?> numberType) {
+		return getNumberFormat(locale, numberType, null);
+	}
+
+	/**
+	 * Get the {@link NumberFormat} for given Locale, number type and pattern, confined to the current thread.
+	 * @param locale Locale (not null)
+	 * @param numberType Number type (not null)
+	 * @param pattern Optional {@link DecimalFormat} pattern, <code>null</code> for the Locale default format
+	 * @return A thread-confined {@link NumberFormat}, which must not be modified
+	 */
+	public static NumberFormat getNumberFormat(Locale locale, Class<?> numberType, String pattern) {
+		final String key = key(locale, numberType, pattern);
+		Map<String, NumberFormat> formats = THREAD_NUMBER_FORMATS.get();
+		if (formats == null) {
+			formats = new HashMap<>(8);
+			THREAD_NUMBER_FORMATS.set(formats);
+		}
+		NumberFormat format = formats.get(key);
+		if (format == null) {
+			if (formats.size() >= MAX_THREAD_FORMATS) {
+				formats.clear();
+			}
+			format = (NumberFormat) getPrototype(key, locale, numberType, pattern).clone();
+			formats.put(key, format);
+		}
+		return format;
+	}
+
+	/**
+	 * Get a new {@link NumberFormat} for given Locale, number type and pattern, which can be freely customized.
+	 * @param locale Locale (not null)
+	 * @param numberType Number type (not null)
+	 * @param pattern Optional {@link DecimalFormat} pattern, <code>null</code> for the Locale default format
+	 * @return A new {@link NumberFormat} instance
+	 */
+	public static NumberFormat newNumberFormat(Locale locale, Class<?> numberType, String pattern) {
+		return (NumberFormat) getPrototype(key(locale, numberType, pattern), locale, numberType, pattern).clone();
+	}
+
+	/**
+	 * Get the grouping separator for given Locale.
+	 * @param locale Locale (not null)
+	 * @return The grouping separator
+	 */
+	public static char getGroupingSeparator(Locale locale) {
+		return getSymbols(locale).getGroupingSeparator();
+	}
+
+	/**
+	 * Get the decimal separator for given Locale.
+	 * @param locale Locale (not null)
+	 * @return The decimal separator
+	 */
+	public static char getDecimalSeparator(Locale locale) {
+		return getSymbols(locale).getDecimalSeparator();
+	}
+
+	/**
+	 * Clear all the cached prototypes and the formatters confined to the current thread.
+	 */
+	public static void clear() {
+		NUMBER_FORMATS.clear();
+		SYMBOLS.clear();
+		THREAD_NUMBER_FORMATS.remove();
+	}
+
+	private static String key(Locale locale, Class<?> numberType, String pattern) {
+		ObjectUtils.argumentNotNull(locale, "Locale must be not null");
+		ObjectUtils.argumentNotNull(numberType, "Number type must be not null");
+		return locale.toLanguageTag() + (TypeUtils.isDecimalNumber(numberType) ? "|D|" : "|I|")
+				+ ((pattern != null) ? pattern : "");
+	}
+
+	private static NumberFormat getPrototype(String key, Locale locale, Class<?> numberType, String pattern) {
+		NumberFormat prototype = NUMBER_FORMATS.get(key);
+		if (prototype == null) {
+			if (NUMBER_FORMATS.size() >= MAX_PROTOTYPES) {
+				NUMBER_FORMATS.clear();
+			}
+			if (pattern != null) {
+				prototype = new DecimalFormat(pattern, getSymbols(locale));
+			} else {
+				prototype = TypeUtils.isDecimalNumber(numberType) ? NumberFormat.getNumberInstance(locale)
+						: NumberFormat.getIntegerInstance(locale);
+			}
+			final NumberFormat existing = NUMBER_FORMATS.putIfAbsent(key, prototype);
+			if (existing != null) {
+				prototype = existing;
+			}
+		}
+		return prototype;
+	}
+
+	private static DecimalFormatSymbols getSymbols(Locale locale) {
+		ObjectUtils.argumentNotNull(locale, "Locale must be not null");
+		return SYMBOLS.computeIfAbsent(locale, l -> DecimalFormatSymbols.getInstance(l));
+	}
+
+}
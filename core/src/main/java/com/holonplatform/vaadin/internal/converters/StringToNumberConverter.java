@@ -21,7 +21,6 @@ import java.util.Locale;
 import com.holonplatform.core.Context;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.core.internal.utils.ConversionUtils;
-import com.holonplatform.core.internal.utils.TypeUtils;
 import com.vaadin.data.Converter;
 import com.vaadin.data.Result;
 import com.vaadin.data.ValueContext;
@@ -35,7 +34,7 @@ import com.vaadin.data.ValueContext;
  * <p>
  * The {@link NumberFormat} to use for conversion is retrieved from {@link LocalizationContext}, if available as
  * {@link Context} resource. If a {@link LocalizationContext} is not available, default Number formats for current
- * Locale are used.
+ * Locale are used, obtained from the shared {@link FormatterCache}.
  * </p>
  * 
  * @param <T> Number type
@@ -77,15 +76,17 @@ public class StringToNumberConverter<T extends Number> implements Converter<Stri
 	 * Gets the NumberFormat to use to convert values
 	 * @param locale Locale to use
 	 * @return the numberFormat If a NumberFormat was specified using {@link #setNumberFormat(NumberFormat)}, this one
-	 *         is returned. Otherwise, a NumberFormat is obtained using given Locale
+	 *         is returned. Otherwise, a thread-confined NumberFormat which must not be modified is obtained from the
+	 *         {@link FormatterCache} using given Locale
 	 */
 	public NumberFormat getNumberFormat(Locale locale) {
-		Locale lcl = (locale != null) ? locale
+		if (numberFormat != null) {
+			return numberFormat;
+		}
+		final Locale lcl = (locale != null) ? locale
 				: LocalizationContext.getCurrent().filter(l -> l.isLocalized()).flatMap(l -> l.getLocale())
 						.orElse(Locale.getDefault());
-		return (numberFormat != null) ? numberFormat
-				: TypeUtils.isDecimalNumber(numberType) ? NumberFormat.getNumberInstance(lcl)
-						: NumberFormat.getIntegerInstance(lcl);
+		return FormatterCache.getNumberFormat(lcl, numberType);
 	}
 
 	/*
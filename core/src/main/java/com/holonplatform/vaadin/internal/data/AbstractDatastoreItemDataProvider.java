@@ -17,6 +17,7 @@ package com.holonplatform.vaadin.internal.data;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.ParameterSet;
@@ -24,6 +25,9 @@ import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.exceptions.DataAccessException;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.query.Query;
 import com.holonplatform.core.query.QueryConfigurationProvider;
 import com.holonplatform.core.query.QueryFilter;
@@ -121,6 +125,75 @@ public abstract class AbstractDatastoreItemDataProvider<T>
 		return buildQuery(configuration, false).count();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemSetCounter#size(com.holonplatform.core.query.QueryConfigurationProvider,
+	 * long)
+	 */
+	@Override
+	public long size(QueryConfigurationProvider configuration, long cap) throws DataAccessException {
+		if (cap <= 0 || cap >= Integer.MAX_VALUE) {
+			return size(configuration);
+		}
+		// fetch at most cap + 1 rows instead of counting all of them
+		final Query query = buildQuery(configuration, false);
+		query.limit((int) cap + 1);
+		return countRows(query);
+	}
+
+	/**
+	 * Count the rows returned by given limited query, used to check whether the item set contains more items than a
+	 * count cap. If a count projection is available, only the projected path is fetched for each row, otherwise the
+	 * query is executed using {@link #executeQuery(Query)}.
+	 * @param query The query to execute, with a limit already set
+	 * @return The number of rows returned by the query
+	 * @see #getCountProjection()
+	 */
+	protected long countRows(Query query) {
+		final PathProperty<?> projection = getCountProjection().orElse(null);
+		if (projection != null) {
+			try (Stream<?> rows = query.stream(projection)) {
+				return rows.count();
+			}
+		}
+		try (Stream<T> rows = executeQuery(query)) {
+			return rows.count();
+		}
+	}
+
+	/**
+	 * Get the single path to use as query projection to count the rows of a limited query, without building the
+	 * items.
+	 * @return Optional count projection path, if empty the items query projection is used
+	 * @since 5.4.1
+	 */
+	protected Optional<PathProperty<?>> getCountProjection() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the first identifier {@link PathProperty} of given property set or, if none, the first {@link PathProperty}
+	 * of the set, to be used as count projection.
+	 * @param propertySet The property set
+	 * @return Optional count projection path
+	 * @since 5.4.1
+	 */
+	protected static Optional<PathProperty<?>> getCountProjection(PropertySet<?> propertySet) {
+		if (propertySet != null) {
+			for (Property<?> property : propertySet.getIdentifiers()) {
+				if (property instanceof PathProperty) {
+					return Optional.of((PathProperty<?>) property);
+				}
+			}
+			for (Property<?> property : propertySet) {
+				if (property instanceof PathProperty) {
+					return Optional.of((PathProperty<?>) property);
+				}
+			}
+		}
+		return Optional.empty();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.data.ItemSetLoader#load(com.holonplatform.core.query.QueryConfigurationProvider,
@@ -16,6 +16,8 @@
 package com.holonplatform.vaadin.internal.data;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.DataTarget;
@@ -23,11 +25,15 @@ import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.exceptions.DataAccessException;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.data.DataChangeBus;
 import com.holonplatform.vaadin.data.ItemDataSource.CommitHandler;
 
 /**
  * A {@link CommitHandler} which uses a {@link Datastore} to perform persistence operations and convert bean instances
  * into {@link PropertyBox} values.
+ * <p>
+ * The committed changes are published to the default {@link DataChangeBus}, using the data target name as event target.
+ * </p>
  * 
  * @param <T> Bean type
  *
@@ -101,6 +107,15 @@ public class DatastoreBeanCommitHandler<T> implements CommitHandler<T> {
 		return null;
 	}
 
+	/**
+	 * Convert given bean instances into {@link PropertyBox}es.
+	 * @param instances Bean instances to convert
+	 * @return Bean instances property values as {@link PropertyBox}es
+	 */
+	private List<PropertyBox> convert(Collection<T> instances) {
+		return instances.stream().map(i -> convert(i)).collect(Collectors.toList());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.data.ItemDataSource.CommitHandler#commit(java.util.Collection,
@@ -108,9 +123,14 @@ public class DatastoreBeanCommitHandler<T> implements CommitHandler<T> {
 	 */
 	@Override
 	public void commit(Collection<T> addedItems, Collection<T> modifiedItems, Collection<T> removedItems) {
-		addedItems.forEach(i -> datastore.save(target, convert(i)));
-		modifiedItems.forEach(i -> datastore.save(target, convert(i)));
-		removedItems.forEach(i -> datastore.delete(target, convert(i)));
+		final List<PropertyBox> added = convert(addedItems);
+		final List<PropertyBox> modified = convert(modifiedItems);
+		final List<PropertyBox> removed = convert(removedItems);
+		added.forEach(i -> datastore.save(target, i));
+		modified.forEach(i -> datastore.save(target, i));
+		removed.forEach(i -> datastore.delete(target, i));
+		// notify the changes to the other sessions
+		DefaultDataChangeBus.publishCommit(target.getName(), this, added, modified, removed);
 	}
 
 }
@@ -15,12 +15,14 @@
  */
 package com.holonplatform.vaadin.internal.data;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.query.BeanProjection;
 import com.holonplatform.core.query.Query;
 import com.holonplatform.core.query.QueryConfigurationProvider;
@@ -94,4 +96,13 @@ public class DatastoreBeanItemDataProvider<T> extends AbstractDatastoreItemDataP
 		return query.stream(BeanProjection.of(beanClass));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.AbstractDatastoreItemDataProvider#getCountProjection()
+	 */
+	@Override
+	protected Optional<PathProperty<?>> getCountProjection() {
+		return getCountProjection(getBeanPropertySet());
+	}
+
 }
@@ -21,10 +21,14 @@ import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.data.DataChangeBus;
 import com.holonplatform.vaadin.data.ItemDataSource.CommitHandler;
 
 /**
  * A {@link CommitHandler} using {@link Datastore} to perform persistence operations.
+ * <p>
+ * The committed changes are published to the default {@link DataChangeBus}, using the data target name as event target.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -66,6 +70,8 @@ public class DatastoreCommitHandler implements CommitHandler<PropertyBox> {
 		addedItems.forEach(i -> datastore.save(target, i));
 		modifiedItems.forEach(i -> datastore.save(target, i));
 		removedItems.forEach(i -> datastore.delete(target, i));
+		// notify the changes to the other sessions
+		DefaultDataChangeBus.publishCommit(target.getName(), this, addedItems, modifiedItems, removedItems);
 	}
 
 }
@@ -15,11 +15,13 @@
  */
 package com.holonplatform.vaadin.internal.data;
 
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
 import com.holonplatform.core.query.Query;
@@ -76,4 +78,13 @@ public class DatastoreItemDataProvider extends AbstractDatastoreItemDataProvider
 		return query.stream(getPropertySet());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.AbstractDatastoreItemDataProvider#getCountProjection()
+	 */
+	@Override
+	protected Optional<PathProperty<?>> getCountProjection() {
+		return getCountProjection(getPropertySet());
+	}
+
 }
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.data;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.data.DataChangeBus;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.vaadin.shared.Registration;
+
+/**
+ * Default thread-safe {@link DataChangeBus} implementation.
+ *
+ * @since 5.4.1
+ */
+public class DefaultDataChangeBus implements DataChangeBus {
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Default application-wide instance
+	 */
+	public static final DataChangeBus INSTANCE = new DefaultDataChangeBus();
+
+	/**
+	 * Listeners by target
+	 */
+	private final ConcurrentMap<String, List<DataChangeListener>> listeners = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.DataChangeBus#publish(com.holonplatform.vaadin.data.DataChangeBus.
+	 * DataChangeEvent)
+	 */
+	@Override
+	public void publish(DataChangeEvent event) {
+		ObjectUtils.argumentNotNull(event, "DataChangeEvent must be not null");
+		final List<DataChangeListener> targetListeners = listeners.get(event.getTarget());
+		if (targetListeners != null) {
+			for (DataChangeListener listener : targetListeners) {
+				try {
+					listener.onDataChange(event);
+				} catch (RuntimeException e) {
+					LOGGER.warn("Data change listener [" + listener + "] failed for target [" + event.getTarget()
+							+ "]", e);
+				}
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.DataChangeBus#subscribe(java.lang.String,
+	 * com.holonplatform.vaadin.data.DataChangeBus.DataChangeListener)
+	 */
+	@Override
+	public Registration subscribe(String target, DataChangeListener listener) {
+		ObjectUtils.argumentNotNull(target, "Target must be not null");
+		ObjectUtils.argumentNotNull(listener, "DataChangeListener must be not null");
+		listeners.computeIfAbsent(target, t -> new CopyOnWriteArrayList<>()).add(listener);
+		return () -> listeners.computeIfPresent(target, (t, l) -> {
+			l.remove(listener);
+			return l.isEmpty() ? null : l;
+		});
+	}
+
+	/**
+	 * Publish the changes committed by a commit handler to the default {@link DataChangeBus}, one event for each
+	 * operation which involved at least one item. Only the item ids are published, obtained from the identifier
+	 * properties of the items property set.
+	 * @param target The data target name
+	 * @param origin The commit handler
+	 * @param addedItems Inserted items
+	 * @param modifiedItems Updated items
+	 * @param removedItems Deleted items
+	 */
+	static void publishCommit(String target, Object origin, Collection<PropertyBox> addedItems,
+			Collection<PropertyBox> modifiedItems, Collection<PropertyBox> removedItems) {
+		publishIfNotEmpty(target, Operation.INSERT, addedItems, origin);
+		publishIfNotEmpty(target, Operation.UPDATE, modifiedItems, origin);
+		publishIfNotEmpty(target, Operation.DELETE, removedItems, origin);
+	}
+
+	private static void publishIfNotEmpty(String target, Operation operation, Collection<PropertyBox> items,
+			Object origin) {
+		if (items != null && !items.isEmpty()) {
+			final List<Property<?>> identifiers = getIdentifiers(items.iterator().next());
+			final List<Object> ids = new ArrayList<>(items.size());
+			for (PropertyBox item : items) {
+				final Object id = identifiers.isEmpty() ? null : getItemId(item, identifiers);
+				if (id == null) {
+					// not identifiable
+					ids.clear();
+					break;
+				}
+				ids.add(id);
+			}
+			INSTANCE.publish(new DefaultDataChangeEvent(target, operation,
+					ids.isEmpty() ? Collections.emptyList() : identifiers, ids, origin));
+		}
+	}
+
+	/**
+	 * Get the identifier properties of given item property set.
+	 * @param item The item
+	 * @return The identifier properties, an empty list if none
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<Property<?>> getIdentifiers(PropertyBox item) {
+		final List<Property<?>> identifiers = new ArrayList<>();
+		for (Object identifier : item.getIdentifiers()) {
+			identifiers.add((Property<?>) identifier);
+		}
+		return identifiers;
+	}
+
+	/**
+	 * Get the id of given item using given identifier properties, consistently with
+	 * {@link DataChangeEvent#getItemIds()}. Bean instances are read using their bean property set.
+	 * @param item The item (not null)
+	 * @param identifiers The identifier properties (not empty)
+	 * @return The item id, <code>null</code> if the item does not provide a value for each identifier property
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public static Object getItemId(Object item, List<Property<?>> identifiers) {
+		ObjectUtils.argumentNotNull(item, "Item must be not null");
+		final PropertyBox box;
+		if (item instanceof PropertyBox) {
+			box = (PropertyBox) item;
+		} else {
+			try {
+				box = BeanPropertySet.create((Class) item.getClass()).read(item);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Failed to read the identifier values of item [" + item + "]", e);
+				return null;
+			}
+		}
+		if (identifiers.size() == 1) {
+			final Property identifier = identifiers.get(0);
+			return box.contains(identifier) ? box.getValue(identifier) : null;
+		}
+		final List<Object> values = new ArrayList<>(identifiers.size());
+		for (Property identifier : identifiers) {
+			final Object value = box.contains(identifier) ? box.getValue(identifier) : null;
+			if (value == null) {
+				return null;
+			}
+			values.add(value);
+		}
+		return Collections.unmodifiableList(values);
+	}
+
+	/**
+	 * Default {@link DataChangeEvent} implementation.
+	 */
+	public static class DefaultDataChangeEvent implements DataChangeEvent {
+
+		private static final long serialVersionUID = 2713563326383357781L;
+
+		private final String target;
+		private final Operation operation;
+		private final List<Property<?>> identifiers;
+		private final Collection<?> itemIds;
+		private final transient Object origin;
+
+		/**
+		 * Constructor
+		 * @param target The data target name (not null)
+		 * @param operation The change operation (not null)
+		 * @param identifiers The identifier properties of the changed items (not null)
+		 * @param itemIds The changed item ids (not null)
+		 * @param origin The object which originated the change (may be null)
+		 */
+		public DefaultDataChangeEvent(String target, Operation operation, List<? extends Property<?>> identifiers,
+				Collection<?> itemIds, Object origin) {
+			super();
+			ObjectUtils.argumentNotNull(target, "Target must be not null");
+			ObjectUtils.argumentNotNull(operation, "Operation must be not null");
+			ObjectUtils.argumentNotNull(identifiers, "Identifiers must be not null");
+			ObjectUtils.argumentNotNull(itemIds, "Item ids must be not null");
+			this.target = target;
+			this.operation = operation;
+			this.identifiers = Collections.unmodifiableList(new ArrayList<>(identifiers));
+			this.itemIds = Collections.unmodifiableList(new ArrayList<>(itemIds));
+			this.origin = origin;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent#getTarget()
+		 */
+		@Override
+		public String getTarget() {
+			return target;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent#getOperation()
+		 */
+		@Override
+		public Operation getOperation() {
+			return operation;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent#getIdentifiers()
+		 */
+		@Override
+		public List<Property<?>> getIdentifiers() {
+			return identifiers;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent#getItemIds()
+		 */
+		@Override
+		public Collection<?> getItemIds() {
+			return itemIds;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent#getOrigin()
+		 */
+		@Override
+		public Optional<Object> getOrigin() {
+			return Optional.ofNullable(origin);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "DefaultDataChangeEvent [target=" + target + ", operation=" + operation + ", itemIds=" + itemIds.size()
+					+ "]";
+		}
+
+	}
+
+}
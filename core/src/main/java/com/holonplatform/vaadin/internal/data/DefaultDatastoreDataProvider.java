@@ -74,6 +74,11 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 	 */
 	private List<QueryConfigurationProvider> queryConfigurationProviders = new LinkedList<>();
 
+	/**
+	 * Query trace source name
+	 */
+	private String traceSource;
+
 	/**
 	 * Default constructor.
 	 */
@@ -179,6 +184,23 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 		this.propertySet = propertySet;
 	}
 
+	/**
+	 * Get the query trace source name.
+	 * @return the query trace source name, empty if query tracing is not enabled
+	 */
+	public Optional<String> getTraceSource() {
+		return Optional.ofNullable(traceSource);
+	}
+
+	/**
+	 * Set the query trace source name. When not <code>null</code>, the count and load queries are traced using the
+	 * registered {@link com.holonplatform.vaadin.data.QueryTracer}s.
+	 * @param traceSource the query trace source name to set
+	 */
+	public void setTraceSource(String traceSource) {
+		this.traceSource = traceSource;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
@@ -198,7 +220,8 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 	 */
 	@Override
 	protected int sizeInBackEnd(Query<PropertyBox, QueryFilter> query) {
-		return Long.valueOf(buildQuery(query, false).count()).intValue();
+		return Long.valueOf(QueryTracing.count(traceSource, getEffectiveFilter(query).orElse(null), null,
+				() -> buildQuery(query, false).count())).intValue();
 	}
 
 	/*
@@ -207,7 +230,9 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 	 */
 	@Override
 	protected Stream<PropertyBox> fetchFromBackEnd(Query<PropertyBox, QueryFilter> query) {
-		return buildQuery(query, true).stream(getPropertySet());
+		return QueryTracing.load(traceSource, getEffectiveFilter(query).orElse(null), query.getSortOrders(),
+				query.getOffset(), (query.getLimit() < Integer.MAX_VALUE) ? query.getLimit() : 0,
+				() -> buildQuery(query, true).stream(getPropertySet()));
 	}
 
 	/*
@@ -236,17 +261,7 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 		q.target(getTarget());
 
 		// filters
-		final List<QueryFilter> filters = new LinkedList<>();
-
-		query.getFilter().ifPresent(f -> filters.add(f));
-
-		queryConfigurationProviders.forEach(p -> {
-			QueryFilter qf = p.getQueryFilter();
-			if (qf != null) {
-				filters.add(qf);
-			}
-		});
-		QueryFilter.allOf(filters).ifPresent(f -> q.filter(f));
+		getEffectiveFilter(query).ifPresent(f -> q.filter(f));
 
 		// sorts
 		if (withSorts) {
@@ -290,6 +305,26 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 		return q;
 	}
 
+	/**
+	 * Get the query filter to use for given query, combining the query filter and the filters of the registered
+	 * {@link QueryConfigurationProvider}s.
+	 * @param query Query
+	 * @return Optional query filter
+	 */
+	protected Optional<QueryFilter> getEffectiveFilter(Query<PropertyBox, QueryFilter> query) {
+		final List<QueryFilter> filters = new LinkedList<>();
+
+		query.getFilter().ifPresent(f -> filters.add(f));
+
+		queryConfigurationProviders.forEach(p -> {
+			QueryFilter qf = p.getQueryFilter();
+			if (qf != null) {
+				filters.add(qf);
+			}
+		});
+		return QueryFilter.allOf(filters);
+	}
+
 	private static QuerySort fromOrder(PropertySet<?> set, QuerySortOrder order) {
 		Path<?> path = getPathByName(set, order.getSorted()).orElseThrow(() -> new IllegalArgumentException(
 				"No property of the set matches with sort name: " + order.getSorted()));
@@ -392,6 +427,17 @@ public class DefaultDatastoreDataProvider extends AbstractBackEndDataProvider<Pr
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.DatastoreDataProvider.Builder#traceQueries(java.lang.String)
+		 */
+		@Override
+		public Builder traceQueries(String source) {
+			ObjectUtils.argumentNotNull(source, "Trace source must be not null");
+			instance.setTraceSource(source);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.data.DatastoreDataProvider.Builder#build()
@@ -60,6 +60,16 @@ public class DefaultItemDataProvider<ITEM> implements ItemDataProvider<ITEM> {
 		return counter.size(configuration);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemSetCounter#size(com.holonplatform.core.query.QueryConfigurationProvider,
+	 * long)
+	 */
+	@Override
+	public long size(QueryConfigurationProvider configuration, long cap) throws DataAccessException {
+		return counter.size(configuration, cap);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.data.ItemSetLoader#load(com.holonplatform.core.query.QueryConfigurationProvider,
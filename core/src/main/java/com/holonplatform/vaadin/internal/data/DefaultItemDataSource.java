@@ -41,6 +41,7 @@ import com.holonplatform.vaadin.data.ItemDataProvider;
 import com.holonplatform.vaadin.data.ItemDataSource;
 import com.holonplatform.vaadin.data.ItemDataSource.Configuration;
 import com.holonplatform.vaadin.data.ItemIdentifierProvider;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
 import com.vaadin.data.provider.Query;
 import com.vaadin.data.provider.QuerySortOrder;
 import com.vaadin.shared.Registration;
@@ -54,7 +55,7 @@ import com.vaadin.shared.Registration;
  * @since 5.0.0
  */
 public class DefaultItemDataSource<ITEM, PROPERTY>
-		implements ItemDataSource<ITEM, PROPERTY>, Configuration<ITEM, PROPERTY> {
+		implements ItemDataSource<ITEM, PROPERTY>, Configuration<ITEM, PROPERTY>, FootprintContributor {
 
 	private static final long serialVersionUID = 5690427592609021861L;
 
@@ -158,6 +159,21 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 	 */
 	private Query<ITEM, QueryFilter> dataProviderQuery;
 
+	/**
+	 * Data provider query sort orders, as <code>property:direction</code> strings
+	 */
+	private List<String> dataProviderSorts;
+
+	/**
+	 * Max query results count to load the whole result set in memory
+	 */
+	private int inMemoryThreshold = 0;
+
+	/**
+	 * Query trace source name
+	 */
+	private String queryTraceSource;
+
 	/**
 	 * Track generated property ids count to avoid duplicates
 	 */
@@ -238,6 +254,7 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 				getDataProvider().orElseThrow(() -> new IllegalStateException("Missing ItemDataProvider")),
 				getItemIdentifierProvider().orElse(null), batchSize, determineMaxCacheSize(batchSize));
 		this.itemStore.setFreezed(!isAutoRefresh());
+		this.itemStore.setInMemoryThreshold(inMemoryThreshold);
 	}
 
 	/**
@@ -291,6 +308,9 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 	 */
 	@Override
 	public Optional<ItemDataProvider<ITEM>> getDataProvider() {
+		if (dataProvider != null && queryTraceSource != null) {
+			return Optional.of(ItemDataProvider.traced(dataProvider, queryTraceSource));
+		}
 		return Optional.ofNullable(dataProvider);
 	}
 
@@ -312,6 +332,24 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 				.orElseThrow(() -> new IllegalStateException("Missing ItemDataProvider: check configuration"));
 	}
 
+	/**
+	 * Get the query trace source name.
+	 * @return the query trace source name, empty if query tracing is not enabled
+	 */
+	public Optional<String> getQueryTraceSource() {
+		return Optional.ofNullable(queryTraceSource);
+	}
+
+	/**
+	 * Set the query trace source name. When not <code>null</code>, the item data provider count and load operations
+	 * are traced using the registered {@link com.holonplatform.vaadin.data.QueryTracer}s. Must be set before the item
+	 * store initialization.
+	 * @param queryTraceSource the query trace source name to set
+	 */
+	public void setQueryTraceSource(String queryTraceSource) {
+		this.queryTraceSource = queryTraceSource;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.data.ItemDataSource#getConfiguration()
@@ -344,6 +382,26 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 		});
 	}
 
+	/**
+	 * Get the max query results count for which the whole result set is loaded in memory.
+	 * @return The in-memory threshold, <code>0</code> if disabled
+	 */
+	public int getInMemoryThreshold() {
+		return inMemoryThreshold;
+	}
+
+	/**
+	 * Set the max query results count for which the whole result set is loaded in memory at once. When the result set
+	 * is loaded in memory, the data provider sort changes are applied in memory using the data provider query
+	 * comparator, without querying the backend again. A {@link #refresh()}, for example after a filter change, counts
+	 * the results again and switches back to lazy loading if the result set is larger than the threshold.
+	 * @param inMemoryThreshold The in-memory threshold, <code>0</code> to disable
+	 */
+	public void setInMemoryThreshold(int inMemoryThreshold) {
+		this.inMemoryThreshold = inMemoryThreshold;
+		getItemStore().ifPresent(s -> s.setInMemoryThreshold(inMemoryThreshold));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.querycontainer.ItemQueryContainer#isAutoRefresh()
@@ -845,7 +903,7 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 			}
 		});
 
-		return queryParameters;
+		return builder.build();
 	}
 
 	/*
@@ -870,6 +928,15 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 		return requireItemStore().getItem(index);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemDataSource#getItems(int, int)
+	 */
+	@Override
+	public List<ITEM> getItems(int offset, int count) {
+		return requireItemStore().getItems(offset, count);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.data.ItemDataSource#getId(java.lang.Object)
@@ -939,6 +1006,25 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 		requireItemStore().refreshItem(item);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemDataSource#refreshLoaded(java.lang.Object)
+	 */
+	@Override
+	public boolean refreshLoaded(ITEM item) {
+		ObjectUtils.argumentNotNull(item, "Item to refresh must be not null");
+		return getItemStore().map(s -> s.refreshLoadedItem(item)).orElse(false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemDataSource#isModified()
+	 */
+	@Override
+	public boolean isModified() {
+		return getItemStore().map(s -> s.isModified()).orElse(false);
+	}
+
 	/**
 	 * Get the data provider {@link Query} to use to obtain filters and sorts, if available.
 	 * @return Optional data provider query
@@ -954,6 +1040,47 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 	@Override
 	public void setDataProviderQuery(Query<ITEM, QueryFilter> dataProviderQuery) {
 		this.dataProviderQuery = dataProviderQuery;
+		final List<String> sorts = (dataProviderQuery == null) ? null
+				: dataProviderQuery.getSortOrders().stream().map(o -> o.getSorted() + ":" + o.getDirection())
+						.collect(Collectors.toList());
+		final boolean sortChanged = dataProviderSorts != null && sorts != null && !dataProviderSorts.equals(sorts);
+		this.dataProviderSorts = sorts;
+		if (sortChanged) {
+			onDataProviderSortChanged(dataProviderQuery);
+		}
+	}
+
+	/**
+	 * Invoked when the data provider query sort orders changed. If the result set is loaded in memory, it is sorted in
+	 * memory when possible. Otherwise, the item store is reset to query the backend using the new sorts, unless it
+	 * contains pending changes.
+	 * @param query The data provider query
+	 */
+	protected void onDataProviderSortChanged(Query<ITEM, QueryFilter> query) {
+		final ItemStore<ITEM> store = getItemStore().orElse(null);
+		if (store == null || store.isFreezed()) {
+			return;
+		}
+		if (store.isInMemory() && (isInMemorySortable(query) || store.isModified())) {
+			store.sortInMemory(query.getSortOrders().isEmpty() ? null : query.getInMemorySorting());
+		} else if (!store.isModified()) {
+			resetStorePreservingFreezeState();
+		}
+	}
+
+	/**
+	 * Checks whether the sort orders of given query can be applied in memory, i.e. an in-memory comparator is
+	 * available and no sorted property is bound to a {@link PropertySortGenerator}, which could provide a backend sort
+	 * not consistent with the comparator.
+	 * @param query The data provider query
+	 * @return <code>true</code> if the query sorts can be applied in memory
+	 */
+	private boolean isInMemorySortable(Query<ITEM, QueryFilter> query) {
+		if (query.getSortOrders().isEmpty() || query.getInMemorySorting() == null) {
+			return false;
+		}
+		return query.getSortOrders().stream().map(o -> getPropertyById(o.getSorted()))
+				.noneMatch(p -> p.isPresent() && getPropertySortGenerator(p.get()).isPresent());
 	}
 
 	/**
@@ -1044,6 +1171,18 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 		requireItemStore().discard();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintContributor#contributeFootprint(com.holonplatform.vaadin.
+	 * diagnostics.FootprintContributor.Collector)
+	 */
+	@Override
+	public void contributeFootprint(Collector collector) {
+		collector.add("itemStore", itemStore);
+		collector.add("defaultValues", defaultValues);
+		collector.add("propertySortGenerators", propertySortGenerators);
+	}
+
 	/**
 	 * Default {@link Builder} implementation.
 	 *
@@ -1124,6 +1263,27 @@ public class DefaultItemDataSource<ITEM, PROPERTY>
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.ItemDataSource.Builder#inMemoryThreshold(int)
+		 */
+		@Override
+		public Builder<ITEM, PROPERTY> inMemoryThreshold(int inMemoryThreshold) {
+			instance.setInMemoryThreshold(inMemoryThreshold);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.data.ItemDataSource.Builder#traceQueries(java.lang.String)
+		 */
+		@Override
+		public Builder<ITEM, PROPERTY> traceQueries(String source) {
+			ObjectUtils.argumentNotNull(source, "Trace source must be not null");
+			instance.setQueryTraceSource(source);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.data.QueryContainerBuilder#defaultValue(java.lang.Object, java.lang.Object)
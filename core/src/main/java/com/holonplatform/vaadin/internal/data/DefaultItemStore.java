@@ -15,11 +15,17 @@
  */
 package com.holonplatform.vaadin.internal.data;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.lang.ref.WeakReference;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.function.Supplier;
+import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 import com.holonplatform.core.internal.utils.ObjectUtils;
@@ -27,13 +33,19 @@ import com.holonplatform.core.query.QueryConfigurationProvider;
 import com.holonplatform.vaadin.data.ItemDataProvider;
 import com.holonplatform.vaadin.data.ItemDataSource.ItemAction;
 import com.holonplatform.vaadin.data.ItemIdentifierProvider;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
 
 /**
  * Default {@link ItemStore} implementation using {@link ItemDataProvider} to load items on demand.
+ * <p>
+ * The store is replication-friendly: the current query, the item ids and the items cache are not serialized and are
+ * rebuilt on demand after deserialization, while the pending changes (added, modified and removed items) are
+ * preserved.
+ * </p>
  * 
  * @since 5.0.0
  */
-public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
+public class DefaultItemStore<ITEM> implements ItemStore<ITEM>, FootprintContributor {
 
 	private static final long serialVersionUID = 3190254710573117380L;
 
@@ -43,14 +55,14 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	private final QueryConfigurationProvider configuration;
 
 	/**
-	 * {@link ItemDataProvider} factory
+	 * Items data provider
 	 */
-	private final Supplier<ItemDataProvider<ITEM>> dataProviderFactory;
+	private final ItemDataProvider<ITEM> dataProvider;
 
 	/**
 	 * Current query
 	 */
-	private ItemDataProvider<ITEM> query;
+	private transient ItemDataProvider<ITEM> query;
 
 	/**
 	 * Item identifier provider
@@ -60,30 +72,63 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	/**
 	 * Current query size
 	 */
-	private int querySize = -1;
+	private transient int querySize = -1;
 
 	/**
 	 * Item ids
 	 */
-	private List<?> itemIds;
+	private transient List<?> itemIds;
 
 	/**
 	 * Items cache
 	 */
-	private ItemCacheMap<ITEM> itemCache;
+	private transient ItemCacheMap<ITEM> itemCache;
 
 	/**
-	 * List of added items since last commit or discard
+	 * Max cache size
+	 */
+	private int maxCacheSize;
+
+	/**
+	 * Max query results count to load the whole result set in memory
+	 */
+	private int inMemoryThreshold = 0;
+
+	/**
+	 * The whole query result set, in load order, when loaded in memory
+	 */
+	private transient List<ITEM> inMemoryLoaded;
+
+	/**
+	 * The whole query result set, in current order, when loaded in memory
+	 */
+	private transient List<ITEM> inMemoryItems;
+
+	/**
+	 * List of added items since last commit or discard, in insertion order (the last added item is the first one in
+	 * the store)
 	 */
 	private List<ITEM> addedItems;
 	/**
-	 * List of modified items since last commit or discard
+	 * Added items keys
 	 */
-	private List<ITEM> modifiedItems;
+	private ItemChangeSet<ITEM> addedItemKeys;
 	/**
-	 * List of deleted items since last commit or discard
+	 * Modified items since last commit or discard
 	 */
-	private List<ITEM> removedItems;
+	private ItemChangeSet<ITEM> modifiedItems;
+	/**
+	 * Deleted items since last commit or discard
+	 */
+	private ItemChangeSet<ITEM> removedItems;
+	/**
+	 * Sorted query indexes of the removed items
+	 */
+	private int[] removedPositions;
+	/**
+	 * Removed query indexes count
+	 */
+	private int removedPositionsCount;
 
 	/**
 	 * Item action listeners
@@ -114,10 +159,11 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		ObjectUtils.argumentNotNull(configuration, "Configuration must be not null");
 		ObjectUtils.argumentNotNull(dataProvider, "ItemDataProvider must be not null");
 		this.configuration = configuration;
-		this.dataProviderFactory = () -> dataProvider;
+		this.dataProvider = dataProvider;
 		this.itemIdentifierProvider = itemIdentifierProvider;
 		this.batchSize = batchSize;
-		this.itemCache = new ItemCacheMap<>(maxCacheSize);
+		this.maxCacheSize = maxCacheSize;
+		this.itemCache = createItemCache(maxCacheSize);
 	}
 
 	/**
@@ -191,7 +237,7 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	 */
 	@Override
 	public int getMaxCacheSize() {
-		return itemCache.getMaxSize();
+		return maxCacheSize;
 	}
 
 	/*
@@ -201,7 +247,68 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	@Override
 	public void setMaxCacheSize(int maxCacheSize) {
 		reset(false, false);
-		this.itemCache = new ItemCacheMap<>(maxCacheSize);
+		this.maxCacheSize = maxCacheSize;
+		this.itemCache = createItemCache(maxCacheSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.ItemStore#getInMemoryThreshold()
+	 */
+	@Override
+	public int getInMemoryThreshold() {
+		return inMemoryThreshold;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.ItemStore#setInMemoryThreshold(int)
+	 */
+	@Override
+	public void setInMemoryThreshold(int inMemoryThreshold) {
+		this.inMemoryThreshold = Math.max(0, inMemoryThreshold);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.ItemStore#isInMemory()
+	 */
+	@Override
+	public boolean isInMemory() {
+		return !isFreezed() && getItemQuery() != null && inMemoryItems != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.ItemStore#sortInMemory(java.util.Comparator)
+	 */
+	@Override
+	public boolean sortInMemory(Comparator<ITEM> comparator) {
+		if (!isInMemory()) {
+			return false;
+		}
+		final List<ITEM> sorted = new ArrayList<>(inMemoryLoaded);
+		if (comparator != null) {
+			// stable: items which compare as equal keep the load order
+			sorted.sort(comparator);
+		}
+		inMemoryItems = sorted;
+		getItemCache().clear();
+		itemIds = null;
+		// the removed items query positions changed
+		removedPositions = null;
+		removedPositionsCount = 0;
+		if (removedItems != null && !removedItems.isEmpty()) {
+			for (int i = 0; i < sorted.size(); i++) {
+				if (removedItems.contains(sorted.get(i))) {
+					addRemovedPosition(i);
+				}
+			}
+		}
+
+		// fire listeners
+		fireItemActionListeners(null, null, null, ItemAction.SET_CHANGED);
+		return true;
 	}
 
 	/*
@@ -222,11 +329,11 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	}
 
 	/**
-	 * Size of removed items
+	 * Size of the removed items which belong to the current query results
 	 * @return Removed items count
 	 */
 	protected int getRemovedItemsSize() {
-		return (removedItems == null) ? 0 : removedItems.size();
+		return removedPositionsCount;
 	}
 
 	/*
@@ -283,10 +390,10 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		final int addedItemCount = getAddedItemsSize();
 		if (addedItemCount > 0 && index < addedItemCount) {
 			// an item from the addedItems was requested
-			return addedItems.get(index);
+			return getAddedItem(index);
 		}
 		// get from cache or load using query
-		final int itemIndex = index - addedItemCount;
+		final int itemIndex = toQueryIndex(index - addedItemCount);
 		ITEM item = getItemCache().getItem(itemIndex);
 		if (item == null) {
 			// item not in cache, query for more items
@@ -295,6 +402,63 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		return item;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.ItemStore#getItems(int, int)
+	 */
+	@Override
+	public List<ITEM> getItems(int offset, int count) {
+		if (offset < 0) {
+			throw new IndexOutOfBoundsException("Offset cannot be negative: " + offset);
+		}
+		if (count < 0) {
+			throw new IllegalArgumentException("Count cannot be negative: " + count);
+		}
+		if (isFreezed()) {
+			return Collections.emptyList();
+		}
+		final int end = (int) Math.min(size(), (long) offset + count);
+		if (offset >= end) {
+			return Collections.emptyList();
+		}
+		final List<ITEM> items = new ArrayList<>(end - offset);
+
+		// added items
+		final int addedItemCount = getAddedItemsSize();
+		int index = offset;
+		while (index < end && index < addedItemCount) {
+			items.add(getAddedItem(index++));
+		}
+		if (index == end) {
+			return items;
+		}
+
+		// query items, using the cached ones when available and skipping the removed ones
+		final int from = toQueryIndex(index - addedItemCount);
+		final int to = toQueryIndex(end - addedItemCount - 1) + 1;
+		final Object[] range = new Object[to - from];
+		for (int i = from; i < to; i++) {
+			range[i - from] = getItemCache().getItem(i);
+		}
+		loadItems(from, range);
+
+		int removed = firstRemovedPosition(from);
+		for (int i = 0; i < range.length; i++) {
+			if (removed < removedPositionsCount && removedPositions[removed] == from + i) {
+				removed++;
+				continue;
+			}
+			if (range[i] == null) {
+				// not available
+				break;
+			}
+			@SuppressWarnings("unchecked")
+			final ITEM item = (ITEM) range[i];
+			items.add(item);
+		}
+		return items;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.internal.data.ItemStore#refreshItem(java.lang.Object)
@@ -308,6 +472,47 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.internal.data.ItemStore#refreshLoadedItem(java.lang.Object)
+	 */
+	@Override
+	public boolean refreshLoadedItem(ITEM item) {
+		ObjectUtils.argumentNotNull(item, "Item to refresh must be not null");
+		if (isFreezed() || (addedItemKeys != null && addedItemKeys.contains(item))
+				|| (modifiedItems != null && modifiedItems.contains(item))
+				|| (removedItems != null && removedItems.contains(item))) {
+			return false;
+		}
+		final int index = getItemQueryIndex(item);
+		if (index < 0) {
+			return false;
+		}
+		final ITEM previous = putQueryItem(index, item);
+
+		// fire listeners
+		fireItemActionListeners(item, getItemId(item), previous, ItemAction.REFRESHED);
+
+		return true;
+	}
+
+	/**
+	 * Replace the query item at given query index, both in cache and in the in-memory result set, if available.
+	 * @param queryIndex The item query index
+	 * @param item The new item instance
+	 * @return The previous cached item, <code>null</code> if none
+	 */
+	private ITEM putQueryItem(int queryIndex, ITEM item) {
+		if (inMemoryItems != null && queryIndex < inMemoryItems.size()) {
+			final ITEM replaced = inMemoryItems.set(queryIndex, item);
+			final int loadedIndex = inMemoryLoaded.indexOf(replaced);
+			if (loadedIndex > -1) {
+				inMemoryLoaded.set(loadedIndex, item);
+			}
+		}
+		return getItemCache().putItem(queryIndex, item);
+	}
+
 	/**
 	 * Refresh given item instance at given item <code>index</code>.
 	 * @param item Item to refresh
@@ -318,12 +523,12 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		ITEM previous = null;
 		final int addedItemCount = getAddedItemsSize();
 		if (addedItemCount > 0 && index < addedItemCount) {
-			previous = addedItems.get(index);
-			addedItems.remove(index);
-			addedItems.add(index, item);
+			previous = addedItems.set(addedItemCount - 1 - index, item);
+			addedItemKeys.remove(previous);
+			addedItemKeys.add(item);
 		} else {
-			int cacheIndex = index - addedItemCount;
-			previous = getItemCache().putItem(cacheIndex, item);
+			int cacheIndex = toQueryIndex(index - addedItemCount);
+			previous = putQueryItem(cacheIndex, item);
 		}
 
 		// fire listeners
@@ -344,8 +549,10 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 
 			if (addedItems == null) {
 				addedItems = new ArrayList<>();
+				addedItemKeys = new ItemChangeSet<>(itemIdentifierProvider);
 			}
-			addedItems.add(0, item);
+			addedItems.add(item);
+			addedItemKeys.add(item);
 
 			// fire listeners
 			fireItemActionListeners(item, itemId, null, ItemAction.ADDED);
@@ -364,10 +571,17 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	public boolean removeItem(int index) {
 		final ITEM item = getItem(index);
 		if (item != null) {
-			if (removedItems == null) {
-				removedItems = new ArrayList<>();
+			final int addedItemCount = getAddedItemsSize();
+			if (index < addedItemCount) {
+				removeAddedItem(addedItemCount - 1 - index);
+			} else {
+				addRemovedPosition(toQueryIndex(index - addedItemCount));
+				getRemovedItemSet().add(item);
+				if (modifiedItems != null) {
+					modifiedItems.remove(item);
+				}
 			}
-			removedItems.add(item);
+			itemIds = null;
 
 			// fire listeners
 			fireItemActionListeners(item, getItemId(item), null, ItemAction.REMOVED);
@@ -384,10 +598,28 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	@Override
 	public boolean removeItem(ITEM item) {
 		if (item != null) {
-			if (removedItems == null) {
-				removedItems = new ArrayList<>();
+			if (addedItemKeys != null && addedItemKeys.contains(item)) {
+				final ITEM added = addedItemKeys.get(item);
+				for (int i = addedItems.size() - 1; i >= 0; i--) {
+					if (addedItems.get(i) == added) {
+						removeAddedItem(i);
+						break;
+					}
+				}
+			} else {
+				if (removedItems != null && removedItems.contains(item)) {
+					return false;
+				}
+				final int index = resolveItemQueryIndex(item);
+				if (index > -1) {
+					addRemovedPosition(index);
+				}
+				getRemovedItemSet().add(item);
+				if (modifiedItems != null) {
+					modifiedItems.remove(item);
+				}
 			}
-			removedItems.add(item);
+			itemIds = null;
 
 			// fire listeners
 			fireItemActionListeners(item, getItemId(item), null, ItemAction.REMOVED);
@@ -404,13 +636,11 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	@Override
 	public void setItemModified(ITEM item) {
 		if (item != null) {
-			if (addedItems == null || !addedItems.contains(item)) {
+			if (addedItemKeys == null || !addedItemKeys.contains(item)) {
 				if (modifiedItems == null) {
-					modifiedItems = new ArrayList<>();
-				}
-				if (!modifiedItems.contains(item)) {
-					modifiedItems.add(item);
+					modifiedItems = new ItemChangeSet<>(itemIdentifierProvider);
 				}
+				modifiedItems.add(item);
 
 				// fire listeners
 				fireItemActionListeners(item, getItemId(item), null, ItemAction.MODIFIED);
@@ -424,7 +654,8 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	 */
 	@Override
 	public boolean isModified() {
-		return getAddedItemsSize() > 0 || getModifiedItems().size() > 0 || getRemovedItems().size() > 0;
+		return getAddedItemsSize() > 0 || (modifiedItems != null && !modifiedItems.isEmpty())
+				|| (removedItems != null && !removedItems.isEmpty());
 	}
 
 	/*
@@ -434,7 +665,21 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	@Override
 	public List<ITEM> getAddedItems() {
 		if (addedItems != null) {
-			return Collections.unmodifiableList(addedItems);
+			// last added item first
+			final List<ITEM> items = addedItems;
+			return new AbstractList<ITEM>() {
+
+				@Override
+				public ITEM get(int index) {
+					return items.get(items.size() - 1 - index);
+				}
+
+				@Override
+				public int size() {
+					return items.size();
+				}
+
+			};
 		}
 		return Collections.emptyList();
 	}
@@ -446,7 +691,7 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	@Override
 	public List<ITEM> getModifiedItems() {
 		if (modifiedItems != null) {
-			return Collections.unmodifiableList(modifiedItems);
+			return Collections.unmodifiableList(modifiedItems.getItems());
 		}
 		return Collections.emptyList();
 	}
@@ -458,7 +703,7 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	@Override
 	public List<ITEM> getRemovedItems() {
 		if (removedItems != null) {
-			return Collections.unmodifiableList(removedItems);
+			return Collections.unmodifiableList(removedItems.getItems());
 		}
 		return Collections.emptyList();
 	}
@@ -472,6 +717,8 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		freezed = freeze;
 		query = null;
 		itemIds = null;
+		inMemoryLoaded = null;
+		inMemoryItems = null;
 		if (getItemCache() != null) {
 			getItemCache().clear();
 		}
@@ -489,9 +736,161 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	 */
 	@Override
 	public void discard() {
+		if (addedItems != null || removedPositionsCount > 0) {
+			itemIds = null;
+		}
 		addedItems = null;
+		addedItemKeys = null;
 		modifiedItems = null;
 		removedItems = null;
+		removedPositions = null;
+		removedPositionsCount = 0;
+	}
+
+	/**
+	 * Create a new items cache, which supports the index lookup by item id if an item identifier provider is
+	 * available.
+	 * @param maxCacheSize Max cache size
+	 * @return A new items cache
+	 */
+	private ItemCacheMap<ITEM> createItemCache(int maxCacheSize) {
+		return new ItemCacheMap<>(maxCacheSize,
+				(itemIdentifierProvider != null) ? item -> itemIdentifierProvider.getItemId(item) : null);
+	}
+
+	/**
+	 * Get the added item at given store index.
+	 * @param index Store index (lower than the added items count)
+	 * @return The added item
+	 */
+	private ITEM getAddedItem(int index) {
+		return addedItems.get(addedItems.size() - 1 - index);
+	}
+
+	/**
+	 * Remove the added item at given position of the added items list, discarding its modifications.
+	 * @param position Added items list position
+	 */
+	private void removeAddedItem(int position) {
+		final ITEM item = addedItems.remove(position);
+		addedItemKeys.remove(item);
+		if (modifiedItems != null) {
+			modifiedItems.remove(item);
+		}
+	}
+
+	private ItemChangeSet<ITEM> getRemovedItemSet() {
+		if (removedItems == null) {
+			removedItems = new ItemChangeSet<>(itemIdentifierProvider);
+		}
+		return removedItems;
+	}
+
+	/**
+	 * Get the query index of given item. If the item is not cached, for example because it was evicted from the items
+	 * cache, the index is resolved through the item ids, loading the item batches as needed.
+	 * @param item The item
+	 * @return The item query index, <code>-1</code> if not found
+	 */
+	private int resolveItemQueryIndex(ITEM item) {
+		final int index = getItemQueryIndex(item);
+		if (index > -1 || isFreezed()) {
+			return index;
+		}
+		final int itemIndex;
+		if (itemIdentifierProvider != null) {
+			itemIndex = indexOfItem(itemIdentifierProvider.getItemId(item));
+		} else {
+			// the item index is used as item id
+			final Object itemId = getItemId(item);
+			itemIndex = (itemId instanceof Integer) ? ((Integer) itemId).intValue() : -1;
+		}
+		final int addedItemCount = getAddedItemsSize();
+		return (itemIndex < addedItemCount) ? -1 : toQueryIndex(itemIndex - addedItemCount);
+	}
+
+	/**
+	 * Get the query index of given item, looking for it in the items cache. The items which are not cached are not
+	 * visible in the current query window, so their index is not looked up.
+	 * @param item The item
+	 * @return The item query index, <code>-1</code> if not found
+	 */
+	private int getItemQueryIndex(ITEM item) {
+		final Object itemId = (itemIdentifierProvider != null) ? itemIdentifierProvider.getItemId(item) : null;
+		if (itemId != null) {
+			final int index = getItemCache().indexOfKey(itemId);
+			return (index < 0 || isRemovedPosition(index)) ? -1 : index;
+		}
+		synchronized (getItemCache()) {
+			for (Entry<Integer, WeakReference<ITEM>> entry : getItemCache().entrySet()) {
+				final ITEM cached = entry.getValue().get();
+				if (cached != null && (cached == item || cached.equals(item))) {
+					return isRemovedPosition(entry.getKey()) ? -1 : entry.getKey();
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Convert an index of the not removed query items into the actual query index, skipping the removed items.
+	 * @param index Index of the not removed query items
+	 * @return The query index
+	 */
+	protected int toQueryIndex(int index) {
+		// the number of removed positions p[i] such that p[i] - i <= index
+		int low = 0;
+		int high = removedPositionsCount;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (removedPositions[mid] - mid <= index) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return index + low;
+	}
+
+	/**
+	 * Get the position in the sorted removed positions of the first removed query index which is greater than or
+	 * equal to given query index.
+	 * @param queryIndex Query index
+	 * @return The removed position index
+	 */
+	private int firstRemovedPosition(int queryIndex) {
+		int low = 0;
+		int high = removedPositionsCount;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (removedPositions[mid] < queryIndex) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private boolean isRemovedPosition(int queryIndex) {
+		final int position = firstRemovedPosition(queryIndex);
+		return position < removedPositionsCount && removedPositions[position] == queryIndex;
+	}
+
+	private void addRemovedPosition(int queryIndex) {
+		final int position = firstRemovedPosition(queryIndex);
+		if (position < removedPositionsCount && removedPositions[position] == queryIndex) {
+			return;
+		}
+		if (removedPositions == null) {
+			removedPositions = new int[16];
+		} else if (removedPositionsCount == removedPositions.length) {
+			removedPositions = Arrays.copyOf(removedPositions, removedPositionsCount * 2);
+		}
+		System.arraycopy(removedPositions, position, removedPositions, position + 1,
+				removedPositionsCount - position);
+		removedPositions[position] = queryIndex;
+		removedPositionsCount++;
 	}
 
 	/**
@@ -509,9 +908,17 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 	 */
 	protected ItemDataProvider<ITEM> getItemQuery() {
 		if (query == null) {
-			query = dataProviderFactory.get();
+			query = dataProvider;
 			// size
 			querySize = (int) query.size(getConfiguration());
+			inMemoryLoaded = null;
+			inMemoryItems = null;
+			if (querySize > 0 && querySize <= inMemoryThreshold) {
+				// small result set: load it entirely
+				inMemoryLoaded = query.load(getConfiguration(), 0, querySize).collect(Collectors.toList());
+				inMemoryItems = new ArrayList<>(inMemoryLoaded);
+				querySize = inMemoryItems.size();
+			}
 		}
 		return query;
 	}
@@ -529,8 +936,10 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		final int startIndex = index - index % batchSize;
 		final int count = Math.min(batchSize, getItemQuerySize() - startIndex);
 
-		// load more items using query
-		List<ITEM> items = getItemQuery().load(getConfiguration(), startIndex, count).collect(Collectors.toList());
+		// load more items using query, or from the in-memory result set
+		List<ITEM> items = (inMemoryItems != null)
+				? inMemoryItems.subList(startIndex, Math.min(inMemoryItems.size(), startIndex + count))
+				: getItemQuery().load(getConfiguration(), startIndex, count).collect(Collectors.toList());
 		if (items == null) {
 			items = Collections.emptyList();
 		}
@@ -554,6 +963,48 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		return requestedItem;
 	}
 
+	/**
+	 * Load the items which are missing in given range, i.e. the <code>null</code> range elements. Adjacent missing
+	 * spans are merged when the gap between them is smaller than the batch size, in order to use as few queries as
+	 * possible.
+	 * @param from The query index of the first range element
+	 * @param range The items range, to be filled with the loaded items
+	 */
+	protected void loadItems(int from, Object[] range) {
+		final int gap = Math.max(1, getBatchSize());
+		final int querySize = getItemQuerySize();
+		int i = 0;
+		while (i < range.length) {
+			if (range[i] != null) {
+				i++;
+				continue;
+			}
+			// missing span: extend it while the next missing item is near enough
+			final int start = i;
+			int last = i;
+			for (int j = i + 1; j < range.length && j - last <= gap; j++) {
+				if (range[j] == null) {
+					last = j;
+				}
+			}
+			final int startIndex = from + start;
+			final int count = Math.min(last - start + 1, querySize - startIndex);
+			if (count > 0) {
+				final List<ITEM> loaded = (inMemoryItems != null)
+						? inMemoryItems.subList(startIndex, Math.min(inMemoryItems.size(), startIndex + count))
+						: getItemQuery().load(getConfiguration(), startIndex, count).collect(Collectors.toList());
+				for (int k = 0; k < loaded.size() && k < count; k++) {
+					final ITEM item = loaded.get(k);
+					range[start + k] = item;
+					ITEM previous = getItemCache().putItem(startIndex + k, item);
+					// fire listeners
+					fireItemActionListeners(item, null, previous, ItemAction.LOADED);
+				}
+			}
+			i = last + 1;
+		}
+	}
+
 	/**
 	 * Get the id of given item
 	 * @param item Item to obtain the id for
@@ -592,6 +1043,28 @@ public class DefaultItemStore<ITEM> implements ItemStore<ITEM> {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintContributor#contributeFootprint(com.holonplatform.vaadin.
+	 * diagnostics.FootprintContributor.Collector)
+	 */
+	@Override
+	public void contributeFootprint(Collector collector) {
+		collector.add("itemIds", itemIds);
+		collector.add("itemCache", itemCache);
+		collector.add("inMemoryItems", inMemoryItems);
+		collector.add("addedItems", addedItems);
+		collector.add("modifiedItems", modifiedItems);
+		collector.add("removedItems", removedItems);
+	}
+
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		// transient state is rebuilt on demand
+		this.querySize = -1;
+		this.itemCache = createItemCache(maxCacheSize);
+	}
+
 	/**
 	 * Fire registered {@link ItemActionListener}s.
 	 * @param item Item subject of the action
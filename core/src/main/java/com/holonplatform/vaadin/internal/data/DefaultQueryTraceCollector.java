@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import com.holonplatform.vaadin.data.QueryTracer.QueryTraceCollector;
+
+/**
+ * Default bounded {@link QueryTraceCollector} implementation.
+ *
+ * @since 5.4.1
+ */
+public class DefaultQueryTraceCollector implements QueryTraceCollector {
+
+	private static final long serialVersionUID = -3310484947361604870L;
+
+	/**
+	 * Max retained traces
+	 */
+	private final int maxTraces;
+
+	/**
+	 * Collected traces
+	 */
+	private final Deque<QueryTrace> traces = new ArrayDeque<>();
+
+	/**
+	 * Constructor.
+	 * @param maxTraces Max number of traces to retain (greater than 0)
+	 */
+	public DefaultQueryTraceCollector(int maxTraces) {
+		super();
+		if (maxTraces <= 0) {
+			throw new IllegalArgumentException("Max traces must be greater than 0");
+		}
+		this.maxTraces = maxTraces;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.QueryTracer#trace(com.holonplatform.vaadin.data.QueryTracer.QueryTrace)
+	 */
+	@Override
+	public synchronized void trace(QueryTrace trace) {
+		if (trace != null) {
+			if (traces.size() >= maxTraces) {
+				traces.removeFirst();
+			}
+			traces.addLast(trace);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.QueryTracer.QueryTraceCollector#getTraces()
+	 */
+	@Override
+	public synchronized List<QueryTrace> getTraces() {
+		return new ArrayList<>(traces);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.QueryTracer.QueryTraceCollector#clear()
+	 */
+	@Override
+	public synchronized void clear() {
+		traces.clear();
+	}
+
+}
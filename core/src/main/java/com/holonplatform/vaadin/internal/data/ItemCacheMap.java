@@ -15,12 +15,18 @@
  */
 package com.holonplatform.vaadin.internal.data;
 
+import java.io.Serializable;
 import java.lang.ref.WeakReference;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * Item cache using a {@link Map}.
+ * <p>
+ * The cached items are never serialized: a serialized cache is restored empty, with the same max size.
+ * </p>
  *
  * @since 5.0.0
  */
@@ -33,13 +39,34 @@ public class ItemCacheMap<ITEM> extends LinkedHashMap<Integer, WeakReference<ITE
 	 */
 	private final int maxSize;
 
+	/**
+	 * Item key provider
+	 */
+	private final Function<ITEM, Object> keyProvider;
+
+	/**
+	 * Cached item indexes by key
+	 */
+	private final Map<Object, Integer> keyIndexes = new HashMap<>();
+
 	/**
 	 * Constructor
 	 * @param maxSize Cache max size
 	 */
 	public ItemCacheMap(final int maxSize) {
+		this(maxSize, null);
+	}
+
+	/**
+	 * Constructor
+	 * @param maxSize Cache max size
+	 * @param keyProvider The function to use to obtain the item keys, in order to lookup the item indexes by key. If
+	 *        <code>null</code>, the index lookup is not available
+	 */
+	public ItemCacheMap(final int maxSize, Function<ITEM, Object> keyProvider) {
 		super(maxSize * 10 / 7, 0.7f, true);
 		this.maxSize = maxSize;
+		this.keyProvider = keyProvider;
 	}
 
 	/*
@@ -48,7 +75,21 @@ public class ItemCacheMap<ITEM> extends LinkedHashMap<Integer, WeakReference<ITE
 	 */
 	@Override
 	protected boolean removeEldestEntry(java.util.Map.Entry<Integer, WeakReference<ITEM>> eldest) {
-		return size() > maxSize;
+		if (size() > maxSize) {
+			removeKey(eldest.getValue(), eldest.getKey());
+			return true;
+		}
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.LinkedHashMap#clear()
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		keyIndexes.clear();
 	}
 
 	/**
@@ -95,12 +136,86 @@ public class ItemCacheMap<ITEM> extends LinkedHashMap<Integer, WeakReference<ITE
 			if (itemReference != null) {
 				previous = itemReference.get();
 				remove(index);
+				removeKey(itemReference, index);
 			} else {
 				previous = null;
 			}
-			put(index, new WeakReference<>(item));
+			final Object key = (keyProvider != null && item != null) ? keyProvider.apply(item) : null;
+			if (key != null) {
+				keyIndexes.put(key, index);
+			}
+			put(index, new KeyedReference<>(item, key));
 			return previous;
 		}
 	}
 
+	/**
+	 * Get the index of the cached item with given key.
+	 * @param key The item key
+	 * @return The item index, <code>-1</code> if not found or if the cache has no key provider
+	 */
+	public int indexOfKey(Object key) {
+		if (key != null) {
+			synchronized (this) {
+				final Integer index = keyIndexes.get(key);
+				if (index != null) {
+					return index.intValue();
+				}
+			}
+		}
+		return -1;
+	}
+
+	private void removeKey(WeakReference<ITEM> reference, Integer index) {
+		if (reference instanceof KeyedReference) {
+			final Object key = ((KeyedReference<ITEM>) reference).key;
+			if (key != null && index.equals(keyIndexes.get(key))) {
+				keyIndexes.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Item reference which holds the item key.
+	 * @param <ITEM> Item type
+	 */
+	private static final class KeyedReference<ITEM> extends WeakReference<ITEM> {
+
+		final Object key;
+
+		KeyedReference(ITEM item, Object key) {
+			super(item);
+			this.key = key;
+		}
+
+	}
+
+	/**
+	 * Replace this cache with its serialized form, which only holds the max size.
+	 * @return The serialized form
+	 */
+	private Object writeReplace() {
+		return new SerializedForm(maxSize);
+	}
+
+	/**
+	 * Serialized form of an {@link ItemCacheMap}.
+	 */
+	private static final class SerializedForm implements Serializable {
+
+		private static final long serialVersionUID = -2473105623461262960L;
+
+		private final int maxSize;
+
+		SerializedForm(int maxSize) {
+			super();
+			this.maxSize = maxSize;
+		}
+
+		private Object readResolve() {
+			return new ItemCacheMap<>(maxSize);
+		}
+
+	}
+
 }
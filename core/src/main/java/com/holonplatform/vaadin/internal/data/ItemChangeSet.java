@@ -0,0 +1,169 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.data;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.holonplatform.vaadin.data.ItemIdentifierProvider;
+
+/**
+ * An ordered set of items, keyed by item id when an {@link ItemIdentifierProvider} is available and by item identity
+ * otherwise, which provides constant time add, lookup and remove operations.
+ * <p>
+ * The items are kept in insertion order. Adding an item whose key is already present replaces the item instance,
+ * preserving its position.
+ * </p>
+ *
+ * @param <ITEM> Item type
+ * 
+ * @since 5.4.1
+ */
+public class ItemChangeSet<ITEM> implements Serializable {
+
+	private static final long serialVersionUID = 2965284330271815469L;
+
+	/**
+	 * Item identifier provider
+	 */
+	private final ItemIdentifierProvider<ITEM, ?> itemIdentifierProvider;
+
+	/**
+	 * Items by key
+	 */
+	private final Map<Object, ITEM> items = new LinkedHashMap<>();
+
+	/**
+	 * Constructor.
+	 * @param itemIdentifierProvider Item identifier provider, <code>null</code> to use the item identity
+	 */
+	public ItemChangeSet(ItemIdentifierProvider<ITEM, ?> itemIdentifierProvider) {
+		super();
+		this.itemIdentifierProvider = itemIdentifierProvider;
+	}
+
+	/**
+	 * Add an item, replacing the item with the same key, if any.
+	 * @param item The item to add (not null)
+	 * @return <code>true</code> if no item with the same key was present
+	 */
+	public boolean add(ITEM item) {
+		return items.put(getKey(item), item) == null;
+	}
+
+	/**
+	 * Checks whether an item with the same key as given item is present.
+	 * @param item The item to check
+	 * @return <code>true</code> if present
+	 */
+	public boolean contains(ITEM item) {
+		return item != null && items.containsKey(getKey(item));
+	}
+
+	/**
+	 * Get the item with the same key as given item.
+	 * @param item The item to look for
+	 * @return The item instance in this set, <code>null</code> if not present
+	 */
+	public ITEM get(ITEM item) {
+		return (item != null) ? items.get(getKey(item)) : null;
+	}
+
+	/**
+	 * Remove the item with the same key as given item.
+	 * @param item The item to remove
+	 * @return The removed item, <code>null</code> if not present
+	 */
+	public ITEM remove(ITEM item) {
+		return (item != null) ? items.remove(getKey(item)) : null;
+	}
+
+	/**
+	 * Get the items count.
+	 * @return the items count
+	 */
+	public int size() {
+		return items.size();
+	}
+
+	/**
+	 * Get whether the set is empty.
+	 * @return <code>true</code> if empty
+	 */
+	public boolean isEmpty() {
+		return items.isEmpty();
+	}
+
+	/**
+	 * Get the items, in insertion order.
+	 * @return A new list with the items
+	 */
+	public List<ITEM> getItems() {
+		return new ArrayList<>(items.values());
+	}
+
+	/**
+	 * Remove all the items.
+	 */
+	public void clear() {
+		items.clear();
+	}
+
+	/**
+	 * Get the key of given item: the item id if available, an identity key otherwise.
+	 * @param item The item
+	 * @return The item key
+	 */
+	protected Object getKey(ITEM item) {
+		if (itemIdentifierProvider != null) {
+			final Object id = itemIdentifierProvider.getItemId(item);
+			if (id != null) {
+				return id;
+			}
+		}
+		return new IdentityKey(item);
+	}
+
+	/**
+	 * Item key based on object identity.
+	 */
+	private static final class IdentityKey implements Serializable {
+
+		private static final long serialVersionUID = -6611548096434346104L;
+
+		private final Object item;
+
+		IdentityKey(Object item) {
+			super();
+			this.item = item;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(item);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdentityKey && ((IdentityKey) obj).item == item;
+		}
+
+	}
+
+}
@@ -15,10 +15,14 @@
  */
 package com.holonplatform.vaadin.internal.data;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -36,9 +40,21 @@ import com.vaadin.data.provider.AbstractBackEndDataProvider;
 import com.vaadin.data.provider.DataProvider;
 import com.vaadin.data.provider.Query;
 import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.ui.UI;
 
 /**
  * A {@link DataProvider} using an {@link ItemDataProvider} as data source.
+ * <p>
+ * When incremental updates are enabled, the last fetched items window and the last item count are retained, so that
+ * single item additions and removals can be applied to them using {@link #itemAdded(Object)} and
+ * {@link #itemRemoved(Object)}, without querying the backend again when the grid refreshes its rows.
+ * </p>
+ * <p>
+ * When a count cap is configured, the item set is not counted: only up to <code>cap + 1</code> items are fetched to
+ * check whether more items are available, and the reported size grows by the cap each time the fetched rows reach the
+ * end of the currently reported size. The grown size is applied in a subsequent UI access, so it is sent to the client
+ * immediately when server push is enabled, or at the next server roundtrip otherwise.
+ * </p>
  * 
  * @param <ITEM> Item type
  * 
@@ -63,6 +79,51 @@ public class ItemDataProviderAdapter<ITEM> extends AbstractBackEndDataProvider<I
 	 */
 	private final Configuration<ITEM, ?> configuration;
 
+	/**
+	 * Whether incremental updates are enabled
+	 */
+	private boolean incrementalUpdates = false;
+
+	/**
+	 * Last fetched window, used to apply the incremental updates
+	 */
+	private transient ItemsWindow<ITEM> window;
+
+	/**
+	 * Whether an incremental refresh is in progress
+	 */
+	private transient boolean incrementalRefresh = false;
+
+	/**
+	 * Whether a refresh to realign the incremental updates with the backend is scheduled or in progress
+	 */
+	private transient boolean realigning = false;
+
+	/**
+	 * Count cap, <code>0</code> if disabled
+	 */
+	private int countCap = 0;
+
+	/**
+	 * Current count cap, grown while fetching near the end of the reported size
+	 */
+	private transient long currentCap = 0;
+
+	/**
+	 * Whether the last count exceeded the current cap
+	 */
+	private transient boolean capExceeded = false;
+
+	/**
+	 * Query filter the current cap refers to
+	 */
+	private transient Object capFilter;
+
+	/**
+	 * Whether a refresh to grow the current cap is scheduled or in progress
+	 */
+	private transient boolean growing = false;
+
 	/**
 	 * Constructor.
 	 * @param dataProvider Actual item data provider (not null)
@@ -132,6 +193,34 @@ public class ItemDataProviderAdapter<ITEM> extends AbstractBackEndDataProvider<I
 	 */
 	@Override
 	protected Stream<ITEM> fetchFromBackEnd(Query<ITEM, QueryFilter> query) {
+		checkCapGrowth(query);
+		if (incrementalUpdates) {
+			final ItemsWindow<ITEM> current = window;
+			if (current != null && current.adjusted && current.matches(query)) {
+				if (current.covers(query.getOffset(), query.getLimit())) {
+					return current.get(query.getOffset(), query.getLimit()).stream();
+				}
+				// the adjusted window is no longer aligned with the backend item positions
+				final List<ITEM> items = getDataProvider()
+						.load(getConfiguration(query), query.getOffset(), query.getLimit())
+						.collect(Collectors.toCollection(ArrayList::new));
+				if (!current.addedIds.isEmpty()) {
+					// already provided at the beginning of the item set
+					items.removeIf(i -> current.addedIds.contains(getId(i)));
+				}
+				scheduleRealign();
+				return items.stream();
+			}
+			final List<ITEM> items = getDataProvider()
+					.load(getConfiguration(query), query.getOffset(), query.getLimit()).collect(Collectors.toList());
+			if (current != null && current.matches(query)) {
+				current.setItems(query.getOffset(), items);
+			} else {
+				window = new ItemsWindow<>(query, -1);
+				window.setItems(query.getOffset(), items);
+			}
+			return items.stream();
+		}
 		return getDataProvider().load(getConfiguration(query), query.getOffset(), query.getLimit());
 	}
 
@@ -141,7 +230,255 @@ public class ItemDataProviderAdapter<ITEM> extends AbstractBackEndDataProvider<I
 	 */
 	@Override
 	protected int sizeInBackEnd(Query<ITEM, QueryFilter> query) {
-		return Long.valueOf(getDataProvider().size(getConfiguration(query))).intValue();
+		if (incrementalUpdates) {
+			final ItemsWindow<ITEM> current = window;
+			if (current != null && current.adjusted && current.matches(query) && current.size >= 0) {
+				return current.size;
+			}
+			final int size = count(query);
+			if (current != null && current.matches(query)) {
+				current.size = size;
+				current.adjusted = false;
+			} else {
+				window = new ItemsWindow<>(query, size);
+			}
+			return size;
+		}
+		return count(query);
+	}
+
+	/**
+	 * Count the items which match given query, using the current count cap if enabled.
+	 * @param query Data provider query
+	 * @return The item count, not greater than the current cap if capped
+	 */
+	private int count(Query<ITEM, QueryFilter> query) {
+		if (countCap <= 0) {
+			return Long.valueOf(getDataProvider().size(getConfiguration(query))).intValue();
+		}
+		final Object filter = query.getFilter().orElse(null);
+		if (currentCap <= 0 || filter != capFilter) {
+			currentCap = countCap;
+			capFilter = filter;
+		}
+		final long size = getDataProvider().size(getConfiguration(query), currentCap);
+		capExceeded = size > currentCap;
+		return (int) Math.min(Math.min(size, currentCap), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Check whether the rows requested by given query reach the end of the capped size and, if so, grow the current
+	 * cap and schedule a refresh to report the new size.
+	 * @param query Data provider query
+	 */
+	private void checkCapGrowth(Query<ITEM, QueryFilter> query) {
+		if (countCap > 0 && capExceeded && !growing && (long) query.getOffset() + query.getLimit() >= currentCap) {
+			final UI ui = UI.getCurrent();
+			if (ui != null) {
+				currentCap += countCap;
+				growing = true;
+				ui.access(() -> {
+					try {
+						refreshAll();
+					} finally {
+						growing = false;
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Schedule a full refresh to realign the item positions and count with the backend, if a UI is available.
+	 */
+	private void scheduleRealign() {
+		if (!realigning) {
+			final UI ui = UI.getCurrent();
+			if (ui != null) {
+				realigning = true;
+				ui.access(() -> {
+					try {
+						refreshAll();
+					} finally {
+						realigning = false;
+					}
+				});
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.data.provider.AbstractDataProvider#refreshAll()
+	 */
+	@Override
+	public void refreshAll() {
+		if (!incrementalRefresh) {
+			window = null;
+		}
+		if (!incrementalRefresh && !growing) {
+			currentCap = 0;
+			capExceeded = false;
+		}
+		super.refreshAll();
+	}
+
+	/**
+	 * Get whether incremental updates are enabled.
+	 * @return <code>true</code> if incremental updates are enabled
+	 */
+	public boolean isIncrementalUpdates() {
+		return incrementalUpdates;
+	}
+
+	/**
+	 * Set whether incremental updates are enabled.
+	 * @param incrementalUpdates <code>true</code> to enable incremental updates
+	 */
+	public void setIncrementalUpdates(boolean incrementalUpdates) {
+		this.incrementalUpdates = incrementalUpdates;
+		this.window = null;
+	}
+
+	/**
+	 * Get the count cap.
+	 * @return The count cap, <code>0</code> if disabled
+	 * @since 5.4.1
+	 */
+	public int getCountCap() {
+		return countCap;
+	}
+
+	/**
+	 * Set the count cap. When a count cap greater than <code>0</code> is set, the item set is not counted and the
+	 * reported size grows by the cap value as the rows near the end of the current size are fetched.
+	 * @param countCap The count cap, <code>0</code> to disable
+	 * @since 5.4.1
+	 */
+	public void setCountCap(int countCap) {
+		this.countCap = Math.max(0, countCap);
+		this.currentCap = 0;
+		this.capExceeded = false;
+	}
+
+	/**
+	 * Notify that an item was added to the backend, and refresh the data provider. When incremental updates are
+	 * enabled and the last fetched window is available, the item is inserted at the beginning of the item set and the
+	 * item count is incremented, without querying the backend again. When rows outside the adjusted window are fetched
+	 * afterwards, the added items are skipped, since they are already provided at the beginning of the item set, and a
+	 * full refresh is scheduled to realign the item positions with the backend.
+	 * @param item The added item (not null)
+	 * @return <code>true</code> if the update was applied incrementally, <code>false</code> if a full refresh was
+	 *         performed
+	 */
+	public boolean itemAdded(ITEM item) {
+		ObjectUtils.argumentNotNull(item, "Item must be not null");
+		final ItemsWindow<ITEM> current = window;
+		if (!incrementalUpdates || current == null || current.size < 0 || current.items == null) {
+			refreshAll();
+			return false;
+		}
+		current.size++;
+		current.addedIds.add(getId(item));
+		if (current.offset == 0) {
+			current.items.add(0, item);
+		} else {
+			// the item is placed before the window
+			current.offset++;
+		}
+		current.adjusted = true;
+		refreshIncremental();
+		return true;
+	}
+
+	/**
+	 * Notify that an item was removed from the backend, and refresh the data provider. When incremental updates are
+	 * enabled and the item is part of the last fetched window, the item is removed from the window and the item count
+	 * is decremented, without querying the backend again.
+	 * @param item The removed item (not null)
+	 * @return <code>true</code> if the update was applied incrementally, <code>false</code> if a full refresh was
+	 *         performed
+	 */
+	public boolean itemRemoved(ITEM item) {
+		ObjectUtils.argumentNotNull(item, "Item must be not null");
+		final ItemsWindow<ITEM> current = window;
+		if (incrementalUpdates && current != null && current.size > 0 && current.items != null) {
+			final Object id = getId(item);
+			for (int i = 0; i < current.items.size(); i++) {
+				if (id.equals(getId(current.items.get(i)))) {
+					current.items.remove(i);
+					current.addedIds.remove(id);
+					current.size--;
+					current.adjusted = true;
+					refreshIncremental();
+					return true;
+				}
+			}
+		}
+		refreshAll();
+		return false;
+	}
+
+	/**
+	 * Notify that the items which match given predicate were removed from the backend, and refresh the data provider.
+	 * When incremental updates are enabled and all the removed items are part of the last fetched window, the items
+	 * are removed from the window and the item count is decremented accordingly, without querying the backend again.
+	 * @param matcher The predicate to match the removed items (not null)
+	 * @param count The number of removed items
+	 * @return <code>true</code> if the update was applied incrementally, <code>false</code> if a full refresh was
+	 *         performed
+	 * @since 5.4.1
+	 */
+	public boolean itemsRemoved(Predicate<? super ITEM> matcher, int count) {
+		ObjectUtils.argumentNotNull(matcher, "Matcher must be not null");
+		final ItemsWindow<ITEM> current = window;
+		if (incrementalUpdates && current != null && current.size >= count && current.items != null) {
+			final List<ITEM> remaining = current.items.stream().filter(matcher.negate())
+					.collect(Collectors.toCollection(ArrayList::new));
+			if (current.items.size() - remaining.size() == count) {
+				current.items.stream().filter(matcher).forEach(i -> current.addedIds.remove(getId(i)));
+				current.items = remaining;
+				current.size -= count;
+				current.adjusted = true;
+				refreshIncremental();
+				return true;
+			}
+		}
+		refreshAll();
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.data.provider.AbstractDataProvider#refreshItem(java.lang.Object)
+	 */
+	@Override
+	public void refreshItem(ITEM item) {
+		ObjectUtils.argumentNotNull(item, "Item must be not null");
+		final ItemsWindow<ITEM> current = window;
+		if (current != null && current.items != null) {
+			// replace the fetched instance
+			final Object id = getId(item);
+			for (int i = 0; i < current.items.size(); i++) {
+				if (id.equals(getId(current.items.get(i)))) {
+					current.items.set(i, item);
+					break;
+				}
+			}
+		}
+		super.refreshItem(item);
+	}
+
+	/**
+	 * Refresh the data provider preserving the incremental updates state.
+	 */
+	private void refreshIncremental() {
+		incrementalRefresh = true;
+		try {
+			refreshAll();
+		} finally {
+			incrementalRefresh = false;
+		}
 	}
 
 	/*
@@ -233,4 +570,61 @@ public class ItemDataProviderAdapter<ITEM> extends AbstractBackEndDataProvider<I
 		return Optional.ofNullable(sort);
 	}
 
+	/**
+	 * Items window fetched for a data provider query.
+	 * @param <ITEM> Item type
+	 */
+	private static final class ItemsWindow<ITEM> {
+
+		private final Object filter;
+		private final List<String> sorts;
+		private final Set<Object> addedIds = new HashSet<>();
+
+		int size;
+		int offset;
+		List<ITEM> items;
+		boolean adjusted = false;
+
+		ItemsWindow(Query<ITEM, QueryFilter> query, int size) {
+			super();
+			this.filter = query.getFilter().orElse(null);
+			this.sorts = getSorts(query);
+			this.size = size;
+		}
+
+		void setItems(int offset, List<ITEM> items) {
+			this.offset = offset;
+			this.items = new ArrayList<>(items);
+			this.adjusted = false;
+			this.addedIds.clear();
+		}
+
+		boolean matches(Query<ITEM, QueryFilter> query) {
+			return query.getFilter().orElse(null) == filter && sorts.equals(getSorts(query));
+		}
+
+		boolean covers(int from, int limit) {
+			if (items == null || size < 0 || from < offset) {
+				return false;
+			}
+			final long to = Math.min((long) from + limit, size);
+			return to <= offset + items.size();
+		}
+
+		List<ITEM> get(int from, int limit) {
+			final int start = from - offset;
+			final int end = (int) Math.min(Math.min((long) from + limit, size) - offset, items.size());
+			return (start >= end) ? Collections.emptyList() : new ArrayList<>(items.subList(start, end));
+		}
+
+		private static <ITEM> List<String> getSorts(Query<ITEM, QueryFilter> query) {
+			if (query.getSortOrders() == null) {
+				return Collections.emptyList();
+			}
+			return query.getSortOrders().stream().map(o -> o.getSorted() + ":" + o.getDirection())
+					.collect(Collectors.toList());
+		}
+
+	}
+
 }
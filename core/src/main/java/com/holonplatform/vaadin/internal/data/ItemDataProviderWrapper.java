@@ -60,6 +60,16 @@ public class ItemDataProviderWrapper<ITEM, W> implements ItemDataProvider<ITEM>
 		return wrapped.size(configuration);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemSetCounter#size(com.holonplatform.core.query.QueryConfigurationProvider,
+	 * long)
+	 */
+	@Override
+	public long size(QueryConfigurationProvider configuration, long cap) throws DataAccessException {
+		return wrapped.size(configuration, cap);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.data.ItemSetLoader#load(com.holonplatform.core.query.QueryConfigurationProvider,
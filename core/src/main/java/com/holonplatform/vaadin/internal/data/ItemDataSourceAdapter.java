@@ -146,14 +146,11 @@ public class ItemDataSourceAdapter<ITEM> extends AbstractBackEndDataProvider<ITE
 			endIndex = size;
 		}
 
-		ArrayList<ITEM> rangeOfItems = new ArrayList<>();
-		for (int i = startIndex; i < endIndex; i++) {
-			ITEM item = getDataSource().getItemAt(i);
-			if (item == null) {
-				throw new RuntimeException("Unable to get item id for index: " + i + " from data source by index "
-						+ "even though data source size > endIndex. " + "Returned item was null.");
-			}
-			rangeOfItems.add(item);
+		final List<ITEM> rangeOfItems = getDataSource().getItems(startIndex, endIndex - startIndex);
+		if (rangeOfItems.size() < endIndex - startIndex || rangeOfItems.contains(null)) {
+			throw new RuntimeException("Unable to get items from index: " + startIndex + " to index: " + endIndex
+					+ " from data source even though data source size >= endIndex. " + "Returned items count was "
+					+ rangeOfItems.size());
 		}
 
 		return rangeOfItems;
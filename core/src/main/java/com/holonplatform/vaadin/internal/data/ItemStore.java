@@ -16,6 +16,7 @@
 package com.holonplatform.vaadin.internal.data;
 
 import java.io.Serializable;
+import java.util.Comparator;
 import java.util.List;
 
 import com.holonplatform.vaadin.data.ItemDataSource.ItemAction;
@@ -61,6 +62,38 @@ public interface ItemStore<ITEM> extends Serializable {
 	 */
 	void setMaxCacheSize(int maxCacheSize);
 
+	/**
+	 * Get the max query results count for which the whole result set is loaded in memory at once.
+	 * @return The in-memory threshold, <code>0</code> if the in-memory mode is disabled
+	 * @since 5.4.1
+	 */
+	int getInMemoryThreshold();
+
+	/**
+	 * Set the max query results count for which the whole result set is loaded in memory at once, instead of loading
+	 * the items lazily in batches. When the result set is loaded in memory, it can be sorted without querying the
+	 * backend again, using {@link #sortInMemory(Comparator)}.
+	 * @param inMemoryThreshold The in-memory threshold, <code>0</code> to disable the in-memory mode
+	 * @since 5.4.1
+	 */
+	void setInMemoryThreshold(int inMemoryThreshold);
+
+	/**
+	 * Checks whether the current query result set is entirely loaded in memory.
+	 * @return <code>true</code> if the whole result set is loaded in memory
+	 * @since 5.4.1
+	 */
+	boolean isInMemory();
+
+	/**
+	 * Sort the query result set in memory, if it is entirely loaded in memory. The pending changes are preserved and
+	 * the added items are kept at the beginning of the item set.
+	 * @param comparator The items comparator, <code>null</code> to restore the order in which the items were loaded
+	 * @return <code>true</code> if the items were sorted, <code>false</code> if the result set is not loaded in memory
+	 * @since 5.4.1
+	 */
+	boolean sortInMemory(Comparator<ITEM> comparator);
+
 	/**
 	 * Returns the number of items currently available in this strore
 	 * @return Number of available items
@@ -87,6 +120,16 @@ public interface ItemStore<ITEM> extends Serializable {
 	 */
 	ITEM getItem(int index);
 
+	/**
+	 * Gets the items in the given index range. The items which are not available in cache are loaded using as few
+	 * queries as possible.
+	 * @param offset The index of the first item (not negative)
+	 * @param count The max number of items to return (not negative)
+	 * @return The items in the range, which may be less than <code>count</code> if the range exceeds the store size.
+	 *         An empty List if none
+	 */
+	List<ITEM> getItems(int offset, int count);
+
 	/**
 	 * Adds the given item to the end of item set contained in this store
 	 * @param item The item to add
@@ -114,6 +157,16 @@ public interface ItemStore<ITEM> extends Serializable {
 	 */
 	void refreshItem(ITEM item);
 
+	/**
+	 * Refresh given item only if it is currently loaded in the store, i.e. it is cached and it has no pending local
+	 * changes. The items which are not loaded will be fetched from the backend when required, so they don't need to
+	 * be refreshed.
+	 * @param item Item to refresh (not null)
+	 * @return <code>true</code> if the item was loaded and it has been refreshed
+	 * @since 5.4.1
+	 */
+	boolean refreshLoadedItem(ITEM item);
+
 	/**
 	 * Removes item at given index.
 	 * @param index Index of the Item to be removed
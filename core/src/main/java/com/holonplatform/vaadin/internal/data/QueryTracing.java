@@ -0,0 +1,235 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.data;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.data.QueryTracer;
+import com.holonplatform.vaadin.data.QueryTracer.Operation;
+import com.holonplatform.vaadin.data.QueryTracer.QueryTrace;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.shared.Registration;
+
+/**
+ * Query tracing support: times the traced count and load operations and notifies the registered
+ * {@link QueryTracer}s.
+ * <p>
+ * When no tracer is registered, the operations are performed without any instrumentation.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public final class QueryTracing {
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Registered tracers
+	 */
+	private static final List<QueryTracer> TRACERS = new CopyOnWriteArrayList<>();
+
+	private QueryTracing() {
+	}
+
+	/**
+	 * Register a {@link QueryTracer}.
+	 * @param tracer The tracer to register (not null)
+	 * @return The tracer registration
+	 */
+	public static Registration register(QueryTracer tracer) {
+		ObjectUtils.argumentNotNull(tracer, "QueryTracer must be not null");
+		TRACERS.add(tracer);
+		return () -> TRACERS.remove(tracer);
+	}
+
+	/**
+	 * Checks whether the queries of given source have to be traced.
+	 * @param source The trace source name
+	 * @return <code>true</code> if the source is not <code>null</code> and at least one tracer is registered
+	 */
+	static boolean isTraced(String source) {
+		return source != null && !TRACERS.isEmpty();
+	}
+
+	/**
+	 * Perform and trace a count operation.
+	 * @param source The trace source name, <code>null</code> to not trace the operation
+	 * @param filter The effective query filter, if any
+	 * @param sort The effective query sort, if any
+	 * @param counter The count operation
+	 * @return The item count
+	 */
+	static long count(String source, Object filter, Object sort, LongSupplier counter) {
+		if (!isTraced(source)) {
+			return counter.getAsLong();
+		}
+		final long start = System.nanoTime();
+		long count = -1;
+		try {
+			count = counter.getAsLong();
+			return count;
+		} finally {
+			notifyTracers(new DefaultQueryTrace(source, Operation.COUNT, filter, sort, 0, 0, count, start));
+		}
+	}
+
+	/**
+	 * Perform and trace a load operation. When traced, the loaded items are collected in order to time the whole query
+	 * execution and to count the loaded rows.
+	 * @param <T> Item type
+	 * @param source The trace source name, <code>null</code> to not trace the operation
+	 * @param filter The effective query filter, if any
+	 * @param sort The effective query sort, if any
+	 * @param offset The query offset
+	 * @param limit The query limit, <code>0</code> if not limited
+	 * @param loader The load operation
+	 * @return The loaded items stream
+	 */
+	static <T> Stream<T> load(String source, Object filter, Object sort, int offset, int limit,
+			Supplier<Stream<T>> loader) {
+		if (!isTraced(source)) {
+			return loader.get();
+		}
+		final long start = System.nanoTime();
+		List<T> items = null;
+		try (Stream<T> stream = loader.get()) {
+			items = stream.collect(Collectors.toList());
+			return items.stream();
+		} finally {
+			notifyTracers(new DefaultQueryTrace(source, Operation.LOAD, filter, sort, offset, limit,
+					(items != null) ? items.size() : -1, start));
+		}
+	}
+
+	private static void notifyTracers(QueryTrace trace) {
+		for (QueryTracer tracer : TRACERS) {
+			try {
+				tracer.trace(trace);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Query tracer [" + tracer + "] failed for source [" + trace.getSource() + "]", e);
+			}
+		}
+	}
+
+	/**
+	 * Get a description of given query filter or sort.
+	 * @param value The value to describe
+	 * @return The value description, <code>null</code> if the value is <code>null</code> or empty
+	 */
+	private static String describe(Object value) {
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof QuerySortOrder) {
+			final QuerySortOrder order = (QuerySortOrder) value;
+			return order.getSorted() + " " + order.getDirection();
+		}
+		if (value instanceof Collection) {
+			final Collection<?> values = (Collection<?>) value;
+			return values.isEmpty() ? null
+					: values.stream().map(QueryTracing::describe).collect(Collectors.joining(", "));
+		}
+		return String.valueOf(value);
+	}
+
+	/**
+	 * Default {@link QueryTrace} implementation.
+	 */
+	private static final class DefaultQueryTrace implements QueryTrace {
+
+		private final String source;
+		private final Operation operation;
+		private final Object filter;
+		private final Object sort;
+		private final int offset;
+		private final int limit;
+		private final long rowCount;
+		private final long duration;
+
+		DefaultQueryTrace(String source, Operation operation, Object filter, Object sort, int offset, int limit,
+				long rowCount, long start) {
+			super();
+			this.source = source;
+			this.operation = operation;
+			this.filter = filter;
+			this.sort = sort;
+			this.offset = offset;
+			this.limit = limit;
+			this.rowCount = rowCount;
+			this.duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+		}
+
+		@Override
+		public String getSource() {
+			return source;
+		}
+
+		@Override
+		public Operation getOperation() {
+			return operation;
+		}
+
+		@Override
+		public Optional<String> getFilter() {
+			return Optional.ofNullable(describe(filter));
+		}
+
+		@Override
+		public Optional<String> getSort() {
+			return Optional.ofNullable(describe(sort));
+		}
+
+		@Override
+		public int getOffset() {
+			return offset;
+		}
+
+		@Override
+		public int getLimit() {
+			return limit;
+		}
+
+		@Override
+		public long getRowCount() {
+			return rowCount;
+		}
+
+		@Override
+		public long getDuration() {
+			return duration;
+		}
+
+		@Override
+		public String toString() {
+			return operation + " query from [" + source + "] in " + duration + " ms - filter: ["
+					+ getFilter().orElse("none") + "], sort: [" + getSort().orElse("none") + "], offset: " + offset
+					+ ", limit: " + limit + ", rows: " + rowCount;
+		}
+
+	}
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.data;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.vaadin.data.QueryTracer;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+
+/**
+ * A {@link QueryTracer} which logs a warning for each query which takes more than a threshold.
+ *
+ * @since 5.4.1
+ */
+public class SlowQueryLogger implements QueryTracer {
+
+	private static final long serialVersionUID = 2814526519310775126L;
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Slow query threshold in milliseconds
+	 */
+	private final long thresholdMillis;
+
+	/**
+	 * Constructor.
+	 * @param thresholdMillis Slow query threshold in milliseconds
+	 */
+	public SlowQueryLogger(long thresholdMillis) {
+		super();
+		this.thresholdMillis = thresholdMillis;
+	}
+
+	/**
+	 * Get the slow query threshold.
+	 * @return The slow query threshold in milliseconds
+	 */
+	public long getThresholdMillis() {
+		return thresholdMillis;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.QueryTracer#trace(com.holonplatform.vaadin.data.QueryTracer.QueryTrace)
+	 */
+	@Override
+	public void trace(QueryTrace trace) {
+		if (trace.getDuration() >= thresholdMillis) {
+			LOGGER.warn("Slow " + trace);
+		}
+	}
+
+}
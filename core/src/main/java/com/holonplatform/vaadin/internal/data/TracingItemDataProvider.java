@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.data;
+
+import java.util.stream.Stream;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.data.QueryTracer;
+
+/**
+ * An {@link ItemDataProvider} which traces the count and load operations of a wrapped provider using the registered
+ * {@link QueryTracer}s.
+ * 
+ * @param <ITEM> Item type
+ *
+ * @since 5.4.1
+ */
+public class TracingItemDataProvider<ITEM> implements ItemDataProvider<ITEM> {
+
+	private static final long serialVersionUID = 5390260447316914817L;
+
+	private final ItemDataProvider<ITEM> wrapped;
+	private final String source;
+
+	/**
+	 * Constructor
+	 * @param wrapped Wrapped provider (not null)
+	 * @param source Trace source name (not null)
+	 */
+	public TracingItemDataProvider(ItemDataProvider<ITEM> wrapped, String source) {
+		super();
+		ObjectUtils.argumentNotNull(wrapped, "Wrapped data provider must be not null");
+		ObjectUtils.argumentNotNull(source, "Trace source must be not null");
+		this.wrapped = wrapped;
+		this.source = source;
+	}
+
+	/**
+	 * Get the wrapped data provider.
+	 * @return the wrapped data provider
+	 */
+	public ItemDataProvider<ITEM> getWrapped() {
+		return wrapped;
+	}
+
+	/**
+	 * Get the trace source name.
+	 * @return the trace source name
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemSetCounter#size(com.holonplatform.core.query.QueryConfigurationProvider)
+	 */
+	@Override
+	public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+		return QueryTracing.count(source, configuration.getQueryFilter(), null, () -> wrapped.size(configuration));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemSetCounter#size(com.holonplatform.core.query.QueryConfigurationProvider,
+	 * long)
+	 */
+	@Override
+	public long size(QueryConfigurationProvider configuration, long cap) throws DataAccessException {
+		return QueryTracing.count(source, configuration.getQueryFilter(), null,
+				() -> wrapped.size(configuration, cap));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.data.ItemSetLoader#load(com.holonplatform.core.query.QueryConfigurationProvider,
+	 * int, int)
+	 */
+	@Override
+	public Stream<ITEM> load(QueryConfigurationProvider configuration, int offset, int limit)
+			throws DataAccessException {
+		return QueryTracing.load(source, configuration.getQueryFilter(), configuration.getQuerySort(), offset,
+				Math.max(0, limit), () -> wrapped.load(configuration, offset, limit));
+	}
+
+}
@@ -19,7 +19,10 @@ import com.holonplatform.vaadin.device.UserAgentInspector;
 import com.vaadin.server.VaadinRequest;
 
 /**
- * Helper class to obtain device informations using Browser user-agent string data
+ * Helper class to obtain device informations using Browser user-agent string data.
+ * <p>
+ * All the detection tokens are compiled into a multi-pattern matcher, so each header is scanned only once.
+ * </p>
  * 
  * @since 4.2.0
  */
@@ -105,6 +108,25 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 
 	private static final String disUpdate = "update"; // pda vs. update
 
+	/**
+	 * User-Agent tokens matcher
+	 */
+	private static final UserAgentTokenMatcher USER_AGENT_TOKENS = new UserAgentTokenMatcher(engineWebKit,
+			deviceIphone, deviceIpod, deviceIpad, deviceMacPpc, deviceAndroid, deviceGoogleTV, deviceHtcFlyer,
+			deviceSymbian, deviceS60, deviceS70, deviceS80, deviceS90, deviceWinPhone7, deviceWinMob, deviceWindows,
+			deviceIeMob, devicePpc, enginePie, deviceBB, deviceBBPlaybook, devicePalm, deviceWebOS, deviceWebOShp,
+			engineBlazer, engineXiino, deviceKindle, deviceNuvifone, deviceTablet, deviceBrew, deviceDanger,
+			deviceHiptop, devicePlaystation, deviceNintendoDs, deviceNintendo, deviceWii, deviceXbox, deviceArchos,
+			engineOpera, engineNetfront, engineUpBrowser, engineOpenWeb, deviceMidp, uplink, devicePda, mini, mobile,
+			mobi, maemo, linux, qtembedded, mylocom2, manuSonyEricsson, manuericsson, manuSamsung1, manuSony, manuHtc,
+			svcDocomo, svcKddi, svcVodafone, disUpdate);
+
+	/**
+	 * Accept header tokens matcher
+	 */
+	private static final UserAgentTokenMatcher ACCEPT_TOKENS = new UserAgentTokenMatcher(vndRIM, vndwap, wml,
+			deviceMidp);
+
 	/**
 	 * User-Agent header
 	 */
@@ -114,6 +136,15 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 	 */
 	private final String httpAcceptHeader;
 
+	/**
+	 * Tokens detected in the User-Agent header, used only at construction time
+	 */
+	private final transient long userAgentTokens;
+	/**
+	 * Tokens detected in the Accept header, used only at construction time
+	 */
+	private final transient long httpAcceptTokens;
+
 	private final boolean webKit;
 	private final boolean iPhone;
 	private final boolean iPad;
@@ -146,6 +177,9 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 	public DefaultUserAgentInspector(String userAgentHeader, String httpAcceptHeader) {
 		this.userAgentHeader = (userAgentHeader != null) ? userAgentHeader.toLowerCase() : "";
 		this.httpAcceptHeader = (httpAcceptHeader != null) ? httpAcceptHeader.toLowerCase() : "";
+		// match all the tokens with a single scan of each header
+		this.userAgentTokens = USER_AGENT_TOKENS.match(this.userAgentHeader);
+		this.httpAcceptTokens = ACCEPT_TOKENS.match(this.httpAcceptHeader);
 		// detect
 		this.webKit = detectWebkit();
 		this.iPad = detectIpad();
@@ -338,31 +372,39 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 
 	// ---------------------------------------------------------------------------
 
+	private boolean ua(String token) {
+		return (userAgentTokens & USER_AGENT_TOKENS.mask(token)) != 0;
+	}
+
+	private boolean accept(String token) {
+		return (httpAcceptTokens & ACCEPT_TOKENS.mask(token)) != 0;
+	}
+
 	private boolean detectIphone() {
-		return userAgentHeader.indexOf(deviceIphone) != -1 && !iPad && !iPod;
+		return ua(deviceIphone) && !iPad && !iPod;
 	}
 
 	private boolean detectIpod() {
-		return userAgentHeader.indexOf(deviceIpod) != -1;
+		return ua(deviceIpod);
 	}
 
 	private boolean detectIpad() {
-		return webKit && userAgentHeader.indexOf(deviceIpad) != -1;
+		return webKit && ua(deviceIpad);
 	}
 
 	private boolean detectAndroid() {
-		if ((userAgentHeader.indexOf(deviceAndroid) != -1) || detectGoogleTV()) {
+		if (ua(deviceAndroid) || detectGoogleTV()) {
 			return true;
 		}
 		// Special check for the HTC Flyer 7" tablet
-		if (userAgentHeader.indexOf(deviceHtcFlyer) != -1) {
+		if (ua(deviceHtcFlyer)) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectAndroidPhone() {
-		if (android && (userAgentHeader.indexOf(mobile) != -1)) {
+		if (android && ua(mobile)) {
 			return true;
 		}
 		// Special check for Android phones with Opera Mobile.
@@ -381,39 +423,37 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 			return false;
 		}
 		// Special check for the HTC Flyer 7" tablet
-		if (userAgentHeader.indexOf(deviceHtcFlyer) != -1) {
+		if (ua(deviceHtcFlyer)) {
 			return false;
 		}
 		// if it's Android and does NOT have 'mobile' in it, Google says it's a tablet.
-		if ((userAgentHeader.indexOf(mobile) > -1)) {
+		if (ua(mobile)) {
 			return false;
 		}
 		return true;
 	}
 
 	private boolean detectGoogleTV() {
-		return userAgentHeader.indexOf(deviceGoogleTV) != -1;
+		return ua(deviceGoogleTV);
 	}
 
 	private boolean detectWebkit() {
-		return userAgentHeader.indexOf(engineWebKit) != -1;
+		return ua(engineWebKit);
 	}
 
 	private boolean detectS60OssBrowser() {
-		return webKit && (userAgentHeader.indexOf(deviceSymbian) != -1 || userAgentHeader.indexOf(deviceS60) != -1);
+		return webKit && (ua(deviceSymbian) || ua(deviceS60));
 	}
 
 	private boolean detectSymbianOS() {
-		if (userAgentHeader.indexOf(deviceSymbian) != -1 || userAgentHeader.indexOf(deviceS60) != -1
-				|| userAgentHeader.indexOf(deviceS70) != -1 || userAgentHeader.indexOf(deviceS80) != -1
-				|| userAgentHeader.indexOf(deviceS90) != -1) {
+		if (ua(deviceSymbian) || ua(deviceS60) || ua(deviceS70) || ua(deviceS80) || ua(deviceS90)) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectWindowsPhone7() {
-		return userAgentHeader.indexOf(deviceWinPhone7) != -1;
+		return ua(deviceWinPhone7);
 	}
 
 	private boolean detectWindowsMobile() {
@@ -421,29 +461,26 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 		if (detectWindowsPhone7()) {
 			return false;
 		}
-		if (userAgentHeader.indexOf(deviceWinMob) != -1 || userAgentHeader.indexOf(deviceIeMob) != -1
-				|| userAgentHeader.indexOf(enginePie) != -1
-				|| (userAgentHeader.indexOf(manuHtc) != -1 && userAgentHeader.indexOf(deviceWindows) != -1)
-				|| (detectWapWml() && userAgentHeader.indexOf(deviceWindows) != -1)) {
+		if (ua(deviceWinMob) || ua(deviceIeMob) || ua(enginePie) || (ua(manuHtc) && ua(deviceWindows))
+				|| (detectWapWml() && ua(deviceWindows))) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(devicePpc) != -1 && !(userAgentHeader.indexOf(deviceMacPpc) != -1)) {
+		if (ua(devicePpc) && !ua(deviceMacPpc)) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectBlackBerry() {
-		return userAgentHeader.indexOf(deviceBB) != -1 || httpAcceptHeader.indexOf(vndRIM) != -1;
+		return ua(deviceBB) || accept(vndRIM);
 	}
 
 	private boolean detectBlackBerryTablet() {
-		return userAgentHeader.indexOf(deviceBBPlaybook) != -1;
+		return ua(deviceBBPlaybook);
 	}
 
 	private boolean detectPalmOS() {
-		if (userAgentHeader.indexOf(devicePalm) != -1 || userAgentHeader.indexOf(engineBlazer) != -1
-				|| userAgentHeader.indexOf(engineXiino) != -1) {
+		if (ua(devicePalm) || ua(engineBlazer) || ua(engineXiino)) {
 			// Make sure it's not WebOS first
 			if (detectPalmWebOS()) {
 				return false;
@@ -454,44 +491,42 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 	}
 
 	private boolean detectPalmWebOS() {
-		return userAgentHeader.indexOf(deviceWebOS) != -1;
+		return ua(deviceWebOS);
 	}
 
 	private boolean detectWebOSTablet() {
-		if (userAgentHeader.indexOf(deviceWebOShp) != -1 && userAgentHeader.indexOf(deviceTablet) != -1) {
+		if (ua(deviceWebOShp) && ua(deviceTablet)) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectGarminNuvifone() {
-		return userAgentHeader.indexOf(deviceNuvifone) != -1;
+		return ua(deviceNuvifone);
 	}
 
 	private boolean detectBrewDevice() {
-		return userAgentHeader.indexOf(deviceBrew) != -1;
+		return ua(deviceBrew);
 	}
 
 	private boolean detectDangerHiptop() {
-		return userAgentHeader.indexOf(deviceDanger) != -1 || userAgentHeader.indexOf(deviceHiptop) != -1;
+		return ua(deviceDanger) || ua(deviceHiptop);
 	}
 
 	private boolean detectOperaMobile() {
-		return userAgentHeader.indexOf(engineOpera) != -1
-				&& (userAgentHeader.indexOf(mini) != -1 || userAgentHeader.indexOf(mobi) != -1);
+		return ua(engineOpera) && (ua(mini) || ua(mobi));
 	}
 
 	private boolean detectOperaAndroidPhone() {
-		return userAgentHeader.indexOf(engineOpera) != -1
-				&& (userAgentHeader.indexOf(deviceAndroid) != -1 && userAgentHeader.indexOf(mobi) != -1);
+		return ua(engineOpera) && ua(deviceAndroid) && ua(mobi);
 	}
 
 	private boolean detectWapWml() {
-		return httpAcceptHeader.indexOf(vndwap) != -1 || httpAcceptHeader.indexOf(wml) != -1;
+		return accept(vndwap) || accept(wml);
 	}
 
 	private boolean detectKindle() {
-		return userAgentHeader.indexOf(deviceKindle) != -1 && !detectAndroid();
+		return ua(deviceKindle) && !detectAndroid();
 	}
 
 	private boolean detectMobile() {
@@ -504,81 +539,77 @@ public class DefaultUserAgentInspector implements UserAgentInspector {
 		if (detectWapWml() || detectBrewDevice() || detectOperaMobile() || detectSonyMylo()) {
 			return true;
 		}
-		if ((userAgentHeader.indexOf(engineNetfront) != -1) || (userAgentHeader.indexOf(engineUpBrowser) != -1)
-				|| (userAgentHeader.indexOf(engineOpenWeb) != -1)) {
+		if (ua(engineNetfront) || ua(engineUpBrowser) || ua(engineOpenWeb)) {
 			return true;
 		}
 		if (detectDangerHiptop() || detectMidpCapable() || detectMaemoTablet() || detectArchos()) {
 			return true;
 		}
-		if ((userAgentHeader.indexOf(devicePda) != -1) && (userAgentHeader.indexOf(disUpdate) < 0)) {
+		if (ua(devicePda) && !ua(disUpdate)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(mobile) != -1) {
+		if (ua(mobile)) {
 			return true;
 		}
 		// older phones
-		if (userAgentHeader.indexOf(uplink) != -1) {
+		if (ua(uplink)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(manuSonyEricsson) != -1) {
+		if (ua(manuSonyEricsson)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(manuericsson) != -1) {
+		if (ua(manuericsson)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(manuSamsung1) != -1) {
+		if (ua(manuSamsung1)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(svcDocomo) != -1) {
+		if (ua(svcDocomo)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(svcKddi) != -1) {
+		if (ua(svcKddi)) {
 			return true;
 		}
-		if (userAgentHeader.indexOf(svcVodafone) != -1) {
+		if (ua(svcVodafone)) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectSonyPlaystation() {
-		return userAgentHeader.indexOf(devicePlaystation) != -1;
+		return ua(devicePlaystation);
 	}
 
 	private boolean detectNintendo() {
-		return userAgentHeader.indexOf(deviceNintendo) != -1 || userAgentHeader.indexOf(deviceWii) != -1
-				|| userAgentHeader.indexOf(deviceNintendoDs) != -1;
+		return ua(deviceNintendo) || ua(deviceWii) || ua(deviceNintendoDs);
 	}
 
 	private boolean detectXbox() {
-		return userAgentHeader.indexOf(deviceXbox) != -1;
+		return ua(deviceXbox);
 	}
 
 	private boolean detectMidpCapable() {
-		if (userAgentHeader.indexOf(deviceMidp) != -1 || httpAcceptHeader.indexOf(deviceMidp) != -1) {
+		if (ua(deviceMidp) || accept(deviceMidp)) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectMaemoTablet() {
-		if (userAgentHeader.indexOf(maemo) != -1) {
+		if (ua(maemo)) {
 			return true;
-		} else if (userAgentHeader.indexOf(linux) != -1 && userAgentHeader.indexOf(deviceTablet) != -1
-				&& !detectWebOSTablet() && !detectAndroid()) {
+		} else if (ua(linux) && ua(deviceTablet) && !detectWebOSTablet() && !detectAndroid()) {
 			return true;
 		}
 		return false;
 	}
 
 	private boolean detectArchos() {
-		return userAgentHeader.indexOf(deviceArchos) != -1;
+		return ua(deviceArchos);
 	}
 
 	private boolean detectSonyMylo() {
-		if (userAgentHeader.indexOf(manuSony) != -1
-				&& (userAgentHeader.indexOf(qtembedded) != -1 || userAgentHeader.indexOf(mylocom2) != -1)) {
+		if (ua(manuSony) && (ua(qtembedded) || ua(mylocom2))) {
 			return true;
 		}
 		return false;
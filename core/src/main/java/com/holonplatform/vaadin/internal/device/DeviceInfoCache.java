@@ -0,0 +1,174 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.device;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.holonplatform.vaadin.device.DeviceInfo;
+import com.holonplatform.vaadin.device.UserAgentInspector;
+
+/**
+ * Application-wide, bounded and thread-safe cache of the {@link DeviceInfo} instances, keyed by the User-Agent and
+ * Accept header values.
+ * <p>
+ * Since real traffic comes from a limited set of distinct User-Agents, the device detection is performed only once for
+ * each headers combination and the immutable result is shared among sessions. When the cache size limit is reached,
+ * some entries are evicted to make room for the new ones. Headers longer than {@link #MAX_HEADER_LENGTH} are never
+ * cached.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public final class DeviceInfoCache {
+
+	/**
+	 * Max cache size
+	 */
+	public static final int MAX_SIZE = 512;
+
+	/**
+	 * Max header value length for a cacheable entry
+	 */
+	public static final int MAX_HEADER_LENGTH = 512;
+
+	/**
+	 * Cached instances
+	 */
+	private static final ConcurrentMap<CacheKey, DefaultDeviceInfo> CACHE = new ConcurrentHashMap<>(64);
+
+	private DeviceInfoCache() {
+	}
+
+	/**
+	 * Get the {@link DeviceInfo} which corresponds to given header values, detecting it only if not already cached.
+	 * @param userAgentHeader the User-Agent header
+	 * @param httpAcceptHeader the Accept header
+	 * @return The {@link DeviceInfo}
+	 */
+	public static DeviceInfo get(String userAgentHeader, String httpAcceptHeader) {
+		return getDeviceInfo(userAgentHeader, httpAcceptHeader);
+	}
+
+	/**
+	 * Get the {@link UserAgentInspector} which corresponds to given header values, detecting it only if not already
+	 * cached.
+	 * @param userAgentHeader the User-Agent header
+	 * @param httpAcceptHeader the Accept header
+	 * @return The {@link UserAgentInspector}
+	 */
+	public static UserAgentInspector getUserAgentInspector(String userAgentHeader, String httpAcceptHeader) {
+		return getDeviceInfo(userAgentHeader, httpAcceptHeader).getUserAgentInspector();
+	}
+
+	/**
+	 * Get the current cache size.
+	 * @return the number of cached entries
+	 */
+	public static int size() {
+		return CACHE.size();
+	}
+
+	/**
+	 * Clear the cache.
+	 */
+	public static void clear() {
+		CACHE.clear();
+	}
+
+	private static DefaultDeviceInfo getDeviceInfo(String userAgentHeader, String httpAcceptHeader) {
+		final String ua = (userAgentHeader != null) ? userAgentHeader : "";
+		final String accept = (httpAcceptHeader != null) ? httpAcceptHeader : "";
+		if (ua.length() > MAX_HEADER_LENGTH || accept.length() > MAX_HEADER_LENGTH) {
+			return detect(ua, accept);
+		}
+		final CacheKey key = new CacheKey(ua, accept);
+		DefaultDeviceInfo deviceInfo = CACHE.get(key);
+		if (deviceInfo == null) {
+			deviceInfo = detect(ua, accept);
+			if (CACHE.size() >= MAX_SIZE) {
+				evict();
+			}
+			final DefaultDeviceInfo existing = CACHE.putIfAbsent(key, deviceInfo);
+			if (existing != null) {
+				deviceInfo = existing;
+			}
+		}
+		return deviceInfo;
+	}
+
+	private static DefaultDeviceInfo detect(String userAgentHeader, String httpAcceptHeader) {
+		return new DefaultDeviceInfo(new DefaultUserAgentInspector(userAgentHeader, httpAcceptHeader));
+	}
+
+	/**
+	 * Remove a quarter of the cached entries, in iteration order.
+	 */
+	private static void evict() {
+		int count = MAX_SIZE / 4;
+		final Iterator<CacheKey> iterator = CACHE.keySet().iterator();
+		while (count-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Cache key.
+	 */
+	private static final class CacheKey {
+
+		private final String userAgentHeader;
+		private final String httpAcceptHeader;
+		private final int hash;
+
+		CacheKey(String userAgentHeader, String httpAcceptHeader) {
+			super();
+			this.userAgentHeader = userAgentHeader;
+			this.httpAcceptHeader = httpAcceptHeader;
+			this.hash = 31 * userAgentHeader.hashCode() + httpAcceptHeader.hashCode();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CacheKey)) {
+				return false;
+			}
+			final CacheKey other = (CacheKey) obj;
+			return hash == other.hash && userAgentHeader.equals(other.userAgentHeader)
+					&& httpAcceptHeader.equals(other.httpAcceptHeader);
+		}
+
+	}
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.device;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multi-pattern matcher which compiles a set of lower case tokens into an Aho-Corasick automaton, in order to detect
+ * all the tokens contained in a header value with a single scan.
+ * <p>
+ * The match result is a bit mask, where each bit corresponds to a token, in the same order in which the tokens were
+ * provided at construction time. For this reason, at most 64 tokens are supported.
+ * </p>
+ * <p>
+ * The matcher is immutable and thread-safe.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+final class UserAgentTokenMatcher {
+
+	/**
+	 * Max supported tokens
+	 */
+	private static final int MAX_TOKENS = Long.SIZE;
+
+	/**
+	 * Token to bit mask
+	 */
+	private final Map<String, Long> masks;
+
+	/**
+	 * Character to alphabet symbol index (0 means a character not contained in any token)
+	 */
+	private final int[] symbols;
+
+	/**
+	 * Alphabet size
+	 */
+	private final int alphabetSize;
+
+	/**
+	 * Compiled transitions: state * alphabetSize + symbol -> next state
+	 */
+	private final int[] transitions;
+
+	/**
+	 * Matched tokens mask for each state, including the ones inherited through failure links
+	 */
+	private final long[] outputs;
+
+	/**
+	 * Constructor
+	 * @param tokens The tokens to match, in lower case (not null)
+	 */
+	UserAgentTokenMatcher(String... tokens) {
+		super();
+		if (tokens == null || tokens.length == 0) {
+			throw new IllegalArgumentException("At least one token is required");
+		}
+		if (tokens.length > MAX_TOKENS) {
+			throw new IllegalArgumentException("Too many tokens: max supported tokens count is " + MAX_TOKENS);
+		}
+		// alphabet
+		char maxChar = 0;
+		for (String token : tokens) {
+			if (token == null || token.isEmpty()) {
+				throw new IllegalArgumentException("Tokens must be not null and not empty");
+			}
+			for (int i = 0; i < token.length(); i++) {
+				maxChar = (char) Math.max(maxChar, token.charAt(i));
+			}
+		}
+		this.symbols = new int[maxChar + 1];
+		int size = 1;
+		for (String token : tokens) {
+			for (int i = 0; i < token.length(); i++) {
+				if (symbols[token.charAt(i)] == 0) {
+					symbols[token.charAt(i)] = size++;
+				}
+			}
+		}
+		this.alphabetSize = size;
+
+		// trie
+		final List<int[]> gotos = new ArrayList<>();
+		final List<Long> out = new ArrayList<>();
+		gotos.add(newState());
+		out.add(0L);
+		this.masks = new HashMap<>(tokens.length * 2);
+		for (int t = 0; t < tokens.length; t++) {
+			final String token = tokens[t];
+			int state = 0;
+			for (int i = 0; i < token.length(); i++) {
+				final int symbol = symbols[token.charAt(i)];
+				int next = gotos.get(state)[symbol];
+				if (next < 0) {
+					next = gotos.size();
+					gotos.add(newState());
+					out.add(0L);
+					gotos.get(state)[symbol] = next;
+				}
+				state = next;
+			}
+			final long mask = 1L << t;
+			out.set(state, out.get(state) | mask);
+			masks.merge(token, mask, (m1, m2) -> m1 | m2);
+		}
+
+		// failure links, breadth first, producing a complete transition table
+		final int states = gotos.size();
+		this.transitions = new int[states * alphabetSize];
+		this.outputs = new long[states];
+		final int[] failures = new int[states];
+		final Deque<Integer> queue = new ArrayDeque<>();
+		for (int symbol = 0; symbol < alphabetSize; symbol++) {
+			final int next = gotos.get(0)[symbol];
+			if (next < 0) {
+				transitions[symbol] = 0;
+			} else {
+				transitions[symbol] = next;
+				failures[next] = 0;
+				queue.add(next);
+			}
+		}
+		outputs[0] = out.get(0);
+		while (!queue.isEmpty()) {
+			final int state = queue.poll();
+			outputs[state] = out.get(state) | outputs[failures[state]];
+			for (int symbol = 0; symbol < alphabetSize; symbol++) {
+				final int next = gotos.get(state)[symbol];
+				if (next < 0) {
+					transitions[state * alphabetSize + symbol] = transitions[failures[state] * alphabetSize + symbol];
+				} else {
+					transitions[state * alphabetSize + symbol] = next;
+					failures[next] = transitions[failures[state] * alphabetSize + symbol];
+					queue.add(next);
+				}
+			}
+		}
+	}
+
+	private int[] newState() {
+		final int[] state = new int[alphabetSize];
+		Arrays.fill(state, -1);
+		return state;
+	}
+
+	/**
+	 * Get the bit mask which represents given token.
+	 * @param token The token
+	 * @return The token bit mask
+	 * @throws IllegalArgumentException If given token was not registered in this matcher
+	 */
+	long mask(String token) {
+		final Long mask = masks.get(token);
+		if (mask == null) {
+			throw new IllegalArgumentException("Token [" + token + "] is not registered in matcher");
+		}
+		return mask.longValue();
+	}
+
+	/**
+	 * Scan given text and return the bit mask of all the tokens it contains.
+	 * @param text The text to scan, in lower case
+	 * @return The matched tokens bit mask, <code>0</code> if no token matches or the text is <code>null</code>
+	 */
+	long match(String text) {
+		if (text == null) {
+			return 0L;
+		}
+		long matched = 0L;
+		int state = 0;
+		final int length = text.length();
+		for (int i = 0; i < length; i++) {
+			final char c = text.charAt(i);
+			final int symbol = (c < symbols.length) ? symbols[c] : 0;
+			state = transitions[state * alphabetSize + symbol];
+			matched |= outputs[state];
+		}
+		return matched;
+	}
+
+}
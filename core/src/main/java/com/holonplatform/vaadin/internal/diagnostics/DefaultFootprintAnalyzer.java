@@ -0,0 +1,357 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.diagnostics;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Member;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.diagnostics.FootprintAnalyzer;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
+import com.holonplatform.vaadin.diagnostics.FootprintReport;
+import com.holonplatform.vaadin.diagnostics.FootprintReport.Type;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.vaadin.server.VaadinService;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.HasComponents;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.Window;
+
+/**
+ * Default {@link FootprintAnalyzer} implementation.
+ * <p>
+ * The retained size of each object is attributed only once, to the first node which reaches it: the analysis
+ * proceeds bottom-up, so the structures and the nested components are attributed before their containers. The
+ * structures of a component are attributed before its nested components, so that they are not attributed to a nested
+ * component which refers to them, for example through a listener.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public class DefaultFootprintAnalyzer implements FootprintAnalyzer {
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Package prefix used to detect Holon components
+	 */
+	private static final String HOLON_PACKAGE_PREFIX = "com.holonplatform.";
+
+	/**
+	 * Types never walked
+	 */
+	private static final Set<Class<?>> DEFAULT_EXCLUDED_TYPES = Collections
+			.unmodifiableSet(new HashSet<>(Arrays.asList(VaadinService.class, Datastore.class,
+					Logger.class, Member.class, MethodHandle.class)));
+
+	private final boolean computeSerializedSize;
+	private final int maxObjects;
+	private final Set<Class<?>> excludedTypes;
+
+	/**
+	 * Constructor
+	 * @param computeSerializedSize Whether to compute the serialized sizes
+	 * @param maxObjects Max objects to walk for each analysis
+	 * @param excludedTypes Additional types to exclude from the analysis
+	 */
+	public DefaultFootprintAnalyzer(boolean computeSerializedSize, int maxObjects, Set<Class<?>> excludedTypes) {
+		super();
+		this.computeSerializedSize = computeSerializedSize;
+		this.maxObjects = maxObjects;
+		final Set<Class<?>> types = new HashSet<>(DEFAULT_EXCLUDED_TYPES);
+		if (excludedTypes != null) {
+			types.addAll(excludedTypes);
+		}
+		this.excludedTypes = Collections.unmodifiableSet(types);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintAnalyzer#analyze(com.vaadin.server.VaadinSession)
+	 */
+	@Override
+	public FootprintReport analyze(VaadinSession session) {
+		ObjectUtils.argumentNotNull(session, "VaadinSession must be not null");
+		session.lock();
+		try {
+			final ObjectGraphSizer sizer = new ObjectGraphSizer(excludedTypes, maxObjects);
+			final DefaultFootprintReport report = new DefaultFootprintReport(Type.SESSION, getSessionName(session),
+					session.getClass().getName());
+			final Collection<UI> uis = session.getUIs();
+			for (UI ui : uis) {
+				report.addChild(analyze(sizer, ui));
+			}
+			report.setElements(uis.size());
+			report.setEstimatedBytes(report.getChildrenEstimatedBytes() + sizer.size(session, session));
+			report.setTruncated(sizer.isTruncated());
+			if (computeSerializedSize) {
+				sizer.serializedSize(session, session, report);
+			}
+			return report;
+		} finally {
+			session.unlock();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintAnalyzer#analyze(com.vaadin.ui.UI)
+	 */
+	@Override
+	public FootprintReport analyze(UI ui) {
+		ObjectUtils.argumentNotNull(ui, "UI must be not null");
+		final VaadinSession session = ui.getSession();
+		if (session != null) {
+			session.lock();
+		}
+		try {
+			return analyze(new ObjectGraphSizer(excludedTypes, maxObjects), ui);
+		} finally {
+			if (session != null) {
+				session.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Analyze a UI.
+	 * @param sizer Sizer
+	 * @param ui The UI
+	 * @return The UI report
+	 */
+	private DefaultFootprintReport analyze(ObjectGraphSizer sizer, UI ui) {
+		final DefaultFootprintReport report = new DefaultFootprintReport(Type.UI,
+				ui.getClass().getSimpleName() + "#" + ui.getUIId(), ui.getClass().getName());
+		// components
+		if (ui.getContent() != null) {
+			analyzeComponents(sizer, ui, ui.getContent(), report);
+		}
+		for (Window window : ui.getWindows()) {
+			analyzeComponents(sizer, ui, window, report);
+		}
+		// navigator
+		if (ui.getNavigator() != null) {
+			final Object navigator = ui.getNavigator();
+			final DefaultFootprintReport navigatorReport = new DefaultFootprintReport(Type.NAVIGATOR,
+					navigator.getClass().getSimpleName(), navigator.getClass().getName());
+			addStructures(sizer, ui, navigator, ui, navigatorReport, Collections.newSetFromMap(new IdentityHashMap<>()));
+			navigatorReport.setEstimatedBytes(navigatorReport.getChildrenEstimatedBytes() + sizer.size(navigator, ui));
+			report.addChild(navigatorReport);
+		}
+		report.setEstimatedBytes(report.getChildrenEstimatedBytes() + sizer.size(ui, ui));
+		report.setTruncated(sizer.isTruncated());
+		if (computeSerializedSize) {
+			sizer.serializedSize(ui, ui, report);
+		}
+		return report;
+	}
+
+	/**
+	 * Analyze a component hierarchy: Holon components produce a report node, while other components are flattened
+	 * into the parent node.
+	 * @param sizer Sizer
+	 * @param ui Current UI
+	 * @param component Component to analyze
+	 * @param parent Parent report
+	 */
+	private void analyzeComponents(ObjectGraphSizer sizer, UI ui, Component component, DefaultFootprintReport parent) {
+		if (isReportedComponent(component)) {
+			final DefaultFootprintReport report = new DefaultFootprintReport(Type.COMPONENT,
+					getComponentName(component), component.getClass().getName());
+			// structures first, stopping at the attached components, which are reported by the component tree
+			addStructures(sizer, ui, component, null, report, Collections.newSetFromMap(new IdentityHashMap<>()));
+			analyzeChildren(sizer, ui, component, report);
+			report.setEstimatedBytes(report.getChildrenEstimatedBytes() + sizer.size(component, component));
+			if (computeSerializedSize) {
+				sizer.serializedSize(component, component, report);
+			}
+			parent.addChild(report);
+		} else {
+			analyzeChildren(sizer, ui, component, parent);
+		}
+	}
+
+	private void analyzeChildren(ObjectGraphSizer sizer, UI ui, Component component,
+			DefaultFootprintReport parent) {
+		if (component instanceof HasComponents) {
+			for (Component child : (HasComponents) component) {
+				analyzeComponents(sizer, ui, child, parent);
+			}
+		}
+	}
+
+	/**
+	 * Add the structures declared by given object, if it is a {@link FootprintContributor}, as children of given
+	 * report.
+	 * @param sizer Sizer
+	 * @param ui Current UI
+	 * @param object Object
+	 * @param owner Walk owner, <code>null</code> to stop the walk at any component attached to a UI
+	 * @param report Parent report
+	 * @param contributors Already processed contributors
+	 */
+	private void addStructures(ObjectGraphSizer sizer, UI ui, Object object, Object owner,
+			DefaultFootprintReport report, Set<Object> contributors) {
+		if (!(object instanceof FootprintContributor) || !contributors.add(object)) {
+			return;
+		}
+		final Map<String, Object> structures = new LinkedHashMap<>();
+		try {
+			((FootprintContributor) object).contributeFootprint(new DefaultCollector(ui, structures));
+		} catch (RuntimeException e) {
+			LOGGER.warn("Failed to collect the footprint structures of [" + object + "]", e);
+			return;
+		}
+		for (Entry<String, Object> entry : structures.entrySet()) {
+			final Object structure = entry.getValue();
+			if (structure == null || sizer.isVisited(structure)) {
+				continue;
+			}
+			final DefaultFootprintReport structureReport = new DefaultFootprintReport(Type.STRUCTURE,
+					entry.getKey(), structure.getClass().getName());
+			structureReport.setElements(ObjectGraphSizer.getElements(structure));
+			if (!(structure instanceof Component)) {
+				addStructures(sizer, ui, structure, owner, structureReport, contributors);
+			}
+			structureReport.setEstimatedBytes(
+					structureReport.getChildrenEstimatedBytes() + sizer.size(structure, owner));
+			report.addChild(structureReport);
+		}
+	}
+
+	private static boolean isReportedComponent(Component component) {
+		return component instanceof FootprintContributor
+				|| component.getClass().getName().startsWith(HOLON_PACKAGE_PREFIX);
+	}
+
+	private static String getComponentName(Component component) {
+		if (component.getId() != null) {
+			return component.getId();
+		}
+		if (component.getCaption() != null && !component.getCaption().trim().isEmpty()) {
+			return component.getCaption();
+		}
+		return component.getClass().getSimpleName();
+	}
+
+	private static String getSessionName(VaadinSession session) {
+		try {
+			if (session.getSession() != null) {
+				return session.getSession().getId();
+			}
+		} catch (IllegalStateException e) {
+			// session invalidated
+		}
+		return session.getClass().getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(session));
+	}
+
+	/**
+	 * Default {@link FootprintContributor.Collector}.
+	 */
+	private static final class DefaultCollector implements FootprintContributor.Collector {
+
+		private final UI ui;
+		private final Map<String, Object> structures;
+
+		DefaultCollector(UI ui, Map<String, Object> structures) {
+			super();
+			this.ui = ui;
+			this.structures = structures;
+		}
+
+		@Override
+		public Optional<UI> getUI() {
+			return Optional.ofNullable(ui);
+		}
+
+		@Override
+		public void add(String name, Object structure) {
+			ObjectUtils.argumentNotNull(name, "Structure name must be not null");
+			if (structure != null) {
+				structures.put(name, structure);
+			}
+		}
+
+	}
+
+	/**
+	 * Default {@link FootprintAnalyzer.Builder}.
+	 */
+	public static class DefaultBuilder implements FootprintAnalyzer.Builder {
+
+		private boolean computeSerializedSize = true;
+		private int maxObjects = DEFAULT_MAX_OBJECTS;
+		private final Set<Class<?>> excludedTypes = new HashSet<>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.diagnostics.FootprintAnalyzer.Builder#computeSerializedSize(boolean)
+		 */
+		@Override
+		public FootprintAnalyzer.Builder computeSerializedSize(boolean computeSerializedSize) {
+			this.computeSerializedSize = computeSerializedSize;
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.diagnostics.FootprintAnalyzer.Builder#maxObjects(int)
+		 */
+		@Override
+		public FootprintAnalyzer.Builder maxObjects(int maxObjects) {
+			if (maxObjects < 1) {
+				throw new IllegalArgumentException("Max objects must be greater than 0");
+			}
+			this.maxObjects = maxObjects;
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.diagnostics.FootprintAnalyzer.Builder#exclude(java.lang.Class)
+		 */
+		@Override
+		public FootprintAnalyzer.Builder exclude(Class<?> type) {
+			ObjectUtils.argumentNotNull(type, "Type to exclude must be not null");
+			this.excludedTypes.add(type);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.diagnostics.FootprintAnalyzer.Builder#build()
+		 */
+		@Override
+		public FootprintAnalyzer build() {
+			return new DefaultFootprintAnalyzer(computeSerializedSize, maxObjects, excludedTypes);
+		}
+
+	}
+
+}
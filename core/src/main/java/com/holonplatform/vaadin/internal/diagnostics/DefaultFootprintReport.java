@@ -0,0 +1,318 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.vaadin.diagnostics.FootprintReport;
+
+/**
+ * Default {@link FootprintReport} implementation.
+ *
+ * @since 5.4.1
+ */
+public class DefaultFootprintReport implements FootprintReport {
+
+	private static final long serialVersionUID = -2630458398125361906L;
+
+	private final Type type;
+	private final String name;
+	private final String className;
+
+	private long estimatedBytes = 0L;
+	private long serializedBytes = -1L;
+	private String serializationError;
+	private int elements = -1;
+	private boolean truncated = false;
+	private List<FootprintReport> children;
+
+	/**
+	 * Constructor
+	 * @param type Report type
+	 * @param name Report name
+	 * @param className Analyzed object class name
+	 */
+	public DefaultFootprintReport(Type type, String name, String className) {
+		super();
+		this.type = type;
+		this.name = name;
+		this.className = className;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getType()
+	 */
+	@Override
+	public Type getType() {
+		return type;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getName()
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getClassName()
+	 */
+	@Override
+	public String getClassName() {
+		return className;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getEstimatedBytes()
+	 */
+	@Override
+	public long getEstimatedBytes() {
+		return estimatedBytes;
+	}
+
+	/**
+	 * Set the estimated retained size in bytes.
+	 * @param estimatedBytes the estimated size to set
+	 */
+	public void setEstimatedBytes(long estimatedBytes) {
+		this.estimatedBytes = estimatedBytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getSerializedBytes()
+	 */
+	@Override
+	public long getSerializedBytes() {
+		return serializedBytes;
+	}
+
+	/**
+	 * Set the serialized size in bytes.
+	 * @param serializedBytes the serialized size to set, <code>-1</code> if not available
+	 */
+	public void setSerializedBytes(long serializedBytes) {
+		this.serializedBytes = serializedBytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getSerializationError()
+	 */
+	@Override
+	public Optional<String> getSerializationError() {
+		return Optional.ofNullable(serializationError);
+	}
+
+	/**
+	 * Set the serialization error.
+	 * @param serializationError the serialization error description
+	 */
+	public void setSerializationError(String serializationError) {
+		this.serializationError = serializationError;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getElements()
+	 */
+	@Override
+	public int getElements() {
+		return elements;
+	}
+
+	/**
+	 * Set the elements count.
+	 * @param elements the elements count, <code>-1</code> if not applicable
+	 */
+	public void setElements(int elements) {
+		this.elements = elements;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#isTruncated()
+	 */
+	@Override
+	public boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Set whether the analysis was truncated.
+	 * @param truncated whether the analysis was truncated
+	 */
+	public void setTruncated(boolean truncated) {
+		this.truncated = truncated;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#getChildren()
+	 */
+	@Override
+	public List<FootprintReport> getChildren() {
+		return (children != null) ? children : Collections.emptyList();
+	}
+
+	/**
+	 * Add a child report.
+	 * @param child The report to add
+	 */
+	public void addChild(FootprintReport child) {
+		if (children == null) {
+			children = new ArrayList<>(4);
+		}
+		children.add(child);
+	}
+
+	/**
+	 * Get the total estimated size of the children reports.
+	 * @return The children estimated size in bytes
+	 */
+	public long getChildrenEstimatedBytes() {
+		long bytes = 0L;
+		for (FootprintReport child : getChildren()) {
+			bytes += child.getEstimatedBytes();
+		}
+		return bytes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.FootprintReport#toJson()
+	 */
+	@Override
+	public String toJson() {
+		return toJson(this, true);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "FootprintReport [type=" + type + ", name=" + name + ", estimatedBytes=" + estimatedBytes
+				+ ", serializedBytes=" + serializedBytes + "]";
+	}
+
+	/**
+	 * Get the JSON representation of given report.
+	 * @param report The report
+	 * @param includeChildren Whether to include the children reports
+	 * @return The report as JSON
+	 */
+	public static String toJson(FootprintReport report, boolean includeChildren) {
+		final StringBuilder sb = new StringBuilder(256);
+		appendJson(sb, report, includeChildren);
+		return sb.toString();
+	}
+
+	/**
+	 * Get the JSON array representation of given reports.
+	 * @param reports The reports
+	 * @param includeChildren Whether to include the children reports
+	 * @return The reports as a JSON array
+	 */
+	public static String toJson(List<? extends FootprintReport> reports, boolean includeChildren) {
+		final StringBuilder sb = new StringBuilder(256);
+		sb.append('[');
+		for (int i = 0; i < reports.size(); i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			appendJson(sb, reports.get(i), includeChildren);
+		}
+		return sb.append(']').toString();
+	}
+
+	private static void appendJson(StringBuilder sb, FootprintReport report, boolean includeChildren) {
+		sb.append("{\"type\":");
+		appendString(sb, report.getType().name());
+		sb.append(",\"name\":");
+		appendString(sb, report.getName());
+		sb.append(",\"className\":");
+		appendString(sb, report.getClassName());
+		sb.append(",\"estimatedBytes\":").append(report.getEstimatedBytes());
+		sb.append(",\"serializedBytes\":").append(report.getSerializedBytes());
+		if (report.getSerializationError().isPresent()) {
+			sb.append(",\"serializationError\":");
+			appendString(sb, report.getSerializationError().get());
+		}
+		if (report.getElements() >= 0) {
+			sb.append(",\"elements\":").append(report.getElements());
+		}
+		sb.append(",\"truncated\":").append(report.isTruncated());
+		if (includeChildren && !report.getChildren().isEmpty()) {
+			sb.append(",\"children\":[");
+			boolean first = true;
+			for (FootprintReport child : report.getChildren()) {
+				if (!first) {
+					sb.append(',');
+				}
+				first = false;
+				appendJson(sb, child, true);
+			}
+			sb.append(']');
+		}
+		sb.append('}');
+	}
+
+	private static void appendString(StringBuilder sb, String value) {
+		if (value == null) {
+			sb.append("null");
+			return;
+		}
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			switch (c) {
+			case '"':
+				sb.append("\\\"");
+				break;
+			case '\\':
+				sb.append("\\\\");
+				break;
+			case '\n':
+				sb.append("\\n");
+				break;
+			case '\r':
+				sb.append("\\r");
+				break;
+			case '\t':
+				sb.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					sb.append(String.format("\\u%04x", (int) c));
+				} else {
+					sb.append(c);
+				}
+			}
+		}
+		sb.append('"');
+	}
+
+}
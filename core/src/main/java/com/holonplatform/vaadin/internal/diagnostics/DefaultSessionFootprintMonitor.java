@@ -0,0 +1,247 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.diagnostics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.diagnostics.FootprintAnalyzer;
+import com.holonplatform.vaadin.diagnostics.FootprintReport;
+import com.holonplatform.vaadin.diagnostics.SessionFootprintMXBean;
+import com.holonplatform.vaadin.diagnostics.SessionFootprintMonitor;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.vaadin.server.SessionDestroyEvent;
+import com.vaadin.server.SessionDestroyListener;
+import com.vaadin.server.SessionInitEvent;
+import com.vaadin.server.SessionInitListener;
+import com.vaadin.server.VaadinService;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.shared.Registration;
+
+/**
+ * Default {@link SessionFootprintMonitor} implementation.
+ * <p>
+ * The sessions are tracked using weak references, so the monitor never prevents a session from being garbage
+ * collected. Only the sessions created after the monitor installation are tracked.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public class DefaultSessionFootprintMonitor
+		implements SessionFootprintMonitor, SessionInitListener, SessionDestroyListener {
+
+	private static final long serialVersionUID = 2178440207640853286L;
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	private final VaadinService service;
+	private final FootprintAnalyzer analyzer;
+
+	/**
+	 * Tracked sessions
+	 */
+	private final Map<VaadinSession, Boolean> sessions = Collections.synchronizedMap(new WeakHashMap<>());
+
+	private final Registration initRegistration;
+	private final Registration destroyRegistration;
+
+	private ObjectName objectName;
+
+	/**
+	 * Constructor
+	 * @param service The service whose sessions have to be tracked (not null)
+	 * @param analyzer The analyzer to use (not null)
+	 */
+	public DefaultSessionFootprintMonitor(VaadinService service, FootprintAnalyzer analyzer) {
+		super();
+		ObjectUtils.argumentNotNull(service, "VaadinService must be not null");
+		ObjectUtils.argumentNotNull(analyzer, "FootprintAnalyzer must be not null");
+		this.service = service;
+		this.analyzer = analyzer;
+		this.initRegistration = service.addSessionInitListener(this);
+		this.destroyRegistration = service.addSessionDestroyListener(this);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.server.SessionInitListener#sessionInit(com.vaadin.server.SessionInitEvent)
+	 */
+	@Override
+	public void sessionInit(SessionInitEvent event) {
+		sessions.put(event.getSession(), Boolean.TRUE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.vaadin.server.SessionDestroyListener#sessionDestroy(com.vaadin.server.SessionDestroyEvent)
+	 */
+	@Override
+	public void sessionDestroy(SessionDestroyEvent event) {
+		sessions.remove(event.getSession());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMXBean#getSessionCount()
+	 */
+	@Override
+	public int getSessionCount() {
+		return getSessions().size();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMXBean#getSessionIds()
+	 */
+	@Override
+	public String[] getSessionIds() {
+		final List<String> ids = new ArrayList<>();
+		for (VaadinSession session : getSessions()) {
+			getSessionId(session).ifPresent(ids::add);
+		}
+		return ids.toArray(new String[ids.size()]);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMonitor#getSession(java.lang.String)
+	 */
+	@Override
+	public Optional<VaadinSession> getSession(String sessionId) {
+		if (sessionId == null) {
+			return Optional.empty();
+		}
+		return getSessions().stream().filter(s -> getSessionId(s).map(id -> id.equals(sessionId)).orElse(false))
+				.findFirst();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMonitor#analyze(java.lang.String)
+	 */
+	@Override
+	public Optional<FootprintReport> analyze(String sessionId) {
+		return getSession(sessionId).map(analyzer::analyze);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMonitor#analyzeAll()
+	 */
+	@Override
+	public List<FootprintReport> analyzeAll() {
+		final List<FootprintReport> reports = new ArrayList<>();
+		for (VaadinSession session : getSessions()) {
+			reports.add(analyzer.analyze(session));
+		}
+		reports.sort((r1, r2) -> Long.compare(r2.getEstimatedBytes(), r1.getEstimatedBytes()));
+		return reports;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMXBean#analyzeSession(java.lang.String)
+	 */
+	@Override
+	public String analyzeSession(String sessionId) {
+		return analyze(sessionId).map(FootprintReport::toJson).orElse(null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMXBean#analyzeSessions()
+	 */
+	@Override
+	public String analyzeSessions() {
+		return DefaultFootprintReport.toJson(analyzeAll(), false);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMonitor#registerMBean()
+	 */
+	@Override
+	public synchronized void registerMBean() {
+		if (objectName != null) {
+			return;
+		}
+		try {
+			final ObjectName name = new ObjectName(JMX_DOMAIN + ":type=SessionFootprint,name="
+					+ ObjectName.quote(String.valueOf(service.getServiceName())));
+			ManagementFactory.getPlatformMBeanServer()
+					.registerMBean(new StandardMBean(this, SessionFootprintMXBean.class, true), name);
+			this.objectName = name;
+		} catch (JMException e) {
+			throw new IllegalStateException("Failed to register the session footprint MBean", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.diagnostics.SessionFootprintMonitor#uninstall()
+	 */
+	@Override
+	public synchronized void uninstall() {
+		initRegistration.remove();
+		destroyRegistration.remove();
+		sessions.clear();
+		if (objectName != null) {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			try {
+				if (server.isRegistered(objectName)) {
+					server.unregisterMBean(objectName);
+				}
+			} catch (JMException e) {
+				LOGGER.warn("Failed to unregister the session footprint MBean [" + objectName + "]", e);
+			}
+			objectName = null;
+		}
+	}
+
+	/**
+	 * Get a snapshot of the tracked sessions.
+	 * @return The tracked sessions
+	 */
+	private List<VaadinSession> getSessions() {
+		synchronized (sessions) {
+			return new ArrayList<>(sessions.keySet());
+		}
+	}
+
+	private static Optional<String> getSessionId(VaadinSession session) {
+		try {
+			if (session.getSession() != null) {
+				return Optional.ofNullable(session.getSession().getId());
+			}
+		} catch (IllegalStateException e) {
+			// session invalidated
+		}
+		return Optional.empty();
+	}
+
+}
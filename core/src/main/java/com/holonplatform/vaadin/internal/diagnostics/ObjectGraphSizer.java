@@ -0,0 +1,409 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.internal.diagnostics;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import com.vaadin.server.ClientConnector;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.ui.UI;
+
+/**
+ * Estimates the retained size of object graphs, attributing each object only once, and the serialized size of object
+ * graphs.
+ * <p>
+ * The object graph walk stops at <em>boundaries</em>: excluded types and {@link ClientConnector}s which are attached
+ * to a UI but do not belong to the owner of the walk (see {@link #isBoundary(Object, Object, Object)}). The sizes are
+ * estimated assuming a 64 bit JVM with compressed references.
+ * </p>
+ * <p>
+ * Not thread-safe: an instance is meant to be used for a single analysis.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+final class ObjectGraphSizer {
+
+	private static final int HEADER_SIZE = 12;
+	private static final int ARRAY_HEADER_SIZE = 16;
+	private static final int REFERENCE_SIZE = 4;
+
+	/**
+	 * Estimated overhead for each element of a collection whose internal structure cannot be inspected
+	 */
+	private static final int COLLECTION_ELEMENT_OVERHEAD = 16;
+
+	/**
+	 * Estimated overhead for each entry of a map whose internal structure cannot be inspected
+	 */
+	private static final int MAP_ENTRY_OVERHEAD = 32;
+
+	/**
+	 * Class layouts
+	 */
+	private static final ClassValue<ClassLayout> LAYOUTS = new ClassValue<ClassLayout>() {
+
+		@Override
+		protected ClassLayout computeValue(Class<?> type) {
+			return ClassLayout.create(type);
+		}
+
+	};
+
+	private final Set<Class<?>> excludedTypes;
+	private final int maxObjects;
+
+	/**
+	 * Objects already attributed
+	 */
+	private final Map<Object, Boolean> visited = new IdentityHashMap<>(4096);
+
+	private final Deque<Object> stack = new ArrayDeque<>();
+
+	private boolean truncated = false;
+
+	/**
+	 * Constructor
+	 * @param excludedTypes Excluded types
+	 * @param maxObjects Max objects to walk
+	 */
+	ObjectGraphSizer(Set<Class<?>> excludedTypes, int maxObjects) {
+		super();
+		this.excludedTypes = excludedTypes;
+		this.maxObjects = maxObjects;
+	}
+
+	/**
+	 * Get whether the walk was truncated because the max objects limit was reached.
+	 * @return <code>true</code> if truncated
+	 */
+	boolean isTruncated() {
+		return truncated;
+	}
+
+	/**
+	 * Get whether given object was already attributed.
+	 * @param object Object
+	 * @return <code>true</code> if already attributed
+	 */
+	boolean isVisited(Object object) {
+		return visited.containsKey(object);
+	}
+
+	/**
+	 * Estimate the retained size of the objects reachable from given root which were not already attributed, and
+	 * attribute them.
+	 * @param root Root object
+	 * @param owner The owner of the walk: a {@link ClientConnector}, a {@link VaadinSession} or <code>null</code>
+	 * @return The estimated size in bytes
+	 */
+	long size(Object root, Object owner) {
+		if (root == null || visited.containsKey(root)) {
+			return 0L;
+		}
+		long size = 0L;
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			final Object object = stack.pop();
+			if (visited.containsKey(object) || isBoundary(object, root, owner)) {
+				continue;
+			}
+			if (visited.size() >= maxObjects) {
+				truncated = true;
+				stack.clear();
+				break;
+			}
+			visited.put(object, Boolean.TRUE);
+			size += sizeOf(object);
+		}
+		return size;
+	}
+
+	/**
+	 * Compute the serialized size of the object graph reachable from given root, excluding the boundary objects.
+	 * @param root Root object
+	 * @param owner The owner of the walk: a {@link ClientConnector}, a {@link VaadinSession} or <code>null</code>
+	 * @param report The report to which to set the serialized size or the serialization error
+	 */
+	void serializedSize(Object root, Object owner, DefaultFootprintReport report) {
+		final CountingOutputStream counter = new CountingOutputStream();
+		try (BoundaryObjectOutputStream oos = new BoundaryObjectOutputStream(counter, root, owner)) {
+			oos.writeObject(root);
+			oos.flush();
+			report.setSerializedBytes(counter.count);
+		} catch (IOException | RuntimeException e) {
+			report.setSerializedBytes(-1L);
+			report.setSerializationError(e.getClass().getName() + ": " + e.getMessage());
+		} catch (StackOverflowError e) {
+			report.setSerializedBytes(-1L);
+			report.setSerializationError("Object graph too deep to be serialized");
+		}
+	}
+
+	/**
+	 * Get the elements count of a collection, map or array.
+	 * @param object Object
+	 * @return The elements count, <code>-1</code> if not applicable
+	 */
+	static int getElements(Object object) {
+		if (object instanceof Collection) {
+			return ((Collection<?>) object).size();
+		}
+		if (object instanceof Map) {
+			return ((Map<?, ?>) object).size();
+		}
+		if (object != null && object.getClass().isArray()) {
+			return Array.getLength(object);
+		}
+		return -1;
+	}
+
+	/**
+	 * Check whether given object is a walk boundary.
+	 * @param object Object to check
+	 * @param root Walk root
+	 * @param owner Walk owner
+	 * @return <code>true</code> if the object must not be walked
+	 */
+	private boolean isBoundary(Object object, Object root, Object owner) {
+		if (object == root) {
+			return false;
+		}
+		if (object instanceof Class || object instanceof ClassLoader || object instanceof Thread
+				|| object instanceof Enum || object instanceof VaadinSession || object instanceof UI) {
+			return true;
+		}
+		for (Class<?> excluded : excludedTypes) {
+			if (excluded.isInstance(object)) {
+				return true;
+			}
+		}
+		if (object instanceof ClientConnector) {
+			final ClientConnector connector = (ClientConnector) object;
+			final UI ui = connector.getUI();
+			if (ui == null) {
+				// detached connectors belong to the objects which refer to them
+				return false;
+			}
+			if (owner instanceof VaadinSession) {
+				return ui.getSession() != owner;
+			}
+			if (owner instanceof ClientConnector) {
+				ClientConnector parent = connector.getParent();
+				while (parent != null) {
+					if (parent == owner) {
+						return false;
+					}
+					parent = parent.getParent();
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Estimate the shallow size of given object and push the referenced objects in the walk stack.
+	 * @param object Object
+	 * @return Estimated shallow size
+	 */
+	private long sizeOf(Object object) {
+		final Class<?> type = object.getClass();
+		if (type.isArray()) {
+			final int length = Array.getLength(object);
+			final Class<?> componentType = type.getComponentType();
+			if (componentType.isPrimitive()) {
+				return align(ARRAY_HEADER_SIZE + (long) length * ClassLayout.primitiveSize(componentType));
+			}
+			final Object[] array = (Object[]) object;
+			for (Object element : array) {
+				if (element != null) {
+					stack.push(element);
+				}
+			}
+			return align(ARRAY_HEADER_SIZE + (long) length * REFERENCE_SIZE);
+		}
+		final ClassLayout layout = LAYOUTS.get(type);
+		long size = layout.shallowSize;
+		if (object instanceof Reference) {
+			// referents are not retained
+			return size;
+		}
+		for (Field field : layout.references) {
+			try {
+				final Object value = field.get(object);
+				if (value != null) {
+					stack.push(value);
+				}
+			} catch (IllegalAccessException | RuntimeException e) {
+				// ignore
+			}
+		}
+		if (layout.opaque) {
+			// internal structure not accessible: estimate using public API
+			try {
+				if (object instanceof String) {
+					size += align(ARRAY_HEADER_SIZE + ((String) object).length());
+				} else if (object instanceof Collection) {
+					for (Object element : new ArrayList<>((Collection<?>) object)) {
+						size += COLLECTION_ELEMENT_OVERHEAD;
+						if (element != null) {
+							stack.push(element);
+						}
+					}
+				} else if (object instanceof Map) {
+					final List<Entry<?, ?>> entries = new ArrayList<>(((Map<?, ?>) object).entrySet());
+					for (Entry<?, ?> entry : entries) {
+						size += MAP_ENTRY_OVERHEAD;
+						if (entry.getKey() != null) {
+							stack.push(entry.getKey());
+						}
+						if (entry.getValue() != null) {
+							stack.push(entry.getValue());
+						}
+					}
+				}
+			} catch (RuntimeException e) {
+				// concurrently modified: ignore
+			}
+		}
+		return size;
+	}
+
+	private static long align(long size) {
+		return (size + 7L) & ~7L;
+	}
+
+	/**
+	 * Class instance layout: shallow size and accessible reference fields.
+	 */
+	private static final class ClassLayout {
+
+		final long shallowSize;
+		final Field[] references;
+		final boolean opaque;
+
+		private ClassLayout(long shallowSize, Field[] references, boolean opaque) {
+			super();
+			this.shallowSize = shallowSize;
+			this.references = references;
+			this.opaque = opaque;
+		}
+
+		static ClassLayout create(Class<?> type) {
+			long size = HEADER_SIZE;
+			final List<Field> references = new ArrayList<>();
+			boolean opaque = false;
+			Class<?> current = type;
+			while (current != null && current != Object.class) {
+				for (Field field : current.getDeclaredFields()) {
+					if (Modifier.isStatic(field.getModifiers())) {
+						continue;
+					}
+					final Class<?> fieldType = field.getType();
+					if (fieldType.isPrimitive()) {
+						size += primitiveSize(fieldType);
+					} else {
+						size += REFERENCE_SIZE;
+						try {
+							field.setAccessible(true);
+							references.add(field);
+						} catch (RuntimeException e) {
+							// not accessible (e.g. JDK internals on Java 9+)
+							opaque = true;
+						}
+					}
+				}
+				current = current.getSuperclass();
+			}
+			return new ClassLayout(align(size), references.toArray(new Field[references.size()]), opaque);
+		}
+
+		static int primitiveSize(Class<?> type) {
+			if (type == long.class || type == double.class) {
+				return 8;
+			}
+			if (type == int.class || type == float.class) {
+				return 4;
+			}
+			if (type == short.class || type == char.class) {
+				return 2;
+			}
+			return 1;
+		}
+
+	}
+
+	/**
+	 * {@link ObjectOutputStream} which replaces the boundary objects with <code>null</code>.
+	 */
+	private final class BoundaryObjectOutputStream extends ObjectOutputStream {
+
+		private final Object root;
+		private final Object owner;
+
+		BoundaryObjectOutputStream(OutputStream out, Object root, Object owner) throws IOException {
+			super(out);
+			this.root = root;
+			this.owner = owner;
+			enableReplaceObject(true);
+		}
+
+		@Override
+		protected Object replaceObject(Object obj) throws IOException {
+			if (obj != null && !(obj instanceof Class) && !(obj instanceof Enum) && isBoundary(obj, root, owner)) {
+				return null;
+			}
+			return obj;
+		}
+
+	}
+
+	/**
+	 * {@link OutputStream} which only counts the written bytes.
+	 */
+	private static final class CountingOutputStream extends OutputStream {
+
+		long count = 0L;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+
+	}
+
+}
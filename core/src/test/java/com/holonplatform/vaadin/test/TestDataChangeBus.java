@@ -0,0 +1,198 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.vaadin.components.Components;
+import com.holonplatform.vaadin.components.PropertyListing;
+import com.holonplatform.vaadin.data.DataChangeBus;
+import com.holonplatform.vaadin.data.DataChangeBus.DataChangeEvent;
+import com.holonplatform.vaadin.data.DataChangeBus.Operation;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.data.ItemDataSource;
+import com.holonplatform.vaadin.internal.components.DataChangeDispatcher;
+import com.holonplatform.vaadin.internal.components.DefaultPropertyListing;
+import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+import com.holonplatform.vaadin.test.TestPropertyInputGroup.TestUI;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.ui.UI;
+
+public class TestDataChangeBus extends AbstractVaadinTest {
+
+	private static final PathProperty<Long> ID = PathProperty.create("id", Long.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+
+	private static final PropertySet<?> PROPERTIES = PropertySet.builderOf(ID, NAME).identifier(ID).build();
+
+	private static final DataTarget<?> TARGET = DataTarget.named("test_data_change_bus");
+
+	@Test
+	public void testUpdateReloadsItems() {
+		final BackendDataProvider backend = new BackendDataProvider(3);
+		final PropertyListing listing = Components.listing.properties(PROPERTIES).buffered(true).dataSource(backend)
+				.liveUpdates(TARGET).build();
+
+		final UI ui = attach(listing);
+		assertTrue(ui.getExtensions().stream().anyMatch(e -> e instanceof DataChangeDispatcher));
+
+		final ItemDataSource<PropertyBox, ?> dataSource = ((DefaultPropertyListing) listing).getDataSource()
+				.orElse(null);
+		assertNotNull(dataSource);
+		dataSource.refresh();
+		final PropertyBox loaded = dataSource.getItemAt(1);
+		assertEquals("n2", loaded.getValue(NAME));
+
+		// the row is changed by another session
+		final PropertyBox changed = backend.update(2L, "changed");
+		final int loads = backend.loads.get();
+
+		DataChangeBus.getDefault().publish(DataChangeEvent.create(TARGET.getName(), Operation.UPDATE,
+				Collections.singletonList(ID), Collections.singletonList(2L), null));
+
+		// reloaded by id through the listing data provider
+		assertEquals(loads + 1, backend.loads.get());
+		assertEquals(1, backend.filteredLoads.get());
+		assertSame(changed, dataSource.getItemAt(1));
+		assertEquals("changed", dataSource.getItemAt(1).getValue(NAME));
+		assertEquals(3, dataSource.size());
+	}
+
+	@Test
+	public void testUnidentifiedChangesRefresh() {
+		final BackendDataProvider backend = new BackendDataProvider(3);
+		final PropertyListing listing = Components.listing.properties(PROPERTIES).buffered(true).dataSource(backend)
+				.liveUpdates(TARGET).build();
+
+		attach(listing);
+
+		final ItemDataSource<PropertyBox, ?> dataSource = ((DefaultPropertyListing) listing).getDataSource()
+				.orElse(null);
+		assertNotNull(dataSource);
+		dataSource.refresh();
+		dataSource.getItemAt(0);
+		dataSource.size();
+		final int counts = backend.counts.get();
+
+		DataChangeBus.getDefault().publish(DataChangeEvent.create(TARGET.getName(), Operation.UPDATE,
+				Collections.emptyList(), Collections.emptyList(), null));
+
+		// full refresh
+		dataSource.size();
+		assertEquals(counts + 1, backend.counts.get());
+		assertEquals(0, backend.filteredLoads.get());
+	}
+
+	@Test
+	public void testDetachedListing() {
+		final BackendDataProvider backend = new BackendDataProvider(3);
+		final PropertyListing listing = Components.listing.properties(PROPERTIES).buffered(true).dataSource(backend)
+				.liveUpdates(TARGET).build();
+
+		final UI ui = attach(listing);
+		ui.setContent(null);
+
+		final int loads = backend.loads.get();
+		final int counts = backend.counts.get();
+
+		DataChangeBus.getDefault().publish(DataChangeEvent.create(TARGET.getName(), Operation.UPDATE,
+				Collections.singletonList(ID), Collections.singletonList(1L), null));
+
+		assertEquals(loads, backend.loads.get());
+		assertEquals(counts, backend.counts.get());
+	}
+
+	private UI attach(PropertyListing listing) {
+		final VaadinSession session = vaadinSession;
+		// run the UI access tasks synchronously
+		when(session.access(any(Runnable.class))).thenAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		});
+		final UI ui = createUi(TestUI.class, "http://localhost");
+		ui.setSession(session);
+		ui.setContent(listing);
+		return ui;
+	}
+
+	@SuppressWarnings("serial")
+	private static final class BackendDataProvider implements ItemDataProvider<PropertyBox> {
+
+		final AtomicInteger counts = new AtomicInteger();
+		final AtomicInteger loads = new AtomicInteger();
+		final AtomicInteger filteredLoads = new AtomicInteger();
+
+		private final List<PropertyBox> rows = new ArrayList<>();
+		private final Set<Long> updated = new HashSet<>();
+
+		BackendDataProvider(int size) {
+			super();
+			for (long i = 1; i <= size; i++) {
+				rows.add(PropertyBox.builder(PROPERTIES).set(ID, i).set(NAME, "n" + i).build());
+			}
+		}
+
+		PropertyBox update(Long id, String name) {
+			final PropertyBox row = PropertyBox.builder(PROPERTIES).set(ID, id).set(NAME, name).build();
+			rows.set(rows.indexOf(row), row);
+			updated.add(id);
+			return row;
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+			counts.incrementAndGet();
+			return rows.size();
+		}
+
+		@Override
+		public Stream<PropertyBox> load(QueryConfigurationProvider configuration, int offset, int limit)
+				throws DataAccessException {
+			loads.incrementAndGet();
+			if (configuration.getQueryFilter() != null) {
+				// simulates the id filter
+				filteredLoads.incrementAndGet();
+				return rows.stream().filter(r -> updated.contains(r.getValue(ID))).collect(Collectors.toList())
+						.stream();
+			}
+			return new ArrayList<>(rows).stream().skip(offset).limit(limit);
+		}
+
+	}
+
+}
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 
 import com.holonplatform.vaadin.device.DeviceInfo;
+import com.holonplatform.vaadin.internal.device.DeviceInfoCache;
 import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
 import com.vaadin.server.VaadinService;
 import com.vaadin.server.VaadinServletService;
@@ -58,6 +59,57 @@ public class TestDeviceInfo extends AbstractVaadinTest {
 
 	}
 
+	@Test
+	public void testDetection() {
+
+		DeviceInfo di = DeviceInfo.create(
+				"Mozilla/5.0 (iPhone; CPU iPhone OS 12_0 like Mac OS X) AppleWebKit/605.1.15 Mobile/15E148", "*/*");
+		assertTrue(di.isIPhone());
+		assertTrue(di.isIOs());
+		assertTrue(di.isSmartphone());
+		assertTrue(di.isMobile());
+		assertFalse(di.isTablet());
+
+		di = DeviceInfo.create("Mozilla/5.0 (Linux; Android 9; SM-T820) AppleWebKit/537.36 Safari/537.36", "*/*");
+		assertTrue(di.isAndroid());
+		assertTrue(di.isAndroidTablet());
+		assertTrue(di.isTablet());
+		assertFalse(di.isAndroidPhone());
+
+		di = DeviceInfo.create("BlackBerry9700/5.0", null);
+		assertTrue(di.isSmartphone());
+
+		di = DeviceInfo.create("Mozilla/5.0", "application/vnd.rim.html");
+		assertTrue(di.isSmartphone());
+
+		di = DeviceInfo.create("Some PDA update", null);
+		assertFalse(di.isMobile());
+
+	}
+
+	@Test
+	public void testCache() {
+
+		final String ua = "Mozilla/5.0 (Linux; Android 9; Pixel 3) AppleWebKit/537.36 Mobile Safari/537.36";
+		final String ac = "*/*";
+
+		DeviceInfoCache.clear();
+
+		DeviceInfo di1 = DeviceInfo.create(ua, ac);
+		DeviceInfo di2 = DeviceInfo.create(ua, ac);
+		assertSame(di1, di2);
+		assertEquals(1, DeviceInfoCache.size());
+		assertTrue(di1.isAndroidPhone());
+
+		assertNotSame(di1, DeviceInfo.create(ua, "text/html"));
+
+		for (int i = 0; i < DeviceInfoCache.MAX_SIZE * 2; i++) {
+			DeviceInfo.create(ua + i, ac);
+		}
+		assertTrue(DeviceInfoCache.size() <= DeviceInfoCache.MAX_SIZE);
+
+	}
+
 	@Test
 	public void testFromRequest() {
 
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.vaadin.components.Components;
+import com.holonplatform.vaadin.components.PropertyInputForm;
+import com.holonplatform.vaadin.components.PropertyListing;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.diagnostics.FootprintAnalyzer;
+import com.holonplatform.vaadin.diagnostics.FootprintContributor;
+import com.holonplatform.vaadin.diagnostics.FootprintReport;
+import com.holonplatform.vaadin.diagnostics.FootprintReport.Type;
+import com.holonplatform.vaadin.internal.components.DefaultPropertyListing;
+import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+import com.holonplatform.vaadin.test.TestPropertyInputGroup.TestUI;
+import com.vaadin.ui.CustomComponent;
+import com.vaadin.ui.Label;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.VerticalLayout;
+
+import elemental.json.Json;
+import elemental.json.JsonArray;
+import elemental.json.JsonObject;
+
+public class TestFootprintAnalyzer extends AbstractVaadinTest {
+
+	private static final PathProperty<Long> ID = PathProperty.create("id", Long.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+
+	private static final PropertySet<?> PROPERTIES = PropertySet.builderOf(ID, NAME).identifier(ID).build();
+
+	private static final int PAYLOAD_SIZE = 1 << 20;
+
+	@Test
+	public void testContributorStructures() {
+		final UI ui = createUi(TestUI.class, "http://localhost");
+		ui.setSession(vaadinSession);
+
+		final PropertyListing listing = Components.listing.properties(PROPERTIES).buffered(true)
+				.dataSource(new BackendDataProvider(10)).build();
+		listing.setId("listing");
+		final PropertyInputForm form = Components.input.form().properties(PROPERTIES).build();
+		form.setId("form");
+		ui.setContent(Components.vl().add(listing).add(form).build());
+
+		listing.refresh();
+		assertEquals(10, ((DefaultPropertyListing) listing).getDataSource().map(ds -> ds.size()).orElse(-1).intValue());
+
+		final FootprintReport report = FootprintAnalyzer.builder().computeSerializedSize(false).build().analyze(ui);
+		assertEquals(Type.UI, report.getType());
+		assertFalse(report.isTruncated());
+
+		// item listing
+		final FootprintReport listingReport = find(report, Type.COMPONENT, "listing").orElse(null);
+		assertNotNull(listingReport);
+		assertTrue(find(listingReport, Type.STRUCTURE, "propertyColumnDefinitions").isPresent());
+
+		// buffered item data source
+		final FootprintReport dataSourceReport = find(listingReport, Type.STRUCTURE, "dataSource").orElse(null);
+		assertNotNull(dataSourceReport);
+		final FootprintReport itemStoreReport = find(dataSourceReport, Type.STRUCTURE, "itemStore").orElse(null);
+		assertNotNull(itemStoreReport);
+		assertFalse(itemStoreReport.getChildren().isEmpty());
+
+		// property input group
+		final FootprintReport formReport = find(report, Type.COMPONENT, "form").orElse(null);
+		assertNotNull(formReport);
+		final FootprintReport groupReport = find(formReport, Type.STRUCTURE, "inputGroup").orElse(null);
+		assertNotNull(groupReport);
+		final FootprintReport propertiesReport = find(groupReport, Type.STRUCTURE, "properties").orElse(null);
+		assertNotNull(propertiesReport);
+
+		// sizes include the children sizes
+		assertTrue(report.getEstimatedBytes() >= listingReport.getEstimatedBytes() + formReport.getEstimatedBytes());
+		assertTrue(listingReport.getEstimatedBytes() >= dataSourceReport.getEstimatedBytes());
+		assertTrue(dataSourceReport.getEstimatedBytes() >= itemStoreReport.getEstimatedBytes());
+	}
+
+	@Test
+	public void testBoundaries() {
+		final UI other = createUi(TestUI.class, "http://localhost");
+		other.setSession(vaadinSession);
+		final PayloadLabel otherPayload = new PayloadLabel();
+		other.setContent(otherPayload);
+
+		final UI ui = createUi(TestUI.class, "http://localhost");
+		ui.setSession(vaadinSession);
+		final ProbeComponent probe = new ProbeComponent(new PayloadLabel(),
+				new ArrayList<>(Arrays.asList(otherPayload, other, vaadinSession)));
+		probe.setId("probe");
+		ui.setContent(probe);
+
+		final FootprintReport report = FootprintAnalyzer.builder().computeSerializedSize(false).build().analyze(ui);
+
+		final FootprintReport probeReport = find(report, Type.COMPONENT, "probe").orElse(null);
+		assertNotNull(probeReport);
+
+		// a detached component is attributed to the object which refers to it
+		final FootprintReport detached = find(probeReport, Type.STRUCTURE, "detached").orElse(null);
+		assertNotNull(detached);
+		assertTrue(detached.getEstimatedBytes() >= PAYLOAD_SIZE);
+
+		// other UIs, their components and the session are not attributed
+		final FootprintReport foreign = find(probeReport, Type.STRUCTURE, "foreign").orElse(null);
+		assertNotNull(foreign);
+		assertEquals(3, foreign.getElements());
+		assertTrue(foreign.getEstimatedBytes() < PAYLOAD_SIZE / 8);
+		assertTrue(report.getEstimatedBytes() < 2L * PAYLOAD_SIZE);
+
+		final FootprintReport otherReport = FootprintAnalyzer.builder().computeSerializedSize(false).build()
+				.analyze(other);
+		assertTrue(otherReport.getEstimatedBytes() >= PAYLOAD_SIZE);
+	}
+
+	@Test
+	public void testJson() {
+		final UI ui = createUi(TestUI.class, "http://localhost");
+		ui.setSession(vaadinSession);
+
+		final PropertyInputForm form = Components.input.form().properties(PROPERTIES).build();
+		form.setCaption("Form \"1\"\n\ttest\\");
+		final VerticalLayout layout = new VerticalLayout();
+		layout.addComponent(form);
+		layout.addComponent(new Label("label"));
+		ui.setContent(layout);
+
+		final FootprintReport report = FootprintAnalyzer.create().analyze(ui);
+
+		final JsonObject json = Json.parse(report.toJson());
+		assertEquals("UI", json.getString("type"));
+		assertEquals(report.getName(), json.getString("name"));
+		assertEquals(report.getEstimatedBytes(), (long) json.getNumber("estimatedBytes"));
+		assertFalse(json.getBoolean("truncated"));
+
+		final JsonArray children = json.getArray("children");
+		assertNotNull(children);
+		assertEquals(report.getChildren().size(), children.length());
+		final JsonObject formJson = children.getObject(0);
+		assertEquals("COMPONENT", formJson.getString("type"));
+		assertEquals("Form \"1\"\n\ttest\\", formJson.getString("name"));
+		assertTrue(formJson.getArray("children").length() > 0);
+	}
+
+	private static Optional<FootprintReport> find(FootprintReport report, Type type, String name) {
+		for (FootprintReport child : report.getChildren()) {
+			if (child.getType() == type && name.equals(child.getName())) {
+				return Optional.of(child);
+			}
+			final Optional<FootprintReport> found = find(child, type, name);
+			if (found.isPresent()) {
+				return found;
+			}
+		}
+		return Optional.empty();
+	}
+
+	@SuppressWarnings("serial")
+	private static final class PayloadLabel extends Label {
+
+		@SuppressWarnings("unused")
+		private final byte[] payload = new byte[PAYLOAD_SIZE];
+
+	}
+
+	@SuppressWarnings("serial")
+	private static final class ProbeComponent extends CustomComponent implements FootprintContributor {
+
+		private final Label detached;
+		private final List<Object> foreign;
+
+		ProbeComponent(Label detached, List<Object> foreign) {
+			super();
+			this.detached = detached;
+			this.foreign = foreign;
+		}
+
+		@Override
+		public void contributeFootprint(Collector collector) {
+			collector.add("detached", detached);
+			collector.add("foreign", foreign);
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static final class BackendDataProvider implements ItemDataProvider<PropertyBox> {
+
+		private final List<PropertyBox> rows = new ArrayList<>();
+
+		BackendDataProvider(int size) {
+			super();
+			for (long i = 1; i <= size; i++) {
+				rows.add(PropertyBox.builder(PROPERTIES).set(ID, i).set(NAME, "n" + i).build());
+			}
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+			return rows.size();
+		}
+
+		@Override
+		public Stream<PropertyBox> load(QueryConfigurationProvider configuration, int offset, int limit)
+				throws DataAccessException {
+			return new ArrayList<>(rows).stream().skip(offset).limit(limit);
+		}
+
+	}
+
+}
@@ -18,9 +18,15 @@ package com.holonplatform.vaadin.test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
+import java.text.NumberFormat;
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import com.holonplatform.core.property.PathProperty;
@@ -30,6 +36,8 @@ import com.holonplatform.vaadin.components.Components;
 import com.holonplatform.vaadin.components.Input;
 import com.holonplatform.vaadin.components.SingleSelect;
 import com.holonplatform.vaadin.internal.components.StringField;
+import com.holonplatform.vaadin.internal.converters.FormatterCache;
+import com.holonplatform.vaadin.internal.converters.StringToNumberConverter;
 import com.holonplatform.vaadin.test.data.TestBean;
 import com.holonplatform.vaadin.test.data.TestEnum1;
 import com.vaadin.data.Converter;
@@ -195,4 +203,18 @@ public class TestInput {
 
 	}
 
+	@Test
+	public void testFormatterCache() {
+		final NumberFormat nf = FormatterCache.getNumberFormat(Locale.ITALY, Double.class);
+		assertSame(nf, FormatterCache.getNumberFormat(Locale.ITALY, BigDecimal.class));
+		assertNotSame(nf, FormatterCache.getNumberFormat(Locale.ITALY, Integer.class));
+		assertNotSame(nf, FormatterCache.newNumberFormat(Locale.ITALY, Double.class, null));
+		assertEquals(',', FormatterCache.getDecimalSeparator(Locale.ITALY));
+
+		final StringToNumberConverter<Double> converter = new StringToNumberConverter<>(Double.class);
+		final ValueContext context = new ValueContext(Locale.ITALY);
+		assertEquals("1.234,5", converter.convertToPresentation(1234.5d, context));
+		assertEquals(Double.valueOf(1234.5d), converter.convertToModel("1.234,5", context).getOrThrow(m -> new IllegalArgumentException(m)));
+	}
+
 }
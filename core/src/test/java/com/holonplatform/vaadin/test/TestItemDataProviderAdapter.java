@@ -0,0 +1,243 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.internal.data.DatastoreItemDataProvider;
+import com.holonplatform.vaadin.internal.data.ItemDataProviderAdapter;
+import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+import com.holonplatform.vaadin.test.TestPropertyInputGroup.TestUI;
+import com.vaadin.ui.UI;
+
+public class TestItemDataProviderAdapter extends AbstractVaadinTest {
+
+	private static final PathProperty<Long> ID = PathProperty.create("id", Long.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+
+	private static final PropertySet<?> PROPERTIES = PropertySet.builderOf(NAME, ID).identifier(ID).build();
+
+	@Test
+	public void testCappedCountProjection() {
+		final Query query = mock(Query.class, RETURNS_SELF);
+		when(query.stream(ID)).thenReturn(LongStream.rangeClosed(1, 11).boxed());
+		final Datastore datastore = mock(Datastore.class);
+		when(datastore.query()).thenReturn(query);
+
+		final DatastoreItemDataProvider provider = new DatastoreItemDataProvider(datastore,
+				DataTarget.named("test"), PROPERTIES);
+
+		assertEquals(11, provider.size(new TestQueryConfiguration(), 10));
+		verify(query).limit(11);
+		// only the identifier path is fetched
+		verify(query).stream(ID);
+	}
+
+	@Test
+	public void testCountCap() {
+		attach();
+
+		final BackendDataProvider backend = new BackendDataProvider(100);
+		final ItemDataProviderAdapter<PropertyBox> adapter = new ItemDataProviderAdapter<>(backend);
+		adapter.setCountCap(20);
+
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>()));
+		assertEquals(Collections.singletonList(20L), backend.caps);
+
+		// not reaching the end of the reported size
+		assertEquals(10, fetch(adapter, 0, 10).size());
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>()));
+
+		// reaching the end of the reported size grows the cap
+		assertEquals(10, fetch(adapter, 10, 10).size());
+		assertEquals(40, adapter.size(new com.vaadin.data.provider.Query<>()));
+		assertEquals(40L, backend.caps.get(backend.caps.size() - 1).longValue());
+
+		fetch(adapter, 30, 10);
+		assertEquals(60, adapter.size(new com.vaadin.data.provider.Query<>()));
+		fetch(adapter, 50, 10);
+		assertEquals(80, adapter.size(new com.vaadin.data.provider.Query<>()));
+		fetch(adapter, 70, 10);
+		assertEquals(100, adapter.size(new com.vaadin.data.provider.Query<>()));
+
+		// the item set end is reached
+		fetch(adapter, 90, 10);
+		assertEquals(100, adapter.size(new com.vaadin.data.provider.Query<>()));
+
+		// a filter change resets the cap
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>(ID.gt(0L))));
+
+		// a full refresh resets the cap
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>()));
+		fetch(adapter, 10, 10);
+		assertEquals(40, adapter.size(new com.vaadin.data.provider.Query<>()));
+		adapter.refreshAll();
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>()));
+	}
+
+	@Test
+	public void testCountCapWithoutUI() {
+		UI.setCurrent(null);
+
+		final BackendDataProvider backend = new BackendDataProvider(100);
+		final ItemDataProviderAdapter<PropertyBox> adapter = new ItemDataProviderAdapter<>(backend);
+		adapter.setCountCap(20);
+
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>()));
+		fetch(adapter, 10, 10);
+		// no UI to refresh
+		assertEquals(20, adapter.size(new com.vaadin.data.provider.Query<>()));
+
+		// disabled
+		adapter.setCountCap(0);
+		assertEquals(100, adapter.size(new com.vaadin.data.provider.Query<>()));
+	}
+
+	@Test
+	public void testItemAddedOutOfWindowFetch() {
+		attach();
+
+		final BackendDataProvider backend = new BackendDataProvider(100);
+		final ItemDataProviderAdapter<PropertyBox> adapter = new ItemDataProviderAdapter<>(backend,
+				item -> item.getValue(ID));
+		adapter.setIncrementalUpdates(true);
+
+		final AtomicInteger refreshes = new AtomicInteger();
+		adapter.addDataProviderListener(e -> refreshes.incrementAndGet());
+
+		assertEquals(100, adapter.size(new com.vaadin.data.provider.Query<>()));
+		assertEquals(40, fetch(adapter, 0, 40).size());
+
+		// added to the backend at its sorted position
+		final PropertyBox added = backend.add(101L);
+		assertTrue(adapter.itemAdded(added));
+		assertEquals(101, adapter.size(new com.vaadin.data.provider.Query<>()));
+
+		List<PropertyBox> items = fetch(adapter, 0, 40);
+		assertEquals(40, items.size());
+		assertEquals(added, items.get(0));
+		final int refreshCount = refreshes.get();
+
+		// out of the adjusted window: the added item is not provided twice
+		items = fetch(adapter, 40, 40);
+		assertFalse(items.contains(added));
+		assertEquals(39, items.size());
+
+		// realigned with the backend
+		assertEquals(refreshCount + 1, refreshes.get());
+		assertEquals(101, adapter.size(new com.vaadin.data.provider.Query<>()));
+		items = fetch(adapter, 40, 40);
+		assertEquals(40, items.size());
+		assertEquals(1, items.stream().filter(i -> added.equals(i)).count());
+		assertEquals(added, items.get(10));
+		assertEquals(1, fetch(adapter, 0, 101).stream().filter(i -> added.equals(i)).count());
+	}
+
+	private static List<PropertyBox> fetch(ItemDataProviderAdapter<PropertyBox> adapter, int offset, int limit) {
+		return adapter.fetch(new com.vaadin.data.provider.Query<>(offset, limit, Collections.emptyList(), null, null))
+				.collect(Collectors.toList());
+	}
+
+	private void attach() {
+		// run the UI access tasks synchronously
+		when(vaadinSession.access(any(Runnable.class))).thenAnswer(invocation -> {
+			((Runnable) invocation.getArgument(0)).run();
+			return null;
+		});
+		createUi(TestUI.class, "http://localhost").setSession(vaadinSession);
+	}
+
+	@SuppressWarnings("serial")
+	private static final class TestQueryConfiguration implements QueryConfigurationProvider {
+
+		@Override
+		public QueryFilter getQueryFilter() {
+			return null;
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static final class BackendDataProvider implements ItemDataProvider<PropertyBox> {
+
+		final List<Long> caps = new ArrayList<>();
+
+		private final List<PropertyBox> rows = new ArrayList<>();
+
+		BackendDataProvider(int size) {
+			super();
+			for (long i = 1; i <= size; i++) {
+				rows.add(PropertyBox.builder(PROPERTIES).set(ID, i * 2).set(NAME, "n" + i).build());
+			}
+		}
+
+		PropertyBox add(long id) {
+			final PropertyBox row = PropertyBox.builder(PROPERTIES).set(ID, id).set(NAME, "added").build();
+			int index = 0;
+			while (index < rows.size() && rows.get(index).getValue(ID) < id) {
+				index++;
+			}
+			rows.add(index, row);
+			return row;
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+			return rows.size();
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration, long cap) throws DataAccessException {
+			caps.add(cap);
+			return Math.min(rows.size(), cap + 1);
+		}
+
+		@Override
+		public Stream<PropertyBox> load(QueryConfigurationProvider configuration, int offset, int limit)
+				throws DataAccessException {
+			return new ArrayList<>(rows).stream().skip(offset).limit(limit);
+		}
+
+	}
+
+}
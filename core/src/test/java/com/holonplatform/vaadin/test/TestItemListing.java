@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.vaadin.components.Components;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.internal.components.DefaultPropertyListing;
+import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+import com.vaadin.data.Binder;
+import com.vaadin.data.Binder.Binding;
+import com.vaadin.data.HasValue;
+import com.vaadin.data.Validator;
+
+public class TestItemListing extends AbstractVaadinTest {
+
+	private static final PathProperty<Long> ID = PathProperty.create("id", Long.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+
+	private static final PropertySet<?> PROPERTIES = PropertySet.builderOf(ID, NAME).identifier(ID).build();
+
+	@Test
+	public void testPooledEditorsUnchangedField() {
+		final DefaultPropertyListing listing = build();
+		final Binder<PropertyBox> binder = listing.getGrid().getEditor().getBinder();
+		final Binding<PropertyBox, ?> binding = getNameBinding(listing);
+
+		// invalid value not changed by the user
+		binder.readBean(box(1L, " "));
+		assertFalse(binding.validate().isError());
+	}
+
+	@Test
+	public void testPooledEditorsChangedField() {
+		final DefaultPropertyListing listing = build();
+		final Binder<PropertyBox> binder = listing.getGrid().getEditor().getBinder();
+		final Binding<PropertyBox, ?> binding = getNameBinding(listing);
+
+		binder.readBean(box(1L, "valid"));
+		assertFalse(binding.validate().isError());
+
+		getNameField(binding).setValue(" ");
+		assertTrue(binding.validate().isError());
+
+		getNameField(binding).setValue("changed");
+		assertFalse(binding.validate().isError());
+	}
+
+	@Test
+	public void testPooledEditorsReadBeanClearsChanges() {
+		final DefaultPropertyListing listing = build();
+		final Binder<PropertyBox> binder = listing.getGrid().getEditor().getBinder();
+		final Binding<PropertyBox, ?> binding = getNameBinding(listing);
+
+		binder.readBean(box(1L, "valid"));
+		getNameField(binding).setValue(" ");
+		assertTrue(binding.validate().isError());
+
+		// another row opened for editing
+		binder.readBean(box(2L, " "));
+		assertFalse(binding.validate().isError());
+	}
+
+	@Test
+	public void testPooledBindingReused() {
+		final DefaultPropertyListing listing = build();
+		final Binder<PropertyBox> binder = listing.getGrid().getEditor().getBinder();
+		final Binding<PropertyBox, ?> binding = getNameBinding(listing);
+		final long fields = binder.getFields().count();
+
+		// columns setup again
+		listing.setPropertyColumns(Arrays.asList(NAME));
+		listing.setPropertyColumns(Arrays.asList(ID, NAME));
+
+		assertSame(binding, getNameBinding(listing));
+		assertEquals(fields, binder.getFields().count());
+
+		// the reused field changes are still tracked
+		binder.readBean(box(1L, "valid"));
+		getNameField(binding).setValue(" ");
+		assertTrue(binding.validate().isError());
+		binder.readBean(box(1L, " "));
+		assertFalse(binding.validate().isError());
+	}
+
+	private static DefaultPropertyListing build() {
+		final DefaultPropertyListing listing = (DefaultPropertyListing) Components.listing.properties(PROPERTIES)
+				.dataSource(new BackendDataProvider(10)).editable(true).editorBuffered(true).pooledEditors()
+				.withValidator(NAME, Validator.from(v -> v != null && !v.trim().isEmpty(), "Name required"))
+				.build();
+		listing.setPropertyColumns(Arrays.asList(ID, NAME));
+		return listing;
+	}
+
+	private static Binding<PropertyBox, ?> getNameBinding(DefaultPropertyListing listing) {
+		final Binding<PropertyBox, ?> binding = listing.getGrid().getColumn(listing.getColumnId(NAME))
+				.getEditorBinding();
+		assertNotNull(binding);
+		return binding;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static HasValue<String> getNameField(Binding<PropertyBox, ?> binding) {
+		return (HasValue<String>) binding.getField();
+	}
+
+	private static PropertyBox box(Long id, String name) {
+		return PropertyBox.builder(PROPERTIES).set(ID, id).set(NAME, name).build();
+	}
+
+	@SuppressWarnings("serial")
+	private static final class BackendDataProvider implements ItemDataProvider<PropertyBox> {
+
+		private final List<PropertyBox> rows = new ArrayList<>();
+
+		BackendDataProvider(int size) {
+			super();
+			for (long i = 1; i <= size; i++) {
+				rows.add(box(i, "n" + i));
+			}
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+			return rows.size();
+		}
+
+		@Override
+		public Stream<PropertyBox> load(QueryConfigurationProvider configuration, int offset, int limit)
+				throws DataAccessException {
+			return new ArrayList<>(rows).stream().skip(offset).limit(limit);
+		}
+
+	}
+
+}
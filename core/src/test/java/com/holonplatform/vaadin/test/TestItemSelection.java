@@ -0,0 +1,237 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.ParameterSet;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.QueryConfigurationProvider;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.vaadin.components.Components;
+import com.holonplatform.vaadin.components.ItemSelection;
+import com.holonplatform.vaadin.components.ItemSelection.BulkOperation;
+import com.holonplatform.vaadin.components.PropertyListing;
+import com.holonplatform.vaadin.components.Selectable.SelectionMode;
+import com.holonplatform.vaadin.data.ItemDataProvider;
+import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+
+public class TestItemSelection extends AbstractVaadinTest {
+
+	private static final PathProperty<Long> ID = PathProperty.create("id", Long.class);
+	private static final PathProperty<String> NAME = PathProperty.create("name", String.class);
+
+	private static final PropertySet<?> PROPERTIES = PropertySet.builderOf(ID, NAME).identifier(ID).build();
+
+	@Test
+	public void testSelectAllDeselectReselect() {
+		final BackendDataProvider backend = new BackendDataProvider(120);
+		final PropertyListing listing = build(backend);
+
+		listing.selectAll();
+
+		ItemSelection<PropertyBox> selection = listing.getItemSelection();
+		assertTrue(selection.isAllSelected());
+		assertEquals(120, selection.count());
+		assertTrue(listing.isSelected(backend.row(5)));
+
+		listing.deselect(backend.row(5));
+
+		selection = listing.getItemSelection();
+		assertTrue(selection.isAllSelected());
+		assertEquals(119, selection.count());
+		assertEquals(1, selection.getExcludedItems().size());
+		assertTrue(selection.getExcludedItems().contains(backend.row(5)));
+		assertFalse(listing.getSelectedItems().contains(backend.row(5)));
+
+		listing.select(backend.row(5));
+
+		selection = listing.getItemSelection();
+		assertTrue(selection.isAllSelected());
+		assertEquals(120, selection.count());
+		assertTrue(selection.getExcludedItems().isEmpty());
+		assertTrue(listing.getSelectedItems().contains(backend.row(5)));
+	}
+
+	@Test
+	public void testLazyStream() {
+		final BackendDataProvider backend = new BackendDataProvider(120);
+		final PropertyListing listing = build(backend);
+
+		listing.selectAll();
+		// excluded items at the first batch boundary
+		listing.deselect(backend.row(50));
+		listing.deselect(backend.row(51));
+
+		final int loads = backend.loads.get();
+		final Stream<PropertyBox> stream = listing.getItemSelection().stream();
+		assertEquals(loads, backend.loads.get());
+
+		final List<Long> ids = stream.map(i -> i.getValue(ID)).collect(Collectors.toList());
+		assertEquals(118, ids.size());
+		assertEquals(Long.valueOf(49), ids.get(48));
+		assertEquals(Long.valueOf(52), ids.get(49));
+		assertEquals(Long.valueOf(120), ids.get(117));
+		// 50 + 50 + 20
+		assertEquals(loads + 3, backend.loads.get());
+
+		assertEquals(10, listing.getItemSelection().stream().limit(10).count());
+		assertEquals(loads + 4, backend.loads.get());
+
+		assertEquals(118, listing.getItemSelection().streamIds().count());
+	}
+
+	@Test
+	public void testSelectedItemsContains() {
+		final BackendDataProvider backend = new BackendDataProvider(120);
+		final PropertyListing listing = build(backend);
+
+		listing.selectAll();
+		listing.deselect(backend.row(3));
+
+		final Set<PropertyBox> selected = listing.getSelectedItems();
+		assertTrue(selected.contains(backend.row(1)));
+		assertTrue(selected.contains(backend.row(100)));
+		assertFalse(selected.contains(backend.row(3)));
+		// never matched the query
+		assertFalse(selected.contains(PropertyBox.builder(PROPERTIES).set(ID, 500L).set(NAME, "n500").build()));
+		assertFalse(selected.contains("x"));
+		assertFalse(selected.contains(null));
+	}
+
+	@Test
+	public void testRefreshClearsSelection() {
+		final BackendDataProvider backend = new BackendDataProvider(20);
+		final PropertyListing listing = build(backend);
+
+		listing.selectAll();
+		assertTrue(listing.getItemSelection().isAllSelected());
+
+		listing.refresh();
+
+		final ItemSelection<PropertyBox> selection = listing.getItemSelection();
+		assertFalse(selection.isAllSelected());
+		assertEquals(0, selection.count());
+		assertTrue(listing.getSelectedItems().isEmpty());
+		assertFalse(listing.isSelected(backend.row(1)));
+	}
+
+	@Test
+	public void testExecuteQueryConfiguration() {
+		final BackendDataProvider backend = new BackendDataProvider(20);
+		final PropertyListing listing = build(backend);
+
+		listing.selectAll();
+		listing.deselect(backend.row(2));
+
+		final List<QueryConfigurationProvider> queries = new ArrayList<>();
+		final int excluded = listing.getItemSelection().execute(new BulkOperation<PropertyBox, Integer>() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public Integer executeFiltered(QueryConfigurationProvider query, Set<PropertyBox> excludedItems) {
+				queries.add(query);
+				return excludedItems.size();
+			}
+
+			@Override
+			public Integer executeItems(Set<PropertyBox> items) {
+				throw new IllegalStateException("Unexpected explicit items");
+			}
+
+		});
+
+		assertEquals(1, excluded);
+		assertEquals(1, queries.size());
+		final ParameterSet parameters = queries.get(0).getQueryParameters();
+		assertNotNull(parameters);
+		assertTrue(parameters.hasParameter("tenant"));
+	}
+
+	private static PropertyListing build(BackendDataProvider backend) {
+		return Components.listing.properties(PROPERTIES).dataSource(backend).selectionMode(SelectionMode.MULTI)
+				.lazySelectAll().withQueryConfigurationProvider(new QueryConfigurationProvider() {
+
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					public QueryFilter getQueryFilter() {
+						return null;
+					}
+
+					@Override
+					public QuerySort getQuerySort() {
+						return null;
+					}
+
+					@Override
+					public ParameterSet getQueryParameters() {
+						return ParameterSet.builder().withParameter("tenant", "t1").build();
+					}
+
+				}).build();
+	}
+
+	@SuppressWarnings("serial")
+	private static final class BackendDataProvider implements ItemDataProvider<PropertyBox> {
+
+		final AtomicInteger loads = new AtomicInteger();
+
+		private final List<PropertyBox> rows = new ArrayList<>();
+
+		BackendDataProvider(int size) {
+			super();
+			for (long i = 1; i <= size; i++) {
+				rows.add(PropertyBox.builder(PROPERTIES).set(ID, i).set(NAME, "n" + i).build());
+			}
+		}
+
+		PropertyBox row(long id) {
+			return rows.get((int) id - 1);
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+			return rows.size();
+		}
+
+		@Override
+		public Stream<PropertyBox> load(QueryConfigurationProvider configuration, int offset, int limit)
+				throws DataAccessException {
+			loads.incrementAndGet();
+			return new ArrayList<>(rows).stream().skip(offset).limit(limit);
+		}
+
+	}
+
+}
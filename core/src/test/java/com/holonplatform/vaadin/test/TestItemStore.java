@@ -20,6 +20,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -32,8 +39,12 @@ import com.holonplatform.core.query.QueryConfigurationProvider;
 import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.vaadin.data.ItemDataProvider;
 import com.holonplatform.vaadin.data.ItemIdentifierProvider;
+import com.holonplatform.vaadin.data.QueryTracer;
+import com.holonplatform.vaadin.data.QueryTracer.Operation;
+import com.holonplatform.vaadin.data.QueryTracer.QueryTraceCollector;
 import com.holonplatform.vaadin.internal.data.DefaultItemStore;
 import com.holonplatform.vaadin.internal.data.ItemStore;
+import com.vaadin.shared.Registration;
 
 public class TestItemStore {
 
@@ -143,6 +154,291 @@ public class TestItemStore {
 		assertEquals(4, qcount.get());
 	}
 
+	@Test
+	public void testStoreRange() {
+
+		ItemStore<String> store = new DefaultItemStore<>(new TestConfiguration(), new TestDataProvider(),
+				ItemIdentifierProvider.identity(), 5, 10);
+
+		List<String> items = store.getItems(1, 1);
+		assertEquals(1, items.size());
+		assertEquals("b", items.get(0));
+		assertEquals(1, qcount.get());
+
+		items = store.getItems(3, 1);
+		assertEquals("d", items.get(0));
+		assertEquals(2, qcount.get());
+
+		// missing items merged in a single query
+		items = store.getItems(0, 10);
+		assertEquals(5, items.size());
+		assertEquals("a", items.get(0));
+		assertEquals("e", items.get(4));
+		assertEquals(3, qcount.get());
+
+		// cached
+		items = store.getItems(2, 3);
+		assertEquals(3, items.size());
+		assertEquals("c", items.get(0));
+		assertEquals(3, qcount.get());
+
+		assertEquals(0, store.getItems(5, 2).size());
+
+		store.addItem("f");
+		items = store.getItems(0, 2);
+		assertEquals(2, items.size());
+		assertEquals("f", items.get(0));
+		assertEquals("a", items.get(1));
+		assertEquals(3, qcount.get());
+	}
+
+	@Test
+	public void testBulkEdits() {
+
+		ItemStore<String> store = new DefaultItemStore<>(new SerializableConfiguration(),
+				new SerializableDataProvider(10000), ItemIdentifierProvider.identity(), 100, 20000);
+
+		final List<String> items = store.getItems(0, 10000);
+		assertEquals(10000, items.size());
+
+		for (String item : items) {
+			store.setItemModified(item);
+		}
+		assertEquals(10000, store.getModifiedItems().size());
+
+		// remove every other item
+		for (int i = 0; i < items.size(); i += 2) {
+			assertTrue(store.removeItem(items.get(i)));
+		}
+		assertEquals(5000, store.size());
+		assertEquals(5000, store.getRemovedItems().size());
+		assertEquals(5000, store.getModifiedItems().size());
+		assertEquals("i0", store.getRemovedItems().get(0));
+		assertEquals("i1", store.getModifiedItems().get(0));
+
+		// removed items are skipped
+		assertEquals("i1", store.getItem(0));
+		assertEquals("i9999", store.getItem(4999));
+		List<String> range = store.getItems(10, 3);
+		assertEquals(3, range.size());
+		assertEquals("i21", range.get(0));
+		assertEquals("i23", range.get(1));
+		assertEquals("i25", range.get(2));
+
+		for (int i = 0; i < 100; i++) {
+			store.addItem("n" + i);
+		}
+		assertEquals(5100, store.size());
+		assertEquals("n99", store.getItem(0));
+		assertEquals("n99", store.getAddedItems().get(0));
+		assertEquals("i1", store.getItem(100));
+
+		// added items are not tracked as modified
+		store.setItemModified("n5");
+		assertEquals(5000, store.getModifiedItems().size());
+
+		// removing an added item discards it
+		assertTrue(store.removeItem("n5"));
+		assertEquals(5099, store.size());
+		assertEquals(99, store.getAddedItems().size());
+		assertEquals(5000, store.getRemovedItems().size());
+
+		store.discard();
+		assertFalse(store.isModified());
+		assertEquals(10000, store.size());
+		assertEquals("i0", store.getItem(0));
+	}
+
+	@Test
+	public void testInMemoryStore() {
+
+		ItemStore<String> store = new DefaultItemStore<>(new TestConfiguration(), new TestDataProvider(),
+				ItemIdentifierProvider.identity(), 2, 2);
+		store.setInMemoryThreshold(10);
+
+		assertEquals(5, store.size());
+		assertTrue(store.isInMemory());
+		assertEquals(1, qcount.get());
+
+		// served from memory, even if not cached
+		assertEquals("e", store.getItem(4));
+		assertEquals(5, store.getItems(0, 5).size());
+		assertEquals(1, qcount.get());
+
+		store.removeItem("b");
+		assertTrue(store.sortInMemory((i1, i2) -> i2.compareTo(i1)));
+		assertEquals(4, store.size());
+		assertEquals("e", store.getItem(0));
+		assertEquals("a", store.getItem(3));
+
+		assertTrue(store.sortInMemory(null));
+		assertEquals("a", store.getItem(0));
+		assertEquals("c", store.getItem(1));
+		assertEquals(1, qcount.get());
+
+		// over threshold: lazy loading
+		store.setInMemoryThreshold(3);
+		store.reset(false, false);
+		assertEquals(5, store.size());
+		assertFalse(store.isInMemory());
+		assertFalse(store.sortInMemory(null));
+	}
+
+	@Test
+	public void testRefreshLoadedItem() {
+
+		DefaultItemStore<String> store = new DefaultItemStore<>(new SerializableConfiguration(),
+				new SerializableDataProvider(1000), i -> i, 50, 100);
+
+		// not loaded
+		assertFalse(store.refreshLoadedItem("i10"));
+
+		assertEquals("i10", store.getItem(10));
+		assertTrue(store.refreshLoadedItem("i10"));
+
+		// pending changes are preserved
+		store.setItemModified(store.getItem(11));
+		assertFalse(store.refreshLoadedItem("i11"));
+		store.addItem("new");
+		assertFalse(store.refreshLoadedItem("new"));
+	}
+
+	@Test
+	public void testQueryTracing() {
+
+		final QueryTraceCollector collector = QueryTracer.collector(10);
+		final Registration registration = QueryTracer.register(collector);
+		try {
+			DefaultItemStore<String> store = new DefaultItemStore<>(new SerializableConfiguration(),
+					ItemDataProvider.traced(new SerializableDataProvider(1000), "test"), i -> i, 50, 100);
+
+			assertEquals("i10", store.getItem(10));
+
+			assertEquals(2, collector.getTraces().size());
+			assertEquals("test", collector.getTraces().get(0).getSource());
+			assertEquals(Operation.COUNT, collector.getTraces().get(0).getOperation());
+			assertEquals(1000, collector.getTraces().get(0).getRowCount());
+			assertEquals(Operation.LOAD, collector.getTraces().get(1).getOperation());
+			assertEquals(50, collector.getTraces().get(1).getLimit());
+			assertEquals(50, collector.getTraces().get(1).getRowCount());
+		} finally {
+			registration.remove();
+		}
+
+		collector.clear();
+		ItemDataProvider.traced(new SerializableDataProvider(10), "test").size(new SerializableConfiguration());
+		assertTrue(collector.getTraces().isEmpty());
+	}
+
+	@Test
+	public void testRemoveUncachedItem() {
+
+		ItemStore<String> store = new DefaultItemStore<>(new SerializableConfiguration(),
+				new SerializableDataProvider(100), ItemIdentifierProvider.identity(), 10, 20);
+
+		// load all the items, so that the first ones are evicted from cache
+		for (int i = 0; i < store.size(); i++) {
+			assertNotNull(store.getItem(i));
+		}
+
+		assertTrue(store.removeItem("i0"));
+		assertEquals(99, store.size());
+		assertEquals("i1", store.getItem(0));
+		assertEquals(1, store.getRemovedItems().size());
+
+		assertTrue(store.removeItem("i5"));
+		assertEquals(98, store.size());
+		assertEquals("i6", store.getItem(4));
+		assertEquals("i99", store.getItem(97));
+
+		// already removed
+		assertFalse(store.removeItem("i5"));
+		assertEquals(98, store.size());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testStoreSerialization() throws Exception {
+
+		DefaultItemStore<String> store = new DefaultItemStore<>(new SerializableConfiguration(),
+				new SerializableDataProvider(1000), null, 100, 500);
+
+		final int emptySize = serialize(store).length;
+
+		// load all the items in cache
+		for (int i = 0; i < store.size(); i++) {
+			assertNotNull(store.getItem(i));
+		}
+		final int loadedSize = serialize(store).length;
+
+		// cached items are not serialized
+		assertEquals(emptySize, loadedSize);
+
+		store.setItemModified(store.getItem(3));
+		store.addItem("new");
+
+		DefaultItemStore<String> deserialized = (DefaultItemStore<String>) deserialize(serialize(store));
+
+		assertEquals(500, deserialized.getMaxCacheSize());
+		assertEquals(1001, deserialized.size());
+		assertEquals("new", deserialized.getItem(0));
+		assertEquals("i0", deserialized.getItem(1));
+		assertEquals(1, deserialized.getModifiedItems().size());
+		assertEquals("i3", deserialized.getModifiedItems().get(0));
+		assertTrue(deserialized.isModified());
+	}
+
+	private static byte[] serialize(Object object) throws IOException {
+		final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+			oos.writeObject(object);
+		}
+		return bos.toByteArray();
+	}
+
+	private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return ois.readObject();
+		}
+	}
+
+	@SuppressWarnings("serial")
+	private static final class SerializableDataProvider implements ItemDataProvider<String>, Serializable {
+
+		private final int size;
+
+		public SerializableDataProvider(int size) {
+			super();
+			this.size = size;
+		}
+
+		@Override
+		public long size(QueryConfigurationProvider configuration) throws DataAccessException {
+			return size;
+		}
+
+		@Override
+		public Stream<String> load(QueryConfigurationProvider configuration, int offset, int limit)
+				throws DataAccessException {
+			final List<String> items = new ArrayList<>(limit);
+			for (int i = offset; i < Math.min(size, offset + limit); i++) {
+				items.add("i" + i);
+			}
+			return items.stream();
+		}
+
+	}
+
+	@SuppressWarnings("serial")
+	private static final class SerializableConfiguration implements QueryConfigurationProvider, Serializable {
+
+		@Override
+		public QueryFilter getQueryFilter() {
+			return null;
+		}
+
+	}
+
 	@SuppressWarnings("serial")
 	private final class TestDataProvider implements ItemDataProvider<String> {
 
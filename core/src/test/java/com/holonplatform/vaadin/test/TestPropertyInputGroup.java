@@ -0,0 +1,295 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.Validator.ValidationException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.vaadin.components.Components;
+import com.holonplatform.vaadin.components.PropertyInputGroup;
+import com.holonplatform.vaadin.components.PropertyInputGroup.CoalescedValueChangeEvent;
+import com.holonplatform.vaadin.components.ValueHolder.ValueChangeEvent;
+import com.holonplatform.vaadin.internal.components.DefaultPropertyInputGroup;
+import com.holonplatform.vaadin.internal.components.ValueChangeFlushExtension;
+import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+import com.vaadin.server.Extension;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.shared.ui.ValueChangeMode;
+import com.vaadin.ui.TabSheet;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.VerticalLayout;
+
+public class TestPropertyInputGroup extends AbstractVaadinTest {
+
+	private static final PathProperty<String> STR1 = PathProperty.create("str1", String.class);
+	private static final PathProperty<String> STR2 = PathProperty.create("str2", String.class);
+
+	@Test
+	public void testCoalesceValueChangeEvents() {
+		final UI ui = createUi(TestUI.class, "http://localhost");
+
+		final List<ValueChangeEvent<PropertyBox>> events = new ArrayList<>();
+
+		final PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2)
+				.coalesceValueChangeEvents(true).withValueChangeListener(e -> events.add(e)).build();
+
+		group.getInput(STR1).ifPresent(i -> i.setValue("a"));
+		group.getInput(STR2).ifPresent(i -> i.setValue("b"));
+
+		// not fired until the UI response is written
+		assertEquals(0, events.size());
+
+		final ValueChangeFlushExtension extension = getFlushExtension(ui);
+		extension.beforeClientResponse(false);
+
+		assertEquals(1, events.size());
+		assertTrue(events.get(0) instanceof CoalescedValueChangeEvent);
+		final CoalescedValueChangeEvent event = (CoalescedValueChangeEvent) events.get(0);
+		assertEquals(2, event.getChangedProperties().size());
+		assertTrue(event.isChanged(STR1));
+		assertTrue(event.isChanged(STR2));
+		assertEquals("a", event.getValue().getValue(STR1));
+		assertEquals("b", event.getValue().getValue(STR2));
+
+		// nothing pending
+		extension.beforeClientResponse(false);
+		assertEquals(1, events.size());
+
+		group.getInput(STR1).ifPresent(i -> i.setValue("c"));
+		extension.beforeClientResponse(false);
+
+		assertEquals(2, events.size());
+		assertEquals(1, ((CoalescedValueChangeEvent) events.get(1)).getChangedProperties().size());
+		assertEquals("a", events.get(1).getOldValue().getValue(STR1));
+		assertEquals("c", events.get(1).getValue().getValue(STR1));
+	}
+
+	@Test
+	public void testFlushValueChangeEvents() {
+		createUi(TestUI.class, "http://localhost");
+
+		final List<ValueChangeEvent<PropertyBox>> events = new ArrayList<>();
+
+		final PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2)
+				.coalesceValueChangeEvents(true).withValueChangeListener(e -> events.add(e)).build();
+
+		group.getInput(STR1).ifPresent(i -> i.setValue("a"));
+		assertEquals(0, events.size());
+
+		((DefaultPropertyInputGroup) group).flushValueChangeEvents();
+		assertEquals(1, events.size());
+		assertTrue(((CoalescedValueChangeEvent) events.get(0)).isChanged(STR1));
+
+		((DefaultPropertyInputGroup) group).flushValueChangeEvents();
+		assertEquals(1, events.size());
+	}
+
+	@Test
+	public void testThrottleValueChanges() {
+		PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2)
+				.valueChangeMode(ValueChangeMode.EAGER).throttleValueChanges(300).build();
+
+		assertEquals(ValueChangeMode.TIMEOUT, group.getInput(STR1).map(i -> i.getValueChangeMode()).orElse(null));
+		assertEquals(300, group.getInput(STR1).map(i -> i.getValueChangeTimeout()).orElse(-1).intValue());
+
+		group = Components.input.propertyGroup().properties(STR1, STR2).valueChangeMode(ValueChangeMode.BLUR)
+				.throttleValueChanges(300).build();
+
+		assertEquals(ValueChangeMode.BLUR, group.getInput(STR1).map(i -> i.getValueChangeMode()).orElse(null));
+	}
+
+	@Test
+	public void testLazyInputs() {
+		final PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2).lazy(STR2)
+				.required(STR2).defaultValue(STR2, p -> "dft").build();
+
+		assertTrue(group.isInputRendered(STR1));
+		assertFalse(group.isInputRendered(STR2));
+		assertEquals(1, group.getComponents().count());
+		assertEquals(1, group.streamOfComponents().count());
+		assertEquals(1, group.streamOfValueComponents().count());
+
+		// set value
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").set(STR2, "b").build());
+		assertFalse(group.isInputRendered(STR2));
+
+		// get value
+		PropertyBox value = group.getValue(false);
+		assertEquals("a", value.getValue(STR1));
+		assertEquals("b", value.getValue(STR2));
+		assertFalse(group.isInputRendered(STR2));
+
+		// validate
+		group.validate();
+		assertFalse(group.isInputRendered(STR2));
+
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").build());
+		assertThrows(ValidationException.class, () -> group.validate());
+		assertFalse(group.isInputRendered(STR2));
+
+		// default value when cleared
+		group.setValue(null);
+		assertEquals("dft", group.getValue(false).getValue(STR2));
+		assertFalse(group.isInputRendered(STR2));
+
+		// render
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").set(STR2, "c").build());
+		assertEquals(1, group.renderInputs(STR2).count());
+		assertTrue(group.isInputRendered(STR2));
+		assertEquals("c", group.getInput(STR2).map(i -> i.getValue()).orElse(null));
+
+		// rendered lazy inputs are provided
+		assertEquals(2, group.getComponents().count());
+		assertEquals(2, group.streamOfComponents().count());
+		assertEquals(2, group.streamOfValueComponents().count());
+
+		group.getInput(STR2).ifPresent(i -> i.setValue("d"));
+		assertEquals("d", group.getValue(false).getValue(STR2));
+	}
+
+	@Test
+	public void testRenderInputsOnTabSelection() {
+		final PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2).lazy(STR2).build();
+
+		final TabSheet tabSheet = new TabSheet();
+		final VerticalLayout tab1 = new VerticalLayout();
+		final VerticalLayout tab2 = new VerticalLayout();
+		tabSheet.addTab(tab1);
+		tabSheet.addTab(tab2);
+		tabSheet.setSelectedTab(tab1);
+
+		group.renderInputsOnTabSelection(tabSheet, tab2, Arrays.asList(STR2),
+				b -> tab2.addComponent(b.getComponent().getComponent()));
+
+		assertFalse(group.isInputRendered(STR2));
+		assertEquals(0, tab2.getComponentCount());
+
+		tabSheet.setSelectedTab(tab2);
+		assertTrue(group.isInputRendered(STR2));
+		assertEquals(1, tab2.getComponentCount());
+
+		// rendered only once
+		tabSheet.setSelectedTab(tab1);
+		tabSheet.setSelectedTab(tab2);
+		assertEquals(1, tab2.getComponentCount());
+
+		// already selected tab
+		final PropertyInputGroup group2 = Components.input.propertyGroup().properties(STR1, STR2).lazy(STR2).build();
+		final VerticalLayout tab3 = new VerticalLayout();
+		tabSheet.addTab(tab3);
+		tabSheet.setSelectedTab(tab3);
+
+		group2.renderInputsOnTabSelection(tabSheet, tab3, Arrays.asList(STR2),
+				b -> tab3.addComponent(b.getComponent().getComponent()));
+
+		assertTrue(group2.isInputRendered(STR2));
+		assertEquals(1, tab3.getComponentCount());
+	}
+
+	@Test
+	public void testCoalescedSetValueChangedProperties() {
+		final UI ui = createUi(TestUI.class, "http://localhost");
+
+		final List<ValueChangeEvent<PropertyBox>> events = new ArrayList<>();
+
+		final PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2)
+				.coalesceValueChangeEvents(true).withValueChangeListener(e -> events.add(e)).build();
+
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").set(STR2, "b").build());
+		final ValueChangeFlushExtension extension = getFlushExtension(ui);
+		extension.beforeClientResponse(false);
+
+		assertEquals(1, events.size());
+		assertEquals(2, ((CoalescedValueChangeEvent) events.get(0)).getChangedProperties().size());
+
+		// only the properties whose value differs are changed
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").set(STR2, "c").build());
+		extension.beforeClientResponse(false);
+
+		assertEquals(2, events.size());
+		final CoalescedValueChangeEvent event = (CoalescedValueChangeEvent) events.get(1);
+		assertEquals(1, event.getChangedProperties().size());
+		assertFalse(event.isChanged(STR1));
+		assertTrue(event.isChanged(STR2));
+
+		// same value
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").set(STR2, "c").build());
+		extension.beforeClientResponse(false);
+		assertEquals(2, events.size());
+	}
+
+	@Test
+	public void testLazyInputRenderingNotNotified() {
+		final UI ui = createUi(TestUI.class, "http://localhost");
+
+		final List<ValueChangeEvent<PropertyBox>> events = new ArrayList<>();
+		final List<ValueChangeEvent<String>> inputEvents = new ArrayList<>();
+
+		final PropertyInputGroup group = Components.input.propertyGroup().properties(STR1, STR2).lazy(STR2)
+				.coalesceValueChangeEvents(true).withValueChangeListener(e -> events.add(e))
+				.withValueChangeListener(STR2, e -> inputEvents.add(e)).build();
+
+		group.setValue(PropertyBox.builder(STR1, STR2).set(STR1, "a").set(STR2, "b").build());
+		final ValueChangeFlushExtension extension = getFlushExtension(ui);
+		extension.beforeClientResponse(false);
+		assertEquals(1, events.size());
+
+		// rendering loads the current value without notifying a change
+		assertEquals(1, group.renderInputs(STR2).count());
+		assertEquals("b", group.getInput(STR2).map(i -> i.getValue()).orElse(null));
+		extension.beforeClientResponse(false);
+		assertEquals(1, events.size());
+		assertEquals(0, inputEvents.size());
+
+		// changes of the rendered input are notified
+		group.getInput(STR2).ifPresent(i -> i.setValue("c"));
+		extension.beforeClientResponse(false);
+		assertEquals(2, events.size());
+		assertTrue(((CoalescedValueChangeEvent) events.get(1)).isChanged(STR2));
+		assertEquals(1, inputEvents.size());
+	}
+
+	private static ValueChangeFlushExtension getFlushExtension(UI ui) {
+		for (Extension extension : ui.getExtensions()) {
+			if (extension instanceof ValueChangeFlushExtension) {
+				return (ValueChangeFlushExtension) extension;
+			}
+		}
+		throw new IllegalStateException("Missing ValueChangeFlushExtension");
+	}
+
+	public static class TestUI extends UI {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected void init(VaadinRequest request) {
+		}
+
+	}
+
+}
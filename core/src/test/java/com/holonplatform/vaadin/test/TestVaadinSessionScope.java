@@ -0,0 +1,238 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.holonplatform.core.exceptions.TypeMismatchException;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.holonplatform.vaadin.internal.VaadinSessionResources;
+import com.holonplatform.vaadin.internal.VaadinSessionScope;
+import com.vaadin.server.VaadinService;
+import com.vaadin.server.VaadinSession;
+import com.vaadin.server.WrappedSession;
+import com.vaadin.util.CurrentInstance;
+
+public class TestVaadinSessionScope {
+
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	private WrappedSession wrappedSession;
+
+	private VaadinSession session;
+
+	private Map<String, Object> sessionAttributes;
+
+	@BeforeEach
+	public void setup() {
+		final Map<String, Object> attributes = new HashMap<>();
+		wrappedSession = mock(WrappedSession.class);
+		when(wrappedSession.getAttribute(anyString())).thenAnswer(i -> attributes.get(i.getArgument(0)));
+		doAnswer(i -> attributes.put(i.getArgument(0), i.getArgument(1))).when(wrappedSession)
+				.setAttribute(anyString(), any());
+
+		sessionAttributes = new HashMap<>();
+		session = createSession("test", sessionAttributes);
+		CurrentInstance.set(VaadinSession.class, session);
+	}
+
+	private VaadinSession createSession(String serviceName, Map<String, Object> attributes) {
+		final VaadinService service = mock(VaadinService.class);
+		when(service.getServiceName()).thenReturn(serviceName);
+
+		final VaadinSession vaadinSession = mock(VaadinSession.class);
+		when(vaadinSession.getSession()).thenReturn(wrappedSession);
+		when(vaadinSession.getService()).thenReturn(service);
+		when(vaadinSession.hasLock()).thenReturn(true);
+		when(vaadinSession.getAttribute(anyString())).thenAnswer(i -> attributes.get(i.getArgument(0)));
+		doAnswer(i -> (i.getArgument(1) == null) ? attributes.remove(i.getArgument(0))
+				: attributes.put(i.getArgument(0), i.getArgument(1))).when(vaadinSession)
+						.setAttribute(anyString(), any());
+		return vaadinSession;
+	}
+
+	@AfterEach
+	public void cleanup() {
+		CurrentInstance.clearAll();
+	}
+
+	@Test
+	public void testScope() {
+		final VaadinSessionScope scope = new VaadinSessionScope();
+
+		assertFalse(scope.get("test", String.class).isPresent());
+
+		scope.put("test", "value");
+		assertEquals("value", scope.get("test", String.class).orElse(null));
+		assertEquals("value", scope.get("test", CharSequence.class).orElse(null));
+		assertThrows(TypeMismatchException.class, () -> scope.get("test", Integer.class));
+
+		assertTrue(VaadinSessionResources.get(session).isPresent());
+		assertEquals("value", VaadinSessionResources.get(session).flatMap(r -> r.get("test")).orElse(null));
+
+		Optional<String> existing = scope.putIfAbsent("test", "other");
+		assertEquals("value", existing.orElse(null));
+
+		assertTrue(scope.remove("test"));
+		assertFalse(VaadinSessionResources.get(session).flatMap(r -> r.get("test")).isPresent());
+	}
+
+	@Test
+	public void testSessionAttributeFallback() {
+		sessionAttributes.put("attr", "attribute value");
+
+		final VaadinSessionScope scope = new VaadinSessionScope();
+		assertEquals("attribute value", scope.get("attr", String.class).orElse(null));
+
+		// synchronized in the registry, since the session lock is held
+		assertEquals("attribute value", VaadinSessionResources.get(session).flatMap(r -> r.get("attr")).orElse(null));
+	}
+
+	@Test
+	public void testRegistryRestore() {
+		final VaadinSessionScope scope = new VaadinSessionScope();
+		scope.put("test", "value");
+
+		// simulates a session deserialization, which clears the transient registry content
+		VaadinSessionResources.get(session).ifPresent(r -> r.remove("test"));
+
+		assertEquals("value", scope.get("test", String.class).orElse(null));
+		assertEquals("value", VaadinSessionResources.get(session).flatMap(r -> r.get("test")).orElse(null));
+	}
+
+	@Test
+	public void testSessionAttributeReplaced() {
+		final VaadinSessionScope scope = new VaadinSessionScope();
+		scope.put("test", "value");
+		assertEquals("value", scope.get("test", String.class).orElse(null));
+
+		// replaced without using the scope, i.e. at login or logout
+		session.setAttribute("test", "other");
+		assertEquals("other", scope.get("test", String.class).orElse(null));
+		assertEquals("other", VaadinSessionResources.get(session).flatMap(r -> r.get("test")).orElse(null));
+
+		session.setAttribute("test", null);
+		assertFalse(scope.get("test", String.class).isPresent());
+		assertFalse(VaadinSessionResources.get(session).flatMap(r -> r.get("test")).isPresent());
+	}
+
+	@Test
+	public void testLookupWithoutLock() {
+		final VaadinSessionScope scope = new VaadinSessionScope();
+		scope.put("test", "value");
+
+		when(session.hasLock()).thenReturn(false);
+		clearInvocations(session);
+
+		assertEquals("value", scope.get("test", CharSequence.class).orElse(null));
+		assertThrows(TypeMismatchException.class, () -> scope.get("test", Integer.class));
+		verify(session, never()).getAttribute(anyString());
+
+		// not bound using the scope
+		sessionAttributes.put("attr", "attribute value");
+		assertEquals("attribute value", scope.get("attr", String.class).orElse(null));
+		// fallback reads are not registered
+		assertFalse(VaadinSessionResources.get(session).flatMap(r -> r.get("attr")).isPresent());
+	}
+
+	@Test
+	public void testRegistryPerVaadinSession() {
+		final VaadinSessionScope scope = new VaadinSessionScope();
+		scope.put("test", "value");
+
+		// another Vaadin servlet bound to the same HTTP session
+		final VaadinSession other = createSession("other", new HashMap<>());
+		CurrentInstance.set(VaadinSession.class, other);
+		assertFalse(scope.get("test", String.class).isPresent());
+		scope.put("test", "other value");
+
+		assertEquals("other value", VaadinSessionResources.get(other).flatMap(r -> r.get("test")).orElse(null));
+		assertEquals("value", VaadinSessionResources.get(session).flatMap(r -> r.get("test")).orElse(null));
+	}
+
+	@Test
+	public void testLookupsPerNavigation() {
+		final VaadinSessionScope scope = new VaadinSessionScope();
+		scope.put(String.class.getName(), "value");
+		scope.put(Integer.class.getName(), Integer.valueOf(1));
+		scope.put(StringBuilder.class.getName(), new StringBuilder());
+
+		// simulates the context lookups performed by a navigation (view context injection and device info), from a
+		// thread which does not hold the session lock
+		when(session.hasLock()).thenReturn(false);
+		clearInvocations(session);
+
+		final int navigations = 100000;
+		final int lookupsPerNavigation = 3;
+
+		// warm up
+		for (int i = 0; i < navigations; i++) {
+			lookup(scope);
+		}
+
+		final long start = System.nanoTime();
+		int found = 0;
+		for (int i = 0; i < navigations; i++) {
+			found += lookup(scope);
+		}
+		final long elapsed = System.nanoTime() - start;
+
+		assertEquals(navigations * lookupsPerNavigation, found);
+		// served by the registry typed slots
+		verify(session, never()).getAttribute(anyString());
+		// generous bound, the lookups are expected to take well below 1 microsecond each
+		assertTrue(elapsed < TimeUnit.SECONDS.toNanos(10), "Lookups took " + (elapsed / 1000000) + " ms");
+
+		LOGGER.info("VaadinSessionScope: " + (navigations * lookupsPerNavigation) + " context lookups in "
+				+ (elapsed / 1000000) + " ms (" + (elapsed / navigations) + " ns per navigation)");
+	}
+
+	private static int lookup(VaadinSessionScope scope) {
+		int found = 0;
+		if (scope.get(String.class.getName(), CharSequence.class).isPresent()) {
+			found++;
+		}
+		if (scope.get(Integer.class.getName(), Number.class).isPresent()) {
+			found++;
+		}
+		if (scope.get(StringBuilder.class.getName(), CharSequence.class).isPresent()) {
+			found++;
+		}
+		return found;
+	}
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator;
+
+import java.io.Serializable;
+
+import com.holonplatform.vaadin.navigator.ViewNavigator.Builder;
+import com.holonplatform.vaadin.navigator.annotations.StatefulView;
+import com.vaadin.navigator.View;
+
+/**
+ * A {@link StatefulView} which supports eviction from the bounded stateful views cache of a UI.
+ * <p>
+ * When the stateful views cache limits are configured (see {@link Builder#statefulViewsLimits(int, long)}), the least
+ * recently used stateful view instances are evicted when the limits are exceeded. Before a view instance implementing
+ * this interface is evicted, the {@link #saveState()} method is invoked to obtain a lightweight representation of the
+ * view state. When the view is requested again, a new view instance is created and the saved state is provided to it
+ * using {@link #restoreState(Serializable)}, before the view is displayed.
+ * </p>
+ * <p>
+ * The view can also provide an estimate of its retained size through {@link #getEstimatedSize()}, which is used to
+ * enforce the cache size limit.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public interface EvictableStatefulView extends View {
+
+	/**
+	 * Save the view state before the view instance is evicted from the stateful views cache.
+	 * @return A lightweight representation of the view state, <code>null</code> if there is no state to save
+	 */
+	default Serializable saveState() {
+		return null;
+	}
+
+	/**
+	 * Restore the view state in a new view instance, when the view is requested after an eviction.
+	 * @param state The view state previously returned by {@link #saveState()} (never null)
+	 */
+	default void restoreState(Serializable state) {
+		// noop
+	}
+
+	/**
+	 * Get the estimated retained size of the view instance, in bytes.
+	 * @return The estimated size in bytes, or a negative number to use the default estimate, which is based on the
+	 *         number of components of the view component tree
+	 */
+	default long getEstimatedSize() {
+		return -1L;
+	}
+
+}
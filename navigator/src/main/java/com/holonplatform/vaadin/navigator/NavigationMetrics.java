@@ -0,0 +1,162 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator;
+
+import java.util.concurrent.TimeUnit;
+
+import com.holonplatform.auth.annotations.Authenticate;
+import com.holonplatform.vaadin.navigator.annotations.OnShow;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
+import com.holonplatform.vaadin.navigator.annotations.ViewContext;
+import com.holonplatform.vaadin.navigator.annotations.ViewParameter;
+import com.holonplatform.vaadin.navigator.internal.DefaultInMemoryNavigationMetrics;
+import com.vaadin.navigator.View;
+
+/**
+ * SPI to collect {@link ViewNavigator} navigation metrics: the duration of each navigation phase and the count and
+ * outcome of navigations, by view name.
+ * <p>
+ * Implementations must be thread-safe, since the same instance is usually shared by all the navigators of an
+ * application. When no {@link NavigationMetrics} is configured, the navigator does not perform any measurement.
+ * </p>
+ * 
+ * @since 5.4.1
+ * 
+ * @see ViewNavigator.NavigatorBuilder#navigationMetrics(NavigationMetrics)
+ */
+public interface NavigationMetrics {
+
+	/**
+	 * Navigation phases.
+	 */
+	public enum NavigationPhase {
+
+		/**
+		 * Resolution of the view name and view provider from a navigation state
+		 */
+		RESOLUTION,
+
+		/**
+		 * {@link Authenticate} annotation check
+		 */
+		AUTHENTICATION,
+
+		/**
+		 * View instance creation or retrieval
+		 */
+		INSTANTIATION,
+
+		/**
+		 * {@link ViewContext} fields injection
+		 */
+		CONTEXT_INJECTION,
+
+		/**
+		 * {@link ViewParameter} values binding
+		 */
+		PARAMETERS_BINDING,
+
+		/**
+		 * View display
+		 */
+		DISPLAY,
+
+		/**
+		 * {@link View#enter(com.vaadin.navigator.ViewChangeListener.ViewChangeEvent)} and {@link OnShow} methods
+		 * invocation
+		 */
+		ENTER,
+
+		/**
+		 * {@link OnShowAsync} methods execution, until the view is displayed in place of the placeholder
+		 */
+		ASYNC_LOADING
+
+	}
+
+	/**
+	 * Record the duration of a navigation phase.
+	 * @param viewName The view name, <code>null</code> if not available (for example when a navigation state cannot be
+	 *        resolved)
+	 * @param phase The navigation phase
+	 * @param durationNanos The phase duration in nanoseconds
+	 */
+	void recordPhase(String viewName, NavigationPhase phase, long durationNanos);
+
+	/**
+	 * Record a navigation.
+	 * @param viewName The view name, <code>null</code> if not available
+	 * @param durationNanos The navigation duration in nanoseconds
+	 * @param succeeded Whether the navigation completed without errors
+	 */
+	void recordNavigation(String viewName, long durationNanos, boolean succeeded);
+
+	/**
+	 * Create a new {@link InMemoryNavigationMetrics}, which collects the navigation metrics in memory.
+	 * @return A new {@link InMemoryNavigationMetrics} instance
+	 */
+	static InMemoryNavigationMetrics inMemory() {
+		return new DefaultInMemoryNavigationMetrics();
+	}
+
+	/**
+	 * A {@link NavigationMetrics} which collects the navigation metrics in memory, mainly intended for testing and
+	 * diagnostic purposes.
+	 * <p>
+	 * Metrics recorded without a view name are collected using an empty view name.
+	 * </p>
+	 */
+	public interface InMemoryNavigationMetrics extends NavigationMetrics {
+
+		/**
+		 * Get the number of times a navigation phase was recorded for given view name.
+		 * @param viewName View name
+		 * @param phase Navigation phase (not null)
+		 * @return The navigation phase count
+		 */
+		long getPhaseCount(String viewName, NavigationPhase phase);
+
+		/**
+		 * Get the total recorded time of a navigation phase for given view name.
+		 * @param viewName View name
+		 * @param phase Navigation phase (not null)
+		 * @param unit Time unit (not null)
+		 * @return The navigation phase total time
+		 */
+		long getPhaseTime(String viewName, NavigationPhase phase, TimeUnit unit);
+
+		/**
+		 * Get the number of navigations recorded for given view name.
+		 * @param viewName View name
+		 * @return The navigations count
+		 */
+		long getNavigationCount(String viewName);
+
+		/**
+		 * Get the number of failed navigations recorded for given view name.
+		 * @param viewName View name
+		 * @return The failed navigations count
+		 */
+		long getFailedNavigationCount(String viewName);
+
+		/**
+		 * Clear all the recorded metrics.
+		 */
+		void reset();
+
+	}
+
+}
@@ -22,6 +22,7 @@ import java.time.LocalTime;
 import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import com.holonplatform.auth.AuthContext;
@@ -29,6 +30,7 @@ import com.holonplatform.auth.annotations.Authenticate;
 import com.holonplatform.core.Context;
 import com.holonplatform.vaadin.navigator.annotations.OnLeave;
 import com.holonplatform.vaadin.navigator.annotations.OnShow;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
 import com.holonplatform.vaadin.navigator.annotations.StatefulView;
 import com.holonplatform.vaadin.navigator.annotations.SubViewOf;
 import com.holonplatform.vaadin.navigator.annotations.ViewParameter;
@@ -44,8 +46,10 @@ import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
 import com.vaadin.navigator.ViewDisplay;
 import com.vaadin.navigator.ViewLeaveAction;
 import com.vaadin.navigator.ViewProvider;
+import com.vaadin.server.SerializableSupplier;
 import com.vaadin.server.VaadinRequest;
 import com.vaadin.shared.Registration;
+import com.vaadin.ui.Component;
 import com.vaadin.ui.ComponentContainer;
 import com.vaadin.ui.SingleComponentContainer;
 import com.vaadin.ui.UI;
@@ -88,6 +92,11 @@ import com.vaadin.ui.Window;
  * </p>
  * 
  * <p>
+ * Views which need to load data before being displayed can declare {@link OnShowAsync} annotated methods, which are
+ * executed outside the UI thread while a placeholder component is displayed in place of the view.
+ * </p>
+ * 
+ * <p>
  * This navigator is expected to keep a history of the navigation states of the navigation flow, allowing to navigate
  * back in navigation history using {@link #navigateBack()} method.
  * </p>
@@ -391,6 +400,21 @@ public interface ViewNavigator extends Serializable {
 		 */
 		Builder withView(String viewName, Class<? extends View> viewClass);
 
+		/**
+		 * Set the limits of the {@link StatefulView} instances cache of the default {@link ViewProvider} (see
+		 * {@link #withView(String, Class)}), for each UI. When the limits are exceeded, the least recently used
+		 * stateful view instances are evicted. The state of the views which implement {@link EvictableStatefulView}
+		 * is saved before the eviction and restored in a new view instance when the view is requested again.
+		 * <p>
+		 * By default, the stateful views cache is not bounded.
+		 * </p>
+		 * @param maxViews Max stateful view instances for each UI, <code>0</code> for no limit
+		 * @param maxEstimatedSize Max estimated size in bytes of the stateful view instances of each UI, <code>0</code>
+		 *        for no limit
+		 * @return this
+		 */
+		Builder statefulViewsLimits(int maxViews, long maxEstimatedSize);
+
 		/**
 		 * Set the NavigationStateManager keeping track of the active view and enabling bookmarking and direct
 		 * navigation.
@@ -538,6 +562,52 @@ public interface ViewNavigator extends Serializable {
 		 */
 		B authenticationEnabled(boolean authenticationEnabled);
 
+		/**
+		 * Set the {@link NavigationMetrics} to use to collect the navigation metrics, such as the duration of each
+		 * navigation phase by view name.
+		 * <p>
+		 * By default, no navigation metrics are collected.
+		 * </p>
+		 * <p>
+		 * The navigation metrics reference is not serialized with the navigator: when the session is serialized and
+		 * restored, for example by a clustered or persistent session manager, navigation metrics are no longer
+		 * collected for the restored navigator, unless they are set again.
+		 * </p>
+		 * @param navigationMetrics The navigation metrics to use
+		 * @return this
+		 */
+		B navigationMetrics(NavigationMetrics navigationMetrics);
+
+		/**
+		 * Set the {@link Executor} to use to execute the {@link OnShowAsync} view methods.
+		 * <p>
+		 * By default, a shared pool of daemon threads is used. Since the executor is not serialized along with the
+		 * navigator, the default executor will be used after a session deserialization.
+		 * </p>
+		 * @param executor The executor to use (not null)
+		 * @return this
+		 */
+		B asyncViewExecutor(Executor executor);
+
+		/**
+		 * Set the supplier of the placeholder component to display in place of a view which declares
+		 * {@link OnShowAsync} methods, until the asynchronous methods execution is completed.
+		 * <p>
+		 * By default, a spinner {@link com.vaadin.ui.Label} is used.
+		 * </p>
+		 * @param placeholder The placeholder component supplier (not null)
+		 * @return this
+		 */
+		B asyncViewPlaceholder(SerializableSupplier<? extends Component> placeholder);
+
+		/**
+		 * Set the UI poll interval to use while a view is loading asynchronously, when the UI push mode is not enabled,
+		 * to let the client obtain the view as soon as it is ready. Default is 500 milliseconds.
+		 * @param pollInterval The poll interval in milliseconds, a negative value to disable the UI polling
+		 * @return this
+		 */
+		B asyncViewPollInterval(int pollInterval);
+
 	}
 
 	/**
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder;
+import com.holonplatform.vaadin.navigator.ViewNavigator.ViewNavigatorChangeEvent;
+import com.vaadin.navigator.View;
+import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
+import com.vaadin.ui.UI;
+
+/**
+ * {@link View} class accessible (public) methods annotated with this annotation will be called by view navigator
+ * asynchronously, using the navigator asynchronous view executor, after the view <code>enter</code> method and the
+ * {@link OnShow} methods were called.
+ * <p>
+ * While the OnShowAsync methods are running, the navigator displays a placeholder component in place of the view, and
+ * the actual view component is displayed only when all the OnShowAsync methods completed, using {@link UI#access}. If
+ * the user navigates to another view before the OnShowAsync methods complete, the asynchronous execution is cancelled
+ * (interrupting the executing thread) and the view is never displayed.
+ * </p>
+ * <p>
+ * OnShowAsync methods are not executed in the UI thread and without the session lock: they should be used to load the
+ * data the view needs, and must not modify any UI component directly. To apply the loaded data to the view components,
+ * a method can return a {@link Runnable}, which will be executed with the session lock held, right before the view is
+ * displayed. Any other return type is not allowed.
+ * </p>
+ * <p>
+ * Annotated methods may provide an optional parameter of {@link ViewNavigatorChangeEvent} or default
+ * {@link ViewChangeEvent} type to obtain informations about view navigation.
+ * </p>
+ * <p>
+ * If the UI push mode is not enabled, the UI polling is activated while the asynchronous methods are running, to let
+ * the client obtain the view as soon as it is ready.
+ * </p>
+ * 
+ * @see NavigatorBuilder#asyncViewExecutor(java.util.concurrent.Executor)
+ * @see NavigatorBuilder#asyncViewPlaceholder(com.vaadin.server.SerializableSupplier)
+ * 
+ * @since 5.4.1
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Inherited
+@Documented
+public @interface OnShowAsync {
+
+}
@@ -22,6 +22,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.holonplatform.vaadin.navigator.EvictableStatefulView;
 import com.holonplatform.vaadin.navigator.ViewNavigator;
 import com.vaadin.navigator.View;
 
@@ -33,6 +34,12 @@ import com.vaadin.navigator.View;
  * is returned to subsequent view requests.
  * </p>
  * 
+ * <p>
+ * The stateful view instances cache of the default view provider can be bounded, see
+ * {@link ViewNavigator.Builder#statefulViewsLimits(int, long)}. Views which implement {@link EvictableStatefulView}
+ * can save and restore their state when evicted from the cache.
+ * </p>
+ * 
  * @see ViewNavigator
  * 
  * @since 5.0.0
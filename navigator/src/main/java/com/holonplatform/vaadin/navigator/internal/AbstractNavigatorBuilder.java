@@ -15,10 +15,12 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.vaadin.navigator.DefaultViewNavigationStrategy;
+import com.holonplatform.vaadin.navigator.NavigationMetrics;
 import com.holonplatform.vaadin.navigator.ViewClassProvider;
 import com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder;
 import com.holonplatform.vaadin.navigator.ViewWindowConfigurator;
@@ -26,6 +28,8 @@ import com.vaadin.navigator.Navigator;
 import com.vaadin.navigator.View;
 import com.vaadin.navigator.ViewChangeListener;
 import com.vaadin.navigator.ViewProvider;
+import com.vaadin.server.SerializableSupplier;
+import com.vaadin.ui.Component;
 
 /**
  * Base {@link NavigatorBuilder} class.
@@ -168,4 +172,49 @@ public abstract class AbstractNavigatorBuilder<B extends NavigatorBuilder<B>, C
 		return builder();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder#navigationMetrics(com.holonplatform.vaadin.
+	 * navigator.NavigationMetrics)
+	 */
+	@Override
+	public B navigationMetrics(NavigationMetrics navigationMetrics) {
+		navigator.getActuator().setNavigationMetrics(navigationMetrics);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder#asyncViewExecutor(java.util.concurrent.Executor)
+	 */
+	@Override
+	public B asyncViewExecutor(Executor executor) {
+		ObjectUtils.argumentNotNull(executor, "Executor must be not null");
+		navigator.getActuator().setAsyncViewExecutor(executor);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder#asyncViewPlaceholder(com.vaadin.server.
+	 * SerializableSupplier)
+	 */
+	@Override
+	public B asyncViewPlaceholder(SerializableSupplier<? extends Component> placeholder) {
+		ObjectUtils.argumentNotNull(placeholder, "Placeholder supplier must be not null");
+		navigator.getActuator().setAsyncViewPlaceholder(placeholder);
+		return builder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder#asyncViewPollInterval(int)
+	 */
+	@Override
+	public B asyncViewPollInterval(int pollInterval) {
+		navigator.getActuator().setAsyncViewPollInterval(pollInterval);
+		return builder();
+	}
+
 }
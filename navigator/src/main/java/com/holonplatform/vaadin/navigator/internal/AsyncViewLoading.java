@@ -0,0 +1,344 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
+import com.vaadin.navigator.View;
+import com.vaadin.server.ErrorEvent;
+import com.vaadin.server.ErrorHandler;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.UI;
+import com.vaadin.ui.UIDetachedException;
+
+/**
+ * Represents the asynchronous loading of a view which declares {@link OnShowAsync} methods: the methods are executed
+ * using an {@link Executor} and, when completed, the view is displayed using {@link UI#access(Runnable)}.
+ * <p>
+ * Apart from the asynchronous task execution, all the methods of this class are meant to be invoked in the UI thread,
+ * with the session lock held.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+final class AsyncViewLoading {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * UI
+	 */
+	private final UI ui;
+
+	/**
+	 * The view to load
+	 */
+	private final View view;
+
+	/**
+	 * The view name
+	 */
+	private final String viewName;
+
+	/**
+	 * The operation which displays the view when loaded
+	 */
+	private final Runnable display;
+
+	/**
+	 * Listener to notify when the loading is completed, with the loading time in nanoseconds
+	 */
+	private final LoadingListener listener;
+
+	/**
+	 * Running task, <code>null</code> if not started yet
+	 */
+	private FutureTask<List<Runnable>> task;
+
+	/**
+	 * Whether the loading was cancelled
+	 */
+	private volatile boolean cancelled;
+
+	/**
+	 * Whether the loading was completed
+	 */
+	private boolean completed;
+
+	/**
+	 * UI poll interval to restore when the loading is completed or cancelled, <code>null</code> if the poll interval
+	 * was not changed
+	 */
+	private Integer previousPollInterval;
+
+	/**
+	 * Poll interval set during loading
+	 */
+	private int pollInterval;
+
+	/**
+	 * Loading start time
+	 */
+	private long startedAt;
+
+	/**
+	 * Constructor
+	 * @param ui UI (not null)
+	 * @param view The view to load (not null)
+	 * @param viewName The view name
+	 * @param display The operation which displays the view when loaded (not null)
+	 * @param listener Optional loading completion listener
+	 */
+	AsyncViewLoading(UI ui, View view, String viewName, Runnable display, LoadingListener listener) {
+		super();
+		this.ui = ui;
+		this.view = view;
+		this.viewName = viewName;
+		this.display = display;
+		this.listener = listener;
+	}
+
+	/**
+	 * Get the view to load.
+	 * @return the view
+	 */
+	View getView() {
+		return view;
+	}
+
+	/**
+	 * Get whether the loading was started.
+	 * @return <code>true</code> if started
+	 */
+	boolean isStarted() {
+		return task != null;
+	}
+
+	/**
+	 * Get whether the loading is completed or cancelled.
+	 * @return <code>true</code> if completed or cancelled
+	 */
+	boolean isDone() {
+		return completed || cancelled;
+	}
+
+	/**
+	 * Start the loading.
+	 * @param executor Executor to use (not null)
+	 * @param loader The loading operation, which returns the operations to execute in UI thread before displaying the
+	 *        view
+	 * @param pollInterval UI poll interval to use during loading when the push mode is not enabled, a negative value to
+	 *        not use polling
+	 */
+	void start(Executor executor, Callable<List<Runnable>> loader, int pollInterval) {
+		if (task != null || cancelled) {
+			return;
+		}
+		if (pollInterval > 0 && !ui.getPushConfiguration().getPushMode().isEnabled()) {
+			final int current = ui.getPollInterval();
+			if (current < 0 || current > pollInterval) {
+				previousPollInterval = current;
+				this.pollInterval = pollInterval;
+				ui.setPollInterval(pollInterval);
+			}
+		}
+		startedAt = System.nanoTime();
+		task = new FutureTask<List<Runnable>>(loader) {
+
+			@Override
+			protected void done() {
+				if (!isCancelled()) {
+					complete(this);
+				}
+			}
+
+		};
+		try {
+			executor.execute(task);
+		} catch (RuntimeException e) {
+			// e.g. rejected execution: load in current thread
+			LOGGER.warn("Failed to execute asynchronous loading of view [" + viewName + "], loading synchronously", e);
+			task.run();
+		}
+	}
+
+	/**
+	 * Cancel the loading, interrupting the loading thread if running. The view will not be displayed.
+	 */
+	void cancel() {
+		if (!isDone()) {
+			cancelled = true;
+			if (task != null) {
+				task.cancel(true);
+			}
+			restorePollInterval();
+			LOGGER.debug(() -> "Asynchronous loading of view [" + viewName + "] cancelled");
+		}
+	}
+
+	/**
+	 * Complete the loading, displaying the view in the UI thread.
+	 * @param result Loading task result
+	 */
+	private void complete(FutureTask<List<Runnable>> result) {
+		final Runnable completion = () -> {
+			if (cancelled || completed) {
+				return;
+			}
+			completed = true;
+			restorePollInterval();
+			try {
+				final List<Runnable> operations = result.get();
+				for (Runnable operation : operations) {
+					operation.run();
+				}
+			} catch (ExecutionException e) {
+				handleError(e.getCause());
+			} catch (InterruptedException | CancellationException e) {
+				return;
+			} catch (RuntimeException e) {
+				handleError(e);
+			}
+			display.run();
+			if (listener != null) {
+				listener.loadingCompleted(viewName, System.nanoTime() - startedAt);
+			}
+		};
+		if (UI.getCurrent() == ui && ui.getSession() != null && ui.getSession().hasLock()) {
+			// synchronous completion
+			completion.run();
+		} else {
+			try {
+				ui.access(completion);
+			} catch (UIDetachedException e) {
+				LOGGER.debug(() -> "UI detached: asynchronous loading of view [" + viewName + "] discarded");
+			}
+		}
+	}
+
+	/**
+	 * Restore the UI poll interval, if it was changed during loading.
+	 */
+	private void restorePollInterval() {
+		if (previousPollInterval != null) {
+			if (ui.getPollInterval() == pollInterval) {
+				ui.setPollInterval(previousPollInterval.intValue());
+			}
+			previousPollInterval = null;
+		}
+	}
+
+	/**
+	 * Handle a loading error, using the UI {@link ErrorHandler} if available.
+	 * @param error Error
+	 */
+	private void handleError(Throwable error) {
+		final ErrorHandler errorHandler = ErrorEvent.findErrorHandler(ui);
+		if (errorHandler != null) {
+			errorHandler.error(new ErrorEvent(error));
+		} else {
+			LOGGER.warn("Asynchronous loading of view [" + viewName + "] failed", error);
+		}
+	}
+
+	/**
+	 * Get the default {@link Executor} to use for views asynchronous loading.
+	 * @return The default executor
+	 */
+	static Executor getDefaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Listener notified when an asynchronous view loading is completed.
+	 */
+	@FunctionalInterface
+	interface LoadingListener {
+
+		/**
+		 * Invoked when the asynchronous loading of a view is completed, right after the view was displayed.
+		 * @param viewName The view name
+		 * @param durationNanos The loading time in nanoseconds
+		 */
+		void loadingCompleted(String viewName, long durationNanos);
+
+	}
+
+	/**
+	 * {@link View} used to display a placeholder component while the actual view is loading.
+	 */
+	static final class PlaceholderView implements View {
+
+		private static final long serialVersionUID = 4311567624396375183L;
+
+		private final Component component;
+
+		PlaceholderView(Component component) {
+			super();
+			this.component = component;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.vaadin.navigator.View#getViewComponent()
+		 */
+		@Override
+		public Component getViewComponent() {
+			return component;
+		}
+
+	}
+
+	/**
+	 * Lazy holder of the default executor: a bounded pool of daemon threads, which are released when idle.
+	 */
+	private static final class DefaultExecutorHolder {
+
+		static final Executor EXECUTOR = createDefaultExecutor();
+
+		private static Executor createDefaultExecutor() {
+			final int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+			final AtomicInteger counter = new AtomicInteger();
+			final ThreadFactory factory = r -> {
+				final Thread thread = new Thread(r, "holon-async-view-" + counter.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			};
+			final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+					new LinkedBlockingQueue<>(), factory);
+			executor.allowCoreThreadTimeOut(true);
+			return executor;
+		}
+
+	}
+
+}
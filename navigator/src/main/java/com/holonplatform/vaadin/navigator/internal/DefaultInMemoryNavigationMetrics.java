@@ -0,0 +1,156 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics;
+
+/**
+ * Default {@link InMemoryNavigationMetrics} implementation.
+ *
+ * @since 5.4.1
+ */
+public class DefaultInMemoryNavigationMetrics implements InMemoryNavigationMetrics {
+
+	private static final NavigationPhase[] PHASES = NavigationPhase.values();
+
+	/**
+	 * Metrics by view name
+	 */
+	private final ConcurrentMap<String, ViewMetrics> metrics = new ConcurrentHashMap<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics#recordPhase(java.lang.String,
+	 * com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase, long)
+	 */
+	@Override
+	public void recordPhase(String viewName, NavigationPhase phase, long durationNanos) {
+		ObjectUtils.argumentNotNull(phase, "Navigation phase must be not null");
+		final ViewMetrics vm = getOrCreate(viewName);
+		vm.phaseCounts[phase.ordinal()].increment();
+		vm.phaseTimes[phase.ordinal()].add(durationNanos);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics#recordNavigation(java.lang.String, long, boolean)
+	 */
+	@Override
+	public void recordNavigation(String viewName, long durationNanos, boolean succeeded) {
+		final ViewMetrics vm = getOrCreate(viewName);
+		vm.navigations.increment();
+		if (!succeeded) {
+			vm.failures.increment();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics#getPhaseCount(java.lang.
+	 * String, com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase)
+	 */
+	@Override
+	public long getPhaseCount(String viewName, NavigationPhase phase) {
+		ObjectUtils.argumentNotNull(phase, "Navigation phase must be not null");
+		final ViewMetrics vm = metrics.get(key(viewName));
+		return (vm != null) ? vm.phaseCounts[phase.ordinal()].sum() : 0L;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics#getPhaseTime(java.lang.
+	 * String, com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public long getPhaseTime(String viewName, NavigationPhase phase, TimeUnit unit) {
+		ObjectUtils.argumentNotNull(phase, "Navigation phase must be not null");
+		ObjectUtils.argumentNotNull(unit, "Time unit must be not null");
+		final ViewMetrics vm = metrics.get(key(viewName));
+		return (vm != null) ? unit.convert(vm.phaseTimes[phase.ordinal()].sum(), TimeUnit.NANOSECONDS) : 0L;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics#getNavigationCount(java.lang.
+	 * String)
+	 */
+	@Override
+	public long getNavigationCount(String viewName) {
+		final ViewMetrics vm = metrics.get(key(viewName));
+		return (vm != null) ? vm.navigations.sum() : 0L;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics#getFailedNavigationCount(
+	 * java.lang.String)
+	 */
+	@Override
+	public long getFailedNavigationCount(String viewName) {
+		final ViewMetrics vm = metrics.get(key(viewName));
+		return (vm != null) ? vm.failures.sum() : 0L;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics#reset()
+	 */
+	@Override
+	public void reset() {
+		metrics.clear();
+	}
+
+	private ViewMetrics getOrCreate(String viewName) {
+		final String key = key(viewName);
+		ViewMetrics vm = metrics.get(key);
+		if (vm == null) {
+			vm = metrics.computeIfAbsent(key, k -> new ViewMetrics());
+		}
+		return vm;
+	}
+
+	private static String key(String viewName) {
+		return (viewName != null) ? viewName : "";
+	}
+
+	/**
+	 * Metrics of a view.
+	 */
+	private static final class ViewMetrics {
+
+		final LongAdder navigations = new LongAdder();
+		final LongAdder failures = new LongAdder();
+		final LongAdder[] phaseCounts = new LongAdder[PHASES.length];
+		final LongAdder[] phaseTimes = new LongAdder[PHASES.length];
+
+		ViewMetrics() {
+			super();
+			for (int i = 0; i < PHASES.length; i++) {
+				phaseCounts[i] = new LongAdder();
+				phaseTimes[i] = new LongAdder();
+			}
+		}
+
+	}
+
+}
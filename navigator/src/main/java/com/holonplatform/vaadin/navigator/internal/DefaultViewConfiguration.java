@@ -28,6 +28,7 @@ import com.holonplatform.vaadin.navigator.SubViewContainer;
 import com.holonplatform.vaadin.navigator.ViewWindowConfigurator;
 import com.holonplatform.vaadin.navigator.annotations.OnLeave;
 import com.holonplatform.vaadin.navigator.annotations.OnShow;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
 import com.holonplatform.vaadin.navigator.annotations.ViewContext;
 import com.holonplatform.vaadin.navigator.annotations.ViewWindowConfiguration;
 import com.holonplatform.vaadin.navigator.annotations.WindowView;
@@ -48,8 +49,12 @@ public class DefaultViewConfiguration implements ViewConfiguration {
 	private String caption;
 	private String captionMessageCode;
 	private Collection<ViewParameterDefinition> parameters;
+	private transient ViewParametersBinder parametersBinder;
 	private List<Method> onShowMethods;
 	private List<Method> onLeaveMethods;
+	private List<ViewMethodHandle> onShowMethodHandles;
+	private List<ViewMethodHandle> onLeaveMethodHandles;
+	private List<ViewMethodHandle> onShowAsyncMethodHandles;
 	private WindowView windowConfiguration;
 	private List<Method> viewWindowConfigurationMethods;
 	private List<Method> fireOnRefreshMethods;
@@ -117,6 +122,15 @@ public class DefaultViewConfiguration implements ViewConfiguration {
 	 */
 	public void setParameters(Collection<ViewParameterDefinition> parameters) {
 		this.parameters = parameters;
+		this.parametersBinder = null;
+	}
+
+	/**
+	 * Set the view parameters binder
+	 * @param parametersBinder the view parameters binder
+	 */
+	public void setParametersBinder(ViewParametersBinder parametersBinder) {
+		this.parametersBinder = parametersBinder;
 	}
 
 	/**
@@ -135,6 +149,30 @@ public class DefaultViewConfiguration implements ViewConfiguration {
 		this.onLeaveMethods = onLeaveMethods;
 	}
 
+	/**
+	 * Set view {@link OnShow} method handles
+	 * @param onShowMethodHandles View OnShow method handles
+	 */
+	public void setOnShowMethodHandles(List<ViewMethodHandle> onShowMethodHandles) {
+		this.onShowMethodHandles = onShowMethodHandles;
+	}
+
+	/**
+	 * Set view {@link OnLeave} method handles
+	 * @param onLeaveMethodHandles View OnLeave method handles
+	 */
+	public void setOnLeaveMethodHandles(List<ViewMethodHandle> onLeaveMethodHandles) {
+		this.onLeaveMethodHandles = onLeaveMethodHandles;
+	}
+
+	/**
+	 * Set view {@link OnShowAsync} method handles
+	 * @param onShowAsyncMethodHandles View OnShowAsync method handles
+	 */
+	public void setOnShowAsyncMethodHandles(List<ViewMethodHandle> onShowAsyncMethodHandles) {
+		this.onShowAsyncMethodHandles = onShowAsyncMethodHandles;
+	}
+
 	/**
 	 * Set given {@link OnShow} method as fire on refresh
 	 * @param onShowMethod Method to set
@@ -265,6 +303,20 @@ public class DefaultViewConfiguration implements ViewConfiguration {
 		return Collections.emptySet();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.internal.ViewConfiguration#getParametersBinder()
+	 */
+	@Override
+	public ViewParametersBinder getParametersBinder() {
+		ViewParametersBinder binder = parametersBinder;
+		if (binder == null) {
+			binder = ViewParametersBinder.create(getParameters());
+			parametersBinder = binder;
+		}
+		return binder;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.ui.navigator.ViewConfiguration#getOnShowMethods()
@@ -289,6 +341,42 @@ public class DefaultViewConfiguration implements ViewConfiguration {
 		return Collections.emptyList();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.internal.ViewConfiguration#getOnShowMethodHandles()
+	 */
+	@Override
+	public List<ViewMethodHandle> getOnShowMethodHandles() {
+		if (onShowMethodHandles != null) {
+			return onShowMethodHandles;
+		}
+		return Collections.emptyList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.internal.ViewConfiguration#getOnLeaveMethodHandles()
+	 */
+	@Override
+	public List<ViewMethodHandle> getOnLeaveMethodHandles() {
+		if (onLeaveMethodHandles != null) {
+			return onLeaveMethodHandles;
+		}
+		return Collections.emptyList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.internal.ViewConfiguration#getOnShowAsyncMethodHandles()
+	 */
+	@Override
+	public List<ViewMethodHandle> getOnShowAsyncMethodHandles() {
+		if (onShowAsyncMethodHandles != null) {
+			return onShowAsyncMethodHandles;
+		}
+		return Collections.emptyList();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.ui.navigator.ViewConfiguration#isFireOnRefresh(java.lang.reflect.Method)
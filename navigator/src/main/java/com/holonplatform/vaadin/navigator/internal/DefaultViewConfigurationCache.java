@@ -15,13 +15,17 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
-import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.vaadin.navigator.View;
 
 /**
- * Default {@link ViewConfigurationCache} implementation
+ * Default {@link ViewConfigurationCache} implementation.
+ * <p>
+ * The view configurations are bound to the view classes using a {@link ClassValue}, so cache lookups are lock-free and
+ * cached configurations are released along with the view class loader.
+ * </p>
  * 
  * @since 5.0.0
  */
@@ -32,10 +36,22 @@ public enum DefaultViewConfigurationCache implements ViewConfigurationCache {
 	 */
 	INSTANCE;
 
+	/*
+	 * Cache generation, incremented at each cache clear to invalidate the existing entries
+	 */
+	private final AtomicInteger generation = new AtomicInteger(0);
+
 	/*
 	 * Cache: view class <-> ViewConfiguration
 	 */
-	private final Map<Class<? extends View>, ViewConfiguration> cache = new WeakHashMap<>(16, 0.9f);
+	private final ClassValue<AtomicReference<CacheEntry>> cache = new ClassValue<AtomicReference<CacheEntry>>() {
+
+		@Override
+		protected AtomicReference<CacheEntry> computeValue(Class<?> type) {
+			return new AtomicReference<>();
+		}
+
+	};
 
 	/*
 	 * (non-Javadoc)
@@ -43,9 +59,7 @@ public enum DefaultViewConfigurationCache implements ViewConfigurationCache {
 	 */
 	@Override
 	public boolean hasViewConfiguration(Class<? extends View> viewClass) {
-		synchronized (cache) {
-			return cache.containsKey(viewClass);
-		}
+		return getViewConfiguration(viewClass) != null;
 	}
 
 	/*
@@ -54,9 +68,7 @@ public enum DefaultViewConfigurationCache implements ViewConfigurationCache {
 	 */
 	@Override
 	public void clearCache() {
-		synchronized (cache) {
-			cache.clear();
-		}
+		generation.incrementAndGet();
 	}
 
 	/*
@@ -65,9 +77,11 @@ public enum DefaultViewConfigurationCache implements ViewConfigurationCache {
 	 */
 	@Override
 	public ViewConfiguration getViewConfiguration(Class<? extends View> viewClass) {
-		synchronized (cache) {
-			return cache.get(viewClass);
+		if (viewClass == null) {
+			return null;
 		}
+		final CacheEntry entry = cache.get(viewClass).get();
+		return (entry != null && entry.generation == generation.get()) ? entry.configuration : null;
 	}
 
 	/*
@@ -78,10 +92,34 @@ public enum DefaultViewConfigurationCache implements ViewConfigurationCache {
 	@Override
 	public ViewConfiguration storeViewConfiguration(Class<? extends View> viewClass,
 			ViewConfiguration viewConfiguration) {
-		synchronized (cache) {
-			ViewConfiguration existing = cache.put(viewClass, viewConfiguration);
-			return (existing != null ? existing : viewConfiguration);
+		final AtomicReference<CacheEntry> reference = cache.get(viewClass);
+		final int currentGeneration = generation.get();
+		final CacheEntry entry = new CacheEntry(currentGeneration, viewConfiguration);
+		while (true) {
+			final CacheEntry existing = reference.get();
+			if (existing != null && existing.generation == currentGeneration) {
+				return existing.configuration;
+			}
+			if (reference.compareAndSet(existing, entry)) {
+				return viewConfiguration;
+			}
 		}
 	}
 
+	/**
+	 * A cached view configuration, bound to the cache generation in which it was stored.
+	 */
+	private static final class CacheEntry {
+
+		final int generation;
+		final ViewConfiguration configuration;
+
+		CacheEntry(int generation, ViewConfiguration configuration) {
+			super();
+			this.generation = generation;
+			this.configuration = configuration;
+		}
+
+	}
+
 }
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 /**
@@ -39,6 +40,11 @@ public class DefaultViewContextField implements ViewContextField {
 	 */
 	private final Field field;
 
+	/**
+	 * Field value setter
+	 */
+	private final MethodHandle valueSetter;
+
 	/**
 	 * Constructor
 	 * @param contextResourceKey Context resource key
@@ -46,10 +52,23 @@ public class DefaultViewContextField implements ViewContextField {
 	 * @param field Field reference
 	 */
 	public DefaultViewContextField(String contextResourceKey, boolean required, Field field) {
+		this(contextResourceKey, required, field, null);
+	}
+
+	/**
+	 * Constructor
+	 * @param contextResourceKey Context resource key
+	 * @param required Whether the injection is required
+	 * @param field Field reference
+	 * @param valueSetter Field value setter handle, with <code>(Object view, Object value)void</code> type
+	 */
+	public DefaultViewContextField(String contextResourceKey, boolean required, Field field,
+			MethodHandle valueSetter) {
 		super();
 		this.contextResourceKey = contextResourceKey;
 		this.required = required;
 		this.field = field;
+		this.valueSetter = valueSetter;
 	}
 
 	/*
@@ -79,4 +98,13 @@ public class DefaultViewContextField implements ViewContextField {
 		return field;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.internal.ViewContextField#getValueSetter()
+	 */
+	@Override
+	public MethodHandle getValueSetter() {
+		return valueSetter;
+	}
+
 }
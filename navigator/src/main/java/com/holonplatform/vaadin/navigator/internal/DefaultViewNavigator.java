@@ -325,6 +325,8 @@ public class DefaultViewNavigator extends Navigator implements ViewNavigatorAdap
 		protected NavigationStateManager navigationStateManager;
 		protected ViewDisplay viewDisplay;
 		protected DefaultViewProvider defaultViewProvider;
+		protected int maxStatefulViews = 0;
+		protected long maxStatefulViewsSize = 0L;
 
 		public ViewNavigatorBuilder() {
 			super(new DefaultViewNavigator());
@@ -349,12 +351,27 @@ public class DefaultViewNavigator extends Navigator implements ViewNavigatorAdap
 			ObjectUtils.argumentNotNull(viewClass, "View class must be not null");
 			if (defaultViewProvider == null) {
 				defaultViewProvider = new DefaultViewProvider();
+				defaultViewProvider.setStatefulViewsLimits(maxStatefulViews, maxStatefulViewsSize);
 				addProvider(defaultViewProvider);
 			}
 			defaultViewProvider.registerView(viewName, viewClass);
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.vaadin.navigator.ViewNavigator.Builder#statefulViewsLimits(int, long)
+		 */
+		@Override
+		public Builder statefulViewsLimits(int maxViews, long maxEstimatedSize) {
+			this.maxStatefulViews = maxViews;
+			this.maxStatefulViewsSize = maxEstimatedSize;
+			if (defaultViewProvider != null) {
+				defaultViewProvider.setStatefulViewsLimits(maxViews, maxEstimatedSize);
+			}
+			return builder();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.holonplatform.vaadin.navigator.ViewNavigator.NavigatorBuilder#navigationStateManager(com.vaadin.
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
@@ -40,6 +41,8 @@ public class DefaultViewParameterDefinition implements ViewParameterDefinition {
 	private Method readMethod;
 	private Method writeMethod;
 
+	private transient MethodHandle valueSetter;
+
 	/**
 	 * Constructor
 	 * @param name Parameter name
@@ -99,6 +102,14 @@ public class DefaultViewParameterDefinition implements ViewParameterDefinition {
 		this.writeMethod = writeMethod;
 	}
 
+	/**
+	 * Set the pre-computed parameter value setter handle
+	 * @param valueSetter Value setter handle, with <code>(Object view, Object value)void</code> type
+	 */
+	public void setValueSetter(MethodHandle valueSetter) {
+		this.valueSetter = valueSetter;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.vaadin.ui.navigator.ViewParameterDefinition#getName()
@@ -162,6 +173,15 @@ public class DefaultViewParameterDefinition implements ViewParameterDefinition {
 		return writeMethod;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewParameterDefinition#getValueSetter()
+	 */
+	@Override
+	public MethodHandle getValueSetter() {
+		return valueSetter;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#toString()
@@ -15,19 +15,32 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
+import java.io.Serializable;
 import java.lang.ref.WeakReference;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.Logger.Level;
+import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.holonplatform.vaadin.navigator.EvictableStatefulView;
 import com.holonplatform.vaadin.navigator.annotations.StatefulView;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationProvider;
 import com.vaadin.navigator.View;
 import com.vaadin.navigator.ViewProvider;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.HasComponents;
 import com.vaadin.ui.UI;
 
 /**
@@ -41,13 +54,25 @@ import com.vaadin.ui.UI;
  * <p>
  * View instances will be created according to view scope: for stateful views, an instance is created at first request
  * (for each UI) and the same instance is returned to subsequent view requests. On the contrary, for standard views, a
- * new instance is created and returned to Navigator for every view request.
+ * new instance is created and returned to Navigator for every view request. Stateful view instances are stored in a
+ * separate store bound to each UI as a UI extension, accessed holding the UI session lock, so that different UIs do
+ * not contend for a provider-wide lock. For expensive stateful views, a
+ * number of instances can be created in advance using {@link #warmUpStatefulView(Class, int)}.
+ * </p>
+ * 
+ * <p>
+ * By default, the stateful view instances of a UI are weakly referenced and not bounded. Using
+ * {@link #setStatefulViewsLimits(int, long)}, the stateful view instances are strongly retained by a per-UI least
+ * recently used cache, bounded by the number of view instances and/or by their estimated size. The state of the
+ * evicted {@link EvictableStatefulView} instances is saved and restored in a new instance when the view is requested
+ * again. Cache hits, misses and evictions are collected in the {@link StatefulViewsStatistics}.
  * </p>
  * 
  * <p>
  * View name fragment to match with registered view names is extracted from view request string (the URL part after
  * <code>#!</code> characters) using the longest first part before <code>/</code> character which corresponds to a
- * registered view name.
+ * registered view name. Registered view names are organized in a trie, so that the view name is resolved with a
+ * single scan of the view request string.
  * </p>
  * 
  * @since 5.0.0
@@ -58,15 +83,45 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 
 	private static final Logger LOGGER = VaadinLogger.create();
 
+	/**
+	 * Default estimated size in bytes of a view component, used to estimate the size of a stateful view instance
+	 */
+	public static final long DEFAULT_COMPONENT_ESTIMATED_SIZE = 1024L;
+
 	/*
 	 * View name - class map
 	 */
 	private final Map<String, Class<? extends View>> views;
 
 	/*
-	 * Stateful view instances for every UI
+	 * View names trie, to resolve view names from navigation states
+	 */
+	private final ViewNameTrie<Class<? extends View>> viewNames;
+
+	/*
+	 * Stateful view instances when no UI is available
+	 */
+	private transient StatefulViews detachedStatefulViews;
+
+	/*
+	 * Stateful view instances created in advance
+	 */
+	private final ConcurrentMap<Class<? extends View>, Queue<View>> statefulViewsPool;
+
+	/*
+	 * Max stateful view instances for every UI, 0 if not bounded
+	 */
+	private volatile int maxStatefulViews = 0;
+
+	/*
+	 * Max stateful view instances estimated size in bytes for every UI, 0 if not bounded
 	 */
-	private final Map<UI, Map<Class<? extends View>, WeakReference<View>>> statefulViews;
+	private volatile long maxStatefulViewsSize = 0L;
+
+	/*
+	 * Stateful views cache statistics
+	 */
+	private final StatefulViewsStatistics statefulViewsStatistics = new StatefulViewsStatistics();
 
 	/**
 	 * Constructor
@@ -74,7 +129,8 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 	public DefaultViewProvider() {
 		super();
 		this.views = new HashMap<>();
-		this.statefulViews = new WeakHashMap<>(1);
+		this.viewNames = new ViewNameTrie<>();
+		this.statefulViewsPool = new ConcurrentHashMap<>(4);
 	}
 
 	/**
@@ -117,6 +173,7 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 
 			// register
 			views.put(viewName, viewClass);
+			viewNames.put(viewName, viewClass);
 
 			LOGGER.debug(() -> "Registered view name " + viewName + " mapped to view class " + viewClass.getName());
 		}
@@ -130,27 +187,13 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 	public String getViewName(String viewAndParameters) {
 		LOGGER.debug(() -> "Retreiving view name from [" + viewAndParameters + "]");
 
-		String viewName = null;
-		if (isValidViewName(viewAndParameters)) {
-			viewName = viewAndParameters;
-		} else {
-			int lastSlash = -1;
-			String viewPart = viewAndParameters;
-			while ((lastSlash = viewPart.lastIndexOf('/')) > -1) {
-				viewPart = viewPart.substring(0, lastSlash);
-				if (isValidViewName(viewPart)) {
-					viewName = viewPart;
-					break;
-				}
-			}
-		}
+		final String viewName = viewNames.resolveViewName(viewAndParameters);
 
 		if (LOGGER.isEnabled(Level.DEBUG)) {
-			final String vn = viewName;
-			if (vn == null) {
+			if (viewName == null) {
 				LOGGER.debug(() -> "Found no valid view name in [" + viewAndParameters + "]");
 			} else {
-				LOGGER.debug(() -> "[" + vn + "] is a valid view name");
+				LOGGER.debug(() -> "[" + viewName + "] is a valid view name");
 			}
 		}
 
@@ -181,47 +224,131 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 	}
 
 	/**
-	 * Get View instance from view class with consistent stateful views handling
-	 * @param viewClass View class
-	 * @return View instance
-	 * @throws ViewConfigurationException Failed to create view instance
+	 * Create the given number of instances of a {@link StatefulView} class in advance. The pooled instances will be used
+	 * as the stateful view instances of the UIs which request the view for the first time, instead of creating a new
+	 * instance.
+	 * <p>
+	 * The view instances are created in the calling thread, so the view class should not rely on the current
+	 * {@link UI} at construction time.
+	 * </p>
+	 * @param viewClass Stateful view class (not null)
+	 * @param instances Number of instances to create
+	 * @throws ViewConfigurationException If the view class is not a stateful view or failed to create the view
+	 *         instances
 	 */
-	protected View getViewInstance(Class<? extends View> viewClass) throws ViewConfigurationException {
-		synchronized (statefulViews) {
+	public void warmUpStatefulView(Class<? extends View> viewClass, int instances) throws ViewConfigurationException {
+		ObjectUtils.argumentNotNull(viewClass, "View class must be not null");
+		if (!isStatefulView(viewClass)) {
+			throw new ViewConfigurationException("View class " + viewClass.getName() + " is not a stateful view");
+		}
+		final Queue<View> pool = statefulViewsPool.computeIfAbsent(viewClass, c -> new ConcurrentLinkedQueue<>());
+		for (int i = 0; i < instances; i++) {
+			pool.offer(ViewNavigationUtils.instantiateView(viewClass));
+		}
+		LOGGER.debug(() -> "Created " + instances + " instances of stateful view class " + viewClass.getName());
+	}
+
+	/**
+	 * Set the stateful views cache limits for each UI. When at least one limit is set, the stateful view instances of a
+	 * UI are strongly retained and the least recently used instances are evicted when a limit is exceeded. The most
+	 * recently requested view instance is never evicted.
+	 * <p>
+	 * The limits should be configured before any view is requested.
+	 * </p>
+	 * @param maxViews Max stateful view instances for each UI, <code>0</code> or a negative number for no limit
+	 * @param maxEstimatedSize Max estimated size in bytes of the stateful view instances of each UI, <code>0</code> or
+	 *        a negative number for no limit
+	 * @see EvictableStatefulView
+	 */
+	public void setStatefulViewsLimits(int maxViews, long maxEstimatedSize) {
+		this.maxStatefulViews = Math.max(0, maxViews);
+		this.maxStatefulViewsSize = Math.max(0L, maxEstimatedSize);
+	}
 
-			View view = null;
+	/**
+	 * Get the stateful views cache statistics, collected for all the UIs.
+	 * @return the stateful views statistics
+	 */
+	public StatefulViewsStatistics getStatefulViewsStatistics() {
+		return statefulViewsStatistics;
+	}
 
-			final UI ui = UI.getCurrent();
+	/**
+	 * Get whether the stateful views cache is bounded.
+	 * @return <code>true</code> if at least one stateful views cache limit is set
+	 */
+	private boolean isStatefulViewsCacheBounded() {
+		return maxStatefulViews > 0 || maxStatefulViewsSize > 0L;
+	}
 
-			// check stateful
-			boolean stateful = isStatefulView(viewClass);
-			if (stateful) {
-				view = getStatefulViewInstance(ui, viewClass);
+	/**
+	 * Estimate the retained size of a stateful view instance.
+	 * <p>
+	 * By default, the {@link EvictableStatefulView#getEstimatedSize()} value is used if available, otherwise the size
+	 * is estimated as the number of components of the view component tree multiplied by
+	 * {@link #DEFAULT_COMPONENT_ESTIMATED_SIZE}.
+	 * </p>
+	 * @param view View instance
+	 * @return The estimated size in bytes
+	 */
+	protected long estimateStatefulViewSize(View view) {
+		if (view instanceof EvictableStatefulView) {
+			final long size = ((EvictableStatefulView) view).getEstimatedSize();
+			if (size >= 0) {
+				return size;
 			}
+		}
+		return countComponents(view.getViewComponent()) * DEFAULT_COMPONENT_ESTIMATED_SIZE;
+	}
 
-			// create instance
-			if (view == null) {
-				try {
-					view = viewClass.newInstance();
-
-					if (stateful) {
-						// retain instance
-						Map<Class<? extends View>, WeakReference<View>> views = statefulViews.get(ui);
-						if (views == null) {
-							views = new HashMap<>(8);
-							statefulViews.put(ui, views);
-						}
-						views.put(viewClass, new WeakReference<>(view));
-					}
-
-				} catch (Exception e) {
-					throw new ViewConfigurationException("Failed to istantiate view class " + viewClass.getName(), e);
-				}
+	/**
+	 * Count the components of given component tree.
+	 * @param component Root component
+	 * @return Components count
+	 */
+	private static long countComponents(Component component) {
+		if (component == null) {
+			return 0L;
+		}
+		long count = 1L;
+		if (component instanceof HasComponents) {
+			for (Component child : (HasComponents) component) {
+				count += countComponents(child);
 			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get View instance from view class with consistent stateful views handling
+	 * @param viewClass View class
+	 * @return View instance
+	 * @throws ViewConfigurationException Failed to create view instance
+	 */
+	protected View getViewInstance(Class<? extends View> viewClass) throws ViewConfigurationException {
+		// check stateful
+		if (!isStatefulView(viewClass)) {
+			return ViewNavigationUtils.instantiateView(viewClass);
+		}
 
+		final StatefulViews views = getStatefulViews(UI.getCurrent(), true);
+		final View view = views.get(viewClass);
+		if (view != null) {
+			statefulViewsStatistics.hits.increment();
 			return view;
+		}
+		statefulViewsStatistics.misses.increment();
 
+		// create or take from pool, then retain instance
+		View instance = null;
+		final Queue<View> pool = statefulViewsPool.get(viewClass);
+		if (pool != null) {
+			instance = pool.poll();
+		}
+		if (instance == null) {
+			instance = ViewNavigationUtils.instantiateView(viewClass);
 		}
+		return views.putIfAbsent(viewClass, instance);
 	}
 
 	/**
@@ -240,14 +367,40 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 	 * @return View instance, or <code>null</code> if not found
 	 */
 	protected View getStatefulViewInstance(UI ui, Class<? extends View> viewClass) {
-		Map<Class<? extends View>, WeakReference<View>> views = statefulViews.get(ui);
-		if (views != null) {
-			WeakReference<View> vr = views.get(viewClass);
-			if (vr != null) {
-				return vr.get();
-			}
+		final StatefulViews views = getStatefulViews(ui, false);
+		return (views != null) ? views.get(viewClass) : null;
+	}
+
+	/**
+	 * Get the stateful view instances store of given UI. The store is bound to the UI through a
+	 * {@link StatefulViewsExtension}, so the UI session lock must be held when a UI is provided.
+	 * @param ui UI, if <code>null</code> a provider-wide store is used
+	 * @param create Whether to create the store if not available
+	 * @return The UI stateful view instances store, <code>null</code> if not available and <code>create</code> is
+	 *         <code>false</code>
+	 */
+	private StatefulViews getStatefulViews(UI ui, boolean create) {
+		if (ui == null) {
+			return getDetachedStatefulViews(create);
 		}
-		return null;
+		final StatefulViewsExtension extension = StatefulViewsExtension.get(ui, create);
+		if (extension == null) {
+			return null;
+		}
+		final Supplier<StatefulViews> factory = create ? StatefulViews::new : null;
+		return extension.getStore(this, factory);
+	}
+
+	/**
+	 * Get the stateful view instances store to use when no UI is available.
+	 * @param create Whether to create the store if not available
+	 * @return The store, <code>null</code> if not available and <code>create</code> is <code>false</code>
+	 */
+	private synchronized StatefulViews getDetachedStatefulViews(boolean create) {
+		if (detachedStatefulViews == null && create) {
+			detachedStatefulViews = new StatefulViews();
+		}
+		return detachedStatefulViews;
 	}
 
 	/*
@@ -262,4 +415,217 @@ public class DefaultViewProvider implements ViewProcessorProvider {
 		return ViewNavigationUtils.injectContext(viewConfigurationProvider, view);
 	}
 
+	/**
+	 * Stateful views cache statistics.
+	 */
+	public static final class StatefulViewsStatistics implements Serializable {
+
+		private static final long serialVersionUID = -3180386911470592167L;
+
+		final LongAdder hits = new LongAdder();
+		final LongAdder misses = new LongAdder();
+		final LongAdder evictions = new LongAdder();
+		final LongAdder restores = new LongAdder();
+
+		StatefulViewsStatistics() {
+			super();
+		}
+
+		/**
+		 * Get the number of stateful view requests served by an existing view instance.
+		 * @return the cache hits count
+		 */
+		public long getHits() {
+			return hits.sum();
+		}
+
+		/**
+		 * Get the number of stateful view requests which required a new view instance.
+		 * @return the cache misses count
+		 */
+		public long getMisses() {
+			return misses.sum();
+		}
+
+		/**
+		 * Get the number of stateful view instances evicted from the cache.
+		 * @return the evictions count
+		 */
+		public long getEvictions() {
+			return evictions.sum();
+		}
+
+		/**
+		 * Get the number of saved view states restored in a new view instance after an eviction.
+		 * @return the restores count
+		 */
+		public long getRestores() {
+			return restores.sum();
+		}
+
+		/**
+		 * Reset all the statistics.
+		 */
+		public void reset() {
+			hits.reset();
+			misses.reset();
+			evictions.reset();
+			restores.reset();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return "StatefulViewsStatistics [hits=" + getHits() + ", misses=" + getMisses() + ", evictions="
+					+ getEvictions() + ", restores=" + getRestores() + "]";
+		}
+
+	}
+
+	/**
+	 * Stateful view instances store of a UI: a least recently used cache, bounded according to the provider stateful
+	 * views limits.
+	 */
+	private final class StatefulViews {
+
+		private final LinkedHashMap<Class<? extends View>, StatefulViewEntry> views = new LinkedHashMap<>(8, 0.75f,
+				true);
+
+		/**
+		 * States of the evicted views
+		 */
+		private Map<Class<? extends View>, Serializable> savedStates;
+
+		/**
+		 * Current estimated size of the retained views
+		 */
+		private long estimatedSize = 0L;
+
+		/**
+		 * Get the view instance of given class, if available.
+		 * @param viewClass View class
+		 * @return View instance, or <code>null</code> if not available
+		 */
+		synchronized View get(Class<? extends View> viewClass) {
+			final StatefulViewEntry entry = views.get(viewClass);
+			if (entry == null) {
+				return null;
+			}
+			final View view = entry.get();
+			if (view == null) {
+				// garbage collected
+				views.remove(viewClass);
+				estimatedSize -= entry.size;
+				return null;
+			}
+			if (maxStatefulViewsSize > 0L) {
+				// the view size may be changed since the last access
+				final long size = estimateStatefulViewSize(view);
+				estimatedSize += size - entry.size;
+				entry.size = size;
+				evict(viewClass);
+			}
+			return view;
+		}
+
+		/**
+		 * Store given view instance, if a view instance of the same class is not already available. If a state was
+		 * saved for the view class, it is restored in given view instance.
+		 * @param viewClass View class
+		 * @param view View instance
+		 * @return The stored view instance
+		 */
+		synchronized View putIfAbsent(Class<? extends View> viewClass, View view) {
+			final View existing = get(viewClass);
+			if (existing != null) {
+				return existing;
+			}
+			// restore state
+			final Serializable state = (savedStates != null) ? savedStates.remove(viewClass) : null;
+			if (state != null && view instanceof EvictableStatefulView) {
+				((EvictableStatefulView) view).restoreState(state);
+				statefulViewsStatistics.restores.increment();
+				LOGGER.debug(() -> "Restored state of stateful view class " + viewClass.getName());
+			}
+			// store
+			final boolean bounded = isStatefulViewsCacheBounded();
+			final StatefulViewEntry entry = new StatefulViewEntry(view, bounded);
+			views.put(viewClass, entry);
+			if (bounded) {
+				if (maxStatefulViewsSize > 0L) {
+					entry.size = estimateStatefulViewSize(view);
+					estimatedSize += entry.size;
+				}
+				evict(viewClass);
+			}
+			return view;
+		}
+
+		/**
+		 * Evict the least recently used view instances until the cache limits are satisfied.
+		 * @param current The class of the view currently requested, which is never evicted
+		 */
+		private void evict(Class<? extends View> current) {
+			final int maxViews = maxStatefulViews;
+			final long maxSize = maxStatefulViewsSize;
+			final Iterator<Entry<Class<? extends View>, StatefulViewEntry>> iterator = views.entrySet().iterator();
+			while (iterator.hasNext() && ((maxViews > 0 && views.size() > maxViews)
+					|| (maxSize > 0L && estimatedSize > maxSize))) {
+				final Entry<Class<? extends View>, StatefulViewEntry> eldest = iterator.next();
+				if (eldest.getKey() == current) {
+					continue;
+				}
+				iterator.remove();
+				estimatedSize -= eldest.getValue().size;
+				statefulViewsStatistics.evictions.increment();
+				// save state
+				final View evicted = eldest.getValue().get();
+				if (evicted instanceof EvictableStatefulView) {
+					try {
+						final Serializable state = ((EvictableStatefulView) evicted).saveState();
+						if (state != null) {
+							if (savedStates == null) {
+								savedStates = new HashMap<>(4);
+							}
+							savedStates.put(eldest.getKey(), state);
+						}
+					} catch (RuntimeException e) {
+						LOGGER.warn("Failed to save the state of evicted stateful view class "
+								+ eldest.getKey().getName(), e);
+					}
+				}
+				LOGGER.debug(() -> "Evicted stateful view class " + eldest.getKey().getName());
+			}
+		}
+
+	}
+
+	/**
+	 * A stateful view instance reference, strong if the stateful views cache is bounded, weak otherwise.
+	 */
+	private static final class StatefulViewEntry {
+
+		private final View view;
+		private final WeakReference<View> reference;
+
+		/**
+		 * Estimated size
+		 */
+		long size = 0L;
+
+		StatefulViewEntry(View view, boolean strong) {
+			super();
+			this.view = strong ? view : null;
+			this.reference = strong ? null : new WeakReference<>(view);
+		}
+
+		View get() {
+			return (view != null) ? view : reference.get();
+		}
+
+	}
+
 }
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
+import com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase;
 import com.holonplatform.vaadin.navigator.annotations.ViewContext;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationProvider;
@@ -66,6 +67,15 @@ public class DefaultViewProviderAdapter implements ViewProviderAdapter {
 	 */
 	@Override
 	public String getViewName(String viewAndParameters) {
+		// check the current navigation state resolution, if available
+		final NavigatorActuator<?> actuator = getActuator();
+		if (actuator != null) {
+			final NavigationStateResolution resolution = actuator
+					.getCurrentNavigationStateResolution(viewAndParameters);
+			if (resolution != null) {
+				return resolution.getViewName(this);
+			}
+		}
 		return viewProvider.getViewName(viewAndParameters);
 	}
 
@@ -75,7 +85,28 @@ public class DefaultViewProviderAdapter implements ViewProviderAdapter {
 	 */
 	@Override
 	public View getView(String viewName) {
-		return processViewInstance(viewProvider.getView(viewName));
+		final NavigatorActuator<?> actuator = getActuator();
+		if (actuator == null) {
+			return processViewInstance(viewProvider.getView(viewName));
+		}
+		final long start = actuator.startTiming();
+		final View view = viewProvider.getView(viewName);
+		actuator.recordPhase(viewName, NavigationPhase.INSTANTIATION, start);
+		final long processStart = actuator.startTiming();
+		final View processed = processViewInstance(view);
+		actuator.recordPhase(viewName, NavigationPhase.CONTEXT_INJECTION, processStart);
+		return processed;
+	}
+
+	/**
+	 * Get the {@link NavigatorActuator} of the navigator to which this adapter is bound, if available.
+	 * @return The navigator actuator, <code>null</code> if not available
+	 */
+	private NavigatorActuator<?> getActuator() {
+		if (viewConfigurationProvider instanceof ViewNavigatorAdapter) {
+			return ((ViewNavigatorAdapter) viewConfigurationProvider).getActuator();
+		}
+		return null;
 	}
 
 	/**
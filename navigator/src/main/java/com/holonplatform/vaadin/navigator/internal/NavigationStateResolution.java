@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import com.vaadin.navigator.ViewProvider;
+
+/**
+ * The result of a navigation state resolution, i.e. the {@link ViewProvider} which provides the longest view name for
+ * a navigation state and the view name itself.
+ * <p>
+ * A resolution is cached by the {@link NavigatorActuator} for the duration of a navigation, so that the same navigation
+ * state is resolved only once for the view availability check, the authentication check and the actual navigation.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+final class NavigationStateResolution {
+
+	private final String navigationState;
+	private final ViewProviderAdapter viewProvider;
+	private final String viewName;
+
+	/**
+	 * Constructor
+	 * @param navigationState Navigation state
+	 * @param viewProvider The view provider which provides the longest view name, <code>null</code> if none
+	 * @param viewName The longest view name, <code>null</code> if none
+	 */
+	NavigationStateResolution(String navigationState, ViewProviderAdapter viewProvider, String viewName) {
+		super();
+		this.navigationState = navigationState;
+		this.viewProvider = viewProvider;
+		this.viewName = viewName;
+	}
+
+	/**
+	 * Get the resolved navigation state.
+	 * @return the navigation state
+	 */
+	String getNavigationState() {
+		return navigationState;
+	}
+
+	/**
+	 * Get the view provider which provides the longest view name.
+	 * @return the view provider, <code>null</code> if no view is available
+	 */
+	ViewProviderAdapter getViewProvider() {
+		return viewProvider;
+	}
+
+	/**
+	 * Get the longest view name.
+	 * @return the view name, <code>null</code> if no view is available
+	 */
+	String getViewName() {
+		return viewName;
+	}
+
+	/**
+	 * Get whether a view is available for the navigation state.
+	 * @return <code>true</code> if a view is available
+	 */
+	boolean isViewAvailable() {
+		return viewName != null;
+	}
+
+	/**
+	 * Get the view name to be returned by given view provider for the navigation state, consistently with the
+	 * resolution result: only the resolved view provider provides a view name.
+	 * @param provider View provider
+	 * @return The view name, <code>null</code> if given provider is not the resolved one
+	 */
+	String getViewName(ViewProvider provider) {
+		return (provider == viewProvider) ? viewName : null;
+	}
+
+}
@@ -25,6 +25,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Stack;
 import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import com.holonplatform.auth.AuthContext;
@@ -39,11 +40,14 @@ import com.holonplatform.core.utils.SizedStack;
 import com.holonplatform.vaadin.VaadinHttpRequest;
 import com.holonplatform.vaadin.internal.VaadinLogger;
 import com.holonplatform.vaadin.navigator.DefaultViewNavigationStrategy;
+import com.holonplatform.vaadin.navigator.NavigationMetrics;
+import com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase;
 import com.holonplatform.vaadin.navigator.SubViewContainer;
 import com.holonplatform.vaadin.navigator.ViewClassProvider;
 import com.holonplatform.vaadin.navigator.ViewNavigator;
 import com.holonplatform.vaadin.navigator.ViewNavigator.ViewNavigationException;
 import com.holonplatform.vaadin.navigator.ViewWindowConfigurator;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
 import com.vaadin.navigator.Navigator;
 import com.vaadin.navigator.View;
@@ -51,13 +55,17 @@ import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
 import com.vaadin.navigator.ViewDisplay;
 import com.vaadin.navigator.ViewProvider;
 import com.vaadin.server.Page;
+import com.vaadin.server.SerializableSupplier;
 import com.vaadin.server.VaadinRequest;
 import com.vaadin.server.VaadinService;
 import com.vaadin.shared.util.SharedUtil;
+import com.vaadin.ui.Component;
+import com.vaadin.ui.Label;
 import com.vaadin.ui.UI;
 import com.vaadin.ui.Window;
 import com.vaadin.ui.Window.CloseEvent;
 import com.vaadin.ui.Window.CloseListener;
+import com.vaadin.ui.themes.ValoTheme;
 
 /**
  * Adds {@link ViewNavigator} specific logic to a {@link Navigator}
@@ -81,6 +89,16 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 */
 	public static final int DEFAULT_NAVIGATION_HISTORY_LIMIT = 100;
 
+	/**
+	 * Default UI poll interval in milliseconds to use while a view is loading asynchronously, if push is not enabled
+	 */
+	public static final int DEFAULT_ASYNC_VIEW_POLL_INTERVAL = 500;
+
+	/**
+	 * Style name of the default asynchronous view loading placeholder
+	 */
+	public static final String ASYNC_VIEW_PLACEHOLDER_STYLE_NAME = "async-view-placeholder";
+
 	/**
 	 * Navigation fragments history
 	 */
@@ -147,6 +165,47 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 */
 	private boolean navigateBackOnWindowClose = true;
 
+	/**
+	 * Navigation state resolutions cached for the navigation in progress, <code>null</code> if no navigation is in
+	 * progress
+	 */
+	private transient Map<String, NavigationStateResolution> navigationStateResolutions;
+
+	/**
+	 * Optional navigation metrics
+	 */
+	private transient NavigationMetrics navigationMetrics;
+
+	/**
+	 * Time at which the last view display completed, used to measure the view enter phase
+	 */
+	private transient long viewDisplayedAt;
+
+	/**
+	 * Executor to use for asynchronous view loading
+	 */
+	private transient Executor asyncViewExecutor;
+
+	/**
+	 * Asynchronous view loading placeholder component supplier
+	 */
+	private SerializableSupplier<? extends Component> asyncViewPlaceholder;
+
+	/**
+	 * UI poll interval to use while a view is loading asynchronously
+	 */
+	private int asyncViewPollInterval = DEFAULT_ASYNC_VIEW_POLL_INTERVAL;
+
+	/**
+	 * Current asynchronous view loading
+	 */
+	private transient AsyncViewLoading asyncViewLoading;
+
+	/**
+	 * Current asynchronous sub view loading
+	 */
+	private transient AsyncViewLoading asyncSubViewLoading;
+
 	/**
 	 * Whether the support for {@link Authenticate} annotation is enabled
 	 */
@@ -204,11 +263,16 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 */
 	@Override
 	public void showView(View view) {
+		final long start = startTiming();
+		// cancel any pending asynchronous view loading
+		cancelAsyncViewLoadings();
 		// check display in window
 		try {
+			// check asynchronous loading
+			final View toDisplay = prepareAsyncViewLoading(view, showInWindow);
 			if (showInWindow != null) {
 				// set window contents
-				showInWindow.setContent(view.getViewComponent());
+				showInWindow.setContent(toDisplay.getViewComponent());
 				// open window
 				UI ui = navigator.getUI();
 				if (ui == null) {
@@ -221,11 +285,15 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 			} else {
 				// default
 				if (getDefaultViewDisplay() != null) {
-					getDefaultViewDisplay().showView(view);
+					getDefaultViewDisplay().showView(toDisplay);
 				}
 			}
 		} finally {
 			showInWindow = null;
+			if (start != 0L) {
+				recordPhase(currentViewName, NavigationPhase.DISPLAY, start);
+				viewDisplayedAt = System.nanoTime();
+			}
 		}
 	}
 
@@ -274,6 +342,7 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	public ViewProvider addViewProvider(ViewProvider provider) {
 		ViewProviderAdapter adapted = adaptViewProvider(provider);
 		this.viewProviders.add(adapted);
+		clearNavigationStateResolutions();
 		return adapted;
 	}
 
@@ -286,6 +355,7 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 		ViewProviderAdapter viewProviderAdapter = findProviderAdapter(provider);
 		if (viewProviderAdapter != null) {
 			this.viewProviders.remove(viewProviderAdapter);
+			clearNavigationStateResolutions();
 		}
 		return viewProviderAdapter;
 	}
@@ -355,6 +425,184 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 		this.navigateToDefaultViewWhenViewNotAvailable = navigateToDefaultViewWhenViewNotAvailable;
 	}
 
+	/**
+	 * Get the {@link NavigationMetrics} to use to collect the navigation metrics.
+	 * @return Optional navigation metrics
+	 */
+	public Optional<NavigationMetrics> getNavigationMetrics() {
+		return Optional.ofNullable(navigationMetrics);
+	}
+
+	/**
+	 * Set the {@link NavigationMetrics} to use to collect the navigation metrics. The navigation metrics reference is
+	 * not serialized, so no metrics are collected after the session is serialized and restored, unless they are set
+	 * again.
+	 * @param navigationMetrics the navigation metrics to set, <code>null</code> to disable metrics collection
+	 */
+	public void setNavigationMetrics(NavigationMetrics navigationMetrics) {
+		this.navigationMetrics = navigationMetrics;
+	}
+
+	/**
+	 * Start timing a navigation phase.
+	 * @return The current time in nanoseconds, or <code>0</code> if navigation metrics are not enabled
+	 */
+	long startTiming() {
+		return (navigationMetrics != null) ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Record a navigation phase which started at given time, if navigation metrics are enabled.
+	 * @param viewName View name
+	 * @param phase Navigation phase
+	 * @param start Phase start time, as returned by {@link #startTiming()}
+	 */
+	void recordPhase(String viewName, NavigationPhase phase, long start) {
+		final NavigationMetrics metrics = navigationMetrics;
+		if (metrics != null && start != 0L) {
+			try {
+				metrics.recordPhase(viewName, phase, System.nanoTime() - start);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Failed to record navigation metrics", e);
+			}
+		}
+	}
+
+	/**
+	 * Record a navigation which started at given time, if navigation metrics are enabled.
+	 * @param viewName View name
+	 * @param start Navigation start time, as returned by {@link #startTiming()}
+	 * @param succeeded Whether the navigation succeeded
+	 */
+	private void recordNavigation(String viewName, long start, boolean succeeded) {
+		final NavigationMetrics metrics = navigationMetrics;
+		if (metrics != null && start != 0L) {
+			try {
+				metrics.recordNavigation(viewName, System.nanoTime() - start, succeeded);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Failed to record navigation metrics", e);
+			}
+		}
+	}
+
+	/**
+	 * Get the {@link Executor} to use to execute the {@link OnShowAsync} view methods.
+	 * @return The asynchronous view loading executor, the default one if not configured
+	 */
+	public Executor getAsyncViewExecutor() {
+		return (asyncViewExecutor != null) ? asyncViewExecutor : AsyncViewLoading.getDefaultExecutor();
+	}
+
+	/**
+	 * Set the {@link Executor} to use to execute the {@link OnShowAsync} view methods.
+	 * @param asyncViewExecutor The executor to set, <code>null</code> to use the default one
+	 */
+	public void setAsyncViewExecutor(Executor asyncViewExecutor) {
+		this.asyncViewExecutor = asyncViewExecutor;
+	}
+
+	/**
+	 * Set the supplier of the placeholder component to display while a view is loading asynchronously.
+	 * @param asyncViewPlaceholder The placeholder component supplier, <code>null</code> to use the default placeholder
+	 */
+	public void setAsyncViewPlaceholder(SerializableSupplier<? extends Component> asyncViewPlaceholder) {
+		this.asyncViewPlaceholder = asyncViewPlaceholder;
+	}
+
+	/**
+	 * Set the UI poll interval to use while a view is loading asynchronously, when the UI push mode is not enabled.
+	 * @param asyncViewPollInterval The poll interval in milliseconds, a negative value to disable polling
+	 */
+	public void setAsyncViewPollInterval(int asyncViewPollInterval) {
+		this.asyncViewPollInterval = asyncViewPollInterval;
+	}
+
+	/**
+	 * Check whether given view declares {@link OnShowAsync} methods and, if so, setup the asynchronous view loading.
+	 * @param view The view to display
+	 * @param window Optional Window in which the view will be displayed
+	 * @return The view to display: the placeholder view if the view will be loaded asynchronously, the view itself
+	 *         otherwise
+	 */
+	private View prepareAsyncViewLoading(View view, Window window) {
+		if (view != null) {
+			final ViewConfiguration configuration = getViewConfiguration(view.getClass());
+			final UI ui = navigator.getUI();
+			if (ui != null && configuration != null && !configuration.getOnShowAsyncMethodHandles().isEmpty()) {
+				final ViewDisplay display = getDefaultViewDisplay();
+				asyncViewLoading = new AsyncViewLoading(ui, view, currentViewName, () -> {
+					if (window != null) {
+						window.setContent(view.getViewComponent());
+					} else if (display != null) {
+						display.showView(view);
+					}
+				}, (navigationMetrics != null) ? this::recordAsyncViewLoading : null);
+				return new AsyncViewLoading.PlaceholderView(createAsyncViewPlaceholder());
+			}
+		}
+		return view;
+	}
+
+	/**
+	 * Create the placeholder component to display while a view is loading asynchronously.
+	 * @return The placeholder component
+	 */
+	private Component createAsyncViewPlaceholder() {
+		if (asyncViewPlaceholder != null) {
+			final Component placeholder = asyncViewPlaceholder.get();
+			if (placeholder != null) {
+				return placeholder;
+			}
+		}
+		final Label placeholder = new Label();
+		placeholder.addStyleName(ValoTheme.LABEL_SPINNER);
+		placeholder.addStyleName(ASYNC_VIEW_PLACEHOLDER_STYLE_NAME);
+		return placeholder;
+	}
+
+	/**
+	 * Start the asynchronous loading of a view, executing the {@link OnShowAsync} view methods.
+	 * @param loading The view loading
+	 * @param configuration View configuration
+	 * @param event View change event
+	 */
+	private void startAsyncViewLoading(AsyncViewLoading loading, ViewConfiguration configuration,
+			DefaultViewNavigatorChangeEvent event) {
+		loading.start(getAsyncViewExecutor(),
+				() -> ViewNavigationUtils.fireViewOnShowAsync(loading.getView(), configuration, event),
+				asyncViewPollInterval);
+	}
+
+	/**
+	 * Cancel any pending asynchronous view loading.
+	 */
+	private void cancelAsyncViewLoadings() {
+		if (asyncViewLoading != null) {
+			asyncViewLoading.cancel();
+			asyncViewLoading = null;
+		}
+		if (asyncSubViewLoading != null) {
+			asyncSubViewLoading.cancel();
+			asyncSubViewLoading = null;
+		}
+	}
+
+	/**
+	 * Record the asynchronous view loading time, if navigation metrics are enabled.
+	 * @param viewName View name
+	 * @param durationNanos Loading time in nanoseconds
+	 */
+	private void recordAsyncViewLoading(String viewName, long durationNanos) {
+		final NavigationMetrics metrics = navigationMetrics;
+		if (metrics != null) {
+			try {
+				metrics.recordPhase(viewName, NavigationPhase.ASYNC_LOADING, durationNanos);
+			} catch (RuntimeException e) {
+				LOGGER.warn("Failed to record navigation metrics", e);
+			}
+		}
+	}
+
 	/**
 	 * Get the default view window configurator.
 	 * @return the default view window configurator, <code>null</code> if not available
@@ -393,15 +641,25 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	public void navigateTo(String navigationState) {
 		final Optional<ViewNavigator> previous = Context.get().threadScope()
 				.flatMap(s -> s.get(ViewNavigator.CONTEXT_KEY, ViewNavigator.class));
+		final Map<String, NavigationStateResolution> previousResolutions = beginNavigationStateResolution();
+		final long start = startTiming();
+		boolean succeeded = false;
+		String targetViewName = null;
 		try {
 
 			Context.get().threadScope().map(s -> s.put(ViewNavigator.CONTEXT_KEY, navigator));
 
+			if (start != 0L) {
+				// resolved once and cached for the whole navigation
+				targetViewName = resolveNavigationState(sanitizeNavigationState(navigationState)).getViewName();
+			}
+
 			// check fallback to default
 			if (isDefaultViewAvailable() && !isViewAvailable(navigationState)) {
 				if (navigationState == null || navigationState.trim().equals("")
 						|| isNavigateToDefaultViewWhenViewNotAvailable()) {
 					navigateToDefault();
+					succeeded = true;
 					return;
 				}
 			}
@@ -424,7 +682,13 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 				trackInHistory(navigationState);
 			}
 
+			succeeded = true;
+
 		} finally {
+			if (start != 0L) {
+				recordNavigation(succeeded ? getCurrentViewName() : targetViewName, start, succeeded);
+			}
+			endNavigationStateResolution(previousResolutions);
 			Context.get().threadScope().map(s -> s.remove(ViewNavigator.CONTEXT_KEY));
 			previous.ifPresent((n) -> Context.get().threadScope().map(s -> s.put(ViewNavigator.CONTEXT_KEY, n)));
 		}
@@ -466,12 +730,14 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 				}
 				// process view parameters
 				Map<String, String> parsedParameters;
+				final long bindingStart = startTiming();
 				try {
 					parsedParameters = ViewNavigationUtils.parseParametersString(parameters, null);
 					ViewNavigationUtils.setViewParameters(view, viewConfiguration, parsedParameters);
 				} catch (Exception e) {
 					throw new ViewNavigationException(viewName, e);
 				}
+				recordPhase(viewName, NavigationPhase.PARAMETERS_BINDING, bindingStart);
 				// display sub view
 				View oldView = ((SubViewContainer) parent).getCurrentView();
 				boolean accepted = ((SubViewContainer) parent).display(view, viewName, parsedParameters);
@@ -485,8 +751,21 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 						ViewNavigationUtils.fireViewOnLeave(oldView, viewConfiguration, evt);
 					}
 					// enter and onShow on new view
+					final long enterStart = startTiming();
 					view.enter(evt);
 					ViewNavigationUtils.fireViewOnShow(view, viewConfiguration, evt, false);
+					recordPhase(viewName, NavigationPhase.ENTER, enterStart);
+					// OnShowAsync on new view
+					if (asyncSubViewLoading != null) {
+						asyncSubViewLoading.cancel();
+						asyncSubViewLoading = null;
+					}
+					if (!viewConfiguration.getOnShowAsyncMethodHandles().isEmpty()) {
+						asyncSubViewLoading = new AsyncViewLoading(navigator.getUI(), view, viewName, () -> {
+							// sub view already displayed
+						}, (navigationMetrics != null) ? this::recordAsyncViewLoading : null);
+						startAsyncViewLoading(asyncSubViewLoading, viewConfiguration, evt);
+					}
 				}
 			}
 		} else {
@@ -684,7 +963,9 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 		if (event.getNewView() != null) {
 			ViewConfiguration configuration = getViewConfiguration(event.getNewView().getClass());
 			if (configuration != null) {
+				final long bindingStart = startTiming();
 				ViewNavigationUtils.setViewParameters(event.getNewView(), configuration, event.getParameters(), null);
+				recordPhase(event.getViewName(), NavigationPhase.PARAMETERS_BINDING, bindingStart);
 			} else {
 				LOGGER.warn("Failed to obtain ViewConfiguration for view class " + event.getNewView().getClass()
 						+ ": View parameters setting skipped");
@@ -704,15 +985,25 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 		if (event.getNewView() != null) {
 			ViewConfiguration configuration = getViewConfiguration(event.getNewView().getClass());
 			if (configuration != null) {
-				ViewNavigationUtils.fireViewOnShow(event.getNewView(), configuration,
-						DefaultViewNavigatorChangeEvent.create(event, previousViewName, navigator,
-								getViewWindow(buildNavigationState(event.getViewName(), event.getParameters()))),
-						false);
+				final DefaultViewNavigatorChangeEvent evt = DefaultViewNavigatorChangeEvent.create(event,
+						previousViewName, navigator,
+						getViewWindow(buildNavigationState(event.getViewName(), event.getParameters())));
+				ViewNavigationUtils.fireViewOnShow(event.getNewView(), configuration, evt, false);
+				// start asynchronous loading, if required
+				final AsyncViewLoading loading = asyncViewLoading;
+				if (loading != null && loading.getView() == event.getNewView() && !loading.isStarted()) {
+					startAsyncViewLoading(loading, configuration, evt);
+				}
 			} else {
 				LOGGER.warn("Failed to obtain ViewConfiguration for view class " + event.getOldView().getClass()
 						+ ": OnShow methods firing skipped");
 			}
+			// view enter and OnShow methods time, since view display
+			if (viewDisplayedAt != 0L) {
+				recordPhase(event.getViewName(), NavigationPhase.ENTER, viewDisplayedAt);
+			}
 		}
+		viewDisplayedAt = 0L;
 	}
 
 	/**
@@ -725,14 +1016,25 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 * @param navigationState Navigation state
 	 */
 	private void navigateToState(ViewConfiguration viewConfiguration, String navigationState) {
-		// check authentication
-		if (checkAuthentication(navigationState, viewConfiguration)) {
-			navigator.navigateToState(navigationState);
-		} else {
-			// track view in history to allow backward navigation
-			if (!isVolatile(viewConfiguration)) {
-				trackInHistory(navigationState);
+		final Map<String, NavigationStateResolution> previousResolutions = beginNavigationStateResolution();
+		try {
+			// check authentication
+			final long start = startTiming();
+			final boolean authenticated = checkAuthentication(navigationState, viewConfiguration);
+			if (start != 0L) {
+				recordPhase(resolveNavigationState(navigationState).getViewName(), NavigationPhase.AUTHENTICATION,
+						start);
+			}
+			if (authenticated) {
+				navigator.navigateToState(navigationState);
+			} else {
+				// track view in history to allow backward navigation
+				if (!isVolatile(viewConfiguration)) {
+					trackInHistory(navigationState);
+				}
 			}
+		} finally {
+			endNavigationStateResolution(previousResolutions);
 		}
 	}
 
@@ -753,7 +1055,10 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 		ViewConfiguration cfg = (viewConfiguration != null) ? viewConfiguration
 				: (view != null) ? getViewConfiguration(view.getClass()) : null;
 		// check authentication
-		if (checkAuthentication(navigationState, cfg)) {
+		final long start = startTiming();
+		final boolean authenticated = checkAuthentication(navigationState, cfg);
+		recordPhase(viewName, NavigationPhase.AUTHENTICATION, start);
+		if (authenticated) {
 			navigator.navigateToView(view, viewName, parameters);
 		} else {
 			// track view in history to allow backward navigation
@@ -936,9 +1241,10 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 * @return Optional {@link ViewConfiguration}
 	 */
 	public Optional<ViewConfiguration> getViewConfiguration(String navigationState) {
-		ViewProvider viewProvider = getViewProvider(navigationState);
+		final NavigationStateResolution resolution = resolveNavigationState(navigationState);
+		ViewProvider viewProvider = resolution.getViewProvider();
 		if (viewProvider != null) {
-			String viewName = viewProvider.getViewName(navigationState);
+			String viewName = resolution.getViewName();
 			if (viewName != null) {
 				ViewProvider vp = (viewProvider instanceof ViewProviderAdapter)
 						? ((ViewProviderAdapter) viewProvider).getWrappedProvider()
@@ -979,11 +1285,7 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 *         <code>false</code> otherwise
 	 */
 	protected boolean isViewAvailable(String navigationState) {
-		ViewProvider longestViewNameProvider = getViewProvider(navigationState);
-		if (longestViewNameProvider != null) {
-			return longestViewNameProvider.getViewName(navigationState) != null;
-		}
-		return false;
+		return resolveNavigationState(navigationState).isViewAvailable();
 	}
 
 	/**
@@ -992,12 +1294,9 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 * @return View instance, or <code>null</code> if not available from any ViewProvider
 	 */
 	protected View getView(String navigationState) {
-		ViewProvider longestViewNameProvider = getViewProvider(navigationState);
-		if (longestViewNameProvider != null) {
-			String viewName = longestViewNameProvider.getViewName(navigationState);
-			if (viewName != null) {
-				return longestViewNameProvider.getView(viewName);
-			}
+		final NavigationStateResolution resolution = resolveNavigationState(navigationState);
+		if (resolution.isViewAvailable()) {
+			return resolution.getViewProvider().getView(resolution.getViewName());
 		}
 		return null;
 	}
@@ -1010,11 +1309,7 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	protected String[] getViewNameAndParameters(String navigationState) {
 		String[] result = new String[] { "", "" };
 		if (navigationState != null) {
-			String viewName = null;
-			ViewProvider longestViewNameProvider = getViewProvider(navigationState);
-			if (longestViewNameProvider != null) {
-				viewName = longestViewNameProvider.getViewName(navigationState);
-			}
+			final String viewName = resolveNavigationState(navigationState).getViewName();
 			if (viewName != null) {
 				result[0] = viewName;
 				if (navigationState.length() > viewName.length()) {
@@ -1036,16 +1331,74 @@ public class NavigatorActuator<N extends Navigator & ViewNavigatorAdapter> imple
 	 * @return suitable provider
 	 */
 	protected ViewProvider getViewProvider(String state) {
-		String longestViewName = null;
-		ViewProvider longestViewNameProvider = null;
-		for (ViewProvider provider : viewProviders) {
-			String viewName = provider.getViewName(state);
-			if (null != viewName && (longestViewName == null || viewName.length() > longestViewName.length())) {
-				longestViewName = viewName;
-				longestViewNameProvider = provider;
+		return resolveNavigationState(state).getViewProvider();
+	}
+
+	/**
+	 * Resolve given navigation state, i.e. get the view provider which provides the longest view name for the navigation
+	 * state. If a navigation is in progress, the resolution is cached and reused for the whole navigation.
+	 * @param state Navigation state
+	 * @return The navigation state resolution
+	 */
+	private NavigationStateResolution resolveNavigationState(String state) {
+		NavigationStateResolution resolution = getCurrentNavigationStateResolution(state);
+		if (resolution == null) {
+			final long start = startTiming();
+			String longestViewName = null;
+			ViewProviderAdapter longestViewNameProvider = null;
+			for (ViewProviderAdapter provider : viewProviders) {
+				String viewName = provider.getViewName(state);
+				if (null != viewName && (longestViewName == null || viewName.length() > longestViewName.length())) {
+					longestViewName = viewName;
+					longestViewNameProvider = provider;
+				}
+			}
+			resolution = new NavigationStateResolution(state, longestViewNameProvider, longestViewName);
+			recordPhase(longestViewName, NavigationPhase.RESOLUTION, start);
+			if (navigationStateResolutions != null) {
+				navigationStateResolutions.put(state, resolution);
 			}
 		}
-		return longestViewNameProvider;
+		return resolution;
+	}
+
+	/**
+	 * Get the cached resolution of given navigation state, if a navigation is in progress and the navigation state was
+	 * already resolved.
+	 * @param state Navigation state
+	 * @return The navigation state resolution, <code>null</code> if not available
+	 */
+	NavigationStateResolution getCurrentNavigationStateResolution(String state) {
+		return (navigationStateResolutions != null) ? navigationStateResolutions.get(state) : null;
+	}
+
+	/**
+	 * Start caching navigation state resolutions, if not already started by an enclosing navigation.
+	 * @return The resolutions cache of the enclosing navigation, <code>null</code> if none
+	 */
+	private Map<String, NavigationStateResolution> beginNavigationStateResolution() {
+		final Map<String, NavigationStateResolution> previous = navigationStateResolutions;
+		if (previous == null) {
+			navigationStateResolutions = new HashMap<>(4);
+		}
+		return previous;
+	}
+
+	/**
+	 * Stop caching navigation state resolutions, restoring the enclosing navigation cache.
+	 * @param previous The resolutions cache of the enclosing navigation
+	 */
+	private void endNavigationStateResolution(Map<String, NavigationStateResolution> previous) {
+		navigationStateResolutions = previous;
+	}
+
+	/**
+	 * Clear the navigation state resolutions cached for the navigation in progress, if any.
+	 */
+	private void clearNavigationStateResolutions() {
+		if (navigationStateResolutions != null) {
+			navigationStateResolutions.clear();
+		}
 	}
 
 	/**
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.vaadin.server.AbstractExtension;
+import com.vaadin.server.Extension;
+import com.vaadin.ui.UI;
+
+/**
+ * {@link UI} extension which holds the stateful view instances stores of the UI, one for each
+ * {@link DefaultViewProvider}, so that the stores share the UI lifecycle and are guarded by the UI session lock.
+ * 
+ * @since 5.4.1
+ */
+final class StatefulViewsExtension extends AbstractExtension {
+
+	private static final long serialVersionUID = -6408216347402911245L;
+
+	/*
+	 * Stateful view instances stores, by view provider. Not serialized: the stores are rebuilt on demand
+	 */
+	private transient Map<DefaultViewProvider, Object> stores;
+
+	/**
+	 * Constructor
+	 * @param ui The UI to extend
+	 */
+	private StatefulViewsExtension(UI ui) {
+		super();
+		extend(ui);
+	}
+
+	/**
+	 * Get the stateful view instances store of given view provider.
+	 * @param <S> Store type
+	 * @param provider View provider
+	 * @param factory Store factory, <code>null</code> to not create the store if not available
+	 * @return The view provider store, <code>null</code> if not available and no factory is provided
+	 */
+	@SuppressWarnings("unchecked")
+	<S> S getStore(DefaultViewProvider provider, Supplier<S> factory) {
+		if (stores == null) {
+			if (factory == null) {
+				return null;
+			}
+			stores = new IdentityHashMap<>(2);
+		}
+		Object store = stores.get(provider);
+		if (store == null && factory != null) {
+			store = factory.get();
+			stores.put(provider, store);
+		}
+		return (S) store;
+	}
+
+	/**
+	 * Get the {@link StatefulViewsExtension} bound to given UI. Must be invoked holding the UI session lock.
+	 * @param ui UI (not null)
+	 * @param create Whether to create and bind the extension if not available
+	 * @return The UI extension, <code>null</code> if not available and <code>create</code> is <code>false</code>
+	 */
+	static StatefulViewsExtension get(UI ui, boolean create) {
+		for (Extension extension : ui.getExtensions()) {
+			if (extension instanceof StatefulViewsExtension) {
+				return (StatefulViewsExtension) extension;
+			}
+		}
+		return create ? new StatefulViewsExtension(ui) : null;
+	}
+
+}
@@ -16,6 +16,7 @@
 package com.holonplatform.vaadin.navigator.internal;
 
 import java.io.Serializable;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
@@ -29,6 +30,7 @@ import com.holonplatform.vaadin.navigator.SubViewContainer;
 import com.holonplatform.vaadin.navigator.ViewWindowConfigurator;
 import com.holonplatform.vaadin.navigator.annotations.OnLeave;
 import com.holonplatform.vaadin.navigator.annotations.OnShow;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
 import com.holonplatform.vaadin.navigator.annotations.ViewContext;
 import com.holonplatform.vaadin.navigator.annotations.ViewWindowConfiguration;
 import com.holonplatform.vaadin.navigator.annotations.VolatileView;
@@ -98,6 +100,12 @@ public interface ViewConfiguration extends Consumer<ViewWindowConfigurator>, Ser
 	 */
 	Collection<ViewParameterDefinition> getParameters();
 
+	/**
+	 * Get the binder of the View declared parameters.
+	 * @return The View parameters binder (never null)
+	 */
+	ViewParametersBinder getParametersBinder();
+
 	/**
 	 * Get view {@link OnShow} methods
 	 * @return OnShow methods in call order, or an empty list if none
@@ -117,6 +125,24 @@ public interface ViewConfiguration extends Consumer<ViewWindowConfigurator>, Ser
 	 */
 	List<Method> getOnLeaveMethods();
 
+	/**
+	 * Get view {@link OnShow} methods, bound to pre-computed method handles.
+	 * @return OnShow method handles in call order, or an empty list if none
+	 */
+	List<ViewMethodHandle> getOnShowMethodHandles();
+
+	/**
+	 * Get view {@link OnLeave} methods, bound to pre-computed method handles.
+	 * @return OnLeave method handles in call order, or an empty list if none
+	 */
+	List<ViewMethodHandle> getOnLeaveMethodHandles();
+
+	/**
+	 * Get view {@link OnShowAsync} methods, bound to pre-computed method handles which return the method result.
+	 * @return OnShowAsync method handles in call order, or an empty list if none
+	 */
+	List<ViewMethodHandle> getOnShowAsyncMethodHandles();
+
 	/**
 	 * Get view {@link ViewWindowConfiguration} methods.
 	 * @return ViewWindowConfiguration methods in call order, or an empty list if none
@@ -182,6 +208,13 @@ public interface ViewConfiguration extends Consumer<ViewWindowConfigurator>, Ser
 		 */
 		Method getWriteMethod();
 
+		/**
+		 * Get the pre-computed handle to set the parameter value in a view instance, using the write method if
+		 * available or the view class field otherwise. The handle type is <code>(Object view, Object value)void</code>.
+		 * @return Parameter value setter handle, or <code>null</code> if not available
+		 */
+		MethodHandle getValueSetter();
+
 	}
 
 	/**
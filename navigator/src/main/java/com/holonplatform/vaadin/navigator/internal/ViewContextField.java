@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.navigator.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
 
 import com.holonplatform.vaadin.navigator.annotations.ViewContext;
@@ -44,6 +45,13 @@ public interface ViewContextField {
 	 */
 	Field getField();
 
+	/**
+	 * Get the pre-computed handle to set the field value in a view instance. The handle type is
+	 * <code>(Object view, Object value)void</code>.
+	 * @return Field value setter handle, or <code>null</code> if not available
+	 */
+	MethodHandle getValueSetter();
+
 	/**
 	 * Build a ViewContextField
 	 * @param contextResourceKey Context resource key
@@ -55,4 +63,17 @@ public interface ViewContextField {
 		return new DefaultViewContextField(contextResourceKey, required, field);
 	}
 
+	/**
+	 * Build a ViewContextField
+	 * @param contextResourceKey Context resource key
+	 * @param required Required context injection
+	 * @param field Field reference
+	 * @param valueSetter Field value setter handle, with <code>(Object view, Object value)void</code> type
+	 * @return ViewContextField
+	 */
+	static ViewContextField build(String contextResourceKey, boolean required, Field field,
+			MethodHandle valueSetter) {
+		return new DefaultViewContextField(contextResourceKey, required, field, valueSetter);
+	}
+
 }
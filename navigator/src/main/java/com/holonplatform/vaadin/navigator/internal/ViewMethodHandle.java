@@ -0,0 +1,103 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+
+import com.holonplatform.vaadin.navigator.annotations.OnLeave;
+import com.holonplatform.vaadin.navigator.annotations.OnShow;
+import com.vaadin.navigator.View;
+
+/**
+ * A view lifecycle method (such as {@link OnShow} and {@link OnLeave} methods) bound to a pre-computed
+ * {@link MethodHandle}. For internal use.
+ * 
+ * @since 5.4.1
+ */
+public final class ViewMethodHandle {
+
+	/**
+	 * Method reference
+	 */
+	private final Method method;
+
+	/**
+	 * Method handle, with <code>(Object view, Object event)void</code> type, or
+	 * <code>(Object view, Object event)Object</code> type for methods whose result is used
+	 */
+	private final MethodHandle handle;
+
+	/**
+	 * Whether to fire the method also at browser page refresh
+	 */
+	private final boolean fireOnRefresh;
+
+	/**
+	 * Constructor
+	 * @param method Method reference
+	 * @param handle Method handle, with <code>(Object view, Object event)void</code> type, or
+	 *        <code>(Object view, Object event)Object</code> type if the handle will be invoked using
+	 *        {@link #invokeForResult(View, Object)}
+	 * @param fireOnRefresh Whether to fire the method also at browser page refresh
+	 */
+	public ViewMethodHandle(Method method, MethodHandle handle, boolean fireOnRefresh) {
+		super();
+		this.method = method;
+		this.handle = handle;
+		this.fireOnRefresh = fireOnRefresh;
+	}
+
+	/**
+	 * Method reference
+	 * @return the method
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Whether the method must be called also at browser page refresh
+	 * @return <code>true</code> if method must be called also at browser page refresh
+	 */
+	public boolean isFireOnRefresh() {
+		return fireOnRefresh;
+	}
+
+	/**
+	 * Invoke the method on given view instance.
+	 * @param view View instance
+	 * @param event Optional view change event, ignored if the method does not declare any parameter
+	 * @throws Throwable Method invocation error
+	 */
+	public void invoke(View view, Object event) throws Throwable {
+		handle.invokeExact((Object) view, event);
+	}
+
+	/**
+	 * Invoke the method on given view instance and get the method result. The method handle must be of
+	 * <code>(Object view, Object event)Object</code> type.
+	 * @param view View instance
+	 * @param event Optional view change event, ignored if the method does not declare any parameter
+	 * @return The method result, <code>null</code> for void methods
+	 * @throws Throwable Method invocation error
+	 */
+	public Object invokeForResult(View view, Object event) throws Throwable {
+		final Object result = handle.invokeExact((Object) view, event);
+		return result;
+	}
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Segment trie of view names, used to resolve the longest registered view name which is a prefix of a navigation
+ * state, i.e. the view name which is equal to the navigation state or followed by a <code>/</code> character.
+ * <p>
+ * Resolution is performed with a single scan of the navigation state and without any allocation. The trie is
+ * copy-on-write: registrations copy only the nodes along the registered view name path, so resolution can be safely
+ * performed concurrently with registration.
+ * </p>
+ * 
+ * @param <V> Value type
+ *
+ * @since 5.4.1
+ */
+final class ViewNameTrie<V> implements Serializable {
+
+	private static final long serialVersionUID = 2911578406393563651L;
+
+	/**
+	 * Root node
+	 */
+	private volatile Node<V> root = new Node<>();
+
+	/**
+	 * Bind given value to given view name, replacing any previous binding.
+	 * @param viewName View name (not null)
+	 * @param value Value
+	 */
+	synchronized void put(String viewName, V value) {
+		root = root.put(viewName, 0, value);
+	}
+
+	/**
+	 * Get the value bound to the given view name.
+	 * @param viewName View name
+	 * @return The value bound to the view name, <code>null</code> if none
+	 */
+	V get(String viewName) {
+		if (viewName == null) {
+			return null;
+		}
+		Node<V> node = root;
+		final int length = viewName.length();
+		for (int i = 0; i < length && node != null; i++) {
+			node = node.child(viewName.charAt(i));
+		}
+		return (node != null && node.viewName != null) ? node.value : null;
+	}
+
+	/**
+	 * Resolve the longest registered view name contained in given navigation state.
+	 * @param navigationState Navigation state
+	 * @return The matching view name as registered, <code>null</code> if none
+	 */
+	String resolveViewName(String navigationState) {
+		final Node<V> node = resolve(navigationState);
+		return (node != null) ? node.viewName : null;
+	}
+
+	/**
+	 * Resolve the value bound to the longest registered view name contained in given navigation state.
+	 * @param navigationState Navigation state
+	 * @return The value bound to the matching view name, <code>null</code> if none
+	 */
+	V resolveValue(String navigationState) {
+		final Node<V> node = resolve(navigationState);
+		return (node != null) ? node.value : null;
+	}
+
+	/**
+	 * Resolve the node of the longest registered view name contained in given navigation state.
+	 * @param navigationState Navigation state
+	 * @return The matching node, <code>null</code> if none
+	 */
+	private Node<V> resolve(String navigationState) {
+		if (navigationState == null) {
+			return null;
+		}
+		Node<V> matched = null;
+		Node<V> node = root;
+		final int length = navigationState.length();
+		int i = 0;
+		while (node != null) {
+			if (i == length) {
+				return (node.viewName != null) ? node : matched;
+			}
+			final char c = navigationState.charAt(i);
+			if (c == '/' && node.viewName != null) {
+				matched = node;
+			}
+			node = node.child(c);
+			i++;
+		}
+		return matched;
+	}
+
+	/**
+	 * Trie node. Nodes are never modified once published.
+	 * @param <V> Value type
+	 */
+	private static final class Node<V> implements Serializable {
+
+		private static final long serialVersionUID = -3624436826640400637L;
+
+		private static final char[] NO_KEYS = new char[0];
+
+		/**
+		 * Sorted children keys
+		 */
+		final char[] keys;
+
+		/**
+		 * Children, in the same order of the keys
+		 */
+		final Node<V>[] children;
+
+		/**
+		 * The registered view name which ends at this node, if any
+		 */
+		final String viewName;
+
+		/**
+		 * The value bound to the view name
+		 */
+		final V value;
+
+		@SuppressWarnings("unchecked")
+		Node() {
+			this(NO_KEYS, new Node[0], null, null);
+		}
+
+		Node(char[] keys, Node<V>[] children, String viewName, V value) {
+			super();
+			this.keys = keys;
+			this.children = children;
+			this.viewName = viewName;
+			this.value = value;
+		}
+
+		Node<V> child(char c) {
+			final int index = Arrays.binarySearch(keys, c);
+			return (index < 0) ? null : children[index];
+		}
+
+		/**
+		 * Returns a copy of this node with given view name bound to given value.
+		 * @param name View name
+		 * @param offset View name offset which corresponds to this node
+		 * @param v Value
+		 * @return The updated node copy
+		 */
+		Node<V> put(String name, int offset, V v) {
+			if (offset == name.length()) {
+				return new Node<>(keys, children, name, v);
+			}
+			final char c = name.charAt(offset);
+			final int index = Arrays.binarySearch(keys, c);
+			if (index >= 0) {
+				final Node<V>[] nodes = children.clone();
+				nodes[index] = children[index].put(name, offset + 1, v);
+				return new Node<>(keys, nodes, viewName, value);
+			}
+			final int insert = -(index + 1);
+			final char[] ks = new char[keys.length + 1];
+			final Node<V>[] nodes = Arrays.copyOf(children, children.length + 1);
+			System.arraycopy(keys, 0, ks, 0, insert);
+			System.arraycopy(keys, insert, ks, insert + 1, keys.length - insert);
+			System.arraycopy(children, insert, nodes, insert + 1, children.length - insert);
+			ks[insert] = c;
+			nodes[insert] = new Node<V>().put(name, offset + 1, v);
+			return new Node<>(ks, nodes, viewName, value);
+		}
+
+	}
+
+}
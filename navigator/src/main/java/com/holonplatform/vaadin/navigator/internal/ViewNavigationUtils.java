@@ -21,10 +21,15 @@ import java.beans.PropertyDescriptor;
 import java.io.Serializable;
 import java.io.UnsupportedEncodingException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
+import java.math.BigInteger;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.text.DateFormat;
@@ -47,7 +52,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.concurrent.CancellationException;
 
 import org.apache.commons.lang3.reflect.FieldUtils;
 
@@ -66,6 +71,7 @@ import com.holonplatform.vaadin.navigator.ViewNavigator.ViewNavigatorChangeEvent
 import com.holonplatform.vaadin.navigator.ViewWindowConfigurator;
 import com.holonplatform.vaadin.navigator.annotations.OnLeave;
 import com.holonplatform.vaadin.navigator.annotations.OnShow;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
 import com.holonplatform.vaadin.navigator.annotations.SubViewOf;
 import com.holonplatform.vaadin.navigator.annotations.ViewContext;
 import com.holonplatform.vaadin.navigator.annotations.ViewParameter;
@@ -101,19 +107,66 @@ public final class ViewNavigationUtils implements Serializable {
 		}
 	};
 
-	private static final DecimalFormat PARAMETER_VALUE_INTEGER_FORMAT = new DecimalFormat("#0");
-	private static final DecimalFormat PARAMETER_VALUE_DECIMAL_FORMAT = new DecimalFormat("#0.#");
+	private static final ThreadLocal<DecimalFormat> PARAMETER_VALUE_INTEGER_FORMAT = new ThreadLocal<DecimalFormat>() {
+		@Override
+		protected DecimalFormat initialValue() {
+			DecimalFormat format = new DecimalFormat("#0");
+			format.setGroupingUsed(false);
+			return format;
+		}
+	};
 
-	private static final Pattern PARAMETERS_SEPARATOR_PATTERN = Pattern.compile("/", Pattern.LITERAL);
-	private static final Pattern PARAMETER_SEPARATOR_PATTERN = Pattern.compile("=", Pattern.LITERAL);
+	private static final ThreadLocal<DecimalFormat> PARAMETER_VALUE_DECIMAL_FORMAT = new ThreadLocal<DecimalFormat>() {
+		@Override
+		protected DecimalFormat initialValue() {
+			DecimalFormatSymbols dfs = new DecimalFormatSymbols();
+			dfs.setDecimalSeparator('.');
+			DecimalFormat format = new DecimalFormat("#0.#");
+			format.setDecimalFormatSymbols(dfs);
+			format.setGroupingUsed(false);
+			return format;
+		}
+	};
+
+	/**
+	 * Lookup used to unreflect view methods and fields
+	 */
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	/**
+	 * Type of the pre-computed view method handles: <code>(Object view, Object argument)void</code>
+	 */
+	private static final MethodType VIEW_HANDLE_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	/**
+	 * Type of the pre-computed view method handles whose result is used:
+	 * <code>(Object view, Object argument)Object</code>
+	 */
+	private static final MethodType VIEW_RESULT_HANDLE_TYPE = MethodType.methodType(Object.class, Object.class,
+			Object.class);
+
+	/**
+	 * Type of the view constructor handles: <code>()Object</code>
+	 */
+	private static final MethodType VIEW_CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	/**
+	 * View class nullary constructor handles, or the exception thrown when trying to obtain it
+	 */
+	private static final ClassValue<Object> VIEW_CONSTRUCTORS = new ClassValue<Object>() {
+
+		@Override
+		protected Object computeValue(Class<?> type) {
+			try {
+				return LOOKUP.unreflectConstructor(makeAccessible(type.getDeclaredConstructor()))
+						.asType(VIEW_CONSTRUCTOR_TYPE);
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				return e;
+			}
+		}
+
+	};
 
-	static {
-		DecimalFormatSymbols dfs = new DecimalFormatSymbols();
-		dfs.setDecimalSeparator('.');
-		PARAMETER_VALUE_DECIMAL_FORMAT.setDecimalFormatSymbols(dfs);
-		PARAMETER_VALUE_DECIMAL_FORMAT.setGroupingUsed(false);
-		PARAMETER_VALUE_INTEGER_FORMAT.setGroupingUsed(false);
-	}
 
 	/*
 	 * Empty private constructor: this class is intended only to provide constants ad utility methods.
@@ -148,6 +201,28 @@ public final class ViewNavigationUtils implements Serializable {
 		}
 	}
 
+	/**
+	 * Create a new instance of given view class, using a cached handle of its nullary constructor.
+	 * @param viewClass View class (not null)
+	 * @return New view instance
+	 * @throws ViewConfigurationException Failed to create the view instance
+	 */
+	public static View instantiateView(Class<? extends View> viewClass) throws ViewConfigurationException {
+		final Object constructor = VIEW_CONSTRUCTORS.get(viewClass);
+		if (constructor instanceof Throwable) {
+			throw new ViewConfigurationException("Failed to istantiate view class " + viewClass.getName(),
+					(Throwable) constructor);
+		}
+		try {
+			final Object view = ((MethodHandle) constructor).invokeExact();
+			return (View) view;
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new ViewConfigurationException("Failed to istantiate view class " + viewClass.getName(), e);
+		}
+	}
+
 	/**
 	 * Check if given view class is valid
 	 * @param viewClass View class to check
@@ -180,22 +255,61 @@ public final class ViewNavigationUtils implements Serializable {
 			throw new ViewConfigurationException("Missing view configuration");
 		}
 
-		for (Method method : configuration.getOnShowMethods()) {
-			if (!refresh || configuration.isFireOnRefresh(method)) {
+		for (ViewMethodHandle method : configuration.getOnShowMethodHandles()) {
+			if (!refresh || method.isFireOnRefresh()) {
 				try {
-					if (method.getParameterCount() == 0) {
-						method.invoke(view, new Object[0]);
-					} else {
-						method.invoke(view, new Object[] { event });
-					}
-				} catch (Exception e) {
-					throw new ViewConfigurationException("Failed to fire OnShow method " + method.getName()
+					method.invoke(view, event);
+				} catch (Throwable e) {
+					throw new ViewConfigurationException("Failed to fire OnShow method " + method.getMethod().getName()
 							+ " on view class " + view.getClass().getName(), e);
 				}
 			}
 		}
 	}
 
+	/**
+	 * Fire {@link OnShowAsync} view methods. This method is meant to be called outside the UI thread.
+	 * @param <E> Actual event type
+	 * @param view View instance (not null)
+	 * @param configuration View configuration (not null)
+	 * @param event View change event
+	 * @return The {@link Runnable}s returned by the methods, to be executed with the session lock held, an empty list
+	 *         if none
+	 * @throws ViewConfigurationException Error invoking view methods
+	 * @throws CancellationException If the current thread was interrupted
+	 */
+	public static <E extends ViewChangeEvent & ViewNavigatorChangeEvent> List<Runnable> fireViewOnShowAsync(View view,
+			ViewConfiguration configuration, E event) throws ViewConfigurationException {
+		if (view == null) {
+			throw new ViewConfigurationException("Null view instance");
+		}
+		if (configuration == null) {
+			throw new ViewConfigurationException("Missing view configuration");
+		}
+
+		List<Runnable> runnables = null;
+		for (ViewMethodHandle method : configuration.getOnShowAsyncMethodHandles()) {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new CancellationException("OnShowAsync methods execution on view class "
+						+ view.getClass().getName() + " was cancelled");
+			}
+			final Object result;
+			try {
+				result = method.invokeForResult(view, event);
+			} catch (Throwable e) {
+				throw new ViewConfigurationException("Failed to fire OnShowAsync method "
+						+ method.getMethod().getName() + " on view class " + view.getClass().getName(), e);
+			}
+			if (result != null) {
+				if (runnables == null) {
+					runnables = new ArrayList<>(2);
+				}
+				runnables.add((Runnable) result);
+			}
+		}
+		return (runnables != null) ? runnables : Collections.emptyList();
+	}
+
 	/**
 	 * Fire {@link OnLeave} view methods
 	 * @param <E> Actual event type
@@ -213,15 +327,11 @@ public final class ViewNavigationUtils implements Serializable {
 			throw new ViewConfigurationException("Missing view configuration");
 		}
 
-		for (Method method : configuration.getOnLeaveMethods()) {
+		for (ViewMethodHandle method : configuration.getOnLeaveMethodHandles()) {
 			try {
-				if (method.getParameterCount() == 0) {
-					method.invoke(view, new Object[0]);
-				} else {
-					method.invoke(view, new Object[] { event });
-				}
-			} catch (Exception e) {
-				throw new ViewConfigurationException("Failed to fire OnLeave method " + method.getName()
+				method.invoke(view, event);
+			} catch (Throwable e) {
+				throw new ViewConfigurationException("Failed to fire OnLeave method " + method.getMethod().getName()
 						+ " on view class " + view.getClass().getName(), e);
 			}
 		}
@@ -257,20 +367,19 @@ public final class ViewNavigationUtils implements Serializable {
 
 			String charset = (encoding == null) ? ViewParameter.DEFAULT_PARAMETER_ENCODING : encoding;
 
-			StringBuilder paramsString = new StringBuilder();
+			StringBuilder paramsString = new StringBuilder(paramsMap.size() * 16);
 
 			for (Entry<String, Object> entry : paramsMap.entrySet()) {
-				if (entry.getKey() != null && !entry.getKey().trim().equals("")) {
+				if (!ViewParametersBinder.isBlank(entry.getKey())) {
 					try {
-						String serializedValue = serializeParameterValue(entry.getValue(),
-								DEFAULT_PARAM_DATE_FORMAT.get());
+						String serializedValue = serializeParameterValue(entry.getValue());
 						if (serializedValue != null) {
 							if (paramsString.length() > 0) {
-								paramsString.append("/");
+								paramsString.append('/');
 							}
-							paramsString.append(URLEncoder.encode(entry.getKey().trim(), charset));
-							paramsString.append("=");
-							paramsString.append(URLEncoder.encode(serializedValue, charset));
+							appendEncoded(paramsString, entry.getKey().trim(), charset);
+							paramsString.append('=');
+							appendEncoded(paramsString, serializedValue, charset);
 						}
 					} catch (Exception e) {
 						throw new ViewConfigurationException("Failed to serialize view parameters", e);
@@ -283,13 +392,47 @@ public final class ViewNavigationUtils implements Serializable {
 		return null;
 	}
 
+	/**
+	 * Append the URL encoded form of given value to given builder. Values which do not contain any character to encode
+	 * are appended as they are.
+	 * @param builder String builder
+	 * @param value Value to encode
+	 * @param charset Encoding charset
+	 * @throws UnsupportedEncodingException Given charset is not supported
+	 */
+	private static void appendEncoded(StringBuilder builder, String value, String charset)
+			throws UnsupportedEncodingException {
+		for (int i = 0; i < value.length(); i++) {
+			final char c = value.charAt(i);
+			if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '.' || c == '-'
+					|| c == '*' || c == '_')) {
+				builder.append(URLEncoder.encode(value, charset));
+				return;
+			}
+		}
+		builder.append(value);
+	}
+
+	/**
+	 * Decode given URL encoded value. Values which do not contain any encoded character are returned as they are.
+	 * @param value Value to decode
+	 * @param charset Encoding charset
+	 * @return Decoded value
+	 * @throws UnsupportedEncodingException Given charset is not supported
+	 */
+	private static String decode(String value, String charset) throws UnsupportedEncodingException {
+		if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+			return value;
+		}
+		return URLDecoder.decode(value, charset);
+	}
+
 	/**
 	 * Serialize given parameter value as String
 	 * @param value Value to serialize
-	 * @param dateFormat Date format to use with {@link Date} value types
 	 * @return Serialized value
 	 */
-	private static String serializeParameterValue(Object value, DateFormat dateFormat) {
+	private static String serializeParameterValue(Object value) {
 		if (!isNullOrEmpty(value)) {
 			if (TypeUtils.isString(value.getClass())) {
 				return (String) value;
@@ -303,13 +446,19 @@ public final class ViewNavigationUtils implements Serializable {
 			}
 			if (TypeUtils.isNumber(value.getClass())) {
 				if (TypeUtils.isDecimalNumber(value.getClass())) {
-					return PARAMETER_VALUE_DECIMAL_FORMAT.format(value);
-				} else {
-					return PARAMETER_VALUE_INTEGER_FORMAT.format(value);
+					return PARAMETER_VALUE_DECIMAL_FORMAT.get().format(value);
 				}
+				if (value instanceof Integer || value instanceof Long || value instanceof Short
+						|| value instanceof Byte) {
+					return Long.toString(((Number) value).longValue());
+				}
+				if (value instanceof BigInteger) {
+					return value.toString();
+				}
+				return PARAMETER_VALUE_INTEGER_FORMAT.get().format(value);
 			}
 			if (TypeUtils.isDate(value.getClass())) {
-				return dateFormat.format((Date) value);
+				return DEFAULT_PARAM_DATE_FORMAT.get().format((Date) value);
 			}
 			if (TypeUtils.isTemporal(value.getClass())) {
 				final TemporalType type = TemporalType.getTemporalType((Temporal) value).orElse(TemporalType.DATE);
@@ -339,17 +488,18 @@ public final class ViewNavigationUtils implements Serializable {
 	public static Map<String, String> parseParametersString(String parametersString, String encoding)
 			throws UnsupportedEncodingException {
 		String parameters = sanitizeParametersString(parametersString);
-		if (parameters != null && !parameters.trim().equals("")) {
-			Map<String, String> parsed = new HashMap<>();
-			if (parameters.contains("/")) {
-				String[] pars = PARAMETERS_SEPARATOR_PATTERN.split(parameters);
-				if (pars != null) {
-					for (String par : pars) {
-						parseParameter(par, parsed, encoding);
-					}
+		if (!ViewParametersBinder.isBlank(parameters)) {
+			final String charset = (encoding == null) ? ViewParameter.DEFAULT_PARAMETER_ENCODING : encoding;
+			Map<String, String> parsed = new HashMap<>(8);
+			final int length = parameters.length();
+			int start = 0;
+			while (start < length) {
+				int end = parameters.indexOf('/', start);
+				if (end < 0) {
+					end = length;
 				}
-			} else {
-				parseParameter(parameters, parsed, encoding);
+				parseParameter(parameters, start, end, parsed, charset);
+				start = end + 1;
 			}
 			return parsed;
 		}
@@ -357,20 +507,27 @@ public final class ViewNavigationUtils implements Serializable {
 	}
 
 	/*
-	 * Parse name=value parameter and add to map
+	 * Parse the name=value parameter between given offsets and add to map. Trailing = characters are ignored and the
+	 * parameter is skipped if it contains more than one separator.
 	 */
-	private static void parseParameter(String p, Map<String, String> parametersMap, String encoding)
-			throws UnsupportedEncodingException {
-		if (p != null && p.contains("=")) {
-			String[] splitted = PARAMETER_SEPARATOR_PATTERN.split(p);
-			if (splitted != null && splitted.length == 2) {
-				String key = splitted[0];
-				String value = splitted[1];
-				if (key != null && !key.trim().equals("") && value != null && !value.trim().equals("")) {
-					String charset = (encoding == null) ? ViewParameter.DEFAULT_PARAMETER_ENCODING : encoding;
-					parametersMap.put(URLDecoder.decode(key, charset), URLDecoder.decode(value, charset));
-				}
-			}
+	private static void parseParameter(String parameters, int start, int end, Map<String, String> parametersMap,
+			String charset) throws UnsupportedEncodingException {
+		int last = end;
+		while (last > start && parameters.charAt(last - 1) == '=') {
+			last--;
+		}
+		final int separator = parameters.indexOf('=', start);
+		if (separator < 0 || separator >= last) {
+			return;
+		}
+		final int next = parameters.indexOf('=', separator + 1);
+		if (next > -1 && next < last) {
+			return;
+		}
+		String key = parameters.substring(start, separator);
+		String value = parameters.substring(separator + 1, last);
+		if (!ViewParametersBinder.isBlank(key) && !ViewParametersBinder.isBlank(value)) {
+			parametersMap.put(decode(key, charset), decode(value, charset));
 		}
 	}
 
@@ -407,66 +564,19 @@ public final class ViewNavigationUtils implements Serializable {
 			throw new ViewConfigurationException("Missing view configuration");
 		}
 
-		// get definitions
-		Collection<ViewParameterDefinition> definitions = configuration.getParameters();
-
-		// check view has some parameter definition
-		if (!definitions.isEmpty()) {
-
-			// check required parameters
-			checkRequiredParameters(view, definitions, parameters);
-
-			// set parameter values
-			for (ViewParameterDefinition definition : definitions) {
-				String value = (parameters != null) ? parameters.get(definition.getName()) : null;
-				if (!isNullOrEmpty(value)) {
-					Object deserialized = deserializeParameterValue(value, definition.getType());
-					setViewParameterValue(view, definition, deserialized);
-				} else {
-					if (definition.getDefaultValue() != null) {
-						setViewParameterValue(view, definition, definition.getDefaultValue());
-					} else {
-						clearViewParameter(view, definition);
-					}
-				}
-			}
-
-		}
-	}
-
-	/**
-	 * Clear view parameter on given view instance
-	 * @param view View instance
-	 * @param definition Parameter definition
-	 */
-	private static void clearViewParameter(View view, ViewParameterDefinition definition)
-			throws ViewConfigurationException {
-		Object value = null;
-		if (TypeUtils.isPrimitiveBoolean(definition.getType())) {
-			value = Boolean.FALSE;
-		} else if (TypeUtils.isPrimitiveInt(definition.getType()) || short.class == definition.getType()) {
-			value = 0;
-		} else if (TypeUtils.isPrimitiveInt(definition.getType())) {
-			value = 0;
-		} else if (TypeUtils.isPrimitiveFloat(definition.getType())) {
-			value = 0f;
-		} else if (TypeUtils.isPrimitiveDouble(definition.getType())) {
-			value = 0d;
-		}
-
-		setViewParameterValue(view, definition, value);
+		// bind parameter values using the compiled view parameters binder
+		configuration.getParametersBinder().bind(view, parameters);
 	}
 
 	/**
 	 * Check the given view parameter value, performing type conversions when applicable.
-	 * @param view View instance
 	 * @param definition Parameter definition
 	 * @param value Parameter value
 	 * @return Processed parameter value
 	 * @throws ViewConfigurationException Error processing value
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static Object checkParameterValue(View view, ViewParameterDefinition definition, Object value)
+	static Object checkParameterValue(ViewParameterDefinition definition, Object value)
 			throws ViewConfigurationException {
 		if (value != null) {
 			// String
@@ -500,9 +610,21 @@ public final class ViewNavigationUtils implements Serializable {
 	 * @param value Parameter value to set
 	 * @throws ViewConfigurationException Error setting parameter value
 	 */
-	private static void setViewParameterValue(View view, ViewParameterDefinition definition, Object value)
+	static void setViewParameterValue(View view, ViewParameterDefinition definition, Object value)
 			throws ViewConfigurationException {
-		final Object v = checkParameterValue(view, definition, value);
+		final Object v = checkParameterValue(definition, value);
+
+		final MethodHandle setter = definition.getValueSetter();
+		if (setter != null) {
+			// use the pre-computed setter
+			try {
+				setter.invokeExact((Object) view, v);
+			} catch (Throwable e) {
+				throw new ViewConfigurationException("Failed to set value of parameter " + definition.getName()
+						+ " on view class " + view.getClass().getName(), e);
+			}
+			return;
+		}
 
 		final Method m = definition.getWriteMethod();
 		if (m != null) {
@@ -529,25 +651,6 @@ public final class ViewNavigationUtils implements Serializable {
 		}
 	}
 
-	/*
-	 * check required parameters are provided
-	 */
-	private static void checkRequiredParameters(View view, Collection<ViewParameterDefinition> definitions,
-			Map<String, ?> parameters) throws ViewConfigurationException {
-		for (ViewParameterDefinition definition : definitions) {
-			if (definition.isRequired()) {
-				if (parameters == null || !parameters.containsKey(definition.getName())) {
-					throw new ViewConfigurationException("Parameter " + definition.getName() + " in view class "
-							+ view.getClass().getName() + " is required");
-				}
-				if (isNullOrEmpty(parameters.get(definition.getName()))) {
-					throw new ViewConfigurationException("Parameter " + definition.getName() + " in view class "
-							+ view.getClass().getName() + " is required and must be not null or empty");
-				}
-			}
-		}
-	}
-
 	/**
 	 * Deserialize given parameters String into a map of View parameters consistent with {@link ViewConfiguration}
 	 * parameters declarations.
@@ -565,25 +668,9 @@ public final class ViewNavigationUtils implements Serializable {
 		try {
 			Map<String, String> parsed = parseParametersString(parameters, encoding);
 			if (parsed != null) {
-				// get definitions
-				Collection<ViewParameterDefinition> definitions = configuration.getParameters();
-				if (!definitions.isEmpty()) {
-
-					Map<String, Object> deserialized = new HashMap<>(parsed.size());
-
-					for (ViewParameterDefinition definition : definitions) {
-						String value = parsed.get(definition.getName());
-						if (!isNullOrEmpty(value)) {
-							deserialized.put(definition.getName(),
-									deserializeParameterValue(value, definition.getType()));
-						} else {
-							if (definition.getDefaultValue() != null) {
-								deserialized.put(definition.getName(), definition.getDefaultValue());
-							}
-						}
-					}
-
-					return deserialized;
+				final ViewParametersBinder binder = configuration.getParametersBinder();
+				if (!binder.isEmpty()) {
+					return binder.deserialize(parsed);
 				}
 			}
 
@@ -620,18 +707,41 @@ public final class ViewNavigationUtils implements Serializable {
 		}
 
 		cfg.setParameters(getViewParameterDefinitions(viewClass));
+		cfg.setParametersBinder(ViewParametersBinder.create(cfg.getParameters()));
 
 		List<Method> onShows = getViewOnShowMethods(viewClass);
 		cfg.setOnShowMethods(onShows);
 		if (onShows != null) {
+			List<ViewMethodHandle> onShowHandles = new ArrayList<>(onShows.size());
 			for (Method method : onShows) {
-				if (method.getAnnotation(OnShow.class).onRefresh()) {
+				final boolean onRefresh = method.getAnnotation(OnShow.class).onRefresh();
+				if (onRefresh) {
 					cfg.setFireOnRefreshMethod(method);
 				}
+				onShowHandles.add(new ViewMethodHandle(method, getViewMethodHandle(viewClass, method), onRefresh));
+			}
+			cfg.setOnShowMethodHandles(onShowHandles);
+		}
+
+		List<Method> onShowAsyncs = getViewOnShowAsyncMethods(viewClass);
+		if (!onShowAsyncs.isEmpty()) {
+			List<ViewMethodHandle> onShowAsyncHandles = new ArrayList<>(onShowAsyncs.size());
+			for (Method method : onShowAsyncs) {
+				onShowAsyncHandles.add(new ViewMethodHandle(method,
+						getViewMethodHandle(viewClass, method, VIEW_RESULT_HANDLE_TYPE), false));
 			}
+			cfg.setOnShowAsyncMethodHandles(onShowAsyncHandles);
 		}
 
-		cfg.setOnLeaveMethods(getViewOnLeaveMethods(viewClass));
+		List<Method> onLeaves = getViewOnLeaveMethods(viewClass);
+		cfg.setOnLeaveMethods(onLeaves);
+		if (onLeaves != null) {
+			List<ViewMethodHandle> onLeaveHandles = new ArrayList<>(onLeaves.size());
+			for (Method method : onLeaves) {
+				onLeaveHandles.add(new ViewMethodHandle(method, getViewMethodHandle(viewClass, method), false));
+			}
+			cfg.setOnLeaveMethodHandles(onLeaveHandles);
+		}
 
 		cfg.setContextInjectionFields(getContextInjectionFields(viewClass));
 
@@ -681,6 +791,31 @@ public final class ViewNavigationUtils implements Serializable {
 		return Collections.emptyList();
 	}
 
+	/**
+	 * Get valid {@link OnShowAsync} methods in given <code>viewClass</code>
+	 * @param viewClass View class
+	 * @return List of methods ordered according to class hierarchy
+	 * @throws ViewConfigurationException Error parsing methods or invalid method signature
+	 */
+	public static List<Method> getViewOnShowAsyncMethods(Class<?> viewClass) throws ViewConfigurationException {
+		List<Method> methods = getPublicAnnotatedMethods(viewClass, OnShowAsync.class);
+		if (methods != null) {
+			// check signature
+			for (Method method : methods) {
+				if (method.getReturnType() != Void.class && method.getReturnType() != Void.TYPE
+						&& method.getReturnType() != Runnable.class) {
+					throw new ViewConfigurationException("Invalid OnShowAsync method in view class "
+							+ viewClass.getName() + ": method must be a void or Runnable return method");
+				}
+				checkViewMethodParameters(viewClass, method, "OnShowAsync");
+			}
+			// reverse and return
+			Collections.reverse(methods);
+			return methods;
+		}
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Get valid {@link OnLeave} methods in given <code>viewClass</code>
 	 * @param viewClass View class
@@ -734,6 +869,18 @@ public final class ViewNavigationUtils implements Serializable {
 			throw new ViewConfigurationException("Invalid " + message + " method in view class " + viewClass.getName()
 					+ ": method must be a void return method");
 		}
+		checkViewMethodParameters(viewClass, method, message);
+	}
+
+	/**
+	 * Check given view lifecycle method has no parameters or only one parameter of {@link ViewChangeEvent} type
+	 * @param viewClass View class
+	 * @param method Method to check
+	 * @param message Error message annotation description
+	 * @throws ViewConfigurationException Method is not valid
+	 */
+	private static void checkViewMethodParameters(Class<?> viewClass, Method method, String message)
+			throws ViewConfigurationException {
 		int params = method.getParameterCount();
 		if (params > 1) {
 			throw new ViewConfigurationException("Invalid " + message + " method in view class " + viewClass.getName()
@@ -799,8 +946,8 @@ public final class ViewNavigationUtils implements Serializable {
 					}
 					ViewContext vc = field.getAnnotation(ViewContext.class);
 
-					fields.add(
-							ViewContextField.build(AnnotationUtils.getStringValue(vc.value()), vc.required(), field));
+					fields.add(ViewContextField.build(AnnotationUtils.getStringValue(vc.value()), vc.required(), field,
+							getFieldSetterHandle(cls, field)));
 				}
 			}
 			currentClass = currentClass.getSuperclass();
@@ -867,6 +1014,11 @@ public final class ViewNavigationUtils implements Serializable {
 						}
 					}
 
+					// value setter
+					definition.setValueSetter((definition.getWriteMethod() != null)
+							? getViewMethodHandle(viewClass, definition.getWriteMethod())
+							: getFieldSetterHandle(viewClass, field));
+
 					// settings
 					definition.setRequired(vp.required());
 
@@ -922,7 +1074,7 @@ public final class ViewNavigationUtils implements Serializable {
 		if (value != null && !value.trim().equals("")) {
 			if (TypeUtils.isDate(requiredType)) {
 				try {
-					return new SimpleDateFormat(ViewParameter.DEFAULT_DATE_PATTERN).parse(value);
+					return DEFAULT_PARAM_DATE_FORMAT.get().parse(value);
 				} catch (Exception e) {
 					throw new ViewConfigurationException(
 							"Failed to deserialize parameter value " + value + " into type " + requiredType.getName(),
@@ -1042,6 +1194,122 @@ public final class ViewNavigationUtils implements Serializable {
 		return null;
 	}
 
+	/**
+	 * Get a {@link MethodHandle} to invoke given view class method, adapted to the
+	 * <code>(Object view, Object argument)void</code> type. When the method does not declare any parameter, the
+	 * argument is ignored.
+	 * @param viewClass View class
+	 * @param method View method
+	 * @return The method handle
+	 * @throws ViewConfigurationException If the method is not accessible
+	 */
+	private static MethodHandle getViewMethodHandle(Class<?> viewClass, Method method)
+			throws ViewConfigurationException {
+		return getViewMethodHandle(viewClass, method, VIEW_HANDLE_TYPE);
+	}
+
+	/**
+	 * Get a {@link MethodHandle} to invoke given view class method, adapted to given <code>(Object view, Object
+	 * argument)</code> type. When the method does not declare any parameter, the argument is ignored.
+	 * @param viewClass View class
+	 * @param method View method
+	 * @param type Handle type
+	 * @return The method handle
+	 * @throws ViewConfigurationException If the method is not accessible
+	 */
+	private static MethodHandle getViewMethodHandle(Class<?> viewClass, Method method, MethodType type)
+			throws ViewConfigurationException {
+		try {
+			MethodHandle handle = LOOKUP.unreflect(makeAccessible(method));
+			if (method.getParameterCount() == 0) {
+				handle = MethodHandles.dropArguments(handle, handle.type().parameterCount(), Object.class);
+			}
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(type);
+		} catch (IllegalAccessException e) {
+			throw new ViewConfigurationException(
+					"Failed to access method " + method.getName() + " of view class " + viewClass.getName(), e);
+		}
+	}
+
+	/**
+	 * Get a {@link MethodHandle} to set the value of given primitive type view parameter, adapted to the
+	 * <code>(Object view, T value)void</code> type, where <code>T</code> is the parameter primitive type. This way the
+	 * parameter value can be set without boxing it.
+	 * @param definition Parameter definition
+	 * @return The primitive value setter handle, or <code>null</code> if the parameter type is not primitive or the
+	 *         parameter is not bound to a view class field or write method
+	 * @throws ViewConfigurationException If the view class member is not accessible
+	 */
+	static MethodHandle getPrimitiveValueSetter(ViewParameterDefinition definition)
+			throws ViewConfigurationException {
+		if (definition.getType() == null || !definition.getType().isPrimitive()) {
+			return null;
+		}
+		final MethodType type = MethodType.methodType(void.class, Object.class, definition.getType());
+		if (definition.getWriteMethod() != null) {
+			return getViewMethodHandle(definition.getWriteMethod().getDeclaringClass(), definition.getWriteMethod(),
+					type);
+		}
+		if (definition.getField() != null) {
+			return getFieldSetterHandle(definition.getField().getDeclaringClass(), definition.getField(), type);
+		}
+		return null;
+	}
+
+	/**
+	 * Get a {@link MethodHandle} to set the value of given view class field, adapted to the
+	 * <code>(Object view, Object value)void</code> type.
+	 * @param viewClass View class
+	 * @param field View field
+	 * @return The field setter handle
+	 * @throws ViewConfigurationException If the field is not accessible
+	 */
+	private static MethodHandle getFieldSetterHandle(Class<?> viewClass, Field field)
+			throws ViewConfigurationException {
+		return getFieldSetterHandle(viewClass, field, VIEW_HANDLE_TYPE);
+	}
+
+	/**
+	 * Get a {@link MethodHandle} to set the value of given view class field, adapted to given <code>(Object view,
+	 * Object value)</code> type.
+	 * @param viewClass View class
+	 * @param field View field
+	 * @param type Handle type
+	 * @return The field setter handle
+	 * @throws ViewConfigurationException If the field is not accessible
+	 */
+	private static MethodHandle getFieldSetterHandle(Class<?> viewClass, Field field, MethodType type)
+			throws ViewConfigurationException {
+		try {
+			MethodHandle handle = LOOKUP.unreflectSetter(makeAccessible(field));
+			if (Modifier.isStatic(field.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			return handle.asType(type);
+		} catch (IllegalAccessException e) {
+			throw new ViewConfigurationException(
+					"Failed to access field " + field.getName() + " of view class " + viewClass.getName(), e);
+		}
+	}
+
+	/**
+	 * Try to suppress the Java language access checks for given member.
+	 * @param <T> Member type
+	 * @param member The member
+	 * @return The member
+	 */
+	private static <T extends AccessibleObject> T makeAccessible(T member) {
+		try {
+			member.setAccessible(true);
+		} catch (RuntimeException e) {
+			LOGGER.debug(() -> "Failed to make accessible view class member [" + member + "]: " + e.getMessage());
+		}
+		return member;
+	}
+
 	/**
 	 * Check if given method is {@link View#enter(ViewChangeEvent)} method
 	 * @param method Method to check
@@ -1099,8 +1367,13 @@ public final class ViewNavigationUtils implements Serializable {
 						Optional<?> resource = Context.get().resource(key, type);
 						if (resource.isPresent()) {
 							try {
-								FieldUtils.writeField(vcf.getField(), view, resource.get(), true);
-							} catch (Exception e) {
+								final MethodHandle setter = vcf.getValueSetter();
+								if (setter != null) {
+									setter.invokeExact((Object) view, (Object) resource.get());
+								} else {
+									FieldUtils.writeField(vcf.getField(), view, resource.get(), true);
+								}
+							} catch (Throwable e) {
 								throw new ViewConfigurationException("Failed to inject context resource type " + type
 										+ " in field " + vcf.getField().getName() + " of view class "
 										+ view.getClass().getName(), e);
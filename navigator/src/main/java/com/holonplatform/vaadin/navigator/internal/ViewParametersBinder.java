@@ -0,0 +1,475 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.vaadin.navigator.annotations.ViewParameter;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewParameterDefinition;
+import com.vaadin.navigator.View;
+
+/**
+ * View parameters binder, which compiles the {@link ViewParameterDefinition}s of a view into a set of parameter
+ * bindings, each one with a pre-resolved value parser and a pre-computed value setter.
+ * <p>
+ * Parameters of primitive type are parsed and set without boxing when the parameter value is expressed in its canonical
+ * form, i.e. the one produced when the navigation state is serialized. Non canonical values are parsed using
+ * {@link ViewNavigationUtils#deserializeParameterValue(String, Class)}.
+ * </p>
+ * <p>
+ * The default and clear values of each parameter are checked only once, when the binder is created.
+ * </p>
+ * <p>
+ * A binder is immutable and thread-safe.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public final class ViewParametersBinder {
+
+	private static final ViewParametersBinder EMPTY = new ViewParametersBinder(new Binding[0]);
+
+	private final Binding[] bindings;
+
+	/**
+	 * Constructor
+	 * @param bindings Parameter bindings
+	 */
+	private ViewParametersBinder(Binding[] bindings) {
+		super();
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Create a new binder for given view parameter definitions.
+	 * @param definitions View parameter definitions
+	 * @return A new binder
+	 */
+	public static ViewParametersBinder create(Collection<ViewParameterDefinition> definitions) {
+		if (definitions == null || definitions.isEmpty()) {
+			return EMPTY;
+		}
+		final Binding[] bindings = new Binding[definitions.size()];
+		int i = 0;
+		for (ViewParameterDefinition definition : definitions) {
+			bindings[i++] = new Binding(definition);
+		}
+		return new ViewParametersBinder(bindings);
+	}
+
+	/**
+	 * Get whether the view does not declare any parameter.
+	 * @return <code>true</code> if no parameter is bound
+	 */
+	public boolean isEmpty() {
+		return bindings.length == 0;
+	}
+
+	/**
+	 * Set the view parameter values in given view instance, using given parameters map. Missing parameters are set to
+	 * their default value, if available, or cleared otherwise.
+	 * @param view View instance (not null)
+	 * @param parameters Parameters name-value map
+	 * @throws ViewConfigurationException Missing required parameter or error setting parameter values
+	 */
+	public void bind(View view, Map<String, String> parameters) throws ViewConfigurationException {
+		if (bindings.length == 0) {
+			return;
+		}
+		// check required parameters
+		for (Binding binding : bindings) {
+			if (binding.definition.isRequired()) {
+				if (parameters == null || !parameters.containsKey(binding.definition.getName())) {
+					throw new ViewConfigurationException("Parameter " + binding.definition.getName()
+							+ " in view class " + view.getClass().getName() + " is required");
+				}
+				if (isBlank(parameters.get(binding.definition.getName()))) {
+					throw new ViewConfigurationException(
+							"Parameter " + binding.definition.getName() + " in view class " + view.getClass().getName()
+									+ " is required and must be not null or empty");
+				}
+			}
+		}
+		// set parameter values
+		for (Binding binding : bindings) {
+			final String value = (parameters != null) ? parameters.get(binding.definition.getName()) : null;
+			if (!isBlank(value)) {
+				binding.bind(view, value);
+			} else if (binding.definition.getDefaultValue() != null) {
+				binding.set(view, binding.defaultValue, binding.defaultValueChecked);
+			} else {
+				binding.set(view, binding.clearValue, binding.clearValueChecked);
+			}
+		}
+	}
+
+	/**
+	 * Deserialize given parameters map into a map of parameter values consistent with the parameter definitions.
+	 * Missing parameters are set to their default value, if available.
+	 * @param parameters Parameters name-value map
+	 * @return Deserialized parameter values
+	 * @throws ViewConfigurationException Error deserializing parameter values
+	 */
+	public Map<String, Object> deserialize(Map<String, String> parameters) throws ViewConfigurationException {
+		final Map<String, Object> deserialized = new HashMap<>((parameters != null) ? parameters.size() : 4);
+		for (Binding binding : bindings) {
+			final String value = (parameters != null) ? parameters.get(binding.definition.getName()) : null;
+			if (!isBlank(value)) {
+				deserialized.put(binding.definition.getName(), binding.parser.parse(value));
+			} else if (binding.definition.getDefaultValue() != null) {
+				deserialized.put(binding.definition.getName(), binding.definition.getDefaultValue());
+			}
+		}
+		return deserialized;
+	}
+
+	/**
+	 * Checks whether given String is <code>null</code> or contains only whitespaces, without allocations.
+	 * @param value Value to check
+	 * @return <code>true</code> if given value is <code>null</code> or blank
+	 */
+	static boolean isBlank(String value) {
+		if (value != null) {
+			for (int i = 0; i < value.length(); i++) {
+				if (value.charAt(i) > ' ') {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether given value is a canonical integer number representation, i.e. an optional minus sign followed by
+	 * one or more digits.
+	 * @param value Value to check
+	 * @return <code>true</code> if given value is a canonical integer number representation
+	 */
+	static boolean isCanonicalInteger(String value) {
+		final int length = value.length();
+		int i = (length > 0 && value.charAt(0) == '-') ? 1 : 0;
+		if (i == length) {
+			return false;
+		}
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks whether given value is a canonical decimal number representation, i.e. an optional minus sign followed by
+	 * one or more digits, optionally followed by a dot and one or more digits.
+	 * @param value Value to check
+	 * @return <code>true</code> if given value is a canonical decimal number representation
+	 */
+	static boolean isCanonicalDecimal(String value) {
+		final int length = value.length();
+		int i = (length > 0 && value.charAt(0) == '-') ? 1 : 0;
+		int digits = 0;
+		boolean dot = false;
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			if (c == '.') {
+				if (dot || digits == 0) {
+					return false;
+				}
+				dot = true;
+				digits = 0;
+			} else if (c < '0' || c > '9') {
+				return false;
+			} else {
+				digits++;
+			}
+		}
+		return digits > 0;
+	}
+
+	/**
+	 * Parse given value as a {@link Date} using the {@link ViewParameter#DEFAULT_DATE_PATTERN} pattern. ISO local dates
+	 * are parsed using the <code>java.time</code> API, falling back to
+	 * {@link ViewNavigationUtils#deserializeParameterValue(String, Class)} for any other value, for dates before the
+	 * Gregorian calendar adoption and for dates whose start of day is not midnight in the default time zone.
+	 * @param value Value to parse
+	 * @return The parsed date
+	 * @throws ViewConfigurationException If the value cannot be parsed
+	 */
+	static Object parseDate(String value) throws ViewConfigurationException {
+		if (value.length() == 10) {
+			try {
+				final LocalDate date = LocalDate.parse(value);
+				if (date.getYear() > 1582) {
+					final ZonedDateTime start = date.atStartOfDay(ZoneId.systemDefault());
+					if (start.toLocalTime().equals(LocalTime.MIDNIGHT)) {
+						return Date.from(start.toInstant());
+					}
+				}
+			} catch (@SuppressWarnings("unused") DateTimeParseException e) {
+				// fallback
+			}
+		}
+		return ViewNavigationUtils.deserializeParameterValue(value, Date.class);
+	}
+
+	/**
+	 * Parameter value parser.
+	 */
+	@FunctionalInterface
+	private interface ParameterParser {
+
+		Object parse(String value) throws ViewConfigurationException;
+
+	}
+
+	/**
+	 * Primitive parameter value setter, which parses and sets the value without boxing.
+	 */
+	@FunctionalInterface
+	private interface PrimitiveSetter {
+
+		/**
+		 * Parse and set given value in given view.
+		 * @param view View instance
+		 * @param value Parameter value
+		 * @return <code>true</code> if the value was set, <code>false</code> if the value is not in canonical form
+		 * @throws Throwable Error setting the value
+		 */
+		boolean set(Object view, String value) throws Throwable;
+
+	}
+
+	/**
+	 * A view parameter binding.
+	 */
+	private static final class Binding {
+
+		final ViewParameterDefinition definition;
+		final MethodHandle setter;
+		final PrimitiveSetter primitiveSetter;
+		final ParameterParser parser;
+		final boolean checkParsedValue;
+		final Object defaultValue;
+		final boolean defaultValueChecked;
+		final Object clearValue;
+		final boolean clearValueChecked;
+
+		Binding(ViewParameterDefinition definition) {
+			super();
+			this.definition = definition;
+			this.setter = definition.getValueSetter();
+
+			final Class<?> type = definition.getType();
+			if (type == String.class) {
+				this.parser = value -> value;
+				this.checkParsedValue = false;
+			} else if (type == LocalDate.class) {
+				this.parser = LocalDate::parse;
+				this.checkParsedValue = false;
+			} else if (type == LocalTime.class) {
+				this.parser = LocalTime::parse;
+				this.checkParsedValue = false;
+			} else if (type == LocalDateTime.class) {
+				this.parser = LocalDateTime::parse;
+				this.checkParsedValue = false;
+			} else if (type == Date.class) {
+				this.parser = ViewParametersBinder::parseDate;
+				this.checkParsedValue = false;
+			} else if (type == int.class || type == Integer.class) {
+				this.parser = value -> isCanonicalInteger(value) && value.length() < 10 ? Integer.valueOf(value)
+						: ViewNavigationUtils.deserializeParameterValue(value, type);
+				this.checkParsedValue = true;
+			} else if (type == long.class || type == Long.class) {
+				this.parser = value -> isCanonicalInteger(value) && value.length() < 19 ? Long.valueOf(value)
+						: ViewNavigationUtils.deserializeParameterValue(value, type);
+				this.checkParsedValue = true;
+			} else if (type == double.class || type == Double.class) {
+				this.parser = value -> isCanonicalDecimal(value) ? Double.valueOf(value)
+						: ViewNavigationUtils.deserializeParameterValue(value, type);
+				this.checkParsedValue = true;
+			} else if (type == boolean.class || type == Boolean.class) {
+				this.parser = value -> "true".equals(value) ? Boolean.TRUE
+						: "false".equals(value) ? Boolean.FALSE
+								: ViewNavigationUtils.deserializeParameterValue(value, type);
+				this.checkParsedValue = true;
+			} else {
+				this.parser = value -> ViewNavigationUtils.deserializeParameterValue(value, type);
+				this.checkParsedValue = true;
+			}
+
+			// primitive setter
+			this.primitiveSetter = getPrimitiveSetter(definition, type);
+
+			// default value
+			Object dv = definition.getDefaultValue();
+			boolean dvChecked = false;
+			try {
+				dv = ViewNavigationUtils.checkParameterValue(definition, dv);
+				dvChecked = true;
+			} catch (@SuppressWarnings("unused") ViewConfigurationException e) {
+				// check when setting the value
+			}
+			this.defaultValue = dv;
+			this.defaultValueChecked = dvChecked;
+
+			// clear value
+			Object cv = getClearValue(type);
+			boolean cvChecked = false;
+			try {
+				cv = ViewNavigationUtils.checkParameterValue(definition, cv);
+				cvChecked = true;
+			} catch (@SuppressWarnings("unused") ViewConfigurationException e) {
+				// check when setting the value
+			}
+			this.clearValue = cv;
+			this.clearValueChecked = cvChecked;
+		}
+
+		/**
+		 * Parse and set given parameter value in given view.
+		 * @param view View instance
+		 * @param value Parameter value, not blank
+		 * @throws ViewConfigurationException Error parsing or setting the value
+		 */
+		void bind(View view, String value) throws ViewConfigurationException {
+			if (primitiveSetter != null) {
+				try {
+					if (primitiveSetter.set(view, value)) {
+						return;
+					}
+				} catch (Throwable e) {
+					throw new ViewConfigurationException("Failed to set value of parameter " + definition.getName()
+							+ " on view class " + view.getClass().getName(), e);
+				}
+			}
+			final Object parsed = parser.parse(value);
+			set(view, parsed, !checkParsedValue || (parsed != null && parsed.getClass() == definition.getType()));
+		}
+
+		/**
+		 * Set the parameter value in given view.
+		 * @param view View instance
+		 * @param value Value to set
+		 * @param checked Whether the value is already consistent with the parameter type
+		 * @throws ViewConfigurationException Error setting the value
+		 */
+		void set(View view, Object value, boolean checked) throws ViewConfigurationException {
+			if (!checked || setter == null) {
+				ViewNavigationUtils.setViewParameterValue(view, definition, value);
+			} else {
+				try {
+					setter.invokeExact((Object) view, value);
+				} catch (Throwable e) {
+					throw new ViewConfigurationException("Failed to set value of parameter " + definition.getName()
+							+ " on view class " + view.getClass().getName(), e);
+				}
+			}
+		}
+
+		/**
+		 * Get the boxing-free setter for given primitive type parameter, which handles the canonical value
+		 * representations only.
+		 * @param definition Parameter definition
+		 * @param type Parameter type
+		 * @return The primitive setter, or <code>null</code> if not available
+		 */
+		private static PrimitiveSetter getPrimitiveSetter(ViewParameterDefinition definition, Class<?> type) {
+			final MethodHandle handle;
+			try {
+				handle = ViewNavigationUtils.getPrimitiveValueSetter(definition);
+			} catch (@SuppressWarnings("unused") ViewConfigurationException e) {
+				return null;
+			}
+			if (handle == null) {
+				return null;
+			}
+			if (type == int.class) {
+				return (view, value) -> {
+					if (!isCanonicalInteger(value) || value.length() >= 10) {
+						return false;
+					}
+					handle.invokeExact(view, Integer.parseInt(value));
+					return true;
+				};
+			}
+			if (type == long.class) {
+				return (view, value) -> {
+					if (!isCanonicalInteger(value) || value.length() >= 19) {
+						return false;
+					}
+					handle.invokeExact(view, Long.parseLong(value));
+					return true;
+				};
+			}
+			if (type == double.class) {
+				return (view, value) -> {
+					if (!isCanonicalDecimal(value)) {
+						return false;
+					}
+					handle.invokeExact(view, Double.parseDouble(value));
+					return true;
+				};
+			}
+			if (type == boolean.class) {
+				return (view, value) -> {
+					if ("true".equals(value)) {
+						handle.invokeExact(view, true);
+					} else if ("false".equals(value)) {
+						handle.invokeExact(view, false);
+					} else {
+						return false;
+					}
+					return true;
+				};
+			}
+			return null;
+		}
+
+		/**
+		 * Get the value to use to clear a parameter of given type.
+		 * @param type Parameter type
+		 * @return The clear value
+		 */
+		private static Object getClearValue(Class<?> type) {
+			if (TypeUtils.isPrimitiveBoolean(type)) {
+				return Boolean.FALSE;
+			} else if (TypeUtils.isPrimitiveInt(type) || short.class == type) {
+				return 0;
+			} else if (TypeUtils.isPrimitiveFloat(type)) {
+				return 0f;
+			} else if (TypeUtils.isPrimitiveDouble(type)) {
+				return 0d;
+			}
+			return null;
+		}
+
+	}
+
+}
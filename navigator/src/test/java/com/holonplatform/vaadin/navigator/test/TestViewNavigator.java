@@ -18,20 +18,27 @@ package com.holonplatform.vaadin.navigator.test;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
 import java.util.Calendar;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -43,22 +50,36 @@ import com.holonplatform.auth.Realm;
 import com.holonplatform.core.Context;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.vaadin.internal.test.AbstractVaadinTest;
+import com.holonplatform.vaadin.navigator.NavigationMetrics;
+import com.holonplatform.vaadin.navigator.NavigationMetrics.InMemoryNavigationMetrics;
+import com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase;
 import com.holonplatform.vaadin.navigator.ViewNavigator;
 import com.holonplatform.vaadin.navigator.ViewNavigator.ViewNavigationException;
+import com.holonplatform.vaadin.navigator.internal.DefaultViewConfigurationCache;
 import com.holonplatform.vaadin.navigator.internal.DefaultViewProvider;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewParameterDefinition;
+import com.holonplatform.vaadin.navigator.internal.ViewConfigurationCache;
+import com.holonplatform.vaadin.navigator.internal.ViewNavigationUtils;
+import com.holonplatform.vaadin.navigator.internal.ViewParametersBinder;
 import com.holonplatform.vaadin.navigator.test.components.ContextTestData;
 import com.holonplatform.vaadin.navigator.test.components.NavigatorTestUI;
+import com.holonplatform.vaadin.navigator.test.components.ViewEight;
 import com.holonplatform.vaadin.navigator.test.components.ViewFive;
 import com.holonplatform.vaadin.navigator.test.components.ViewFour;
+import com.holonplatform.vaadin.navigator.test.components.ViewNine;
 import com.holonplatform.vaadin.navigator.test.components.ViewOne;
 import com.holonplatform.vaadin.navigator.test.components.ViewSeven;
 import com.holonplatform.vaadin.navigator.test.components.ViewSix;
+import com.holonplatform.vaadin.navigator.test.components.ViewTen;
 import com.holonplatform.vaadin.navigator.test.components.ViewThree;
 import com.holonplatform.vaadin.navigator.test.components.ViewTwo;
 import com.vaadin.navigator.View;
 import com.vaadin.navigator.ViewChangeListener;
 import com.vaadin.ui.Label;
 import com.vaadin.ui.Panel;
+import com.vaadin.ui.UI;
 import com.vaadin.ui.VerticalLayout;
 import com.vaadin.ui.Window;
 
@@ -71,6 +92,8 @@ public class TestViewNavigator extends AbstractVaadinTest {
 	private final static String VIEW_FIVE = "/five";
 	private final static String VIEW_SIX = "/six";
 	private final static String VIEW_SEVEN = "/seven";
+	private final static String VIEW_EIGHT = "/eight";
+	private final static String VIEW_NINE = "/nine";
 
 	private Panel viewer;
 
@@ -185,6 +208,296 @@ public class TestViewNavigator extends AbstractVaadinTest {
 		Context.get().threadScope().map(s -> s.remove(AuthContext.CONTEXT_KEY));
 	}
 
+	@Test
+	public void testViewParametersParsing() throws ViewConfigurationException {
+		final ViewConfiguration cfg = ViewNavigationUtils.buildViewConfiguration(ViewTen.class);
+		final ViewParametersBinder binder = cfg.getParametersBinder();
+
+		final Random random = new Random(20201018L);
+		for (int i = 0; i < 1000; i++) {
+			final Map<String, String> parameters = new HashMap<>();
+			parameters.put("int", Integer.toString(random.nextInt()));
+			parameters.put("integer", Integer.toString(random.nextInt(20000) - 10000));
+			parameters.put("long", Long.toString(random.nextLong()));
+			parameters.put("longobj", Long.toString(random.nextInt()));
+			parameters.put("double", BigDecimal.valueOf(random.nextDouble() * 2000000d - 1000000d).toPlainString());
+			parameters.put("doubleobj", Integer.toString(random.nextInt(1000)));
+			parameters.put("bool", Boolean.toString(random.nextBoolean()));
+			parameters.put("boolobj", Boolean.toString(random.nextBoolean()));
+			parameters.put("date", LocalDate.ofEpochDay(random.nextInt(80000) - 20000).toString());
+
+			final Map<String, Object> values = binder.deserialize(parameters);
+			final ViewTen view = new ViewTen();
+			binder.bind(view, parameters);
+
+			for (ViewParameterDefinition definition : cfg.getParameters()) {
+				final Object expected = ViewNavigationUtils
+						.deserializeParameterValue(parameters.get(definition.getName()), definition.getType());
+				assertEquals(expected, values.get(definition.getName()), definition.getName());
+			}
+
+			assertEquals(Integer.parseInt(parameters.get("int")), view.getIntPar());
+			assertEquals(Integer.valueOf(parameters.get("integer")), view.getIntegerPar());
+			assertEquals(Long.parseLong(parameters.get("long")), view.getLongPar());
+			assertEquals(Long.valueOf(parameters.get("longobj")), view.getLongObjPar());
+			assertEquals(Double.parseDouble(parameters.get("double")), view.getDoublePar());
+			assertEquals(Double.valueOf(parameters.get("doubleobj")), view.getDoubleObjPar());
+			assertEquals(Boolean.parseBoolean(parameters.get("bool")), view.isBoolPar());
+			assertEquals(Boolean.valueOf(parameters.get("boolobj")), view.getBoolObjPar());
+			assertEquals(ViewNavigationUtils.deserializeParameterValue(parameters.get("date"), Date.class),
+					view.getDatePar());
+		}
+
+		// non canonical values
+		final Map<String, String> parameters = new HashMap<>();
+		parameters.put("int", "+12");
+		parameters.put("long", "99999999999999999999");
+		parameters.put("double", "1e3");
+		parameters.put("date", "2020-02-30");
+		for (Map.Entry<String, String> entry : parameters.entrySet()) {
+			final Class<?> type = cfg.getParameters().stream().filter(d -> d.getName().equals(entry.getKey()))
+					.findFirst().map(d -> d.getType()).orElse(null);
+			Object expected;
+			try {
+				expected = ViewNavigationUtils.deserializeParameterValue(entry.getValue(), type);
+			} catch (ViewConfigurationException e) {
+				assertThrows(ViewConfigurationException.class,
+						() -> binder.deserialize(Collections.singletonMap(entry.getKey(), entry.getValue())));
+				continue;
+			}
+			assertEquals(expected,
+					binder.deserialize(Collections.singletonMap(entry.getKey(), entry.getValue())).get(entry.getKey()));
+		}
+	}
+
+	@Test
+	public void testViewConfigurationCache() {
+
+		final ViewConfigurationCache cache = DefaultViewConfigurationCache.INSTANCE;
+		cache.clearCache();
+
+		assertFalse(cache.hasViewConfiguration(ViewOne.class));
+		assertNull(cache.getViewConfiguration(ViewOne.class));
+
+		final ViewConfiguration cfg = ViewNavigationUtils.buildViewConfiguration(ViewOne.class);
+		assertSame(cfg, cache.storeViewConfiguration(ViewOne.class, cfg));
+		assertTrue(cache.hasViewConfiguration(ViewOne.class));
+		assertSame(cfg, cache.getViewConfiguration(ViewOne.class));
+
+		// already present
+		assertSame(cfg,
+				cache.storeViewConfiguration(ViewOne.class, ViewNavigationUtils.buildViewConfiguration(ViewOne.class)));
+
+		assertEquals(cfg.getOnShowMethods().size(), cfg.getOnShowMethodHandles().size());
+		assertEquals(cfg.getOnLeaveMethods().size(), cfg.getOnLeaveMethodHandles().size());
+
+		cache.clearCache();
+		assertFalse(cache.hasViewConfiguration(ViewOne.class));
+
+		final ViewConfiguration cfg2 = ViewNavigationUtils.buildViewConfiguration(ViewOne.class);
+		assertSame(cfg2, cache.storeViewConfiguration(ViewOne.class, cfg2));
+		assertSame(cfg2, cache.getViewConfiguration(ViewOne.class));
+
+	}
+
+	@Test
+	public void testViewNameResolution() {
+
+		DefaultViewProvider provider = new DefaultViewProvider();
+		provider.registerView("orders", ViewOne.class);
+		provider.registerView("orders/lines", ViewTwo.class);
+		provider.registerView("order", ViewThree.class);
+
+		assertEquals("orders", provider.getViewName("orders"));
+		assertEquals("orders", provider.getViewName("orders/"));
+		assertEquals("orders", provider.getViewName("orders/123"));
+		assertEquals("orders/lines", provider.getViewName("orders/lines"));
+		assertEquals("orders/lines", provider.getViewName("orders/lines/4/5"));
+		assertEquals("orders", provider.getViewName("orders/line"));
+		assertEquals("order", provider.getViewName("order/1"));
+		assertNull(provider.getViewName("ordersx"));
+		assertNull(provider.getViewName("ord"));
+		assertNull(provider.getViewName(""));
+		assertNull(provider.getViewName(null));
+
+		assertTrue(provider.getView("orders/lines") instanceof ViewTwo);
+		assertNull(provider.getView("orders/123"));
+
+	}
+
+	@Test
+	public void testStatefulViews() {
+
+		DefaultViewProvider provider = new DefaultViewProvider();
+		provider.registerView(VIEW_ONE, ViewOne.class);
+		provider.registerView(VIEW_TWO, ViewTwo.class);
+
+		final View one = provider.getView(VIEW_ONE);
+		assertTrue(one instanceof ViewOne);
+		assertNotSame(one, provider.getView(VIEW_ONE));
+
+		assertThrows(ViewConfigurationException.class, () -> provider.warmUpStatefulView(ViewOne.class, 1));
+
+		provider.warmUpStatefulView(ViewTwo.class, 1);
+
+		final View two = provider.getView(VIEW_TWO);
+		assertTrue(two instanceof ViewTwo);
+		assertSame(two, provider.getView(VIEW_TWO));
+
+		assertTrue(ViewNavigationUtils.instantiateView(ViewTwo.class) instanceof ViewTwo);
+
+	}
+
+	@Test
+	public void testStatefulViewsEviction() {
+
+		DefaultViewProvider provider = new DefaultViewProvider();
+		provider.setStatefulViewsLimits(1, 0);
+		provider.registerView(VIEW_TWO, ViewTwo.class);
+		provider.registerView(VIEW_NINE, ViewNine.class);
+
+		final ViewNine nine = (ViewNine) provider.getView(VIEW_NINE);
+		nine.setValue("nine");
+		assertSame(nine, provider.getView(VIEW_NINE));
+
+		// evicts view nine
+		assertTrue(provider.getView(VIEW_TWO) instanceof ViewTwo);
+		assertEquals(1, provider.getStatefulViewsStatistics().getEvictions());
+
+		// new instance with restored state
+		final ViewNine restored = (ViewNine) provider.getView(VIEW_NINE);
+		assertNotSame(nine, restored);
+		assertEquals("nine", restored.getValue());
+		assertSame(restored, provider.getView(VIEW_NINE));
+
+		assertEquals(2, provider.getStatefulViewsStatistics().getHits());
+		assertEquals(3, provider.getStatefulViewsStatistics().getMisses());
+		assertEquals(2, provider.getStatefulViewsStatistics().getEvictions());
+		assertEquals(1, provider.getStatefulViewsStatistics().getRestores());
+
+	}
+
+	@Test
+	public void testStatefulViewsByUi() {
+
+		DefaultViewProvider provider = new DefaultViewProvider();
+		provider.registerView(VIEW_TWO, ViewTwo.class);
+
+		final NavigatorTestUI ui1 = createUi(NavigatorTestUI.class);
+		final View two1 = provider.getView(VIEW_TWO);
+		assertSame(two1, provider.getView(VIEW_TWO));
+		final int extensions = ui1.getExtensions().size();
+
+		final NavigatorTestUI ui2 = createUi(NavigatorTestUI.class);
+		final View two2 = provider.getView(VIEW_TWO);
+		assertNotSame(two1, two2);
+		assertSame(two2, provider.getView(VIEW_TWO));
+
+		UI.setCurrent(ui1);
+		assertSame(two1, provider.getView(VIEW_TWO));
+		assertEquals(extensions, ui1.getExtensions().size());
+
+		// a second provider shares the UI extension, with a separate store
+		DefaultViewProvider other = new DefaultViewProvider();
+		other.registerView(VIEW_TWO, ViewTwo.class);
+		assertNotSame(two1, other.getView(VIEW_TWO));
+		assertEquals(extensions, ui1.getExtensions().size());
+
+		UI.setCurrent(ui2);
+		assertSame(two2, provider.getView(VIEW_TWO));
+
+	}
+
+	@Test
+	public void testParametersString() throws Exception {
+
+		Map<String, String> parsed = ViewNavigationUtils.parseParametersString("/a=1/b=x%20y/c=/=d/e=f=g/h=2=", null);
+		assertEquals(3, parsed.size());
+		assertEquals("1", parsed.get("a"));
+		assertEquals("x y", parsed.get("b"));
+		assertEquals("2", parsed.get("h"));
+
+		assertTrue(ViewNavigationUtils.parseParametersString(" ", null).isEmpty());
+
+		Map<String, Object> params = new java.util.LinkedHashMap<>();
+		params.put("i", 12);
+		params.put("d", 1.5d);
+		params.put("s", "a b");
+		params.put("dt", LocalDate.of(2017, Month.MARCH, 5));
+		assertEquals("i=12/d=1.5/s=a+b/dt=2017-03-05", ViewNavigationUtils.generateParametersString(params, null));
+
+	}
+
+	@Test
+	public void testAsyncView() {
+
+		final List<Runnable> tasks = new CopyOnWriteArrayList<>();
+
+		NavigatorTestUI ui = createUi(NavigatorTestUI.class, "http://localhost");
+
+		DefaultViewProvider provider = new DefaultViewProvider();
+		provider.registerView(VIEW_ONE, ViewOne.class);
+		provider.registerView(VIEW_EIGHT, ViewEight.class);
+
+		ViewNavigator navigator = ViewNavigator.builder().viewDisplay(viewer).addProvider(provider)
+				.asyncViewExecutor(tasks::add).asyncViewPlaceholder(() -> new Label("LOADING")).buildAndBind(ui);
+
+		navigator.navigateTo(VIEW_EIGHT, null);
+		assertEquals(VIEW_EIGHT, navigator.getCurrentViewName());
+		assertTrue(navigator.getCurrentView() instanceof ViewEight);
+		assertTrue(viewer.getContent() instanceof Label);
+		assertEquals("LOADING", ((Label) viewer.getContent()).getValue());
+
+		assertEquals(1, tasks.size());
+		tasks.remove(0).run();
+
+		assertSame(navigator.getCurrentView(), viewer.getContent());
+		assertEquals("EIGHT:" + VIEW_EIGHT, ((ViewEight) viewer.getContent()).getValue());
+
+		// cancellation
+		navigator.navigateTo(VIEW_EIGHT, null);
+		final ViewEight view = (ViewEight) navigator.getCurrentView();
+		assertEquals(1, tasks.size());
+		navigator.navigateTo(VIEW_ONE, null);
+		assertTrue(viewer.getContent() instanceof ViewOne);
+		tasks.remove(0).run();
+		assertTrue(viewer.getContent() instanceof ViewOne);
+		assertNull(view.getData());
+
+	}
+
+	@Test
+	public void testNavigationMetrics() {
+
+		final InMemoryNavigationMetrics metrics = NavigationMetrics.inMemory();
+
+		NavigatorTestUI ui = createUi(NavigatorTestUI.class, "http://localhost");
+
+		DefaultViewProvider provider = new DefaultViewProvider();
+		provider.registerView(VIEW_ONE, ViewOne.class);
+		provider.registerView(VIEW_TWO, ViewTwo.class);
+
+		ViewNavigator navigator = ViewNavigator.builder().viewDisplay(viewer).addProvider(provider)
+				.navigationMetrics(metrics).buildAndBind(ui);
+
+		navigator.navigateTo(VIEW_ONE, null);
+		navigator.navigateTo(VIEW_TWO, null);
+		navigator.navigateTo(VIEW_ONE, null);
+
+		assertEquals(2, metrics.getNavigationCount(VIEW_ONE));
+		assertEquals(1, metrics.getNavigationCount(VIEW_TWO));
+		assertEquals(0, metrics.getFailedNavigationCount(VIEW_ONE));
+		assertTrue(metrics.getPhaseCount(VIEW_ONE, NavigationPhase.RESOLUTION) > 0);
+		assertTrue(metrics.getPhaseCount(VIEW_ONE, NavigationPhase.INSTANTIATION) > 0);
+		assertEquals(2, metrics.getPhaseCount(VIEW_ONE, NavigationPhase.DISPLAY));
+		assertEquals(2, metrics.getPhaseCount(VIEW_ONE, NavigationPhase.ENTER));
+		assertEquals(1, metrics.getPhaseCount(VIEW_TWO, NavigationPhase.PARAMETERS_BINDING));
+
+		metrics.reset();
+		assertEquals(0, metrics.getNavigationCount(VIEW_ONE));
+
+	}
+
 	@Test
 	public void testViewParameters() {
 
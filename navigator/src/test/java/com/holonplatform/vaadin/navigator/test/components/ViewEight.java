@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.test.components;
+
+import com.holonplatform.vaadin.navigator.ViewNavigator.ViewNavigatorChangeEvent;
+import com.holonplatform.vaadin.navigator.annotations.OnShowAsync;
+import com.vaadin.navigator.View;
+import com.vaadin.ui.Label;
+
+public class ViewEight extends Label implements View {
+
+	private static final long serialVersionUID = 1L;
+
+	private volatile String data;
+
+	public String getData() {
+		return data;
+	}
+
+	@OnShowAsync
+	public Runnable load(ViewNavigatorChangeEvent evt) {
+		data = "EIGHT:" + evt.getViewName();
+		return () -> setValue(data);
+	}
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.test.components;
+
+import java.io.Serializable;
+
+import com.holonplatform.vaadin.navigator.EvictableStatefulView;
+import com.holonplatform.vaadin.navigator.annotations.StatefulView;
+import com.vaadin.ui.VerticalLayout;
+
+@StatefulView
+public class ViewNine extends VerticalLayout implements EvictableStatefulView {
+
+	private static final long serialVersionUID = 1L;
+
+	private String value;
+
+	public String getValue() {
+		return value;
+	}
+
+	public void setValue(String value) {
+		this.value = value;
+	}
+
+	@Override
+	public Serializable saveState() {
+		return value;
+	}
+
+	@Override
+	public void restoreState(Serializable state) {
+		this.value = (String) state;
+	}
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.navigator.test.components;
+
+import java.util.Date;
+
+import com.holonplatform.vaadin.navigator.annotations.ViewParameter;
+import com.vaadin.navigator.View;
+import com.vaadin.navigator.ViewChangeListener.ViewChangeEvent;
+import com.vaadin.ui.VerticalLayout;
+
+public class ViewTen extends VerticalLayout implements View {
+
+	private static final long serialVersionUID = 1L;
+
+	@ViewParameter("int")
+	private int intPar;
+
+	@ViewParameter("integer")
+	private Integer integerPar;
+
+	@ViewParameter("long")
+	private long longPar;
+
+	@ViewParameter("longobj")
+	private Long longObjPar;
+
+	@ViewParameter("double")
+	private double doublePar;
+
+	@ViewParameter("doubleobj")
+	private Double doubleObjPar;
+
+	@ViewParameter("bool")
+	private boolean boolPar;
+
+	@ViewParameter("boolobj")
+	private Boolean boolObjPar;
+
+	@ViewParameter("date")
+	private Date datePar;
+
+	public int getIntPar() {
+		return intPar;
+	}
+
+	public Integer getIntegerPar() {
+		return integerPar;
+	}
+
+	public long getLongPar() {
+		return longPar;
+	}
+
+	public Long getLongObjPar() {
+		return longObjPar;
+	}
+
+	public double getDoublePar() {
+		return doublePar;
+	}
+
+	public Double getDoubleObjPar() {
+		return doubleObjPar;
+	}
+
+	public boolean isBoolPar() {
+		return boolPar;
+	}
+
+	public Boolean getBoolObjPar() {
+		return boolObjPar;
+	}
+
+	public Date getDatePar() {
+		return datePar;
+	}
+
+	@Override
+	public void enter(ViewChangeEvent event) {
+	}
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.spring.boot;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.holonplatform.vaadin.navigator.NavigationMetrics;
+import com.holonplatform.vaadin.spring.boot.internal.MicrometerNavigationMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Spring boot auto configuration class to collect the view navigation metrics using a Micrometer
+ * {@link MeterRegistry}.
+ * <p>
+ * The navigation metrics collection can be disabled setting the <code>holon.vaadin.navigation.metrics.enabled</code>
+ * property to <code>false</code>.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+@Configuration
+@ConditionalOnWebApplication
+@ConditionalOnClass({ NavigationMetrics.class, MeterRegistry.class })
+@ConditionalOnProperty(prefix = "holon.vaadin.navigation.metrics", name = "enabled", matchIfMissing = true)
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+public class HolonVaadinNavigationMetricsAutoConfiguration {
+
+	@Bean
+	@ConditionalOnBean(MeterRegistry.class)
+	@ConditionalOnMissingBean(NavigationMetrics.class)
+	public NavigationMetrics holonVaadinNavigationMetrics(MeterRegistry meterRegistry) {
+		return new MicrometerNavigationMetrics(meterRegistry);
+	}
+
+}
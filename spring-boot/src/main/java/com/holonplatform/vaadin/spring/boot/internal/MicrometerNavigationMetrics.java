@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.spring.boot.internal;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.navigator.NavigationMetrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * A {@link NavigationMetrics} which records the navigation metrics as Micrometer {@link Timer}s.
+ * <p>
+ * The navigation phases are recorded using the {@link #PHASE_METRIC_NAME} timer, tagged with the view name and the
+ * phase name, while the navigations are recorded using the {@link #NAVIGATION_METRIC_NAME} timer, tagged with the view
+ * name and the navigation outcome.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public class MicrometerNavigationMetrics implements NavigationMetrics {
+
+	/**
+	 * Navigation phases timer name
+	 */
+	public static final String PHASE_METRIC_NAME = "holon.vaadin.navigation.phase";
+
+	/**
+	 * Navigations timer name
+	 */
+	public static final String NAVIGATION_METRIC_NAME = "holon.vaadin.navigation";
+
+	/**
+	 * Tag value used when the view name is not available
+	 */
+	private static final String UNKNOWN_VIEW = "none";
+
+	private static final NavigationPhase[] PHASES = NavigationPhase.values();
+
+	private final MeterRegistry registry;
+
+	/**
+	 * Timers by view name: navigation phases timers, followed by succeeded and failed navigations timers
+	 */
+	private final ConcurrentMap<String, Timer[]> timers = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor
+	 * @param registry Meter registry (not null)
+	 */
+	public MicrometerNavigationMetrics(MeterRegistry registry) {
+		super();
+		ObjectUtils.argumentNotNull(registry, "MeterRegistry must be not null");
+		this.registry = registry;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics#recordPhase(java.lang.String,
+	 * com.holonplatform.vaadin.navigator.NavigationMetrics.NavigationPhase, long)
+	 */
+	@Override
+	public void recordPhase(String viewName, NavigationPhase phase, long durationNanos) {
+		getTimers(viewName)[phase.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.vaadin.navigator.NavigationMetrics#recordNavigation(java.lang.String, long, boolean)
+	 */
+	@Override
+	public void recordNavigation(String viewName, long durationNanos, boolean succeeded) {
+		getTimers(viewName)[PHASES.length + (succeeded ? 0 : 1)].record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Get the timers of given view name, registering them if required.
+	 * @param viewName View name
+	 * @return The view timers
+	 */
+	private Timer[] getTimers(String viewName) {
+		final String view = (viewName != null) ? viewName : UNKNOWN_VIEW;
+		Timer[] viewTimers = timers.get(view);
+		if (viewTimers == null) {
+			viewTimers = timers.computeIfAbsent(view, this::registerTimers);
+		}
+		return viewTimers;
+	}
+
+	private Timer[] registerTimers(String view) {
+		final Timer[] viewTimers = new Timer[PHASES.length + 2];
+		for (NavigationPhase phase : PHASES) {
+			viewTimers[phase.ordinal()] = Timer.builder(PHASE_METRIC_NAME).description("View navigation phase time")
+					.tag("view", view).tag("phase", phase.name().toLowerCase(Locale.ENGLISH)).register(registry);
+		}
+		viewTimers[PHASES.length] = Timer.builder(NAVIGATION_METRIC_NAME).description("View navigation time")
+				.tag("view", view).tag("outcome", "success").register(registry);
+		viewTimers[PHASES.length + 1] = Timer.builder(NAVIGATION_METRIC_NAME).description("View navigation time")
+				.tag("view", view).tag("outcome", "failure").register(registry);
+		return viewTimers;
+	}
+
+}
@@ -115,4 +115,15 @@ public @interface EnableViewNavigator {
 	 */
 	Class<? extends View> accessDeniedView() default View.class;
 
+	/**
+	 * Set whether to build the configurations of all the available views at application startup, rather than at first
+	 * navigation to each view.
+	 * <p>
+	 * Default is <code>false</code>.
+	 * </p>
+	 * @return <code>true</code> to build the view configurations at application startup
+	 * @since 5.4.1
+	 */
+	boolean preloadViewConfigurations() default false;
+
 }
@@ -15,6 +15,7 @@
  */
 package com.holonplatform.vaadin.spring.internal;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
@@ -24,6 +25,7 @@ import org.springframework.context.ApplicationContext;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.vaadin.internal.VaadinLogger;
 import com.holonplatform.vaadin.navigator.DefaultViewNavigationStrategy;
+import com.holonplatform.vaadin.navigator.NavigationMetrics;
 import com.holonplatform.vaadin.navigator.ViewClassProvider;
 import com.holonplatform.vaadin.navigator.ViewNavigator;
 import com.holonplatform.vaadin.navigator.ViewWindowConfigurator;
@@ -32,17 +34,13 @@ import com.holonplatform.vaadin.navigator.internal.NavigatorActuator;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration;
 import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
 import com.holonplatform.vaadin.navigator.internal.ViewNavigatorAdapter;
-import com.holonplatform.vaadin.spring.AccessDeniedView;
-import com.holonplatform.vaadin.spring.DefaultView;
-import com.holonplatform.vaadin.spring.ErrorView;
 import com.holonplatform.vaadin.spring.SpringViewNavigator;
+import com.holonplatform.vaadin.spring.internal.SpringViewRegistry.AnnotatedView;
 import com.vaadin.navigator.NavigationStateManager;
 import com.vaadin.navigator.View;
 import com.vaadin.navigator.ViewDisplay;
 import com.vaadin.navigator.ViewProvider;
-import com.vaadin.spring.annotation.SpringView;
 import com.vaadin.spring.annotation.UIScope;
-import com.vaadin.spring.internal.Conventions;
 import com.vaadin.spring.navigator.SpringNavigator;
 import com.vaadin.spring.navigator.SpringViewProvider;
 import com.vaadin.ui.ComponentContainer;
@@ -65,6 +63,12 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 	@Autowired(required = false)
 	private SpringViewProvider viewProvider;
 
+	@Autowired(required = false)
+	private transient SpringViewRegistry viewRegistry;
+
+	@Autowired(required = false)
+	private transient NavigationMetrics navigationMetrics;
+
 	/**
 	 * Actuator
 	 */
@@ -183,6 +187,10 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 	@Override
 	public void init(UI ui, NavigationStateManager stateManager, ViewDisplay display) {
 		super.init(ui, stateManager, actuator.initNavigator(ui, display));
+		// navigation metrics
+		if (navigationMetrics != null && !actuator.getNavigationMetrics().isPresent()) {
+			actuator.setNavigationMetrics(navigationMetrics);
+		}
 		// setup special views
 		configureViews();
 	}
@@ -375,6 +383,22 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 		return actuator.getViewConfiguration(viewClass);
 	}
 
+	/**
+	 * Get the {@link SpringViewRegistry} to use to configure the navigator views.
+	 * <p>
+	 * By default, the application-wide registry bean is used if available. Otherwise, a new registry bound to given
+	 * application context is created.
+	 * </p>
+	 * @param applicationContext Application context
+	 * @return The view registry
+	 */
+	protected SpringViewRegistry getViewRegistry(ApplicationContext applicationContext) {
+		if (viewRegistry != null) {
+			return viewRegistry;
+		}
+		return new SpringViewRegistry(applicationContext);
+	}
+
 	/**
 	 * Configure special type Views
 	 * @throws ViewConfigurationException Error during view configuration
@@ -384,48 +408,47 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 		ApplicationContext applicationContext = getWebApplicationContext();
 		if (applicationContext != null) {
 
+			final SpringViewRegistry registry = getViewRegistry(applicationContext);
+
 			// default navigation strategy
 			if (getActuator().getDefaultViewNavigationStrategy() == null) {
-				String[] beanNames = applicationContext.getBeanNamesForType(DefaultViewNavigationStrategy.class);
-				if (beanNames != null && beanNames.length > 0) {
-					if (beanNames.length > 1) {
+				List<String> beanNames = registry.getDefaultViewNavigationStrategyBeanNames();
+				if (!beanNames.isEmpty()) {
+					if (beanNames.size() > 1) {
 						throw new ViewConfigurationException(
-								"More than one DefaultViewNavigationStrategy type bean found [" + beanNames.length
+								"More than one DefaultViewNavigationStrategy type bean found [" + beanNames.size()
 										+ "]");
 					}
 					getActuator().setDefaultViewNavigationStrategy(
-							applicationContext.getBean(DefaultViewNavigationStrategy.class));
-					LOGGER.info("Found DefaultViewNavigationStrategy bean [" + beanNames[0] + "]");
+							applicationContext.getBean(beanNames.get(0), DefaultViewNavigationStrategy.class));
+					LOGGER.debug(() -> "Found DefaultViewNavigationStrategy bean [" + beanNames.get(0) + "]");
 				}
 			}
 
 			// default view
 			if (getActuator().getDefaultViewName() == null) {
 				// if not explicitly setted, lookup in context
-				String[] beanNames = applicationContext.getBeanNamesForAnnotation(DefaultView.class);
-				if (beanNames != null && beanNames.length > 0) {
+				final AnnotatedView defaultView = registry.getDefaultView();
+				List<String> beanNames = defaultView.getBeanNames();
+				if (!beanNames.isEmpty()) {
 					if (getActuator().getDefaultViewNavigationStrategy() == null) {
-						if (beanNames.length > 1) {
+						if (beanNames.size() > 1) {
 							LOGGER.warn("More than one bean annotated with @DefaultView was found in context " + "("
-									+ beanNames.length + "), no default view will be configured in Navigator.");
+									+ beanNames.size() + "), no default view will be configured in Navigator.");
 						} else {
-							Class<?> type = applicationContext.getType(beanNames[0]);
-							if (type == null) {
-								throw new ViewConfigurationException(
-										"Failed to detect View type - bean name: " + beanNames[0]);
-							}
+							Class<?> type = defaultView.getType().orElseThrow(() -> new ViewConfigurationException(
+									"Failed to detect View type - bean name: " + beanNames.get(0)));
 							if (!View.class.isAssignableFrom(type)) {
 								throw new ViewConfigurationException(
 										"A bean annotated with @DefaultView was found but does "
 												+ "not implement navigator View class: " + type.getName());
 							}
 							// set default view name
-							String viewName = Conventions.deriveMappingForView(type,
-									type.getAnnotation(SpringView.class));
-							if (viewName != null) {
+							defaultView.getViewName().ifPresent(viewName -> {
 								getActuator().setDefaultViewName(viewName);
-								LOGGER.info("Configured default view " + type.getName() + " with name: " + viewName);
-							}
+								LOGGER.debug(
+										() -> "Configured default view " + type.getName() + " with name: " + viewName);
+							});
 						}
 
 					} else {
@@ -441,13 +464,15 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 					setErrorView(errorViewClass);
 				} else {
 					// if not explicitly setted, lookup in context
-					String[] beanNames = applicationContext.getBeanNamesForAnnotation(ErrorView.class);
-					if (beanNames != null && beanNames.length > 0) {
-						if (beanNames.length > 1) {
+					final AnnotatedView errorView = registry.getErrorView();
+					List<String> beanNames = errorView.getBeanNames();
+					if (!beanNames.isEmpty()) {
+						if (beanNames.size() > 1) {
 							LOGGER.warn("More than one bean annotated with @ErrorView was found in context " + "("
-									+ beanNames.length + "), no error view will be configured in Navigator.");
+									+ beanNames.size() + "), no error view will be configured in Navigator.");
 						} else {
-							Class<?> type = applicationContext.getType(beanNames[0]);
+							Class<?> type = errorView.getType().orElseThrow(() -> new ViewConfigurationException(
+									"Failed to detect View type - bean name: " + beanNames.get(0)));
 							if (!View.class.isAssignableFrom(type)) {
 								throw new ViewConfigurationException(
 										"A bean annotated with @ErrorView was found but does "
@@ -455,7 +480,7 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 							}
 							// set error view
 							setErrorView((Class<? extends View>) type);
-							LOGGER.info("Configured error view: " + type.getName());
+							LOGGER.debug(() -> "Configured error view: " + type.getName());
 						}
 					}
 				}
@@ -467,26 +492,24 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 					viewProvider.setAccessDeniedViewClass(accessDeniedViewClass);
 				} else {
 					// if not explicitly setted, lookup in context
-					String[] beanNames = applicationContext.getBeanNamesForAnnotation(AccessDeniedView.class);
-					if (beanNames != null && beanNames.length > 0) {
-						if (beanNames.length > 1) {
+					final AnnotatedView accessDeniedView = registry.getAccessDeniedView();
+					List<String> beanNames = accessDeniedView.getBeanNames();
+					if (!beanNames.isEmpty()) {
+						if (beanNames.size() > 1) {
 							LOGGER.warn("More than one bean annotated with @AccessDeniedView was found in context "
-									+ "(" + beanNames.length
+									+ "(" + beanNames.size()
 									+ "), no access denied view will be configured in Navigator.");
 						} else {
-							Class<?> type = applicationContext.getType(beanNames[0]);
-							if (type == null) {
-								throw new ViewConfigurationException(
-										"Failed to detect View type - bean name: " + beanNames[0]);
-							}
+							Class<?> type = accessDeniedView.getType().orElseThrow(() -> new ViewConfigurationException(
+									"Failed to detect View type - bean name: " + beanNames.get(0)));
 							if (!View.class.isAssignableFrom(type)) {
-								throw new ViewConfigurationException("A bean named [" + beanNames[0]
+								throw new ViewConfigurationException("A bean named [" + beanNames.get(0)
 										+ "] annotated with @AccessDeniedView was found but does "
 										+ "not implement navigator View class: " + type.getName());
 							}
 							// set error view
 							viewProvider.setAccessDeniedViewClass((Class<? extends View>) type);
-							LOGGER.info("Configured access denied view: " + type.getName());
+							LOGGER.debug(() -> "Configured access denied view: " + type.getName());
 						}
 					}
 				}
@@ -495,10 +518,7 @@ public class DefaultSpringViewNavigator extends SpringNavigator implements ViewN
 			// view class provider
 			if (viewProvider != null) {
 				if (!actuator.getViewClassProvider(viewProvider).isPresent()) {
-					final SpringViewClassProvider springViewClassProvider = new SpringViewClassProvider(
-							applicationContext);
-					springViewClassProvider.init();
-					setViewClassProvider(viewProvider, springViewClassProvider);
+					setViewClassProvider(viewProvider, registry.getViewClassProvider());
 				}
 			}
 
@@ -15,18 +15,34 @@
  */
 package com.holonplatform.vaadin.spring.internal;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.annotation.security.DenyAll;
 import javax.annotation.security.PermitAll;
 import javax.annotation.security.RolesAllowed;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 import com.holonplatform.auth.AuthContext;
+import com.holonplatform.auth.Authentication;
 import com.holonplatform.core.Context;
 import com.vaadin.navigator.View;
+import com.vaadin.server.VaadinRequest;
+import com.vaadin.server.VaadinService;
 import com.vaadin.spring.access.ViewAccessControl;
+import com.vaadin.spring.annotation.SpringView;
 import com.vaadin.ui.UI;
 
 /**
@@ -36,15 +52,37 @@ import com.vaadin.ui.UI;
  * <p>
  * An {@link AuthContext} instance must be available as {@link Context} resource in order to perform access control.
  * </p>
+ * <p>
+ * The security annotations of each bean are resolved only once (for the {@link SpringView} beans, when the application
+ * context is refreshed) and the role checks are memoized for the current authentication and role set during the
+ * current {@link VaadinRequest}.
+ * </p>
  * 
  * @see AuthContext#getCurrent()
  *
  * @since 5.0.0
  */
-public class SecurityAnnotationsViewAccessControl implements ViewAccessControl, ApplicationContextAware {
+public class SecurityAnnotationsViewAccessControl
+		implements ViewAccessControl, ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
+
+	/**
+	 * Request attribute name to store the role checks results
+	 */
+	private static final String REQUEST_ATTRIBUTE_NAME = SecurityAnnotationsViewAccessControl.class.getName()
+			+ ".permissions";
 
 	private ApplicationContext applicationContext;
 
+	/**
+	 * Access rules by bean name
+	 */
+	private final ConcurrentMap<String, AccessRule> rules = new ConcurrentHashMap<>();
+
+	/**
+	 * Canonical role sets
+	 */
+	private final ConcurrentMap<Set<String>, RoleSet> roleSets = new ConcurrentHashMap<>();
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.
@@ -55,6 +93,25 @@ public class SecurityAnnotationsViewAccessControl implements ViewAccessControl,
 		this.applicationContext = applicationContext;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.
+	 * ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() == applicationContext) {
+			rules.clear();
+			for (String beanName : applicationContext.getBeanNamesForAnnotation(SpringView.class)) {
+				try {
+					getAccessRule(beanName);
+				} catch (@SuppressWarnings("unused") NoSuchBeanDefinitionException e) {
+					// ignore
+				}
+			}
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.vaadin.spring.access.ViewAccessControl#isAccessGranted(com.vaadin.ui.UI, java.lang.String)
@@ -62,33 +119,35 @@ public class SecurityAnnotationsViewAccessControl implements ViewAccessControl,
 	@Override
 	public boolean isAccessGranted(UI ui, String beanName) {
 
-		if (applicationContext.findAnnotationOnBean(beanName, DenyAll.class) != null) {
+		final AccessRule rule = getAccessRule(beanName);
+
+		if (rule == AccessRule.DENY_ALL) {
 			// DenyAll (no authentication required)
 			return false;
 		}
-		if (applicationContext.findAnnotationOnBean(beanName, PermitAll.class) != null) {
+		if (rule == AccessRule.PERMIT_ALL) {
 			// PermitAll (no authentication required)
 			return true;
 		}
 
 		// RolesAllowed - authentication required
-		RolesAllowed ra = applicationContext.findAnnotationOnBean(beanName, RolesAllowed.class);
-		if (ra != null) {
+		if (rule.roles != null) {
 
 			// check authentication
 			final AuthContext authContext = AuthContext.getCurrent()
 					.orElseThrow(() -> new IllegalStateException("No AuthContext available as Context resource: "
 							+ "failed to validate RolesAllowed security annotation on View bean name [" + beanName
 							+ "]"));
-			if (!authContext.getAuthentication().isPresent()) {
+			final Authentication authentication = authContext.getAuthentication().orElse(null);
+			if (authentication == null) {
 				// not authenticated
 				return false;
 			}
 
 			// check permissions
-			if (ra.value().length > 0) {
+			if (!rule.roles.roles.isEmpty()) {
 				// for empty roles names, no role is required, only authentication
-				if (!authContext.isPermittedAny(ra.value())) {
+				if (!isPermittedAny(authContext, authentication, rule.roles)) {
 					// no roles matches (with ANY semantic)
 					return false;
 				}
@@ -98,4 +157,116 @@ public class SecurityAnnotationsViewAccessControl implements ViewAccessControl,
 		return true;
 	}
 
+	/**
+	 * Get the access rule of given bean, resolving the bean security annotations if not already done.
+	 * @param beanName Bean name
+	 * @return The access rule
+	 */
+	private AccessRule getAccessRule(String beanName) {
+		AccessRule rule = rules.get(beanName);
+		if (rule == null) {
+			rule = resolveAccessRule(beanName);
+			final AccessRule existing = rules.putIfAbsent(beanName, rule);
+			if (existing != null) {
+				rule = existing;
+			}
+		}
+		return rule;
+	}
+
+	/**
+	 * Resolve the access rule of given bean using its security annotations.
+	 * @param beanName Bean name
+	 * @return The access rule
+	 */
+	private AccessRule resolveAccessRule(String beanName) {
+		if (applicationContext.findAnnotationOnBean(beanName, DenyAll.class) != null) {
+			return AccessRule.DENY_ALL;
+		}
+		if (applicationContext.findAnnotationOnBean(beanName, PermitAll.class) != null) {
+			return AccessRule.PERMIT_ALL;
+		}
+		final RolesAllowed ra = applicationContext.findAnnotationOnBean(beanName, RolesAllowed.class);
+		if (ra != null) {
+			final Set<String> roles = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(ra.value())));
+			return new AccessRule(roleSets.computeIfAbsent(roles, RoleSet::new));
+		}
+		return AccessRule.UNRESTRICTED;
+	}
+
+	/**
+	 * Check whether given authentication is permitted any of given roles, using the results memoized during the current
+	 * request, if available.
+	 * @param authContext Auth context
+	 * @param authentication Current authentication
+	 * @param roles Roles to check
+	 * @return <code>true</code> if any role is permitted
+	 */
+	private static boolean isPermittedAny(AuthContext authContext, Authentication authentication, RoleSet roles) {
+		final VaadinRequest request = VaadinService.getCurrentRequest();
+		if (request == null) {
+			return authContext.isPermittedAny(roles.names);
+		}
+		Object attribute = request.getAttribute(REQUEST_ATTRIBUTE_NAME);
+		if (!(attribute instanceof PermissionResults)
+				|| ((PermissionResults) attribute).authentication != authentication) {
+			attribute = new PermissionResults(authentication);
+			request.setAttribute(REQUEST_ATTRIBUTE_NAME, attribute);
+		}
+		return ((PermissionResults) attribute).results.computeIfAbsent(roles,
+				r -> authContext.isPermittedAny(r.names));
+	}
+
+	/**
+	 * A bean access rule.
+	 */
+	private static final class AccessRule {
+
+		static final AccessRule UNRESTRICTED = new AccessRule(null);
+		static final AccessRule DENY_ALL = new AccessRule(null);
+		static final AccessRule PERMIT_ALL = new AccessRule(null);
+
+		/**
+		 * Allowed roles, if authentication is required
+		 */
+		final RoleSet roles;
+
+		AccessRule(RoleSet roles) {
+			super();
+			this.roles = roles;
+		}
+
+	}
+
+	/**
+	 * A canonical set of role names, shared by all the beans with the same allowed roles.
+	 */
+	private static final class RoleSet {
+
+		final Set<String> roles;
+		final String[] names;
+
+		RoleSet(Set<String> roles) {
+			super();
+			this.roles = roles;
+			this.names = roles.toArray(new String[roles.size()]);
+		}
+
+	}
+
+	/**
+	 * Role checks results for an authentication.
+	 */
+	private static final class PermissionResults {
+
+		final Authentication authentication;
+		final Map<RoleSet, Boolean> results = new IdentityHashMap<>();
+
+		PermissionResults(Authentication authentication) {
+			super();
+			this.authentication = authentication;
+		}
+
+	}
+
 }
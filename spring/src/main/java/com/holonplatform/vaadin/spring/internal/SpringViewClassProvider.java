@@ -18,10 +18,10 @@ package com.holonplatform.vaadin.spring.internal;
 import java.lang.ref.WeakReference;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
@@ -45,8 +45,15 @@ public class SpringViewClassProvider implements ViewClassProvider {
 
 	private final static Logger LOGGER = VaadinLogger.create();
 
-	private final Map<String, WeakReference<Class<? extends View>>> viewClasses = new ConcurrentHashMap<>();
-	private final Map<Class<? extends UI>, Map<String, WeakReference<Class<? extends View>>>> uiViewClasses = new WeakHashMap<>();
+	/**
+	 * View classes bound to any UI, by view name. Immutable, replaced by {@link #init()}.
+	 */
+	private volatile Map<String, WeakReference<Class<? extends View>>> viewClasses = Collections.emptyMap();
+
+	/**
+	 * View classes bound to specific UI classes, by UI class name. Immutable, replaced by {@link #init()}.
+	 */
+	private volatile Map<String, UIViewClasses> uiViewClasses = Collections.emptyMap();
 
 	private final transient ApplicationContext applicationContext;
 
@@ -65,6 +72,8 @@ public class SpringViewClassProvider implements ViewClassProvider {
 	 */
 	public void init() {
 		LOGGER.info("SpringViewClassProvider: Detecting View classes");
+		final Map<String, WeakReference<Class<? extends View>>> views = new HashMap<>();
+		final Map<String, UIViewClasses> uiViews = new HashMap<>();
 		final String[] viewBeanNames = applicationContext.getBeanNamesForAnnotation(SpringView.class);
 		for (String beanName : viewBeanNames) {
 			try {
@@ -82,12 +91,12 @@ public class SpringViewClassProvider implements ViewClassProvider {
 						// UIs
 						Class<? extends UI>[] uis = annotation.ui();
 						if (uis.length == 0) {
-							viewClasses.put(viewName, new WeakReference<>(viewType));
+							views.put(viewName, new WeakReference<>(viewType));
 							LOGGER.debug(() -> "View class [" + viewType + "] detected for the view name [" + viewName
 									+ "]");
 						} else {
 							for (Class<? extends UI> ui : uis) {
-								uiViewClasses.computeIfAbsent(ui, key -> new HashMap<>()).put(viewName,
+								uiViews.computeIfAbsent(ui.getName(), key -> new UIViewClasses(ui)).views.put(viewName,
 										new WeakReference<>(viewType));
 								LOGGER.debug(() -> "View class [" + viewType + "] detected for the view name ["
 										+ viewName + "] - bound to the UI class [" + ui + "]");
@@ -99,6 +108,27 @@ public class SpringViewClassProvider implements ViewClassProvider {
 				// ignore
 			}
 		}
+		// publish the immutable registry
+		this.viewClasses = Collections.unmodifiableMap(views);
+		this.uiViewClasses = Collections.unmodifiableMap(uiViews);
+	}
+
+	/**
+	 * Get all the detected View classes, including the ones bound to a specific UI class.
+	 * @return The detected View classes, empty if none
+	 */
+	public Set<Class<? extends View>> getViewClasses() {
+		final Set<Class<? extends View>> classes = new HashSet<>();
+		viewClasses.values().forEach(r -> addViewClass(classes, r));
+		uiViewClasses.values().forEach(u -> u.views.values().forEach(r -> addViewClass(classes, r)));
+		return classes;
+	}
+
+	private static void addViewClass(Set<Class<? extends View>> classes, WeakReference<Class<? extends View>> ref) {
+		final Class<? extends View> viewClass = ref.get();
+		if (viewClass != null) {
+			classes.add(viewClass);
+		}
 	}
 
 	private String getViewNameFromAnnotation(Class<?> beanClass, SpringView annotation) {
@@ -122,13 +152,31 @@ public class SpringViewClassProvider implements ViewClassProvider {
 			final UI currentUI = UI.getCurrent();
 			if (currentUI != null) {
 				// check
-				viewClass = uiViewClasses.getOrDefault(currentUI.getClass(), Collections.emptyMap()).get(viewName);
-				if (viewClass != null) {
-					return Optional.ofNullable(viewClass.get());
+				final UIViewClasses uiViews = uiViewClasses.get(currentUI.getClass().getName());
+				if (uiViews != null && uiViews.uiClass.get() == currentUI.getClass()) {
+					viewClass = uiViews.views.get(viewName);
+					if (viewClass != null) {
+						return Optional.ofNullable(viewClass.get());
+					}
 				}
 			}
 		}
 		return Optional.empty();
 	}
 
+	/**
+	 * View classes bound to a UI class. The UI class is weakly referenced, so that it is not retained by the provider.
+	 */
+	private static final class UIViewClasses {
+
+		final WeakReference<Class<? extends UI>> uiClass;
+		final Map<String, WeakReference<Class<? extends View>>> views = new HashMap<>();
+
+		UIViewClasses(Class<? extends UI> uiClass) {
+			super();
+			this.uiClass = new WeakReference<>(uiClass);
+		}
+
+	}
+
 }
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.spring.internal;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.vaadin.internal.VaadinLogger;
+import com.holonplatform.vaadin.navigator.DefaultViewNavigationStrategy;
+import com.holonplatform.vaadin.navigator.internal.DefaultViewConfigurationCache;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration;
+import com.holonplatform.vaadin.navigator.internal.ViewConfiguration.ViewConfigurationException;
+import com.holonplatform.vaadin.navigator.internal.ViewNavigationUtils;
+import com.holonplatform.vaadin.spring.AccessDeniedView;
+import com.holonplatform.vaadin.spring.DefaultView;
+import com.holonplatform.vaadin.spring.ErrorView;
+import com.vaadin.navigator.View;
+import com.vaadin.spring.annotation.SpringView;
+import com.vaadin.spring.internal.Conventions;
+
+/**
+ * Application-wide registry of the view metadata used by {@link DefaultSpringViewNavigator} instances.
+ * <p>
+ * The registry scans the {@link ApplicationContext} only once, when the context is refreshed (or at first access if the
+ * context was not refreshed yet), detecting the {@link DefaultViewNavigationStrategy} beans, the {@link DefaultView},
+ * {@link ErrorView} and {@link AccessDeniedView} annotated views and the {@link SpringView} classes, which are shared
+ * by all the navigators through a single {@link SpringViewClassProvider}.
+ * </p>
+ * <p>
+ * When {@link #setPreloadViewConfigurations(boolean)} is enabled, the {@link ViewConfiguration}s of all the detected
+ * view classes are built at startup and stored in the {@link DefaultViewConfigurationCache}.
+ * </p>
+ *
+ * @since 5.4.1
+ */
+public class SpringViewRegistry implements ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
+
+	private final static Logger LOGGER = VaadinLogger.create();
+
+	/**
+	 * Default registry bean name
+	 */
+	public static final String DEFAULT_BEAN_NAME = "springViewRegistry";
+
+	private ApplicationContext applicationContext;
+
+	private boolean preloadViewConfigurations = false;
+
+	/**
+	 * Registry data, computed once
+	 */
+	private volatile Registration registration;
+
+	/**
+	 * Default constructor, to be used as a Spring bean.
+	 */
+	public SpringViewRegistry() {
+		super();
+	}
+
+	/**
+	 * Constructor.
+	 * @param applicationContext ApplicationContext (not null)
+	 */
+	public SpringViewRegistry(ApplicationContext applicationContext) {
+		super();
+		ObjectUtils.argumentNotNull(applicationContext, "ApplicationContext must be not null");
+		this.applicationContext = applicationContext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.
+	 * ApplicationContext)
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	/**
+	 * Set whether to build and cache the {@link ViewConfiguration}s of all the detected view classes at startup.
+	 * @param preloadViewConfigurations <code>true</code> to preload the view configurations
+	 */
+	public void setPreloadViewConfigurations(boolean preloadViewConfigurations) {
+		this.preloadViewConfigurations = preloadViewConfigurations;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.
+	 * ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (event.getApplicationContext() == applicationContext) {
+			this.registration = register();
+		}
+	}
+
+	/**
+	 * Get the bean names of the {@link DefaultViewNavigationStrategy} type beans.
+	 * @return The bean names, empty if none
+	 */
+	public List<String> getDefaultViewNavigationStrategyBeanNames() {
+		return getRegistration().defaultViewNavigationStrategyBeanNames;
+	}
+
+	/**
+	 * Get the {@link DefaultView} annotated views.
+	 * @return The default view candidates
+	 */
+	public AnnotatedView getDefaultView() {
+		return getRegistration().defaultView;
+	}
+
+	/**
+	 * Get the {@link ErrorView} annotated views.
+	 * @return The error view candidates
+	 */
+	public AnnotatedView getErrorView() {
+		return getRegistration().errorView;
+	}
+
+	/**
+	 * Get the {@link AccessDeniedView} annotated views.
+	 * @return The access denied view candidates
+	 */
+	public AnnotatedView getAccessDeniedView() {
+		return getRegistration().accessDeniedView;
+	}
+
+	/**
+	 * Get the shared {@link SpringViewClassProvider}.
+	 * @return The view class provider
+	 */
+	public SpringViewClassProvider getViewClassProvider() {
+		return getRegistration().viewClassProvider;
+	}
+
+	/**
+	 * Get the registry data, performing the registration if not already done.
+	 * @return The registry data
+	 */
+	private Registration getRegistration() {
+		Registration r = registration;
+		if (r == null) {
+			synchronized (this) {
+				r = registration;
+				if (r == null) {
+					registration = r = register();
+				}
+			}
+		}
+		return r;
+	}
+
+	/**
+	 * Scan the application context and build the registry data.
+	 * @return The registry data
+	 */
+	private Registration register() {
+		if (applicationContext == null) {
+			throw new IllegalStateException("Missing ApplicationContext: the view registry can't be initialized");
+		}
+		final long start = System.currentTimeMillis();
+
+		final Registration r = new Registration(
+				Collections.unmodifiableList(
+						Arrays.asList(applicationContext.getBeanNamesForType(DefaultViewNavigationStrategy.class))),
+				getAnnotatedView(DefaultView.class), getAnnotatedView(ErrorView.class),
+				getAnnotatedView(AccessDeniedView.class), new SpringViewClassProvider(applicationContext));
+		r.viewClassProvider.init();
+
+		final Set<Class<? extends View>> viewClasses = r.viewClassProvider.getViewClasses();
+		LOGGER.info("SpringViewRegistry: registered " + viewClasses.size() + " view classes in "
+				+ (System.currentTimeMillis() - start) + " ms");
+
+		if (preloadViewConfigurations) {
+			final long preloadStart = System.currentTimeMillis();
+			for (Class<? extends View> viewClass : viewClasses) {
+				try {
+					if (!DefaultViewConfigurationCache.INSTANCE.hasViewConfiguration(viewClass)) {
+						DefaultViewConfigurationCache.INSTANCE.storeViewConfiguration(viewClass,
+								ViewNavigationUtils.buildViewConfiguration(viewClass));
+					}
+				} catch (ViewConfigurationException e) {
+					LOGGER.warn("SpringViewRegistry: failed to build the configuration of view class [" + viewClass
+							+ "]: " + e.getMessage());
+				}
+			}
+			LOGGER.info("SpringViewRegistry: preloaded " + viewClasses.size() + " view configurations in "
+					+ (System.currentTimeMillis() - preloadStart) + " ms");
+		}
+
+		return r;
+	}
+
+	private AnnotatedView getAnnotatedView(Class<? extends Annotation> annotationType) {
+		final String[] beanNames = applicationContext.getBeanNamesForAnnotation(annotationType);
+		if (beanNames == null || beanNames.length == 0) {
+			return new AnnotatedView(Collections.emptyList(), null, null);
+		}
+		Class<?> type = null;
+		String viewName = null;
+		if (beanNames.length == 1) {
+			type = applicationContext.getType(beanNames[0]);
+			if (type != null && View.class.isAssignableFrom(type)) {
+				viewName = Conventions.deriveMappingForView(type, type.getAnnotation(SpringView.class));
+			}
+		}
+		return new AnnotatedView(Collections.unmodifiableList(Arrays.asList(beanNames)), type, viewName);
+	}
+
+	/**
+	 * The views annotated with a navigator special view annotation.
+	 */
+	public static final class AnnotatedView {
+
+		private final List<String> beanNames;
+		private final Class<?> type;
+		private final String viewName;
+
+		AnnotatedView(List<String> beanNames, Class<?> type, String viewName) {
+			super();
+			this.beanNames = beanNames;
+			this.type = type;
+			this.viewName = viewName;
+		}
+
+		/**
+		 * Get the names of the annotated beans.
+		 * @return The bean names, empty if none
+		 */
+		public List<String> getBeanNames() {
+			return beanNames;
+		}
+
+		/**
+		 * If a single annotated bean is available, get its type.
+		 * @return Optional bean type
+		 */
+		public Optional<Class<?>> getType() {
+			return Optional.ofNullable(type);
+		}
+
+		/**
+		 * If a single annotated bean is available and it is a {@link View}, get its view name.
+		 * @return Optional view name
+		 */
+		public Optional<String> getViewName() {
+			return Optional.ofNullable(viewName);
+		}
+
+	}
+
+	/**
+	 * Registry data.
+	 */
+	private static final class Registration {
+
+		final List<String> defaultViewNavigationStrategyBeanNames;
+		final AnnotatedView defaultView;
+		final AnnotatedView errorView;
+		final AnnotatedView accessDeniedView;
+		final SpringViewClassProvider viewClassProvider;
+
+		Registration(List<String> defaultViewNavigationStrategyBeanNames, AnnotatedView defaultView,
+				AnnotatedView errorView, AnnotatedView accessDeniedView, SpringViewClassProvider viewClassProvider) {
+			super();
+			this.defaultViewNavigationStrategyBeanNames = defaultViewNavigationStrategyBeanNames;
+			this.defaultView = defaultView;
+			this.errorView = errorView;
+			this.accessDeniedView = accessDeniedView;
+			this.viewClassProvider = viewClassProvider;
+		}
+
+	}
+
+}
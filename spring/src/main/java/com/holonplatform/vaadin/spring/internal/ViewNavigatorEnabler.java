@@ -69,6 +69,21 @@ public class ViewNavigatorEnabler implements ImportBeanDefinitionRegistrar {
 			registry.registerBeanDefinition("viewContextInjectionPostProcessor", definition);
 		}
 
+		// View registry
+		boolean preloadViewConfigurations = false;
+		if (attributes != null && attributes.containsKey("preloadViewConfigurations")) {
+			preloadViewConfigurations = (boolean) attributes.get("preloadViewConfigurations");
+		}
+		if (!registry.containsBeanDefinition(SpringViewRegistry.DEFAULT_BEAN_NAME)) {
+			GenericBeanDefinition definition = new GenericBeanDefinition();
+			definition.setBeanClass(SpringViewRegistry.class);
+			definition.setAutowireCandidate(true);
+			MutablePropertyValues pvs = new MutablePropertyValues();
+			pvs.add("preloadViewConfigurations", preloadViewConfigurations);
+			definition.setPropertyValues(pvs);
+			registry.registerBeanDefinition(SpringViewRegistry.DEFAULT_BEAN_NAME, definition);
+		}
+
 		// Navigator
 
 		int maxNavigationHistorySize = -1;
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.vaadin.ui.spring.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.holonplatform.auth.AuthContext;
+import com.holonplatform.auth.Realm;
+import com.holonplatform.core.i18n.LocalizationContext;
+import com.holonplatform.spring.EnableBeanContext;
+import com.holonplatform.vaadin.navigator.ViewNavigator;
+import com.holonplatform.vaadin.navigator.internal.DefaultViewConfigurationCache;
+import com.holonplatform.vaadin.spring.config.EnableViewContext;
+import com.holonplatform.vaadin.spring.config.EnableViewNavigator;
+import com.holonplatform.vaadin.spring.internal.SpringViewRegistry;
+import com.holonplatform.vaadin.spring.utils.AbstractVaadinSpringTest;
+import com.holonplatform.vaadin.ui.spring.test.components.ContextTestData;
+import com.holonplatform.vaadin.ui.spring.test.components.SpringTestUI;
+import com.holonplatform.vaadin.ui.spring.test.components.ViewHome;
+import com.holonplatform.vaadin.ui.spring.test.components.ViewOne;
+import com.holonplatform.vaadin.ui.spring.test.components.ViewTwo;
+import com.vaadin.navigator.View;
+
+@ContextConfiguration
+@DirtiesContext
+public class TestSpringViewRegistry extends AbstractVaadinSpringTest {
+
+	@Configuration
+	@EnableBeanContext
+	@EnableViewContext
+	@EnableViewNavigator(preloadViewConfigurations = true)
+	@ComponentScan(basePackageClasses = ViewOne.class)
+	static class Config extends AbstractVaadinSpringTest.Config {
+
+		@Bean
+		public LocalizationContext localizationContext() {
+			return LocalizationContext.builder().build();
+		}
+
+		@Bean
+		public AuthContext authContext() {
+			return AuthContext.create(Realm.builder().build());
+		}
+
+		@Bean
+		public ContextTestData contextTestData() {
+			return new ContextTestData(1);
+		}
+
+	}
+
+	@Test
+	public void testRegistry() {
+		final SpringViewRegistry registry = applicationContext.getBean(SpringViewRegistry.class);
+		assertNotNull(registry);
+
+		final Set<Class<? extends View>> viewClasses = registry.getViewClassProvider().getViewClasses();
+		assertTrue(viewClasses.contains(ViewHome.class));
+		assertTrue(viewClasses.contains(ViewOne.class));
+		assertTrue(viewClasses.contains(ViewTwo.class));
+
+		assertEquals(ViewOne.class,
+				registry.getViewClassProvider().getViewClass(TestNavigator.VIEW_ONE).orElse(null));
+		assertFalse(registry.getViewClassProvider().getViewClass("/notexisting").isPresent());
+
+		assertEquals(1, registry.getDefaultView().getBeanNames().size());
+		assertEquals(ViewHome.class, registry.getDefaultView().getType().orElse(null));
+		assertEquals(TestNavigator.VIEW_HOME, registry.getDefaultView().getViewName().orElse(null));
+		assertTrue(registry.getAccessDeniedView().getBeanNames().isEmpty());
+
+		// registered once
+		assertSame(registry.getViewClassProvider(), registry.getViewClassProvider());
+
+		// UI navigator
+		createUi(SpringTestUI.class, "http://localhost");
+		final ViewNavigator navigator = applicationContext.getBean(ViewNavigator.class);
+		navigator.navigateTo(TestNavigator.VIEW_ONE);
+		assertEquals(TestNavigator.VIEW_ONE, navigator.getCurrentViewName());
+	}
+
+	@Test
+	public void testPreloadViewConfigurations() {
+		// preloaded at context refresh
+		final SpringViewRegistry registry = applicationContext.getBean(SpringViewRegistry.class);
+		for (Class<? extends View> viewClass : registry.getViewClassProvider().getViewClasses()) {
+			assertTrue(DefaultViewConfigurationCache.INSTANCE.hasViewConfiguration(viewClass));
+		}
+
+		DefaultViewConfigurationCache.INSTANCE.clearCache();
+
+		// no preload
+		final SpringViewRegistry lazyRegistry = new SpringViewRegistry(applicationContext);
+		final Set<Class<? extends View>> viewClasses = lazyRegistry.getViewClassProvider().getViewClasses();
+		assertFalse(viewClasses.isEmpty());
+		for (Class<? extends View> viewClass : viewClasses) {
+			assertFalse(DefaultViewConfigurationCache.INSTANCE.hasViewConfiguration(viewClass));
+		}
+
+		// preload
+		final SpringViewRegistry preloadRegistry = new SpringViewRegistry(applicationContext);
+		preloadRegistry.setPreloadViewConfigurations(true);
+		for (Class<? extends View> viewClass : preloadRegistry.getViewClassProvider().getViewClasses()) {
+			assertTrue(DefaultViewConfigurationCache.INSTANCE.hasViewConfiguration(viewClass));
+		}
+	}
+
+}
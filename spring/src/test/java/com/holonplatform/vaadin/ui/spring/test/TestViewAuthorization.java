@@ -16,14 +16,21 @@
 package com.holonplatform.vaadin.ui.spring.test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
@@ -34,19 +41,26 @@ import org.springframework.test.context.ContextConfiguration;
 import com.holonplatform.auth.Account;
 import com.holonplatform.auth.Account.AccountProvider;
 import com.holonplatform.auth.AuthContext;
+import com.holonplatform.auth.Authentication;
 import com.holonplatform.auth.AuthenticationToken;
 import com.holonplatform.auth.Credentials;
 import com.holonplatform.auth.Realm;
+import com.holonplatform.core.Context;
 import com.holonplatform.core.i18n.LocalizationContext;
 import com.holonplatform.spring.EnableBeanContext;
 import com.holonplatform.vaadin.navigator.ViewNavigator;
 import com.holonplatform.vaadin.navigator.ViewNavigator.ViewNavigationException;
 import com.holonplatform.vaadin.spring.config.EnableViewAuthorization;
 import com.holonplatform.vaadin.spring.config.EnableViewNavigator;
+import com.holonplatform.vaadin.spring.internal.SecurityAnnotationsViewAccessControl;
 import com.holonplatform.vaadin.spring.utils.AbstractVaadinSpringTest;
 import com.holonplatform.vaadin.ui.spring.test.components.SpringTestUI;
+import com.holonplatform.vaadin.ui.spring.test.components.ViewFour;
 import com.holonplatform.vaadin.ui.spring.test.components.ViewOne;
+import com.holonplatform.vaadin.ui.spring.test.components.ViewTwo;
 import com.vaadin.navigator.View;
+import com.vaadin.spring.access.ViewAccessControl;
+import com.vaadin.ui.UI;
 
 @ContextConfiguration
 @DirtiesContext
@@ -135,4 +149,50 @@ public class TestViewAuthorization extends AbstractVaadinSpringTest {
 		authContext.unauthenticate();
 	}
 
+	@Test
+	public void testRoleChecksMemoization() {
+
+		final UI ui = createUi(SpringTestUI.class, "http://localhost");
+
+		final ViewAccessControl accessControl = applicationContext.getBean(SecurityAnnotationsViewAccessControl.class);
+		final String viewTwo = applicationContext.getBeanNamesForType(ViewTwo.class)[0];
+		final String viewFour = applicationContext.getBeanNamesForType(ViewFour.class)[0];
+
+		final Authentication authentication1 = mock(Authentication.class);
+		final Authentication authentication2 = mock(Authentication.class);
+
+		final AuthContext authContext = mock(AuthContext.class);
+		when(authContext.getAuthentication()).thenReturn(Optional.of(authentication1));
+		when(authContext.isPermittedAny(ArgumentMatchers.<String>any())).thenReturn(true);
+
+		Context.get().threadScope().map(s -> s.put(AuthContext.CONTEXT_KEY, authContext));
+		try {
+			assertTrue(accessControl.isAccessGranted(ui, viewTwo));
+			assertTrue(accessControl.isAccessGranted(ui, viewTwo));
+
+			// memoized during the current request
+			verify(authContext, times(1)).isPermittedAny(ArgumentMatchers.<String>any());
+
+			// different role set
+			assertTrue(accessControl.isAccessGranted(ui, viewFour));
+			verify(authContext, times(2)).isPermittedAny(ArgumentMatchers.<String>any());
+
+			// authentication changed within the same request
+			when(authContext.getAuthentication()).thenReturn(Optional.of(authentication2));
+			when(authContext.isPermittedAny(ArgumentMatchers.<String>any())).thenReturn(false);
+
+			assertFalse(accessControl.isAccessGranted(ui, viewTwo));
+			assertFalse(accessControl.isAccessGranted(ui, viewTwo));
+			verify(authContext, times(3)).isPermittedAny(ArgumentMatchers.<String>any());
+
+			// not authenticated
+			when(authContext.getAuthentication()).thenReturn(Optional.empty());
+			assertFalse(accessControl.isAccessGranted(ui, viewFour));
+			verify(authContext, times(3)).isPermittedAny(ArgumentMatchers.<String>any());
+
+		} finally {
+			Context.get().threadScope().map(s -> s.remove(AuthContext.CONTEXT_KEY));
+		}
+	}
+
 }